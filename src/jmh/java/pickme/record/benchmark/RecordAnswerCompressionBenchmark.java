@@ -0,0 +1,156 @@
+package pickme.record.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import pickme.record.model.Record;
+import pickme.record.model.RecordAnswerCodec;
+import pickme.record.repository.RecordAnswerConverters;
+
+/**
+ * 답변 압축 저장의 CPU 비용과 전송 크기 절감을 비교하는 벤치마크입니다.
+ *
+ * <p>
+ * 답변 하나의 압축/복원 비용과, 드라이버가 받은 BSON 바이트를 Record로 읽는 비용(findById 경로)을
+ * 원문 저장({@code compressed=false})과 압축 저장({@code compressed=true})에 대해 각각 측정합니다.
+ * 압축된 답변은 응답에 포함할 때 복원되므로, 메타데이터만 사용하는 경로({@link #readDocument()})와
+ * 모든 답변을 응답에 포함하는 경로({@link #readDocumentAndAnswers(Blackhole)})를 나누어 측정합니다.
+ * 설정 단계에서 문서의 BSON 크기와 압축률을 출력하므로, 절감된 전송 바이트와 늘어난 CPU 시간을 함께 비교할 수 있습니다.
+ * 압축 대상 기준은 애플리케이션 기본값({@code record.answer-compression.threshold-bytes=1024})과 같습니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordAnswerCompressionBenchmark {
+
+    private static final int INTERVIEWS = 10;
+
+    private static final int THRESHOLD_BYTES = 1024;
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    @Param({ "50", "200" })
+    private int details;
+
+    @Param({ "false", "true" })
+    private boolean compressed;
+
+    @Param({ "1", "6" })
+    private int level;
+
+    private MappingMongoConverter converter;
+
+    private String answer;
+
+    private byte[] deflatedAnswer;
+
+    private byte[] documentBytes;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(RecordAnswerConverters.converters());
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        Record record = RecordFixtures.record(INTERVIEWS, details);
+        answer = record.getRecords().get(0).getDetails().get(0).getAnswer();
+        deflatedAnswer = RecordAnswerCodec.deflate(answer, level);
+
+        Document document = new Document();
+        converter.write(record, document);
+        int plainSize = encode(document).length;
+        if (compressed) {
+            compressAnswers(document);
+        }
+        documentBytes = encode(document);
+
+        int answerSize = answer.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%nanswer: original=%d bytes, deflated=%d bytes, ratio=%.3f%n",
+                answerSize, deflatedAnswer.length, (double) deflatedAnswer.length / answerSize);
+        System.out.printf("document: plain=%d bytes, stored=%d bytes, ratio=%.3f%n",
+                plainSize, documentBytes.length, (double) documentBytes.length / plainSize);
+    }
+
+    @Benchmark
+    public byte[] deflateAnswer() {
+        return RecordAnswerCodec.deflate(answer, level);
+    }
+
+    @Benchmark
+    public String inflateAnswer() {
+        return RecordAnswerCodec.decode(deflatedAnswer);
+    }
+
+    @Benchmark
+    public Record readDocument() {
+        return converter.read(Record.class, decode(documentBytes));
+    }
+
+    @Benchmark
+    public void readDocumentAndAnswers(Blackhole blackhole) {
+        Record record = converter.read(Record.class, decode(documentBytes));
+        for (Record.InterviewRecord interviewRecord : record.getRecords()) {
+            for (Record.RecordDetail detail : interviewRecord.getDetails()) {
+                blackhole.consume(detail.getAnswer());
+            }
+        }
+    }
+
+    /**
+     * 기준 크기 이상인 답변을 저장소와 같은 방식으로 압축된 답변 Binary로 바꿉니다.
+     */
+    private void compressAnswers(Document document) {
+        for (Document interviewRecord : document.getList("records", Document.class)) {
+            for (Document detail : interviewRecord.getList("details", Document.class)) {
+                byte[] input = detail.getString("answer").getBytes(StandardCharsets.UTF_8);
+                if (input.length < THRESHOLD_BYTES) {
+                    continue;
+                }
+                byte[] stored = RecordAnswerCodec.deflate(input, level);
+                if (stored.length < input.length) {
+                    detail.put("answer", RecordAnswerCodec.toBinary(stored));
+                }
+            }
+        }
+    }
+
+    private static byte[] encode(Document document) {
+        ByteBuffer buffer = new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static Document decode(byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return DOCUMENT_CODEC.decode(reader, DecoderContext.builder().build());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package pickme.record.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import pickme.record.model.Record;
+import pickme.record.repository.RecordAnswerConverters;
+
+/**
+ * Spring Data의 MappingMongoConverter로 Record 문서 전체를 변환하는 비용을 측정하는 벤치마크입니다.
+ *
+ * <p>
+ * 캐시 적재(findById)와 문서 전체 저장 경로가 매번 수행하는 변환으로,
+ * 드라이버 Document와 Record 사이의 읽기/쓰기를 각각 측정합니다.
+ * 컨버터는 MongoDB 연결 없이 애플리케이션과 같은 매핑 설정(사용자 정의 변환기 포함)으로 생성합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordConversionBenchmark {
+
+    @Param({ "10", "100" })
+    private int interviews;
+
+    @Param({ "10", "50", "200" })
+    private int details;
+
+    private MappingMongoConverter converter;
+
+    private Record record;
+
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(RecordAnswerConverters.converters());
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        record = RecordFixtures.record(interviews, details);
+        document = new Document();
+        converter.write(record, document);
+    }
+
+    @Benchmark
+    public Document write() {
+        Document target = new Document();
+        converter.write(record, target);
+        return target;
+    }
+
+    @Benchmark
+    public Record read() {
+        return converter.read(Record.class, document);
+    }
+}
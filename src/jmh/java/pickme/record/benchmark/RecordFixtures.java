@@ -0,0 +1,115 @@
+package pickme.record.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import pickme.record.model.Record;
+
+/**
+ * RecordFixtures는 벤치마크에서 사용할 사용자 Record 문서를 생성하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 같은 파라미터에 대해 항상 같은 문서를 생성하도록 고정된 시드를 사용합니다.
+ * 질문은 약 40~80자, 답변은 약 300~900자로 실제 면접 기록과 비슷한 크기의 한국어 문장으로 구성합니다.
+ * </p>
+ */
+public final class RecordFixtures {
+
+    private static final String[] ENTERPRISES = {
+            "네이버", "카카오", "라인", "쿠팡", "배달의민족", "토스", "당근마켓", "삼성전자", "LG CNS", "SK텔레콤"
+    };
+
+    private static final String[] CATEGORIES = { "BE", "FE", "DevOps", "Data", "Mobile" };
+
+    private static final String[] QUESTIONS = {
+            "본인이 진행한 프로젝트 중 가장 기억에 남는 것은 무엇인가요?",
+            "트랜잭션 격리 수준의 차이와 각각에서 발생할 수 있는 문제를 설명해 주세요.",
+            "대용량 트래픽 상황에서 캐시를 도입할 때 고려해야 할 점은 무엇인가요?",
+            "동시성 문제를 해결했던 경험과 선택한 방법의 이유를 말씀해 주세요.",
+            "MongoDB와 관계형 데이터베이스를 비교했을 때 어떤 기준으로 선택하시나요?",
+            "팀원과 기술적인 의견이 충돌했을 때 어떻게 해결하셨나요?"
+    };
+
+    private static final String[] SENTENCES = {
+            "당시 서비스는 하루 평균 수백만 건의 요청을 처리하고 있었고, 피크 시간대에는 응답 지연이 크게 증가했습니다.",
+            "원인을 파악하기 위해 애플리케이션 메트릭과 데이터베이스 슬로우 쿼리 로그를 함께 분석했습니다.",
+            "그 결과 사용자별 문서 전체를 매번 읽고 다시 저장하는 구조가 병목이라는 것을 확인할 수 있었습니다.",
+            "저는 배열 원소 단위의 원자적 업데이트로 쓰기 경로를 바꾸고, 조회 경로에는 필요한 필드만 프로젝션하도록 개선했습니다.",
+            "변경 이후 p99 응답 시간이 절반 이하로 줄었고, 데이터베이스 CPU 사용률도 안정적으로 유지되었습니다.",
+            "이 경험을 통해 성능 문제는 추측보다 측정에서 출발해야 한다는 점을 배웠습니다.",
+            "또한 개선 효과를 팀에 공유하기 위해 부하 테스트 결과를 문서로 정리하고 회고를 진행했습니다.",
+            "격리 수준이 높아질수록 정합성은 보장되지만 동시 처리량이 줄어드는 트레이드오프가 있습니다.",
+            "캐시 무효화 시점과 데이터 일관성 요구 사항을 먼저 정의한 뒤 적절한 만료 정책을 선택했습니다.",
+            "결과적으로 장애 없이 배포를 마칠 수 있었고, 이후 비슷한 문제를 예방하기 위한 모니터링 지표도 추가했습니다."
+    };
+
+    private RecordFixtures() {
+    }
+
+    /**
+     * 주어진 크기의 사용자 Record 문서를 생성합니다.
+     *
+     * @param interviews 인터뷰 기록 수
+     * @param details    인터뷰 기록별 질문/답변 세부 항목 수
+     * @return 생성된 Record 문서
+     */
+    public static Record record(int interviews, int details) {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+
+        List<Record.InterviewRecord> interviewRecords = new ArrayList<>(interviews);
+        for (int i = 0; i < interviews; i++) {
+            Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
+            interviewRecord.setInterviewRecordId(interviewRecordId(i));
+            interviewRecord.setEnterpriseName(ENTERPRISES[random.nextInt(ENTERPRISES.length)]);
+            interviewRecord.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            interviewRecord.setCreatedAt(new Date(now - (interviews - i) * 86_400_000L));
+            interviewRecord.setUpdatedAt(new Date(now - (interviews - i) * 3_600_000L));
+            interviewRecord.setDetails(details(random, details));
+            interviewRecords.add(interviewRecord);
+        }
+
+        Record record = new Record();
+        record.setUserId("benchmark-user");
+        record.setVersion((long) interviews * details);
+        record.setRecords(interviewRecords);
+        return record;
+    }
+
+    /**
+     * i번째 인터뷰 기록의 ID를 반환합니다.
+     *
+     * @param index 인터뷰 기록 순서 (0부터 시작)
+     * @return 인터뷰 기록 ID
+     */
+    public static String interviewRecordId(int index) {
+        // UUID와 같은 길이의 ID를 사용하여 비교 비용을 실제와 맞춤
+        return String.format("00000000-0000-4000-8000-%012d", index);
+    }
+
+    private static List<Record.RecordDetail> details(Random random, int count) {
+        List<Record.RecordDetail> details = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Record.RecordDetail detail = new Record.RecordDetail();
+            detail.setDetailId(Record.RecordDetail.newDetailId());
+            detail.setQuestion(QUESTIONS[random.nextInt(QUESTIONS.length)]);
+            detail.setAnswer(answer(random));
+            details.add(detail);
+        }
+        return details;
+    }
+
+    private static String answer(Random random) {
+        StringBuilder answer = new StringBuilder();
+        int sentences = 5 + random.nextInt(11);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                answer.append(' ');
+            }
+            answer.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        return answer.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package pickme.record.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pickme.record.model.Record;
+
+/**
+ * 캐시된 Record에서 인터뷰 기록 ID로 인터뷰 기록을 찾는 비용을 측정하는 벤치마크입니다.
+ *
+ * <ul>
+ * <li><b>indexedFirst / indexedLast:</b> {@link Record#findInterviewRecord}의 색인 조회</li>
+ * <li><b>scanFirst / scanLast:</b> 인터뷰 기록 목록을 앞에서부터 순회하는 기존 방식</li>
+ * </ul>
+ *
+ * <p>
+ * 첫 번째 기록(최선)과 마지막 기록(최악)을 각각 측정하며,
+ * 색인은 캐시된 문서와 같이 첫 조회에서 한 번 만들어진 뒤 재사용됩니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordLookupBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int interviews;
+
+    @Param({ "10" })
+    private int details;
+
+    private Record record;
+
+    private String firstId;
+
+    private String lastId;
+
+    @Setup
+    public void setUp() {
+        record = RecordFixtures.record(interviews, details);
+        // 고정 문자열과의 비교로 최적화되지 않도록 새 문자열 인스턴스를 사용
+        firstId = new String(RecordFixtures.interviewRecordId(0));
+        lastId = new String(RecordFixtures.interviewRecordId(interviews - 1));
+    }
+
+    @Benchmark
+    public Record.InterviewRecord indexedFirst() {
+        return record.findInterviewRecord(firstId);
+    }
+
+    @Benchmark
+    public Record.InterviewRecord indexedLast() {
+        return record.findInterviewRecord(lastId);
+    }
+
+    @Benchmark
+    public Record.InterviewRecord scanFirst() {
+        return scan(firstId);
+    }
+
+    @Benchmark
+    public Record.InterviewRecord scanLast() {
+        return scan(lastId);
+    }
+
+    private Record.InterviewRecord scan(String interviewRecordId) {
+        return record.getRecords().stream()
+                .filter(ir -> ir.getInterviewRecordId().equals(interviewRecordId))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,72 @@
+package pickme.record.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.RecordDetailResponseDTO;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+
+/**
+ * RecordMapper의 DTO 변환 비용을 측정하는 벤치마크입니다.
+ *
+ * <ul>
+ * <li><b>toInterviewRecordResponse:</b> 인터뷰 기록 하나를 세부 항목 전체와 함께 변환</li>
+ * <li><b>toRecordDetailResponseList:</b> 세부 항목 목록만 변환</li>
+ * <li><b>toInterviewRecordPageResponse:</b> subList로 세부 항목 한 페이지(10개)만 잘라서 변환</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordMapperBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({ "10", "100" })
+    private int interviews;
+
+    @Param({ "10", "50", "200" })
+    private int details;
+
+    private RecordMapper recordMapper;
+
+    private Record.InterviewRecord interviewRecord;
+
+    private int skip;
+
+    @Setup
+    public void setUp() {
+        recordMapper = Mappers.getMapper(RecordMapper.class);
+        Record record = RecordFixtures.record(interviews, details);
+        interviewRecord = record.getRecords().get(interviews / 2);
+        // 세부 항목 중간 지점의 페이지
+        skip = Math.max(0, details / 2 - PAGE_SIZE / 2);
+    }
+
+    @Benchmark
+    public InterviewRecordResponseDTO toInterviewRecordResponse() {
+        return recordMapper.toInterviewRecordResponse(interviewRecord);
+    }
+
+    @Benchmark
+    public List<RecordDetailResponseDTO> toRecordDetailResponseList() {
+        return recordMapper.toRecordDetailResponseList(interviewRecord.getDetails());
+    }
+
+    @Benchmark
+    public InterviewRecordResponseDTO toInterviewRecordPageResponse() {
+        return recordMapper.toInterviewRecordPageResponse(interviewRecord, skip, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,101 @@
+package pickme.record.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+
+/**
+ * 인터뷰 기록 조회 응답을 만드는 두 경로의 변환+직렬화 비용을 비교하는 벤치마크입니다.
+ *
+ * <ul>
+ * <li><b>dto:</b> toInterviewRecordPageResponse로 세부 항목 DTO 목록을 만든 뒤 Jackson 빈 직렬화</li>
+ * <li><b>view:</b> toInterviewRecordPageView로 세부 항목을 참조만 하고 JsonGenerator로 직접 직렬화</li>
+ * </ul>
+ *
+ * <p>
+ * 할당률은 빌드 설정의 GC 프로파일러({@code gc.alloc.rate.norm})로 함께 측정됩니다.
+ * 설정 단계에서 여러 ObjectMapper 설정에 대해 두 경로의 출력이 바이트 단위로 같은지 확인하며, 다르면 실행을 중단합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordResponseStreamingBenchmark {
+
+    @Param({ "50", "200", "1000" })
+    private int details;
+
+    @Param({ "10", "1000" })
+    private int pageSize;
+
+    private RecordMapper recordMapper;
+
+    private ObjectWriter writer;
+
+    private Record.InterviewRecord interviewRecord;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        recordMapper = Mappers.getMapper(RecordMapper.class);
+        interviewRecord = RecordFixtures.record(1, details).getRecords().get(0);
+        // 세부 항목 하나는 null 필드를 포함하여 null 처리까지 비교
+        interviewRecord.getDetails().get(0).setAnswer(null);
+
+        List<ObjectMapper> mappers = List.of(
+                Jackson2ObjectMapperBuilder.json().build(),
+                // Spring Boot 기본 설정과 같이 날짜를 ISO-8601 문자열로 직렬화
+                Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build(),
+                Jackson2ObjectMapperBuilder.json().serializationInclusion(JsonInclude.Include.NON_NULL).build(),
+                Jackson2ObjectMapperBuilder.json().indentOutput(true).build());
+        for (ObjectMapper mapper : mappers) {
+            verifyIdentical(mapper.writer());
+        }
+
+        // HTTP 메시지 변환기와 같이 선언 타입이 아닌 런타임 타입의 직렬화기를 사용
+        writer = mappers.get(1).writer();
+    }
+
+    @Benchmark
+    public byte[] dto() throws JsonProcessingException {
+        return writer.writeValueAsBytes(recordMapper.toInterviewRecordPageResponse(interviewRecord, 0, pageSize));
+    }
+
+    @Benchmark
+    public byte[] view() throws JsonProcessingException {
+        return writer.writeValueAsBytes(recordMapper.toInterviewRecordPageView(interviewRecord, 0, pageSize));
+    }
+
+    private void verifyIdentical(ObjectWriter objectWriter) throws JsonProcessingException {
+        byte[] expected = objectWriter.writeValueAsBytes(
+                recordMapper.toInterviewRecordPageResponse(interviewRecord, 0, pageSize));
+        byte[] actual = objectWriter.writeValueAsBytes(
+                recordMapper.toInterviewRecordPageView(interviewRecord, 0, pageSize));
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException("Streaming response differs from the DTO response:\n"
+                    + new String(expected, StandardCharsets.UTF_8) + "\n"
+                    + new String(actual, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package pickme.record.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+
+/**
+ * InterviewRecordResponseDTO의 Jackson 직렬화 비용을 측정하는 벤치마크입니다.
+ *
+ * <p>
+ * 애플리케이션과 같은 기본 설정(Jackson2ObjectMapperBuilder)의 ObjectMapper로,
+ * 세부 항목 전체를 포함한 응답과 한 페이지(10개)만 포함한 응답을 각각 UTF-8 바이트 배열로 직렬화합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({ "10", "100" })
+    private int interviews;
+
+    @Param({ "10", "50", "200" })
+    private int details;
+
+    private ObjectWriter writer;
+
+    private InterviewRecordResponseDTO fullResponse;
+
+    private InterviewRecordResponseDTO pageResponse;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(InterviewRecordResponseDTO.class);
+
+        RecordMapper recordMapper = Mappers.getMapper(RecordMapper.class);
+        Record.InterviewRecord interviewRecord = RecordFixtures.record(interviews, details).getRecords()
+                .get(interviews / 2);
+        fullResponse = recordMapper.toInterviewRecordResponse(interviewRecord);
+        pageResponse = recordMapper.toInterviewRecordPageResponse(interviewRecord, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] serializeFull() throws JsonProcessingException {
+        return writer.writeValueAsBytes(fullResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,108 @@
+package pickme.record.benchmark;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.util.ReflectionUtils;
+
+import pickme.record.config.RecordInMemoryProperties;
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.config.RecordWriteRetryProperties;
+import pickme.record.model.Record;
+import pickme.record.repository.InMemoryRecordRepository;
+import pickme.record.service.RecordWriteRetrier;
+
+/**
+ * 여러 스레드가 같은 사용자 문서에 동시에 쓸 때의 처리량을 측정하는 벤치마크입니다.
+ *
+ * <ul>
+ * <li><b>atomicUpdate:</b> 인터뷰 기록 필드만 변경하는 단일 업데이트 (버전 $inc, 충돌 없음)</li>
+ * <li><b>versionedSave:</b> 문서를 읽고 변경한 뒤 전체를 저장하는 기존 방식 (낙관적 잠금 충돌 시 재시도)</li>
+ * </ul>
+ *
+ * <p>
+ * 저장소는 {@link InMemoryRecordRepository}를 사용하며, {@code latencyMicros}로 MongoDB 왕복 시간을 모사합니다.
+ * 왕복 시간이 길수록 읽기와 저장 사이의 충돌 구간이 길어지므로 두 방식의 처리량 차이가 커집니다.
+ * 두 방식 모두 업데이트 유실이 없으며, 유실이 없음은 InMemoryRecordRepositoryConcurrencyTest에서 확인합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RecordWriteContentionBenchmark {
+
+    @Param({ "0", "200" })
+    private int latencyMicros;
+
+    @Param({ "10" })
+    private int interviews;
+
+    @Param({ "10" })
+    private int details;
+
+    private InMemoryRecordRepository repository;
+
+    private RecordWriteRetrier retrier;
+
+    private String userId;
+
+    private String interviewRecordId;
+
+    @Setup
+    public void setUp() {
+        RecordInMemoryProperties properties = new RecordInMemoryProperties();
+        properties.setLatency(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros)));
+
+        repository = new InMemoryRecordRepository();
+        inject(repository, "properties", properties);
+        inject(repository, "outboxProperties", new RecordOutboxProperties());
+
+        // 충돌이 많아도 재시도 소진으로 측정이 중단되지 않도록 시도 횟수를 늘림
+        RecordWriteRetryProperties retryProperties = new RecordWriteRetryProperties();
+        retryProperties.setMaxAttempts(Integer.MAX_VALUE);
+        retrier = new RecordWriteRetrier(retryProperties, new SimpleMeterRegistry());
+
+        Record record = RecordFixtures.record(interviews, details);
+        repository.insert(record);
+        userId = record.getUserId();
+        interviewRecordId = RecordFixtures.interviewRecordId(0);
+    }
+
+    @Benchmark
+    public Object atomicUpdate() {
+        return retrier.execute("updateInterviewRecord",
+                () -> repository.updateInterviewRecord(userId, interviewRecordId, "enterprise", "BE", new Date()));
+    }
+
+    @Benchmark
+    public Object versionedSave() {
+        return retrier.execute("saveRecord", () -> {
+            Record record = repository.findById(userId).orElseThrow();
+            Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+            interviewRecord.setEnterpriseName("enterprise");
+            interviewRecord.setCategory("BE");
+            interviewRecord.setUpdatedAt(new Date());
+            return repository.save(record);
+        });
+    }
+
+    private static void inject(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
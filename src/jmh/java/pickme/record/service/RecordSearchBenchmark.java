@@ -0,0 +1,122 @@
+package pickme.record.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pickme.record.benchmark.RecordFixtures;
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.RecordSearchResponseDTO;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+import pickme.record.model.RecordSearchMatch;
+
+/**
+ * 서버 측 검색 응답과 클라이언트 측 검색을 위한 전체 기록 응답의 애플리케이션 비용을 비교하는 벤치마크입니다.
+ *
+ * <ul>
+ * <li><b>fullDownload:</b> 클라이언트가 직접 검색하기 위해 모든 인터뷰 기록을 세부 항목과 함께 내려받는 경우의 변환과 직렬화</li>
+ * <li><b>searchPage:</b> 검색어와 일치하는 세부 항목 한 페이지(10개)의 스니펫 생성과 직렬화</li>
+ * </ul>
+ *
+ * <p>
+ * searchPage의 일치 항목은 집계의 정규식 단계와 같은 규칙으로 메모리에서 선택하며,
+ * MongoDB에서 실행되는 $unwind/$regex 비용은 포함하지 않습니다.
+ * 응답 크기 차이는 gc 프로파일러의 할당량(gc.alloc.rate.norm)으로 함께 확인할 수 있습니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordSearchBenchmark {
+
+    private static final String QUERY = "캐시 트랜잭션";
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({ "10", "100" })
+    private int interviews;
+
+    @Param({ "10", "50" })
+    private int details;
+
+    private ObjectMapper objectMapper;
+
+    private RecordMapper recordMapper;
+
+    private Record record;
+
+    private String pattern;
+
+    private Pattern compiled;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        recordMapper = Mappers.getMapper(RecordMapper.class);
+        record = RecordFixtures.record(interviews, details);
+        pattern = RecordSearchSupport.pattern(RecordSearchSupport.terms(QUERY));
+        compiled = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    @Benchmark
+    public byte[] fullDownload() throws JsonProcessingException {
+        List<InterviewRecordResponseDTO> responses = new ArrayList<>(record.getRecords().size());
+        for (Record.InterviewRecord interviewRecord : record.getRecords()) {
+            responses.add(recordMapper.toInterviewRecordResponse(interviewRecord));
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] searchPage() throws JsonProcessingException {
+        RecordSearchResponseDTO response = RecordSearchSupport.toResponse(QUERY, 0, PAGE_SIZE, matches(),
+                pattern);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * 다음 페이지 확인을 위해 최대 PAGE_SIZE + 1개의 일치 항목을 선택합니다.
+     */
+    private List<RecordSearchMatch> matches() {
+        List<RecordSearchMatch> matches = new ArrayList<>(PAGE_SIZE + 1);
+        for (Record.InterviewRecord interviewRecord : record.getRecords()) {
+            List<Record.RecordDetail> recordDetails = interviewRecord.getDetails();
+            for (int i = 0; i < recordDetails.size(); i++) {
+                Record.RecordDetail detail = recordDetails.get(i);
+                if (compiled.matcher(interviewRecord.getEnterpriseName()).find()
+                        || compiled.matcher(detail.getQuestion()).find()
+                        || compiled.matcher(detail.getAnswer()).find()) {
+                    RecordSearchMatch match = new RecordSearchMatch();
+                    match.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+                    match.setEnterpriseName(interviewRecord.getEnterpriseName());
+                    match.setCategory(interviewRecord.getCategory());
+                    match.setDetailIndex(i);
+                    match.setDetailId(detail.getDetailId());
+                    match.setQuestion(detail.getQuestion());
+                    match.setAnswer(detail.getAnswer());
+                    matches.add(match);
+                    if (matches.size() > PAGE_SIZE) {
+                        return matches;
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+}
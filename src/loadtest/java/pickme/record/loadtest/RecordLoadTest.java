@@ -0,0 +1,457 @@
+package pickme.record.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * RecordLoadTest는 실행 중인 record 서비스에 폐쇄 루프(closed-loop) 부하를 거는 부하 생성기입니다.
+ *
+ * <p>
+ * 각 가상 클라이언트는 응답을 받은 즉시 다음 요청을 보내며, 기본 요청 구성은 다음과 같습니다.
+ * </p>
+ * <ul>
+ * <li>detail 50%: 면접 기록 상세 페이지 조회 (GET /record/interview/{id}?page=0&size=10)</li>
+ * <li>sidebar 25%: 사이드바 조회 (GET /record/sidebar)</li>
+ * <li>autosave 20%: 작성 중인 답변 자동 저장 (PUT /record/interview/{id}/detail/{index})</li>
+ * <li>bulk 5%: 질문 및 답변 일괄 추가 (POST /record/interview/{id}/detail/bulk)</li>
+ * </ul>
+ *
+ * <p>
+ * 클라이언트 수만큼 스레드를 만들지 않도록 비동기 HttpClient로 요청을 이어서 보내므로,
+ * 부하 생성기 자체는 Java 17에서 소수의 스레드로 수천 개의 동시 연결을 유지합니다.
+ * 지연 시간은 워밍업 이후 구간만 전체 및 요청 종류별 HdrHistogram에 기록합니다.
+ * MongoDB 없이 실행하려면 대상 서비스를 in-memory 프로필로 실행합니다 ({@code ./gradlew bootRun -PinMemory}).
+ * </p>
+ *
+ * <p>
+ * 옵션 (모두 {@code --이름=값} 형식):
+ * </p>
+ * <ul>
+ * <li>base-url: 대상 서비스 주소 (기본값 http://localhost:8080)</li>
+ * <li>clients: 동시 클라이언트 수 (기본값 1000)</li>
+ * <li>users: 테스트 사용자 수 (기본값 1000)</li>
+ * <li>interviews: 사용자별 면접 기록 수 (기본값 5)</li>
+ * <li>details: 면접 기록별 질문 및 답변 수 (기본값 20)</li>
+ * <li>bulk-details: 일괄 추가 요청 한 번에 포함할 질문 및 답변 수 (기본값 5)</li>
+ * <li>mix: 요청 종류별 가중치 (예: detail:70,sidebar:20,autosave:10, 생략한 종류는 0)</li>
+ * <li>warmup / duration: 워밍업 및 측정 시간 (기본값 15s / 60s)</li>
+ * <li>label: 결과 행에 기록할 실행 이름 (예: platform, virtual)</li>
+ * <li>csv: 결과를 덧붙일 CSV 파일 경로</li>
+ * <li>hgrm: 전체 지연 시간 분포(HdrHistogram 백분위 출력, ms 단위)를 저장할 파일 경로</li>
+ * </ul>
+ */
+public final class RecordLoadTest {
+
+    private static final Pattern INTERVIEW_RECORD_ID = Pattern.compile("\"interviewRecordId\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 지연 시간은 마이크로초 단위로 기록하며, 1분 이상은 1분으로 기록합니다.
+     */
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final Map<String, String> options;
+
+    private final HttpClient httpClient;
+
+    private final ExecutorService completionExecutor;
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+
+    private final Map<Operation, Recorder> operationRecorders = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+    private final AtomicLong errors = new AtomicLong();
+
+    private List<Target> targets;
+
+    private int totalWeight;
+
+    private int details;
+
+    private String bulkDetailsBody;
+
+    private long measureStartNanos;
+
+    private long endNanos;
+
+    private RecordLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.completionExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(completionExecutor)
+                .build();
+        for (Operation operation : Operation.values()) {
+            operationRecorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        RecordLoadTest loadTest = new RecordLoadTest(parseOptions(args));
+        try {
+            loadTest.run();
+        } finally {
+            loadTest.completionExecutor.shutdownNow();
+        }
+    }
+
+    private void run() throws Exception {
+        int clients = intOption("clients", 1000);
+        Duration warmup = durationOption("warmup", "15s");
+        Duration duration = durationOption("duration", "60s");
+
+        details = intOption("details", 20);
+        bulkDetailsBody = bulkDetailsBody(intOption("bulk-details", 5));
+        configureMix();
+        targets = setUp();
+        System.out.printf(Locale.ROOT, "Prepared %d users / %d interview records%n",
+                intOption("users", 1000), targets.size());
+
+        long startNanos = System.nanoTime();
+        measureStartNanos = startNanos + warmup.toNanos();
+        endNanos = measureStartNanos + duration.toNanos();
+
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int client = 0; client < clients; client++) {
+            next(client, finished);
+        }
+        finished.await();
+
+        report(clients, duration);
+    }
+
+    /**
+     * 요청 종류별 가중치를 설정합니다. 질문 및 답변이 없으면 자동 저장할 대상이 없으므로 자동 저장 요청은 보내지 않습니다.
+     */
+    private void configureMix() {
+        String mix = options.get("mix");
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, mix == null ? operation.defaultWeight : 0);
+        }
+        if (mix != null) {
+            for (String entry : mix.split(",")) {
+                int separator = entry.indexOf(':');
+                Operation operation = separator > 0 ? Operation.of(entry.substring(0, separator)) : null;
+                if (operation == null) {
+                    throw new IllegalArgumentException("Mix entries must be given as operation:weight: " + entry);
+                }
+                weights.put(operation, Integer.parseInt(entry.substring(separator + 1)));
+            }
+        }
+        if (details == 0) {
+            weights.put(Operation.AUTOSAVE, 0);
+        }
+
+        totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("Request mix must contain at least one operation: " + weights);
+        }
+    }
+
+    /**
+     * 테스트 사용자와 면접 기록, 질문 및 답변을 생성하고 요청 대상 목록을 반환합니다.
+     */
+    private List<Target> setUp() throws Exception {
+        int users = intOption("users", 1000);
+        int interviews = intOption("interviews", 5);
+        String detailsBody = bulkDetailsBody(details);
+
+        ExecutorService setUpExecutor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<List<Target>>> futures = new ArrayList<>();
+            for (int user = 0; user < users; user++) {
+                String userId = "loadtest-user-" + user;
+                futures.add(setUpExecutor.submit(() -> {
+                    List<Target> created = new ArrayList<>();
+                    for (int i = 0; i < interviews; i++) {
+                        String interviewRecordId = createInterviewRecord(userId, i);
+                        if (details > 0) {
+                            send(userId, "POST", "/record/interview/" + interviewRecordId + "/detail/bulk",
+                                    detailsBody);
+                        }
+                        created.add(new Target(userId, interviewRecordId));
+                    }
+                    return created;
+                }));
+            }
+
+            List<Target> created = new ArrayList<>();
+            for (Future<List<Target>> future : futures) {
+                created.addAll(future.get());
+            }
+            Collections.shuffle(created);
+            return created;
+        } finally {
+            setUpExecutor.shutdownNow();
+        }
+    }
+
+    private String createInterviewRecord(String userId, int index) {
+        String body = "{\"enterpriseName\":\"Enterprise " + index + "\",\"category\":\"Category " + (index % 3)
+                + "\"}";
+        HttpResponse<String> response = send(userId, "POST", "/record/interview", body);
+
+        Matcher matcher = INTERVIEW_RECORD_ID.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected create response: " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private String bulkDetailsBody(int details) {
+        StringBuilder body = new StringBuilder("{\"details\":[");
+        String answer = "A".repeat(400);
+        for (int i = 0; i < details; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"question\":\"Question ").append(i)
+                    .append("\",\"answer\":\"").append(answer).append("\"}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private HttpResponse<String> send(String userId, String method, String path, String body) {
+        try {
+            HttpResponse<String> response = httpClient.send(request(userId, method, path, body),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException(method + " " + path + " returned " + response.statusCode());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 클라이언트 하나의 다음 요청을 보냅니다. 응답이 오면 측정 종료 시각까지 다시 호출됩니다.
+     */
+    private void next(int client, CountDownLatch finished) {
+        if (System.nanoTime() >= endNanos) {
+            finished.countDown();
+            return;
+        }
+
+        Target target = targets.get(ThreadLocalRandom.current().nextInt(targets.size()));
+        Operation operation = nextOperation();
+        HttpRequest request = request(target, operation);
+        long startNanos = System.nanoTime();
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenCompleteAsync((response, error) -> {
+                    long now = System.nanoTime();
+                    if (startNanos >= measureStartNanos && now < endNanos) {
+                        if (error != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        } else {
+                            long micros = Math.min((now - startNanos) / 1_000, HIGHEST_TRACKABLE_MICROS);
+                            recorder.recordValue(micros);
+                            operationRecorders.get(operation).recordValue(micros);
+                        }
+                    }
+                    next(client, finished);
+                }, completionExecutor);
+    }
+
+    private Operation nextOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            roll -= weights.get(operation);
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Unreachable request mix: " + weights);
+    }
+
+    private HttpRequest request(Target target, Operation operation) {
+        String interviewPath = "/record/interview/" + target.interviewRecordId();
+        switch (operation) {
+            case DETAIL_PAGE:
+                return request(target.userId(), "GET", interviewPath + "?page=0&size=10", null);
+            case SIDEBAR:
+                return request(target.userId(), "GET", "/record/sidebar", null);
+            case AUTOSAVE:
+                // 초기 데이터의 질문 및 답변은 삭제되지 않으므로 인덱스가 항상 유효함
+                int detailIndex = ThreadLocalRandom.current().nextInt(details);
+                return request(target.userId(), "PUT", interviewPath + "/detail/" + detailIndex,
+                        "{\"question\":\"Question " + detailIndex + "\",\"answer\":\"Autosaved answer "
+                                + System.nanoTime() + "\"}");
+            case BULK_CREATE:
+                return request(target.userId(), "POST", interviewPath + "/detail/bulk", bulkDetailsBody);
+            default:
+                throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    private HttpRequest request(String userId, String method, String path, String body) {
+        URI uri = URI.create(option("base-url", "http://localhost:8080") + path);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-User-Id", userId);
+
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private void report(int clients, Duration duration) throws IOException {
+        Histogram histogram = recorder.getIntervalHistogram();
+        double throughput = histogram.getTotalCount() / (duration.toMillis() / 1000.0);
+        String label = option("label", "default");
+
+        System.out.printf(Locale.ROOT, "%n[%s] clients=%d requests=%d errors=%d throughput=%.1f req/s%n",
+                label, clients, histogram.getTotalCount(), errors.get(), throughput);
+        System.out.printf(Locale.ROOT, "latency (ms): p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+        for (Operation operation : Operation.values()) {
+            Histogram operationHistogram = operationRecorders.get(operation).getIntervalHistogram();
+            if (operationHistogram.getTotalCount() > 0) {
+                System.out.printf(Locale.ROOT, "  %-8s requests=%d p50=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                        operation.key, operationHistogram.getTotalCount(), millis(operationHistogram, 50),
+                        millis(operationHistogram, 99), millis(operationHistogram, 99.9),
+                        operationHistogram.getMaxValue() / 1000.0);
+            }
+        }
+
+        String hgrm = options.get("hgrm");
+        if (hgrm != null) {
+            Path path = Path.of(hgrm);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(path), true, StandardCharsets.UTF_8)) {
+                // 마이크로초로 기록한 값을 ms 단위로 출력
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        String csv = options.get("csv");
+        if (csv != null) {
+            Path path = Path.of(csv);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            if (Files.notExists(path)) {
+                Files.writeString(path,
+                        "label,clients,requests,errors,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+            }
+            Files.writeString(path, String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    label, clients, histogram.getTotalCount(), errors.get(), throughput,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0), StandardOpenOption.APPEND);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    private Duration durationOption(String name, String defaultValue) {
+        String value = option(name, defaultValue).toLowerCase(Locale.ROOT);
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * 부하 구성에 포함되는 요청 종류와 기본 가중치입니다.
+     */
+    private enum Operation {
+        DETAIL_PAGE("detail", 50),
+        SIDEBAR("sidebar", 25),
+        AUTOSAVE("autosave", 20),
+        BULK_CREATE("bulk", 5);
+
+        private final String key;
+
+        private final int defaultWeight;
+
+        Operation(String key, int defaultWeight) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+        }
+
+        private static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 요청 대상 (사용자와 그 사용자의 면접 기록)입니다.
+     */
+    private record Target(String userId, String interviewRecordId) {
+    }
+}
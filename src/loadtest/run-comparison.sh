@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# 실행 모드별 처리량/p99와 최대 JVM 스레드 수를 동시 클라이언트 수별로 비교합니다.
+#   platform  MVC + 플랫폼 스레드 (기본 실행)
+#   virtual   MVC + 가상 스레드 (virtual-threads 프로필)
+#   reactive  WebFlux + 리액티브 MongoDB 드라이버 (reactive 프로필)
+#   in-memory MVC + 메모리 저장소 (in-memory 프로필, MongoDB를 제외한 애플리케이션 비용만 측정)
+#
+# 필요 조건: JDK 21 이상(JAVA_HOME), Docker
+# 결과: build/loadtest/results.csv, build/loadtest/threads.csv,
+#       모드별 애플리케이션 로그(build/loadtest/app-*.log)
+#
+# 환경 변수로 조정 가능:
+#   MODES     비교할 실행 모드 목록 (기본값 "platform virtual reactive")
+#   CLIENTS   동시 클라이언트 수 목록 (기본값 "1000 2500 5000 10000")
+#   DURATION  측정 시간 (기본값 60s)
+#   WARMUP    워밍업 시간 (기본값 15s)
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+MODES="${MODES:-platform virtual reactive}"
+CLIENTS="${CLIENTS:-1000 2500 5000 10000}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-15s}"
+RESULTS=build/loadtest/results.csv
+THREADS=build/loadtest/threads.csv
+MONGODB_URI=mongodb://localhost:27017/record_loadtest
+
+mkdir -p build/loadtest
+rm -f "$RESULTS"
+echo "label,clients,peakThreads" > "$THREADS"
+
+docker compose -f src/loadtest/compose.yaml up -d
+./gradlew -q bootJar -PjavaVersion=21
+
+for mode in $MODES; do
+  if [ "$mode" != in-memory ]; then
+    docker compose -f src/loadtest/compose.yaml exec -T mongo \
+      mongosh --quiet record_loadtest --eval 'db.dropDatabase()'
+  fi
+
+  jvm_args=(-Xmx2g)
+  app_args=(
+    --spring.data.mongodb.uri="$MONGODB_URI"
+    --record.cache.enabled=false
+    # MVC 모드가 10k 연결을 수용하도록 설정 (reactive 모드의 Netty는 연결 수 제한 없음)
+    --server.tomcat.max-connections=20000
+    --server.tomcat.accept-count=10000
+  )
+  if [ "$mode" = virtual ]; then
+    jvm_args+=(-Djdk.tracePinnedThreads=short)
+    app_args+=(--spring.profiles.active=virtual-threads)
+  elif [ "$mode" = reactive ]; then
+    app_args+=(--spring.profiles.active=reactive)
+  elif [ "$mode" = in-memory ]; then
+    app_args+=(--spring.profiles.active=in-memory)
+  fi
+
+  java "${jvm_args[@]}" -jar build/libs/record-0.0.1-SNAPSHOT.jar "${app_args[@]}" \
+    > "build/loadtest/app-$mode.log" 2>&1 &
+  app_pid=$!
+  trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+  until curl -sf http://localhost:8080/actuator/health > /dev/null; do sleep 1; done
+
+  for clients in $CLIENTS; do
+    ./gradlew -q loadtest -PloadtestArgs="--clients=$clients --duration=$DURATION --warmup=$WARMUP \
+      --label=$mode --csv=$RESULTS"
+    # 측정 구간까지의 최대 JVM 스레드 수 (요청 처리에 필요한 스레드 규모)
+    peak=$(curl -sf http://localhost:8080/actuator/metrics/jvm.threads.peak \
+      | grep -o '"value":[0-9.]*' | cut -d: -f2)
+    echo "$mode,$clients,$peak" >> "$THREADS"
+  done
+
+  kill "$app_pid"
+  wait "$app_pid" 2>/dev/null || true
+
+  if [ "$mode" = virtual ]; then
+    echo "Pinned virtual thread events: $(grep -c '<== monitors' "build/loadtest/app-$mode.log" || true)"
+  fi
+done
+
+column -s, -t "$RESULTS"
+echo
+column -s, -t "$THREADS"
@@ -2,6 +2,7 @@ package pickme.record;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * RecordApplication 클래스는 PickMe-Record-Service 애플리케이션의 진입점(entry point)입니다.
@@ -16,9 +17,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * </p>
  * <ul>
  * <li>Spring Boot 애플리케이션 초기화 및 실행</li>
+ * <li>{@code @ConfigurationProperties} 설정 클래스 스캔</li>
  * </ul>
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class RecordApplication {
 
     public static void main(String[] args) {
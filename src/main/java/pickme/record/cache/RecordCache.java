@@ -0,0 +1,119 @@
+package pickme.record.cache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordCacheProperties;
+import pickme.record.metrics.RecordDocumentMetrics;
+import pickme.record.model.Record;
+import pickme.record.repository.RecordRepository;
+
+/**
+ * RecordCache는 사용자 ID를 키로 Record 문서를 보관하는 read-through 캐시입니다.
+ *
+ * <p>
+ * 캐시에 없는 문서는 {@link RecordRepository#findById}로 한 번 읽어 저장하며,
+ * 쓰기 경로에서는 {@link #invalidate(String)}를 호출하여 다음 조회 시 최신 문서를 다시 읽도록 합니다.
+ * 로딩 중인 항목을 무효화하면 진행 중인 로딩 결과는 캐시에 저장되지 않으므로, 쓰기 이전에 읽은 문서가 남지 않습니다.
+ * 같은 사용자에 대한 동시 미스는 하나의 로딩을 공유합니다.
+ * 캐시 적중은 저장소를 조회하지 않습니다. 무효화는 인스턴스 로컬이므로 다른 인스턴스의 쓰기는 항목이 만료({@code ttl})될 때
+ * 반영되며, 여러 인스턴스에서 사용할 때는 {@code ttl}을 허용할 수 있는 지연 시간으로 짧게 설정합니다.
+ * 응답 본문과 ETag가 서로 다른 버전을 가리키지 않도록, 캐시를 사용할 때는 ETag도 같은 캐시 항목의 버전으로 계산합니다
+ * ({@link #findInterviewRecordVersion(String, String)}).
+ * 조회한 문서의 크기와 항목 수는 캐시 적중 여부와 관계없이 조회할 때마다 {@link RecordDocumentMetrics}로 기록하므로,
+ * 분포는 캐시 적중률이 아니라 요청이 다루는 문서 크기를 나타냅니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordCache {
+
+    private final AsyncCache<String, Record> recordDocumentCache;
+
+    private final Executor recordCacheLoadExecutor;
+
+    private final RecordRepository recordRepository;
+
+    private final RecordCacheProperties properties;
+
+    private final RecordDocumentMetrics recordDocumentMetrics;
+
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시가 활성화되어 있으면 true
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 사용자 Record를 캐시에서 조회하고, 없으면 저장소에서 읽어 캐시에 저장합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 Record, 존재하지 않으면 빈 Optional
+     */
+    public Optional<Record> get(String userId) {
+        Optional<Record> record = lookup(userId);
+        record.ifPresent(recordDocumentMetrics::observe);
+        return record;
+    }
+
+    /**
+     * 캐시된 사용자 Record에 인터뷰 기록이 있으면 문서의 버전을 반환합니다.
+     * 문서 크기 메트릭은 본문을 조회할 때 기록하므로 여기서는 기록하지 않습니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 문서 버전, 문서나 인터뷰 기록이 없으면 빈 Optional
+     */
+    public Optional<Long> findInterviewRecordVersion(String userId, String interviewRecordId) {
+        return lookup(userId)
+                .filter(record -> record.findInterviewRecord(interviewRecordId) != null)
+                .map(RecordCache::versionOf);
+    }
+
+    private Optional<Record> lookup(String userId) {
+        CompletableFuture<Record> record = recordDocumentCache.get(userId, (key, executor) -> CompletableFuture
+                .supplyAsync(() -> load(key), recordCacheLoadExecutor));
+
+        try {
+            return Optional.ofNullable(record.join());
+        } catch (CompletionException e) {
+            // 로딩 중 발생한 예외를 동기 호출과 같은 형태로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 저장소에서 사용자 Record를 읽습니다.
+     */
+    private Record load(String userId) {
+        return recordRepository.findById(userId).orElse(null);
+    }
+
+    private static long versionOf(Record record) {
+        // 버전 필드가 도입되기 전에 저장된 문서는 0으로 취급
+        return record.getVersion() == null ? 0L : record.getVersion();
+    }
+
+    /**
+     * 사용자 Record 캐시 항목을 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(String userId) {
+        recordDocumentCache.synchronous().invalidate(userId);
+    }
+}
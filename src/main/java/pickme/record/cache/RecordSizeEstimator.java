@@ -0,0 +1,133 @@
+package pickme.record.cache;
+
+import java.util.Date;
+import java.util.List;
+
+import org.bson.types.Binary;
+
+import pickme.record.model.Record;
+
+/**
+ * RecordSizeEstimator는 Record 문서의 BSON 직렬화 크기를 직렬화 없이 추정하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 필드 이름, 타입 바이트, 문자열 길이 접두어 등 BSON 형식의 오버헤드를 더해 근사값을 계산하며,
+ * 캐시의 가중치(weight)와 문서 크기 메트릭에 사용됩니다.
+ * </p>
+ */
+public final class RecordSizeEstimator {
+
+    /** 빈 BSON 문서의 크기 (길이 4바이트 + 종료 1바이트) */
+    private static final int DOCUMENT_OVERHEAD = 5;
+
+    /** BSON Date 값의 크기 */
+    private static final int DATE_SIZE = 8;
+
+    private RecordSizeEstimator() {
+    }
+
+    /**
+     * Record 문서의 추정 BSON 크기(바이트)를 계산합니다.
+     *
+     * @param record 크기를 추정할 Record
+     * @return 추정 크기 (바이트)
+     */
+    public static long estimate(Record record) {
+        if (record == null) {
+            return 0;
+        }
+        long size = DOCUMENT_OVERHEAD + stringField("_id", record.getUserId());
+        if (record.getVersion() != null) {
+            size += 1 + "version".length() + 1 + Long.BYTES;
+        }
+
+        List<Record.InterviewRecord> interviewRecords = record.getRecords();
+        size += arrayField("records", interviewRecords == null ? 0 : interviewRecords.size());
+        if (interviewRecords != null) {
+            for (Record.InterviewRecord interviewRecord : interviewRecords) {
+                size += estimate(interviewRecord);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 캐시 가중치로 사용할 수 있도록 추정 크기를 int 범위로 제한하여 반환합니다.
+     *
+     * @param record 크기를 추정할 Record
+     * @return 추정 크기 (바이트, 최대 {@link Integer#MAX_VALUE})
+     */
+    public static int weigh(Record record) {
+        return (int) Math.min(estimate(record), Integer.MAX_VALUE);
+    }
+
+    private static long estimate(Record.InterviewRecord interviewRecord) {
+        long size = DOCUMENT_OVERHEAD + indexKey()
+                + stringField("interviewRecordId", interviewRecord.getInterviewRecordId())
+                + stringField("enterpriseName", interviewRecord.getEnterpriseName())
+                + stringField("category", interviewRecord.getCategory())
+                + dateField("createdAt", interviewRecord.getCreatedAt())
+                + dateField("updatedAt", interviewRecord.getUpdatedAt());
+
+        List<Record.RecordDetail> details = interviewRecord.getDetails();
+        size += arrayField("details", details == null ? 0 : details.size());
+        if (details != null) {
+            for (Record.RecordDetail detail : details) {
+                size += DOCUMENT_OVERHEAD + indexKey()
+                        + stringField("detailId", detail.getDetailId())
+                        + stringField("question", detail.getQuestion())
+                        + answerField(detail);
+            }
+        }
+        return size;
+    }
+
+    private static long stringField(String name, String value) {
+        if (value == null) {
+            return 0;
+        }
+        // 타입 1바이트 + 필드명(cstring) + 길이 4바이트 + UTF-8 본문 + 종료 1바이트
+        return 1 + name.length() + 1 + 4 + utf8Length(value) + 1;
+    }
+
+    private static long answerField(Record.RecordDetail detail) {
+        // 압축된 답변은 복원하지 않고 저장된 크기로 추정
+        // 타입 1바이트 + 필드명(cstring) + 길이 4바이트 + 서브타입 1바이트 + 본문
+        Object stored = detail.storedAnswer();
+        if (stored instanceof Binary binary) {
+            return 1 + "answer".length() + 1 + 4 + 1 + binary.length();
+        }
+        return stringField("answer", (String) stored);
+    }
+
+    private static long dateField(String name, Date value) {
+        return value == null ? 0 : 1 + name.length() + 1 + DATE_SIZE;
+    }
+
+    private static long arrayField(String name, int elements) {
+        return 1 + name.length() + 1 + DOCUMENT_OVERHEAD + (long) elements;
+    }
+
+    private static long indexKey() {
+        // 배열 원소의 키("0", "1", ...)와 타입 바이트의 평균적인 크기
+        return 4;
+    }
+
+    private static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
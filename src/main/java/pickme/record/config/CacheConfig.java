@@ -0,0 +1,74 @@
+package pickme.record.config;
+
+import java.util.concurrent.Executor;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import pickme.record.cache.RecordSizeEstimator;
+import pickme.record.model.Record;
+
+/**
+ * CacheConfig 클래스는 사용자 Record 문서를 보관하는 노드 로컬 캐시를 구성합니다.
+ *
+ * <p>
+ * 캐시 용량은 항목 수가 아니라 문서의 추정 BSON 크기로 제한되며,
+ * 적중/미스/축출 통계는 Micrometer의 {@code cache.*} 메트릭({@code cache=records})으로 노출됩니다.
+ * </p>
+ *
+ * <p>
+ * 캐시는 {@link AsyncCache}로 구성하여 문서 로딩(MongoDB 조회)이 캐시 내부 잠금 밖에서 실행되도록 합니다.
+ * 동기 캐시의 로딩 함수는 ConcurrentHashMap의 {@code synchronized} 구간 안에서 실행되므로,
+ * 가상 스레드에서 블로킹 I/O를 수행하면 캐리어 스레드가 고정(pinning)됩니다.
+ * </p>
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    AsyncCache<String, Record> recordDocumentCache(RecordCacheProperties properties, MeterRegistry meterRegistry) {
+        AsyncCache<String, Record> cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeightBytes())
+                .weigher((String userId, Record record) -> RecordSizeEstimator.weigh(record))
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "records");
+        return cache;
+    }
+
+    /**
+     * 캐시 미스 시 문서를 로딩할 실행기를 생성합니다.
+     *
+     * <p>
+     * 가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서는 로딩마다 새 가상 스레드를 사용하고,
+     * 플랫폼 스레드 모드에서는 {@code loadThreads}개의 고정 스레드 풀에서 로딩합니다.
+     * 호출 스레드에서 바로 로딩하면 로딩 결과를 만드는 동안, 즉 캐시 내부 잠금 안에서 블로킹 조회가 실행되므로
+     * 로딩을 잠금 밖으로 옮기려는 AsyncCache의 목적이 사라집니다.
+     * </p>
+     */
+    @Bean
+    Executor recordCacheLoadExecutor(RecordCacheProperties properties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("record-cache-load-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("record-cache-load-");
+        executor.setCorePoolSize(properties.getLoadThreads());
+        executor.setMaxPoolSize(properties.getLoadThreads());
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package pickme.record.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import pickme.record.repository.RecordAnswerConverters;
+
+/**
+ * MongoConversionConfig 클래스는 MongoDB 매핑에 사용할 사용자 정의 변환기를 등록합니다.
+ *
+ * <p>
+ * 압축 저장된 답변을 읽는 {@link RecordAnswerConverters}를 등록하며,
+ * 동기 템플릿과 리액티브 템플릿이 같은 변환 설정을 사용합니다.
+ * 압축 저장을 사용하지 않더라도 이미 압축된 답변을 읽을 수 있도록 항상 등록합니다.
+ * </p>
+ */
+@Configuration
+public class MongoConversionConfig {
+
+    @Bean
+    MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(RecordAnswerConverters.converters());
+    }
+}
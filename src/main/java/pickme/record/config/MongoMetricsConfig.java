@@ -0,0 +1,27 @@
+package pickme.record.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import pickme.record.metrics.MongoReplySizeCommandListener;
+
+/**
+ * MongoMetricsConfig 클래스는 MongoDB 드라이버 명령 메트릭을 구성합니다.
+ *
+ * <p>
+ * 명령별 지연 시간({@code mongodb.driver.commands})과 커넥션 풀 메트릭은 Spring Boot가 자동으로 등록하며,
+ * 이 클래스는 명령 응답 크기를 기록하는 {@link MongoReplySizeCommandListener}를 클라이언트 설정에 추가합니다.
+ * 동기 클라이언트와 리액티브 클라이언트 모두에 적용됩니다.
+ * </p>
+ */
+@Configuration
+public class MongoMetricsConfig {
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer mongoReplySizeCommandListenerCustomizer(MeterRegistry meterRegistry) {
+        return settings -> settings.addCommandListener(new MongoReplySizeCommandListener(meterRegistry));
+    }
+}
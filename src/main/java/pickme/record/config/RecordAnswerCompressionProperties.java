@@ -0,0 +1,27 @@
+package pickme.record.config;
+
+import java.util.zip.Deflater;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordAnswerCompressionProperties는 답변 본문 압축 저장 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 답변 압축 저장 사용 여부 (사용하지 않아도 이미 압축된 답변은 읽고 검색할 수 있음)</li>
+ * <li><b>thresholdBytes:</b> 압축할 답변의 최소 UTF-8 크기 (바이트)</li>
+ * <li><b>level:</b> Deflate 압축 수준 (1: 가장 빠름 ~ 9: 가장 작음)</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.answer-compression")
+public class RecordAnswerCompressionProperties {
+
+    private boolean enabled = false;
+
+    private int thresholdBytes = 1024;
+
+    private int level = Deflater.DEFAULT_COMPRESSION;
+}
@@ -0,0 +1,35 @@
+package pickme.record.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordAutosaveProperties는 세부 항목 자동 저장 쓰기 버퍼 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 자동 저장 버퍼 사용 여부 (사용하지 않으면 모든 업데이트를 즉시 저장)</li>
+ * <li><b>debounce:</b> 마지막 업데이트 이후 추가 업데이트가 없으면 저장하는 대기 시간</li>
+ * <li><b>maxDelay:</b> 업데이트가 계속되더라도 첫 업데이트 이후 저장을 미룰 수 있는 최대 시간</li>
+ * <li><b>maxEntries:</b> 버퍼에 보관할 세부 항목 수 상한 (초과하면 요청 스레드에서 즉시 저장)</li>
+ * </ul>
+ *
+ * <p>
+ * 버퍼는 인스턴스 메모리에 있으므로, 사용하려면 한 사용자의 요청이 항상 같은 인스턴스에서 처리되어야 합니다.
+ * 자세한 배포 조건은 {@link pickme.record.service.RecordAutosaveBuffer}를 참고합니다.
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.autosave")
+public class RecordAutosaveProperties {
+
+    private boolean enabled = false;
+
+    private Duration debounce = Duration.ofSeconds(2);
+
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,30 @@
+package pickme.record.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordCacheProperties는 사용자 Record 문서 캐시 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 캐시 사용 여부 (기본값 false)</li>
+ * <li><b>maxWeightBytes:</b> 캐시에 보관할 문서의 추정 BSON 크기 합계 상한</li>
+ * <li><b>ttl:</b> 항목을 읽어 온 이후 유지되는 시간 (다른 인스턴스의 쓰기가 반영되기까지의 최대 지연)</li>
+ * <li><b>loadThreads:</b> 플랫폼 스레드 모드에서 캐시 미스 시 문서를 로딩하는 스레드 수</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.cache")
+public class RecordCacheProperties {
+
+    private boolean enabled = false;
+
+    private long maxWeightBytes = 64L * 1024 * 1024;
+
+    private Duration ttl = Duration.ofSeconds(5);
+
+    private int loadThreads = 8;
+}
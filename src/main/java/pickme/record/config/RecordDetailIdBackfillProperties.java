@@ -0,0 +1,23 @@
+package pickme.record.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordDetailIdBackfillProperties는 세부 항목 ID가 없는 기존 문서에 ID를 채우는
+ * 온라인 마이그레이션 작업의 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 마이그레이션 작업 실행 여부</li>
+ * <li><b>batchSize:</b> 한 번의 실행에서 컬렉션별로 처리할 문서 수</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.migration.detail-id")
+public class RecordDetailIdBackfillProperties {
+
+    private boolean enabled = false;
+
+    private int batchSize = 100;
+}
@@ -0,0 +1,25 @@
+package pickme.record.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordExportProperties는 면접 기록 내보내기(NDJSON) 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>batchSize:</b> MongoDB 커서가 한 번에 가져오는 문서 수 (메모리 사용량의 상한)</li>
+ * <li><b>adminUserIds:</b> 전체 사용자 내보내기를 호출할 수 있는 사용자 ID 목록</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.export")
+public class RecordExportProperties {
+
+    private int batchSize = 100;
+
+    private List<String> adminUserIds = new ArrayList<>();
+}
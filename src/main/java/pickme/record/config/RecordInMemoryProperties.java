@@ -0,0 +1,24 @@
+package pickme.record.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordInMemoryProperties는 in-memory 프로필의 메모리 저장소 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>latency:</b> 저장소 호출마다 추가할 고정 지연 시간 (MongoDB 왕복 시간 모사)</li>
+ * <li><b>latencyJitter:</b> 고정 지연 시간에 더할 무작위 지연 시간의 상한</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.in-memory")
+public class RecordInMemoryProperties {
+
+    private Duration latency = Duration.ZERO;
+
+    private Duration latencyJitter = Duration.ZERO;
+}
@@ -0,0 +1,23 @@
+package pickme.record.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordMigrationProperties는 {@code records} 컬렉션을 버킷형 저장 모델로 옮기는
+ * 온라인 마이그레이션 작업의 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 마이그레이션 작업 실행 여부</li>
+ * <li><b>batchSize:</b> 한 번의 실행에서 처리할 사용자 문서 수</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.migration.bucket")
+public class RecordMigrationProperties {
+
+    private boolean enabled = false;
+
+    private int batchSize = 100;
+}
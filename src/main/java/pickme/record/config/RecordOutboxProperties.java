@@ -0,0 +1,44 @@
+package pickme.record.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordOutboxProperties는 면접 기록 변경 이벤트 outbox와 중계기 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 쓰기마다 변경 이벤트를 outbox에 추가하고 중계기를 실행할지 여부</li>
+ * <li><b>batchSize:</b> 중계기가 한 번에 읽어 발행하는 최대 이벤트 수</li>
+ * <li><b>linger:</b> outbox를 모두 비운 뒤 다음 중계까지 기다리는 시간 (발행 지연의 상한)</li>
+ * <li><b>maxEvents:</b> 사용자 문서 하나의 outbox에 남기는 최대 이벤트 수,
+ * 중계가 오래 멈춰 넘치면 가장 오래된 이벤트부터 발행되지 않고 버려집니다</li>
+ * <li><b>lease:</b> 중계기 하나가 획득하는 임대 기간, 임대를 가진 인스턴스만 중계하며 중계할 때마다 연장합니다</li>
+ * <li><b>publisher:</b> 이벤트 발행기 종류 ({@code file}, 테스트용 {@code memory}, 그 외 값은 직접 등록한 발행기 사용),
+ * 기본값은 없으며 outbox를 활성화하면 발행기 빈이 있어야 시작됩니다</li>
+ * <li><b>memoryCapacity:</b> 메모리 발행기(테스트용)가 보관하는 최근 이벤트 수</li>
+ * <li><b>filePath:</b> 파일 발행기가 이벤트를 NDJSON으로 덧붙이는 파일 경로</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.outbox")
+public class RecordOutboxProperties {
+
+    private boolean enabled = false;
+
+    private int batchSize = 100;
+
+    private Duration linger = Duration.ofMillis(200);
+
+    private int maxEvents = 1_000;
+
+    private Duration lease = Duration.ofSeconds(30);
+
+    private String publisher;
+
+    private int memoryCapacity = 10_000;
+
+    private String filePath = "outbox/record-changes.ndjson";
+}
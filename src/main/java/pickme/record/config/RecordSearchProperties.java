@@ -0,0 +1,24 @@
+package pickme.record.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordSearchProperties는 면접 기록 검색 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>enabled:</b> 검색 API 사용 여부 (사용하지 않으면 검색 요청에 404를 반환)</li>
+ * </ul>
+ *
+ * <p>
+ * 검색은 MongoDB 집계의 정규식으로 본문을 비교하며, 정규식으로 비교할 수 없는 압축된 답변은
+ * 복원한 뒤 애플리케이션에서 같은 정규식으로 판정합니다. 따라서 답변 압축 저장과 함께 사용할 수 있습니다.
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.search")
+public class RecordSearchProperties {
+
+    private boolean enabled = true;
+}
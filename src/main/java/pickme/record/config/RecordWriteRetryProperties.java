@@ -0,0 +1,27 @@
+package pickme.record.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RecordWriteRetryProperties는 쓰기 충돌 시 재시도 정책 설정을 바인딩하는 클래스입니다.
+ *
+ * <ul>
+ * <li><b>maxAttempts:</b> 최초 시도를 포함한 최대 시도 횟수</li>
+ * <li><b>initialBackoff:</b> 첫 재시도 전 대기 시간 (이후 2배씩 증가)</li>
+ * <li><b>maxBackoff:</b> 재시도 간 최대 대기 시간</li>
+ * </ul>
+ */
+@Data
+@ConfigurationProperties(prefix = "record.write.retry")
+public class RecordWriteRetryProperties {
+
+    private int maxAttempts = 3;
+
+    private Duration initialBackoff = Duration.ofMillis(20);
+
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
@@ -0,0 +1,12 @@
+package pickme.record.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig 클래스는 {@code @Scheduled} 기반 백그라운드 작업을 활성화하는 구성 클래스입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
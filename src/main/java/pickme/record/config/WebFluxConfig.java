@@ -0,0 +1,27 @@
+package pickme.record.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFluxConfig 클래스는 리액티브 프로필에서 Spring WebFlux 설정을 담당하는 구성 클래스입니다.
+ *
+ * <p>
+ * {@link WebMvcConfig}와 같은 CORS 정책을 적용합니다.
+ * 사용자 정보 헤더 추출은 인터셉터 대신 {@link pickme.record.config.security.JWTWebFilter}가 담당합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class WebFluxConfig implements WebFluxConfigurer {
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/**")
+                .allowedOrigins("*")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+                .allowedHeaders("*");
+    }
+}
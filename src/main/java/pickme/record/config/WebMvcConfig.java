@@ -2,6 +2,7 @@ package pickme.record.config;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -27,9 +28,11 @@ import pickme.record.config.security.JWTInterceptor;
  * <p>
  * 이 클래스는 {@code @Configuration} 어노테이션을 사용하여 Spring 컨텍스트에 등록되며,
  * {@code @RequiredArgsConstructor}를 통해 생성자 주입을 지원합니다.
+ * 서블릿(MVC) 애플리케이션에서만 등록되며, 리액티브 프로필에서는 {@link WebFluxConfig}가 같은 역할을 합니다.
  * </p>
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
@@ -39,7 +42,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("*")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*");
     }
 
@@ -0,0 +1,61 @@
+package pickme.record.config.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * JWTWebFilter는 WebFlux 애플리케이션에서 {@link JWTInterceptor}와 같은 역할을 하는 필터입니다.
+ *
+ * <p>
+ * API Gateway가 JWT 토큰 검증 후 전달한 사용자 정보 헤더를 추출하여,
+ * 컨트롤러에서 사용할 수 있도록 {@link ServerWebExchange}의 속성으로 추가합니다.
+ * 적용 경로는 MVC 인터셉터와 동일하게 "/record/**"이며, "/record/swagger-ui/**" 경로는 제외합니다.
+ * </p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class JWTWebFilter implements WebFilter {
+
+    private static final PathPattern INCLUDED = PathPatternParser.defaultInstance.parse("/record/**");
+
+    private static final PathPattern EXCLUDED = PathPatternParser.defaultInstance.parse("/record/swagger-ui/**");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        PathContainer path = request.getPath().pathWithinApplication();
+
+        // OPTIONS 요청과 적용 대상이 아닌 경로는 인증 처리 생략
+        if (HttpMethod.OPTIONS.equals(request.getMethod()) || !INCLUDED.matches(path) || EXCLUDED.matches(path)) {
+            return chain.filter(exchange);
+        }
+
+        // API Gateway에서 JWT 토큰 검증 후 전달한 사용자 관련 정보를 커스텀 헤더에서 추출
+        String userId = request.getHeaders().getFirst("X-User-Id"); // 사용자 ID (식별값)
+        String userName = request.getHeaders().getFirst("X-User-Name"); // 사용자 이름
+        String clintId = request.getHeaders().getFirst("X-Client-Id"); // 클라이언트 앱 ID
+
+        // 속성 맵은 null 값을 허용하지 않으므로 헤더가 있는 경우에만 추가
+        putIfPresent(exchange, "userId", userId);
+        putIfPresent(exchange, "userName", userName);
+        putIfPresent(exchange, "clintId", clintId);
+
+        return chain.filter(exchange);
+    }
+
+    private void putIfPresent(ServerWebExchange exchange, String name, String value) {
+        if (value != null) {
+            exchange.getAttributes().put(name, value);
+        }
+    }
+}
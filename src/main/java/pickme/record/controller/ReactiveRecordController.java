@@ -0,0 +1,352 @@
+package pickme.record.controller;
+
+import java.util.List;
+import jakarta.validation.Valid;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Mono;
+
+import pickme.record.dto.*;
+import pickme.record.service.ReactiveRecordService;
+
+/**
+ * ReactiveRecordController는 리액티브 프로필에서 면접 기록 관리 API를 제공하는 WebFlux 컨트롤러입니다.
+ *
+ * <p>
+ * {@link RecordController}와 같은 경로, 요청 형식, 응답 상태 코드를 사용하며,
+ * 요청을 처리하는 동안 이벤트 루프 스레드를 점유하지 않습니다.
+ * 사용자 ID는 {@link pickme.record.config.security.JWTWebFilter}가 요청 속성에 추가한 값을 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 다음 기능은 아직 MVC 스택에서만 제공됩니다: 여러 작업 일괄 실행, 검색, 면접 기록 내보내기.
+ * </p>
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/record")
+@Tag(name = "Record", description = "면접 기록 관리 API")
+public class ReactiveRecordController {
+
+    /**
+     * 병합 패치(RFC 7396) 요청 본문의 미디어 타입입니다.
+     */
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    @Autowired
+    private ReactiveRecordService recordService;
+
+    @Autowired
+    private RecordConditionalRequests recordConditionalRequests;
+
+    /**
+     * 새로운 면접 기록을 생성합니다.
+     *
+     * @param exchange                 요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordCreateDTO 생성할 면접 기록의 정보를 담은 DTO 객체입니다.
+     * @return 생성된 면접 기록 정보를 포함한 201 응답
+     */
+    @Operation(summary = "면접 기록 생성", description = "새로운 면접 기록을 생성합니다.")
+    @PostMapping("/interview")
+    public Mono<ResponseEntity<InterviewRecordResponseDTO>> createInterviewRecord(
+            ServerWebExchange exchange,
+            @Valid @RequestBody InterviewRecordCreateDTO interviewRecordCreateDTO) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.createInterviewRecord(userId, interviewRecordCreateDTO)
+                .map(responseDTO -> ResponseEntity.status(201).body(responseDTO));
+    }
+
+    /**
+     * 특정 면접 기록을 조회합니다.
+     *
+     * @param exchange          요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId 조회할 면접 기록의 ID입니다.
+     * @param page              페이징 처리를 위한 페이지 번호입니다. 기본값은 0입니다.
+     * @param size              페이징 처리를 위한 페이지 크기입니다. 기본값은 10입니다.
+     * @return 면접 기록 정보를 포함한 200 응답,
+     *         면접 기록이 존재하지 않을 경우 404, If-None-Match가 현재 ETag와 일치할 경우 304 응답
+     */
+    @Operation(summary = "면접 기록 조회", description = "특정 면접 기록을 조회합니다.")
+    @GetMapping("/interview/{interviewRecordId}")
+    public Mono<ResponseEntity<InterviewRecordResponseDTO>> getInterviewRecord(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        String userId = exchange.getAttribute("userId");
+
+        // ETag를 본문보다 먼저 계산하여, 그 사이의 변경이 이전 ETag로 캐시되지 않도록 함
+        return recordService.getInterviewRecordETag(userId, interviewRecordId)
+                .flatMap(eTag -> {
+                    if (recordConditionalRequests.isNotModified(exchange, "interview", eTag)) {
+                        return Mono.just(ResponseEntity.status(304).eTag(eTag).<InterviewRecordResponseDTO>build());
+                    }
+                    return recordService.getInterviewRecordById(userId, interviewRecordId, page, size)
+                            .map(responseDTO -> ResponseEntity.ok().eTag(eTag).body(responseDTO));
+                })
+                .defaultIfEmpty(ResponseEntity.status(404).build());
+    }
+
+    /**
+     * 면접 기록의 기업명과 카테고리를 업데이트합니다.
+     *
+     * @param exchange                 요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId        업데이트할 면접 기록의 고유 ID입니다.
+     * @param interviewRecordUpdateDTO 업데이트할 데이터를 포함하는 DTO 객체입니다.
+     * @return 업데이트된 면접 기록 데이터를 포함하는 200 응답, 면접 기록을 찾을 수 없는 경우 404 응답
+     */
+    @Operation(summary = "면접 기록 업데이트", description = "면접 기록의 기업명과 카테고리를 업데이트합니다.")
+    @PutMapping("/interview/{interviewRecordId}")
+    public Mono<ResponseEntity<InterviewRecordResponseDTO>> updateInterviewRecord(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @Valid @RequestBody InterviewRecordUpdateDTO interviewRecordUpdateDTO) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.updateInterviewRecord(userId, interviewRecordId, interviewRecordUpdateDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(404).build());
+    }
+
+    /**
+     * 면접 기록과 그에 속한 모든 질문 및 답변을 삭제합니다.
+     *
+     * @param exchange          요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId 삭제할 면접 기록의 ID.
+     * @return 삭제 성공 시 204 응답, 실패 시 404 응답
+     */
+    @Operation(summary = "면접 기록 삭제", description = "면접 기록과 그에 속한 모든 질문과 답변을 삭제합니다.")
+    @DeleteMapping("/interview/{interviewRecordId}")
+    public Mono<ResponseEntity<Void>> deleteInterviewRecord(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.deleteInterviewRecord(userId, interviewRecordId)
+                .map(this::toNoContentResponse);
+    }
+
+    /**
+     * 기존 면접 기록에 새로운 질문과 답변을 추가합니다.
+     *
+     * @param exchange              요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId     추가할 질문 및 답변이 속한 면접 기록의 ID입니다.
+     * @param recordDetailCreateDTO 새로운 질문 및 답변 정보를 포함하는 DTO 객체입니다.
+     * @return 생성된 질문 및 답변 정보를 포함하는 201 응답, 면접 기록이 없을 경우 404 응답
+     */
+    @Operation(summary = "질문 및 답변 추가", description = "기존 면접 기록에 새로운 질문과 답변을 추가합니다.")
+    @PostMapping("/interview/{interviewRecordId}/detail")
+    public Mono<ResponseEntity<RecordDetailResponseDTO>> createRecordDetail(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @Valid @RequestBody RecordDetailCreateDTO recordDetailCreateDTO) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.createRecordDetail(userId, interviewRecordId, recordDetailCreateDTO)
+                .map(responseDTO -> ResponseEntity.status(201).body(responseDTO))
+                .defaultIfEmpty(ResponseEntity.status(404).build());
+    }
+
+    /**
+     * 기존 면접 기록에 여러 질문과 답변을 한 번에 추가합니다.
+     *
+     * @param exchange                  요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId         추가할 질문 및 답변이 속한 면접 기록의 ID입니다.
+     * @param recordDetailBulkCreateDTO 추가할 질문 및 답변 목록을 포함하는 DTO 객체입니다.
+     * @return 생성된 질문 및 답변 목록을 포함하는 201 응답, 면접 기록이 없을 경우 404 응답
+     */
+    @Operation(summary = "질문 및 답변 일괄 추가", description = "기존 면접 기록에 여러 질문과 답변을 한 번에 추가합니다.")
+    @PostMapping("/interview/{interviewRecordId}/detail/bulk")
+    public Mono<ResponseEntity<List<RecordDetailResponseDTO>>> createRecordDetails(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @Valid @RequestBody RecordDetailBulkCreateDTO recordDetailBulkCreateDTO) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.createRecordDetails(userId, interviewRecordId, recordDetailBulkCreateDTO.getDetails())
+                .map(responseDTOs -> ResponseEntity.status(201).body(responseDTOs))
+                .defaultIfEmpty(ResponseEntity.status(404).build());
+    }
+
+    /**
+     * 특정 면접 기록의 질문 및 답변을 업데이트합니다.
+     *
+     * @param exchange              요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId     업데이트할 면접 기록의 ID입니다.
+     * @param detailIndex           업데이트할 질문/답변의 인덱스입니다.
+     * @param recordDetailUpdateDTO 업데이트할 질문 및 답변 정보를 포함하는 DTO 객체입니다.
+     * @return 업데이트된 질문 및 답변 정보를 포함하는 200 응답, 실패 시 404 응답
+     */
+    @Operation(summary = "질문 및 답변 업데이트", description = "면접 기록의 특정 질문과 답변을 업데이트합니다.")
+    @PutMapping("/interview/{interviewRecordId}/detail/{detailIndex}")
+    public Mono<ResponseEntity<RecordDetailResponseDTO>> updateRecordDetail(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @PathVariable int detailIndex,
+            @Valid @RequestBody RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.updateRecordDetail(userId, interviewRecordId, detailIndex, recordDetailUpdateDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(404).build());
+    }
+
+    /**
+     * 특정 면접 기록의 질문 및 답변을 삭제합니다.
+     *
+     * @param exchange          요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId 삭제할 면접 기록의 ID입니다.
+     * @param detailIndex       삭제할 질문 및 답변의 인덱스입니다.
+     * @return 삭제 성공 시 204 응답, 삭제할 항목이 없을 경우 404 응답
+     */
+    @Operation(summary = "질문 및 답변 삭제", description = "면접 기록의 특정 질문과 답변을 삭제합니다.")
+    @DeleteMapping("/interview/{interviewRecordId}/detail/{detailIndex}")
+    public Mono<ResponseEntity<Void>> deleteRecordDetail(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @PathVariable int detailIndex) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.deleteRecordDetail(userId, interviewRecordId, detailIndex)
+                .map(this::toNoContentResponse);
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 면접 기록의 질문 및 답변을 업데이트합니다.
+     *
+     * @param exchange              요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId     업데이트할 면접 기록의 ID입니다.
+     * @param detailId              업데이트할 질문/답변의 ID입니다.
+     * @param recordDetailUpdateDTO 업데이트할 질문 및 답변 정보를 포함하는 DTO 객체입니다.
+     * @return 업데이트된 질문 및 답변 정보를 포함하는 200 응답, 실패 시 404 응답
+     */
+    @Operation(summary = "질문 및 답변 업데이트 (ID 지정)", description = "세부 항목 ID로 지정한 질문과 답변을 업데이트합니다.")
+    @PutMapping("/interview/{interviewRecordId}/detail/id/{detailId}")
+    public Mono<ResponseEntity<RecordDetailResponseDTO>> updateRecordDetailById(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @PathVariable String detailId,
+            @Valid @RequestBody RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.updateRecordDetailById(userId, interviewRecordId, detailId, recordDetailUpdateDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(404).build());
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 면접 기록의 질문 및 답변을 삭제합니다.
+     *
+     * @param exchange          요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId 삭제할 면접 기록의 ID입니다.
+     * @param detailId          삭제할 질문 및 답변의 ID입니다.
+     * @return 삭제 성공 시 204 응답, 삭제할 항목이 없을 경우 404 응답
+     */
+    @Operation(summary = "질문 및 답변 삭제 (ID 지정)", description = "세부 항목 ID로 지정한 질문과 답변을 삭제합니다.")
+    @DeleteMapping("/interview/{interviewRecordId}/detail/id/{detailId}")
+    public Mono<ResponseEntity<Void>> deleteRecordDetailById(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @PathVariable String detailId) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.deleteRecordDetailById(userId, interviewRecordId, detailId)
+                .map(this::toNoContentResponse);
+    }
+
+    /**
+     * 면접 기록에 병합 패치(RFC 7396)를 적용합니다. 패치에 포함된 기업명이나 카테고리만 변경합니다.
+     *
+     * @param exchange          요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId 변경할 면접 기록의 ID입니다.
+     * @param patch             병합 패치 요청 본문입니다.
+     * @return 적용 성공 시 204 응답, 면접 기록이 없으면 404 응답, 패치가 유효하지 않으면 400 응답
+     */
+    @Operation(summary = "면접 기록 부분 업데이트", description = "병합 패치에 포함된 기업명이나 카테고리만 변경합니다.")
+    @PatchMapping(path = "/interview/{interviewRecordId}", consumes = { MERGE_PATCH_JSON, "application/json" })
+    public Mono<ResponseEntity<Void>> patchInterviewRecord(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @RequestBody JsonNode patch) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.patchInterviewRecord(userId, interviewRecordId, patch)
+                .map(this::toNoContentResponse);
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 질문 및 답변에 병합 패치(RFC 7396)를 적용합니다.
+     *
+     * @param exchange          요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param interviewRecordId 변경할 면접 기록의 ID입니다.
+     * @param detailId          변경할 질문/답변의 ID입니다.
+     * @param patch             병합 패치 요청 본문입니다.
+     * @return 적용 성공 시 204 응답, 대상이 없으면 404 응답, 패치가 유효하지 않으면 400 응답
+     */
+    @Operation(summary = "질문 및 답변 부분 업데이트", description = "병합 패치에 포함된 질문이나 답변만 변경합니다.")
+    @PatchMapping(path = "/interview/{interviewRecordId}/detail/id/{detailId}",
+            consumes = { MERGE_PATCH_JSON, "application/json" })
+    public Mono<ResponseEntity<Void>> patchRecordDetail(
+            ServerWebExchange exchange,
+            @PathVariable String interviewRecordId,
+            @PathVariable String detailId,
+            @RequestBody JsonNode patch) {
+        String userId = exchange.getAttribute("userId");
+
+        return recordService.patchRecordDetail(userId, interviewRecordId, detailId, patch)
+                .map(this::toNoContentResponse);
+    }
+
+    /**
+     * 사이드바에 필요한 면접 기록 정보를 수정 시각 순으로 한 페이지씩 조회합니다.
+     *
+     * @param exchange       요청 속성에 사용자 ID를 포함하는 요청 객체입니다.
+     * @param cursor         직전 페이지 응답의 nextCursor입니다. 첫 페이지는 생략합니다.
+     * @param size           페이지 크기입니다. 기본값은 20, 최대 100입니다.
+     * @param order          수정 시각 정렬 방향(asc, desc)입니다. 기본값은 desc(최근 수정 순)입니다.
+     * @param category       카테고리 필터입니다.
+     * @param enterpriseName 기업명 필터입니다.
+     * @return 면접 기록 정보 페이지를 포함한 200 응답,
+     *         파라미터가 유효하지 않을 경우 400, If-None-Match가 현재 ETag와 일치할 경우 304 응답
+     */
+    @Operation(summary = "사이드바 데이터 조회", description = "사이드바에 필요한 면접 기록 정보를 커서 기반으로 조회합니다.")
+    @GetMapping("/sidebar")
+    public Mono<ResponseEntity<InterviewRecordSidebarPageDTO>> getSidebarData(
+            ServerWebExchange exchange,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String enterpriseName) {
+        String userId = exchange.getAttribute("userId");
+
+        // ETag를 본문보다 먼저 계산하여, 그 사이의 변경이 이전 ETag로 캐시되지 않도록 함
+        // (파라미터가 유효하지 않으면 ETag가 없으므로 조건부 조회보다 400이 우선)
+        return recordService.getSidebarETag(userId, cursor, size, order)
+                .flatMap(eTag -> {
+                    if (recordConditionalRequests.isNotModified(exchange, "sidebar", eTag)) {
+                        return Mono.just(ResponseEntity.status(304).eTag(eTag)
+                                .<InterviewRecordSidebarPageDTO>build());
+                    }
+                    return recordService.getSidebarData(userId, cursor, size, order, category, enterpriseName)
+                            .map(responseDTO -> ResponseEntity.ok().eTag(eTag).body(responseDTO))
+                            .defaultIfEmpty(ResponseEntity.status(400).build());
+                })
+                .defaultIfEmpty(ResponseEntity.status(400).build());
+    }
+
+    private ResponseEntity<Void> toNoContentResponse(boolean applied) {
+        return applied ? ResponseEntity.noContent().build() : ResponseEntity.status(404).build();
+    }
+}
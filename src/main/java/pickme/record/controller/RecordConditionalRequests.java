@@ -0,0 +1,74 @@
+package pickme.record.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * RecordConditionalRequests는 조건부 조회(If-None-Match) 요청을 판정하고 그 결과를 메트릭으로 기록하는 컴포넌트입니다.
+ *
+ * <p>
+ * MVC 요청과 WebFlux 요청 모두 같은 규칙으로 판정하며,
+ * 판정 결과는 {@code record.etag.requests} 카운터에 리소스({@code resource})와 결과({@code result}) 태그로 기록됩니다.
+ * </p>
+ * <ul>
+ * <li>hit: 클라이언트의 ETag가 현재와 같아 304를 반환한 경우</li>
+ * <li>miss: 클라이언트가 ETag를 보냈지만 리소스가 변경된 경우</li>
+ * <li>absent: If-None-Match 헤더가 없는 경우</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordConditionalRequests {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청의 If-None-Match 헤더가 현재 ETag와 일치하는지 확인합니다.
+     *
+     * @param request  클라이언트 요청
+     * @param resource 메트릭 태그로 사용할 리소스 이름
+     * @param eTag     현재 리소스의 ETag (따옴표 없이 전달해도 됨)
+     * @return 일치하여 304를 반환해야 하면 true
+     */
+    public boolean isNotModified(HttpServletRequest request, String resource, String eTag) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            record(resource, "absent");
+            return false;
+        }
+
+        boolean notModified = new ServletWebRequest(request).checkNotModified(eTag);
+        record(resource, notModified ? "hit" : "miss");
+        return notModified;
+    }
+
+    /**
+     * WebFlux 요청의 If-None-Match 헤더가 현재 ETag와 일치하는지 확인합니다.
+     *
+     * @param exchange 클라이언트 요청과 응답
+     * @param resource 메트릭 태그로 사용할 리소스 이름
+     * @param eTag     현재 리소스의 ETag (따옴표 없이 전달해도 됨)
+     * @return 일치하여 304를 반환해야 하면 true
+     */
+    public boolean isNotModified(ServerWebExchange exchange, String resource, String eTag) {
+        if (exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) == null) {
+            record(resource, "absent");
+            return false;
+        }
+
+        boolean notModified = exchange.checkNotModified(eTag);
+        record(resource, notModified ? "hit" : "miss");
+        return notModified;
+    }
+
+    private void record(String resource, String result) {
+        meterRegistry.counter("record.etag.requests", "resource", resource, "result", result).increment();
+    }
+}
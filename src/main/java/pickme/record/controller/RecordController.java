@@ -1,6 +1,7 @@
 package pickme.record.controller;
 
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
@@ -8,8 +9,18 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import pickme.record.config.RecordExportProperties;
+import pickme.record.config.RecordSearchProperties;
 
 import pickme.record.dto.*;
 import pickme.record.service.RecordService;
@@ -26,19 +37,32 @@ import pickme.record.service.RecordService;
  * <li>면접 기록 업데이트</li>
  * <li>면접 기록 삭제</li>
  * <li>기존 면접 기록에 새로운 질문 및 답변 추가</li>
+ * <li>기존 면접 기록에 여러 질문 및 답변 일괄 추가</li>
  * <li>특정 질문 및 답변 업데이트</li>
  * <li>특정 질문 및 답변 삭제</li>
+ * <li>면접 기록, 질문 및 답변 부분 업데이트 (JSON Merge Patch)</li>
+ * <li>여러 작업 일괄 실행</li>
+ * <li>질문, 답변, 기업명 검색</li>
  * <li>사이드바 데이터 조회</li>
+ * <li>전체 면접 기록 내보내기 (NDJSON)</li>
  * </ul>
  * 
  * <p>
  * 사용자는 HttpServletRequest를 통해 인증된 userId를 전달받아 각 요청을 처리합니다.
+ * 면접 기록 조회와 사이드바 조회는 ETag를 반환하며, If-None-Match가 일치하면 본문 없이 304를 반환합니다.
+ * 서블릿(MVC) 애플리케이션에서만 등록되며, 리액티브 프로필에서는 {@link ReactiveRecordController}가 요청을 처리합니다.
  * </p>
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/record")
 @Tag(name = "Record", description = "면접 기록 관리 API")
 public class RecordController {
+    /**
+     * 병합 패치(RFC 7396) 요청 본문의 미디어 타입입니다.
+     */
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     /**
      * RecordService를 주입받기 위한 필드입니다.
      * Spring의 @Autowired 어노테이션을 사용하여 의존성을 자동으로 주입합니다.
@@ -46,6 +70,24 @@ public class RecordController {
     @Autowired
     private RecordService recordService;
 
+    /**
+     * 조건부 조회(If-None-Match) 판정과 ETag 적중률 메트릭 기록을 담당하는 컴포넌트입니다.
+     */
+    @Autowired
+    private RecordConditionalRequests recordConditionalRequests;
+
+    /**
+     * 내보내기 설정(관리자 사용자 ID 목록)을 조회하기 위한 필드입니다.
+     */
+    @Autowired
+    private RecordExportProperties recordExportProperties;
+
+    /**
+     * 검색 API 사용 여부를 조회하기 위한 필드입니다.
+     */
+    @Autowired
+    private RecordSearchProperties recordSearchProperties;
+
     /**
      * 새로운 면접 기록을 생성합니다.
      *
@@ -73,7 +115,8 @@ public class RecordController {
      * @param page              페이징 처리를 위한 페이지 번호입니다. 기본값은 0입니다.
      * @param size              페이징 처리를 위한 페이지 크기입니다. 기본값은 10입니다.
      * @return 면접 기록 정보를 포함한 ResponseEntity 객체를 반환합니다.
-     *         면접 기록이 존재하지 않을 경우 404 상태 코드를 반환합니다.
+     *         면접 기록이 존재하지 않을 경우 404 상태 코드를,
+     *         If-None-Match가 현재 ETag와 일치할 경우 304 상태 코드를 반환합니다.
      * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
      */
     @Operation(summary = "면접 기록 조회", description = "특정 면접 기록을 조회합니다.")
@@ -84,11 +127,21 @@ public class RecordController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) throws Exception {
         String userId = (String) request.getAttribute("userId");
+
+        // ETag를 본문보다 먼저 계산하여, 그 사이의 변경이 이전 ETag로 캐시되지 않도록 함
+        String eTag = recordService.getInterviewRecordETag(userId, interviewRecordId);
+        if (eTag == null) {
+            return ResponseEntity.status(404).build();
+        }
+        if (recordConditionalRequests.isNotModified(request, "interview", eTag)) {
+            return ResponseEntity.status(304).eTag(eTag).build();
+        }
+
         InterviewRecordResponseDTO responseDTO = recordService.getInterviewRecordById(userId, interviewRecordId, page,
                 size);
 
         if (responseDTO != null) {
-            return ResponseEntity.ok(responseDTO);
+            return ResponseEntity.ok().eTag(eTag).body(responseDTO);
         } else {
             return ResponseEntity.status(404).build();
         }
@@ -182,6 +235,39 @@ public class RecordController {
         }
     }
 
+    /**
+     * 기존 면접 기록에 여러 질문과 답변을 한 번에 추가합니다.
+     *
+     * <p>
+     * 면접 기록 전문을 가져오는 경우처럼 많은 질문/답변을 추가할 때 사용하며,
+     * 모든 항목을 검증한 뒤 요청 순서대로 한 번의 쓰기로 추가합니다.
+     * </p>
+     *
+     * @param request                   HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @param interviewRecordId         추가할 질문 및 답변이 속한 면접 기록의 ID입니다.
+     * @param recordDetailBulkCreateDTO 추가할 질문 및 답변 목록을 포함하는 DTO 객체입니다.
+     * @return 생성된 질문 및 답변 목록을 포함하는 ResponseEntity 객체를 반환합니다.
+     *         성공 시 HTTP 상태 코드 201(Created)을 반환하며,
+     *         면접 기록이 없을 경우 HTTP 상태 코드 404(Not Found)를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 예외를 던집니다.
+     */
+    @Operation(summary = "질문 및 답변 일괄 추가", description = "기존 면접 기록에 여러 질문과 답변을 한 번에 추가합니다.")
+    @PostMapping("/interview/{interviewRecordId}/detail/bulk")
+    public ResponseEntity<List<RecordDetailResponseDTO>> createRecordDetails(
+            HttpServletRequest request,
+            @PathVariable String interviewRecordId,
+            @Valid @RequestBody RecordDetailBulkCreateDTO recordDetailBulkCreateDTO) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        List<RecordDetailResponseDTO> responseDTOs = recordService.createRecordDetails(userId, interviewRecordId,
+                recordDetailBulkCreateDTO.getDetails());
+
+        if (responseDTOs != null) {
+            return ResponseEntity.status(201).body(responseDTOs);
+        } else {
+            return ResponseEntity.status(404).build();
+        }
+    }
+
     /**
      * 특정 면접 기록의 질문 및 답변을 업데이트합니다.
      *
@@ -237,24 +323,331 @@ public class RecordController {
         }
     }
 
+    /**
+     * 세부 항목 ID로 지정한 면접 기록의 질문 및 답변을 업데이트합니다.
+     *
+     * <p>
+     * 인덱스 대신 생성 시 부여된 세부 항목 ID로 대상을 지정하므로,
+     * 다른 요청이 앞선 세부 항목을 삭제하여 위치가 바뀌어도 같은 세부 항목이 변경됩니다.
+     * </p>
+     *
+     * @param request               HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @param interviewRecordId     업데이트할 면접 기록의 ID입니다.
+     * @param detailId              업데이트할 질문/답변의 ID입니다.
+     * @param recordDetailUpdateDTO 업데이트할 질문 및 답변 정보를 포함하는 DTO 객체입니다.
+     * @return 업데이트된 질문 및 답변 정보를 포함하는 ResponseEntity 객체를 반환합니다.
+     *         성공 시 200 OK와 함께 데이터를 반환하며, 실패 시 404 Not Found를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던져질 수 있습니다.
+     */
+    @Operation(summary = "질문 및 답변 업데이트 (ID 지정)", description = "세부 항목 ID로 지정한 질문과 답변을 업데이트합니다.")
+    @PutMapping("/interview/{interviewRecordId}/detail/id/{detailId}")
+    public ResponseEntity<RecordDetailResponseDTO> updateRecordDetailById(
+            HttpServletRequest request,
+            @PathVariable String interviewRecordId,
+            @PathVariable String detailId,
+            @Valid @RequestBody RecordDetailUpdateDTO recordDetailUpdateDTO) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        RecordDetailResponseDTO responseDTO = recordService.updateRecordDetailById(userId, interviewRecordId,
+                detailId, recordDetailUpdateDTO);
+
+        if (responseDTO != null) {
+            return ResponseEntity.ok(responseDTO);
+        } else {
+            return ResponseEntity.status(404).build();
+        }
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 면접 기록의 질문 및 답변을 삭제합니다.
+     *
+     * @param request           HTTP 요청 객체로, 사용자 ID를 포함합니다.
+     * @param interviewRecordId 삭제할 면접 기록의 ID입니다.
+     * @param detailId          삭제할 질문 및 답변의 ID입니다.
+     * @return 삭제 성공 시 204 No Content 응답을 반환하며,
+     *         삭제할 항목이 없을 경우 404 Not Found 응답을 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "질문 및 답변 삭제 (ID 지정)", description = "세부 항목 ID로 지정한 질문과 답변을 삭제합니다.")
+    @DeleteMapping("/interview/{interviewRecordId}/detail/id/{detailId}")
+    public ResponseEntity<Void> deleteRecordDetailById(
+            HttpServletRequest request,
+            @PathVariable String interviewRecordId,
+            @PathVariable String detailId) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        boolean deleted = recordService.deleteRecordDetailById(userId, interviewRecordId, detailId);
+
+        if (deleted) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.status(404).build();
+        }
+    }
+
+    /**
+     * 면접 기록에 병합 패치(RFC 7396)를 적용합니다.
+     *
+     * <p>
+     * 요청 본문에는 변경할 필드만 포함합니다. 예를 들어 카테고리만 바꿀 때는 {@code {"category": "2차 면접"}}을 보냅니다.
+     * 패치에 포함된 필드만 변경하며, 응답 본문은 반환하지 않습니다.
+     * </p>
+     *
+     * @param request           HTTP 요청 객체로, 사용자 ID를 포함합니다.
+     * @param interviewRecordId 변경할 면접 기록의 ID입니다.
+     * @param patch             병합 패치 요청 본문입니다.
+     * @return 적용 성공 시 204 No Content 응답을 반환하며, 면접 기록이 없으면 404 Not Found,
+     *         패치가 유효하지 않으면 400 Bad Request 응답을 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "면접 기록 부분 업데이트", description = "병합 패치에 포함된 기업명이나 카테고리만 변경합니다.")
+    @PatchMapping(path = "/interview/{interviewRecordId}", consumes = { MERGE_PATCH_JSON, "application/json" })
+    public ResponseEntity<Void> patchInterviewRecord(
+            HttpServletRequest request,
+            @PathVariable String interviewRecordId,
+            @RequestBody JsonNode patch) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        boolean patched = recordService.patchInterviewRecord(userId, interviewRecordId, patch);
+
+        if (patched) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.status(404).build();
+        }
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 질문 및 답변에 병합 패치(RFC 7396)를 적용합니다.
+     *
+     * <p>
+     * 질문만 고칠 때는 답변을 다시 보내지 않아도 되며, 패치에 포함된 필드만 변경합니다.
+     * </p>
+     *
+     * @param request           HTTP 요청 객체로, 사용자 ID를 포함합니다.
+     * @param interviewRecordId 변경할 면접 기록의 ID입니다.
+     * @param detailId          변경할 질문/답변의 ID입니다.
+     * @param patch             병합 패치 요청 본문입니다.
+     * @return 적용 성공 시 204 No Content 응답을 반환하며, 대상이 없으면 404 Not Found,
+     *         패치가 유효하지 않으면 400 Bad Request 응답을 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "질문 및 답변 부분 업데이트", description = "병합 패치에 포함된 질문이나 답변만 변경합니다.")
+    @PatchMapping(path = "/interview/{interviewRecordId}/detail/id/{detailId}",
+            consumes = { MERGE_PATCH_JSON, "application/json" })
+    public ResponseEntity<Void> patchRecordDetail(
+            HttpServletRequest request,
+            @PathVariable String interviewRecordId,
+            @PathVariable String detailId,
+            @RequestBody JsonNode patch) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        boolean patched = recordService.patchRecordDetail(userId, interviewRecordId, detailId, patch);
+
+        if (patched) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.status(404).build();
+        }
+    }
+
+    /**
+     * 여러 작업을 요청 순서대로 한 번에 실행합니다.
+     *
+     * <p>
+     * 면접 기록 수정, 질문 및 답변 추가/수정/삭제처럼 개별 API로 제공되는 작업을 묶어 실행하며,
+     * 작업별 결과(개별 API가 반환했을 상태 코드)를 요청 순서대로 반환합니다.
+     * </p>
+     *
+     * @param request               HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @param recordBatchRequestDTO 실행할 작업 목록을 포함하는 DTO 객체입니다.
+     * @return 작업별 실행 결과 목록을 포함하는 ResponseEntity 객체를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "일괄 작업 실행", description = "여러 면접 기록 작업을 순서대로 한 번에 실행합니다.")
+    @PostMapping("/batch")
+    public ResponseEntity<List<RecordBatchResultDTO>> executeBatch(
+            HttpServletRequest request,
+            @Valid @RequestBody RecordBatchRequestDTO recordBatchRequestDTO) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        List<RecordBatchResultDTO> results = recordService.executeBatch(userId,
+                recordBatchRequestDTO.getOperations());
+
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * 질문, 답변, 기업명에서 검색어를 검색합니다.
+     *
+     * <p>
+     * 공백으로 구분된 단어 중 하나라도 포함하는 세부 항목을 찾아,
+     * 인터뷰 기록 ID, 세부 항목 인덱스, 검색어가 강조된 스니펫을 페이지 단위로 반환합니다.
+     * </p>
+     *
+     * @param request HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @param q       검색어입니다.
+     * @param page    페이징 처리를 위한 페이지 번호입니다. 기본값은 0입니다.
+     * @param size    페이징 처리를 위한 페이지 크기입니다. 기본값은 10, 최대 50입니다.
+     * @return 검색 결과를 포함한 ResponseEntity 객체를 반환합니다.
+     *         검색어나 페이징 파라미터가 유효하지 않을 경우 400 상태 코드를,
+     *         검색을 사용하지 않도록 설정한 경우 404 상태 코드를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "면접 기록 검색", description = "질문, 답변, 기업명에서 검색어를 검색합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<RecordSearchResponseDTO> searchRecords(
+            HttpServletRequest request,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) throws Exception {
+        if (!recordSearchProperties.isEnabled()) {
+            return ResponseEntity.status(404).build();
+        }
+
+        String userId = (String) request.getAttribute("userId");
+        RecordSearchResponseDTO responseDTO = recordService.searchRecords(userId, q, page, size);
+
+        if (responseDTO != null) {
+            return ResponseEntity.ok(responseDTO);
+        } else {
+            return ResponseEntity.status(400).build();
+        }
+    }
+
     /**
      * 사이드바 데이터 조회 API.
      * <p>
-     * 이 메서드는 사이드바에 필요한 면접 기록 정보를 조회합니다.
-     * 클라이언트 요청에서 사용자 ID를 추출하여 해당 사용자의 면접 기록 데이터를 반환합니다.
+     * 이 메서드는 사이드바에 필요한 면접 기록 정보를 수정 시각 순으로 한 페이지씩 조회합니다.
+     * 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
      * </p>
      *
-     * @param request HttpServletRequest 객체로, 요청의 사용자 ID를 포함합니다.
-     * @return ResponseEntity 객체로, 면접 기록 정보를 담은 List를 반환합니다.
+     * @param request        HttpServletRequest 객체로, 요청의 사용자 ID를 포함합니다.
+     * @param cursor         직전 페이지 응답의 nextCursor입니다. 첫 페이지는 생략합니다.
+     * @param size           페이지 크기입니다. 기본값은 20, 최대 100입니다.
+     * @param order          수정 시각 정렬 방향(asc, desc)입니다. 기본값은 desc(최근 수정 순)입니다.
+     * @param category       카테고리 필터입니다.
+     * @param enterpriseName 기업명 필터입니다.
+     * @return ResponseEntity 객체로, 면접 기록 정보 페이지를 반환합니다.
+     *         파라미터가 유효하지 않을 경우 400 상태 코드를,
+     *         If-None-Match가 현재 ETag와 일치할 경우 304 상태 코드를 반환합니다.
      * @throws Exception 데이터 조회 중 예외가 발생할 경우 던집니다.
      */
-    @Operation(summary = "사이드바 데이터 조회", description = "사이드바에 필요한 면접 기록 정보를 조회합니다.")
+    @Operation(summary = "사이드바 데이터 조회", description = "사이드바에 필요한 면접 기록 정보를 커서 기반으로 조회합니다.")
     @GetMapping("/sidebar")
-    public ResponseEntity<List<InterviewRecordSidebarDTO>> getSidebarData(
-            HttpServletRequest request) throws Exception {
+    public ResponseEntity<InterviewRecordSidebarPageDTO> getSidebarData(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String enterpriseName) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+
+        // ETag를 본문보다 먼저 계산하여, 그 사이의 변경이 이전 ETag로 캐시되지 않도록 함
+        // (파라미터가 유효하지 않으면 ETag가 없으므로 조건부 조회보다 400이 우선)
+        String eTag = recordService.getSidebarETag(userId, cursor, size, order);
+        if (eTag == null) {
+            return ResponseEntity.status(400).build();
+        }
+        if (recordConditionalRequests.isNotModified(request, "sidebar", eTag)) {
+            return ResponseEntity.status(304).eTag(eTag).build();
+        }
+
+        InterviewRecordSidebarPageDTO responseDTO = recordService.getSidebarData(userId, cursor, size, order,
+                category, enterpriseName);
+
+        if (responseDTO != null) {
+            return ResponseEntity.ok().eTag(eTag).body(responseDTO);
+        } else {
+            return ResponseEntity.status(400).build();
+        }
+    }
+
+    /**
+     * 면접 통계 조회 API.
+     * <p>
+     * 카테고리별/기업명별 면접 기록 수, 면접 기록당 평균 답변 수, 날짜별 활동을 반환합니다.
+     * 통계는 쓰기 작업마다 갱신되는 사용자별 요약에서 읽으므로, 기록의 양과 무관하게 한 번의 조회로 응답합니다.
+     * </p>
+     *
+     * @param request HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @return 면접 통계를 포함한 ResponseEntity 객체를 반환합니다. 기록이 없으면 모든 값이 0인 통계를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "면접 통계 조회", description = "카테고리별, 기업명별 면접 기록 수와 날짜별 활동을 조회합니다.")
+    @GetMapping("/stats")
+    public ResponseEntity<RecordStatsDTO> getStats(HttpServletRequest request) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+        return ResponseEntity.ok(recordService.getStats(userId));
+    }
+
+    /**
+     * 사용자의 전체 면접 기록을 내보냅니다.
+     *
+     * <p>
+     * 면접 기록 하나를 한 줄의 JSON으로 표현하는 NDJSON 형식으로, MongoDB 커서에서 읽는 즉시 스트리밍합니다.
+     * gzip 파라미터가 true이면 gzip으로 압축된 파일로 내려받습니다.
+     * </p>
+     *
+     * @param request HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @param gzip    gzip 압축 여부입니다. 기본값은 false입니다.
+     * @return NDJSON 스트림을 본문으로 가지는 ResponseEntity 객체를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "면접 기록 내보내기", description = "사용자의 전체 면접 기록을 NDJSON으로 내보냅니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean gzip) throws Exception {
         String userId = (String) request.getAttribute("userId");
-        List<InterviewRecordSidebarDTO> responseDTOs = recordService.getSidebarData(userId);
 
-        return ResponseEntity.ok(responseDTOs);
+        return toExportResponse("records", gzip, outputStream -> recordService.exportRecords(userId, outputStream));
+    }
+
+    /**
+     * 전체 사용자의 면접 기록을 내보냅니다. (관리자 전용)
+     *
+     * <p>
+     * 데이터 파이프라인의 정기 내보내기를 위한 API로, {@code record.export.admin-user-ids}에 등록된 사용자만 호출할 수 있습니다.
+     * 메모리에는 커서의 현재 배치만 유지되며, 클라이언트의 수신 속도에 맞춰 읽기 속도가 조절됩니다.
+     * </p>
+     *
+     * @param request HttpServletRequest 객체로 사용자 요청 정보를 포함합니다.
+     * @param gzip    gzip 압축 여부입니다. 기본값은 false입니다.
+     * @return NDJSON 스트림을 본문으로 가지는 ResponseEntity 객체를 반환합니다.
+     *         관리자가 아닐 경우 403 상태 코드를 반환합니다.
+     * @throws Exception 처리 중 예외가 발생할 경우 던집니다.
+     */
+    @Operation(summary = "전체 면접 기록 내보내기", description = "전체 사용자의 면접 기록을 NDJSON으로 내보냅니다. (관리자 전용)")
+    @GetMapping("/admin/export")
+    public ResponseEntity<StreamingResponseBody> exportAllRecords(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean gzip) throws Exception {
+        String userId = (String) request.getAttribute("userId");
+
+        if (userId == null || !recordExportProperties.getAdminUserIds().contains(userId)) {
+            return ResponseEntity.status(403).build();
+        }
+        return toExportResponse("records-all", gzip, recordService::exportAllRecords);
+    }
+
+    /**
+     * 내보내기 스트림을 첨부 파일 응답으로 변환합니다.
+     */
+    private ResponseEntity<StreamingResponseBody> toExportResponse(String fileName, boolean gzip,
+            StreamingResponseBody body) {
+        StreamingResponseBody stream = body;
+        if (gzip) {
+            stream = outputStream -> {
+                // 응답 스트림은 컨테이너가 닫으므로 finish()로 gzip 트레일러만 기록
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+                body.writeTo(gzipOutputStream);
+                gzipOutputStream.finish();
+            };
+        }
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + (gzip ? ".ndjson.gz" : ".ndjson"))
+                        .build()
+                        .toString())
+                .body(stream);
     }
 }
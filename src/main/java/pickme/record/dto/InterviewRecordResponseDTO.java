@@ -17,4 +17,10 @@ public class InterviewRecordResponseDTO {
     private Date updatedAt;
     private List<RecordDetailResponseDTO> details;
 
+    @Schema(description = "Total number of details in the interview record (paged reads only)")
+    private Integer totalDetails;
+
+    @Schema(description = "Whether another page of details exists (paged reads only)")
+    private Boolean hasNext;
+
 }
@@ -0,0 +1,134 @@
+package pickme.record.dto;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import pickme.record.model.Record;
+
+/**
+ * InterviewRecordResponseSerializer는 {@link InterviewRecordResponseView}를 JsonGenerator로 직접 쓰는 직렬화기입니다.
+ *
+ * <p>
+ * 필드 순서와 이름, 날짜 형식, null 처리는 {@link InterviewRecordResponseDTO}와
+ * {@link RecordDetailResponseDTO}의 기본 빈 직렬화와 같으므로, 출력은 DTO를 직렬화한 결과와 바이트 단위로 같습니다.
+ * 두 DTO의 필드를 변경하면 이 직렬화기도 함께 변경해야 합니다.
+ * 날짜는 ObjectMapper 설정(타임스탬프 여부, 날짜 형식)을 그대로 따릅니다.
+ * </p>
+ *
+ * <p>
+ * 이름 변환 전략, JSON 뷰, NON_NULL 이외의 포함 규칙처럼 빈 직렬화와 출력이 달라질 수 있는 설정이거나
+ * 세부 항목 DTO 목록이 이미 만들어진 경우에는 기본 빈 직렬화에 위임합니다.
+ * </p>
+ */
+public class InterviewRecordResponseSerializer extends StdSerializer<InterviewRecordResponseView> {
+
+    public InterviewRecordResponseSerializer() {
+        super(InterviewRecordResponseView.class);
+    }
+
+    @Override
+    public void serialize(InterviewRecordResponseView value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        JsonInclude.Include inclusion = inclusion(provider);
+        if (value.detailsMaterialized() || inclusion == null) {
+            provider.findValueSerializer(InterviewRecordResponseDTO.class).serialize(value, gen, provider);
+            return;
+        }
+        boolean writeNulls = inclusion != JsonInclude.Include.NON_NULL && inclusion != JsonInclude.Include.NON_ABSENT;
+
+        gen.writeStartObject(value);
+        writeString(gen, "interviewRecordId", value.getInterviewRecordId(), writeNulls);
+        writeString(gen, "enterpriseName", value.getEnterpriseName(), writeNulls);
+        writeString(gen, "category", value.getCategory(), writeNulls);
+        writeDate(gen, provider, "createdAt", value.getCreatedAt(), writeNulls);
+        writeDate(gen, provider, "updatedAt", value.getUpdatedAt(), writeNulls);
+        writeDetails(gen, value, writeNulls);
+        if (value.getTotalDetails() != null) {
+            gen.writeNumberField("totalDetails", value.getTotalDetails());
+        } else if (writeNulls) {
+            gen.writeNullField("totalDetails");
+        }
+        if (value.getHasNext() != null) {
+            gen.writeBooleanField("hasNext", value.getHasNext());
+        } else if (writeNulls) {
+            gen.writeNullField("hasNext");
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * 세부 항목을 DTO로 변환하지 않고 원본 객체에서 바로 씁니다.
+     */
+    private void writeDetails(JsonGenerator gen, InterviewRecordResponseView value, boolean writeNulls)
+            throws IOException {
+        List<Record.RecordDetail> details = value.sourceDetails();
+        gen.writeFieldName("details");
+        gen.writeStartArray(details, details.size());
+        for (Record.RecordDetail detail : details) {
+            RecordDetailResponseDTO override = value.override(detail.getDetailId());
+
+            gen.writeStartObject(detail);
+            writeString(gen, "detailId", detail.getDetailId(), writeNulls);
+            writeString(gen, "question", override != null ? override.getQuestion() : detail.getQuestion(),
+                    writeNulls);
+            writeString(gen, "answer", override != null ? override.getAnswer() : detail.getAnswer(), writeNulls);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * 응답 DTO에 적용되는 값 포함 규칙을 반환합니다. 직접 쓸 수 없는 설정이면 null을 반환합니다.
+     */
+    private static JsonInclude.Include inclusion(SerializerProvider provider) {
+        SerializationConfig config = provider.getConfig();
+        if (config.getPropertyNamingStrategy() != null || provider.getActiveView() != null) {
+            return null;
+        }
+
+        JsonInclude.Include response = valueInclusion(config, InterviewRecordResponseDTO.class);
+        JsonInclude.Include detail = valueInclusion(config, RecordDetailResponseDTO.class);
+        if (response != detail) {
+            return null;
+        }
+        switch (response) {
+            case ALWAYS:
+            case NON_NULL:
+            case NON_ABSENT:
+                return response;
+            default:
+                return null;
+        }
+    }
+
+    private static JsonInclude.Include valueInclusion(SerializationConfig config, Class<?> type) {
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type).getValueInclusion();
+        return inclusion == JsonInclude.Include.USE_DEFAULTS ? JsonInclude.Include.ALWAYS : inclusion;
+    }
+
+    private static void writeString(JsonGenerator gen, String name, String value, boolean writeNulls)
+            throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value);
+        } else if (writeNulls) {
+            gen.writeNullField(name);
+        }
+    }
+
+    private static void writeDate(JsonGenerator gen, SerializerProvider provider, String name, Date value,
+            boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeDateValue(value, gen);
+        } else if (writeNulls) {
+            gen.writeNullField(name);
+        }
+    }
+}
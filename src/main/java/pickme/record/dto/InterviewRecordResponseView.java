@@ -0,0 +1,112 @@
+package pickme.record.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import pickme.record.model.Record;
+
+/**
+ * InterviewRecordResponseView는 세부 항목을 DTO로 복사하지 않고 도메인 객체에서 바로 직렬화하는 인터뷰 기록 응답입니다.
+ *
+ * <p>
+ * 기업명, 카테고리 등 인터뷰 기록 필드는 {@link InterviewRecordResponseDTO}와 같이 보관하고,
+ * 세부 항목은 원본 {@link Record.RecordDetail} 목록을 참조하여 {@link InterviewRecordResponseSerializer}가
+ * 세부 항목별 DTO를 만들지 않고 JSON으로 씁니다. 출력은 InterviewRecordResponseDTO의 JSON과 바이트 단위로 같습니다.
+ * 원본 목록을 참조하므로, 생성 이후 변경되지 않는 문서(캐시된 Record)에 대해서만 사용합니다.
+ * </p>
+ *
+ * <p>
+ * {@link #getDetails()}를 호출하면 그때 세부 항목 DTO 목록을 만들어 보관하며, 이후에는 일반 DTO와 같이 직렬화됩니다.
+ * </p>
+ */
+@JsonSerialize(using = InterviewRecordResponseSerializer.class)
+public class InterviewRecordResponseView extends InterviewRecordResponseDTO {
+
+    private final List<Record.RecordDetail> sourceDetails;
+
+    private final Map<String, RecordDetailResponseDTO> overrides = new HashMap<>();
+
+    private boolean materialized;
+
+    /**
+     * 주어진 세부 항목 목록을 참조하는 응답을 생성합니다.
+     *
+     * @param sourceDetails 응답에 포함할 세부 항목 목록 (복사하지 않고 참조)
+     */
+    public InterviewRecordResponseView(List<Record.RecordDetail> sourceDetails) {
+        this.sourceDetails = sourceDetails;
+    }
+
+    /**
+     * 세부 항목의 질문과 답변을 저장 전의 값으로 대체합니다. 자동 저장 버퍼의 값을 응답에 반영할 때 사용합니다.
+     *
+     * @param detailId 세부 항목 ID
+     * @param question 응답에 포함할 질문
+     * @param answer   응답에 포함할 답변
+     */
+    public void overrideDetail(String detailId, String question, String answer) {
+        RecordDetailResponseDTO override = new RecordDetailResponseDTO();
+        override.setDetailId(detailId);
+        override.setQuestion(question);
+        override.setAnswer(answer);
+        overrides.put(detailId, override);
+
+        if (materialized && super.getDetails() != null) {
+            for (RecordDetailResponseDTO detail : super.getDetails()) {
+                if (detailId.equals(detail.getDetailId())) {
+                    detail.setQuestion(question);
+                    detail.setAnswer(answer);
+                }
+            }
+        }
+    }
+
+    /**
+     * 세부 항목 DTO 목록을 반환합니다. 처음 호출할 때 원본 세부 항목을 DTO로 변환하여 보관합니다.
+     *
+     * @return 세부 항목 DTO 목록
+     */
+    @Override
+    public List<RecordDetailResponseDTO> getDetails() {
+        if (!materialized) {
+            List<RecordDetailResponseDTO> details = new ArrayList<>(sourceDetails.size());
+            for (Record.RecordDetail detail : sourceDetails) {
+                details.add(toResponse(detail));
+            }
+            super.setDetails(details);
+            materialized = true;
+        }
+        return super.getDetails();
+    }
+
+    @Override
+    public void setDetails(List<RecordDetailResponseDTO> details) {
+        super.setDetails(details);
+        materialized = true;
+    }
+
+    List<Record.RecordDetail> sourceDetails() {
+        return sourceDetails;
+    }
+
+    boolean detailsMaterialized() {
+        return materialized;
+    }
+
+    RecordDetailResponseDTO override(String detailId) {
+        return overrides.isEmpty() ? null : overrides.get(detailId);
+    }
+
+    private RecordDetailResponseDTO toResponse(Record.RecordDetail detail) {
+        RecordDetailResponseDTO override = override(detail.getDetailId());
+        RecordDetailResponseDTO dto = new RecordDetailResponseDTO();
+        dto.setDetailId(detail.getDetailId());
+        dto.setQuestion(override != null ? override.getQuestion() : detail.getQuestion());
+        dto.setAnswer(override != null ? override.getAnswer() : detail.getAnswer());
+        return dto;
+    }
+}
@@ -0,0 +1,20 @@
+package pickme.record.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for a cursor-paginated page of sidebar data")
+public class InterviewRecordSidebarPageDTO {
+
+    private List<InterviewRecordSidebarDTO> items;
+
+    @Schema(description = "다음 페이지를 조회할 때 전달할 커서 (마지막 페이지이면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+}
@@ -0,0 +1,16 @@
+package pickme.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for interview activity on a single day")
+public class RecordActivityDTO {
+
+    @Schema(description = "날짜 (UTC, yyyy-MM-dd)", example = "2024-11-01")
+    private String date;
+
+    private long interviews;
+    private long details;
+
+}
@@ -0,0 +1,35 @@
+package pickme.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for a single operation inside a batch request")
+public class RecordBatchOperationDTO {
+
+    @Schema(description = "Operation type", example = "UPDATE_DETAIL")
+    @NotNull(message = "Operation type is required")
+    private RecordBatchOperationType type;
+
+    @Schema(description = "Target interview record ID", example = "0b6f1c7e-8a8f-4a57-9f1c-0a4a5b3c2d1e")
+    @NotBlank(message = "Interview record ID is required")
+    private String interviewRecordId;
+
+    @Schema(description = "Target detail index (UPDATE_DETAIL, DELETE_DETAIL)", example = "0")
+    private Integer detailIndex;
+
+    @Schema(description = "New Enterprise Name (UPDATE_INTERVIEW)", example = "Updated Company")
+    private String enterpriseName;
+
+    @Schema(description = "New Category (UPDATE_INTERVIEW)", example = "Final interview")
+    private String category;
+
+    @Schema(description = "Question (CREATE_DETAIL, UPDATE_DETAIL)", example = "Tell me about yourself")
+    private String question;
+
+    @Schema(description = "Answer (CREATE_DETAIL, UPDATE_DETAIL)", example = "I am a highly motivated individual...")
+    private String answer;
+
+}
@@ -0,0 +1,26 @@
+package pickme.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 일괄 작업 요청에서 사용할 수 있는 작업 종류입니다.
+ * 각 작업은 동일한 기능의 개별 API와 같은 의미를 가집니다.
+ */
+@Schema(description = "Batch operation type")
+public enum RecordBatchOperationType {
+
+    /** PUT /record/interview/{interviewRecordId} */
+    UPDATE_INTERVIEW,
+
+    /** DELETE /record/interview/{interviewRecordId} */
+    DELETE_INTERVIEW,
+
+    /** POST /record/interview/{interviewRecordId}/detail */
+    CREATE_DETAIL,
+
+    /** PUT /record/interview/{interviewRecordId}/detail/{detailIndex} */
+    UPDATE_DETAIL,
+
+    /** DELETE /record/interview/{interviewRecordId}/detail/{detailIndex} */
+    DELETE_DETAIL
+}
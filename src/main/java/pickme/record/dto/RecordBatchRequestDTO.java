@@ -0,0 +1,22 @@
+package pickme.record.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for executing an ordered list of record operations at once")
+public class RecordBatchRequestDTO {
+
+    @Schema(description = "Operations to execute, in order")
+    @NotNull(message = "Operations are required")
+    @NotEmpty(message = "Operations are required")
+    @Size(max = 100, message = "At most 100 operations can be executed at once")
+    private List<@NotNull @Valid RecordBatchOperationDTO> operations;
+
+}
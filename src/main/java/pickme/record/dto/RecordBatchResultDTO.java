@@ -0,0 +1,26 @@
+package pickme.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO for the result of a single batch operation")
+public class RecordBatchResultDTO {
+
+    @Schema(description = "Position of the operation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Operation type", example = "UPDATE_DETAIL")
+    private RecordBatchOperationType type;
+
+    @Schema(description = "HTTP status the equivalent single request would have returned", example = "200")
+    private int status;
+
+    @Schema(description = "Reason when the operation was not applied")
+    private String message;
+
+}
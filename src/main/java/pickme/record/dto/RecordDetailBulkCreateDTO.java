@@ -0,0 +1,22 @@
+package pickme.record.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for creating multiple RecordDetails at once")
+public class RecordDetailBulkCreateDTO {
+
+    @Schema(description = "Question and answer pairs to append, in order")
+    @NotNull(message = "Details are required")
+    @NotEmpty(message = "Details are required")
+    @Size(max = 200, message = "At most 200 details can be imported at once")
+    private List<@NotNull @Valid RecordDetailCreateDTO> details;
+
+}
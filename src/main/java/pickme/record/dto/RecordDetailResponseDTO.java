@@ -7,6 +7,9 @@ import lombok.Data;
 @Schema(description = "DTO for RecordDetail responses")
 public class RecordDetailResponseDTO {
 
+    @Schema(description = "Stable detail ID (time-ordered)", example = "6650f1c2a4b5c6d7e8f90123")
+    private String detailId;
+
     private String question;
     private String answer;
 
@@ -0,0 +1,26 @@
+package pickme.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for a single search hit")
+public class RecordSearchHitDTO {
+
+    private String interviewRecordId;
+    private String enterpriseName;
+    private String category;
+
+    @Schema(description = "일치한 세부 항목의 인덱스 (기업명만 일치한 빈 인터뷰 기록이면 null)")
+    private Integer detailIndex;
+
+    @Schema(description = "일치한 세부 항목의 ID (기업명만 일치한 빈 인터뷰 기록이면 null)")
+    private String detailId;
+
+    @Schema(description = "검색어가 <em> 태그로 강조된 질문 스니펫")
+    private String questionSnippet;
+
+    @Schema(description = "검색어가 <em> 태그로 강조된 답변 스니펫")
+    private String answerSnippet;
+
+}
@@ -0,0 +1,21 @@
+package pickme.record.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for paged search results")
+public class RecordSearchResponseDTO {
+
+    private String query;
+    private int page;
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    private List<RecordSearchHitDTO> hits;
+
+}
@@ -0,0 +1,35 @@
+package pickme.record.dto;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO for aggregated interview statistics")
+public class RecordStatsDTO {
+
+    @Schema(description = "인터뷰 기록 수")
+    private long interviews;
+
+    @Schema(description = "세부 항목(질문/답변) 수")
+    private long details;
+
+    @Schema(description = "인터뷰 기록당 평균 답변 수")
+    private double answersPerInterview;
+
+    @Schema(description = "카테고리별 인터뷰 기록 수 (많은 순)")
+    private Map<String, Long> categories;
+
+    @Schema(description = "기업명별 인터뷰 기록 수 (많은 순)")
+    private Map<String, Long> enterprises;
+
+    @Schema(description = "날짜별(UTC) 생성된 인터뷰 기록과 세부 항목 수 (날짜 오름차순)")
+    private List<RecordActivityDTO> activity;
+
+    @Schema(description = "통계 요약이 마지막으로 갱신된 시각")
+    private Date updatedAt;
+
+}
@@ -9,6 +9,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 /**
  * GlobalExceptionHandler 클래스는 애플리케이션 전역에서 발생하는 예외를 처리하기 위한 핸들러입니다.
@@ -42,4 +43,36 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * WebFlux(리액티브 프로필)에서 요청 본문 유효성 검사 실패 시 발생하는 WebExchangeBindException 예외를 처리합니다.
+     * 응답 형식은 MVC의 {@link #handleValidationExceptions(MethodArgumentNotValidException)}와 같습니다.
+     *
+     * @param bindException WebExchangeBindException 예외 객체
+     * @return 유효성 검사 실패 필드와 메시지를 포함한 Map을 본문으로 가지는 BAD_REQUEST(400) 응답
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleWebExchangeBindExceptions(
+            WebExchangeBindException bindException) {
+        Map<String, String> errors = new HashMap<>();
+
+        bindException.getFieldErrors().forEach((error) -> errors.put(error.getField(), error.getDefaultMessage()));
+
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 병합 패치 요청의 검증 실패 시 발생하는 InvalidPatchException 예외를 처리합니다.
+     * 응답 형식은 요청 본문 유효성 검사 실패와 같습니다.
+     *
+     * @param patchException InvalidPatchException 예외 객체
+     * @return 유효하지 않은 필드와 메시지를 포함한 Map을 본문으로 가지는 BAD_REQUEST(400) 응답
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidPatchExceptions(InvalidPatchException patchException) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put(patchException.getField(), patchException.getMessage());
+
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,21 @@
+package pickme.record.exception;
+
+import lombok.Getter;
+
+/**
+ * 병합 패치(RFC 7396) 요청이 대상 필드의 형식이나 제약을 만족하지 않을 때 발생하는 예외입니다.
+ * {@link GlobalExceptionHandler}가 BAD_REQUEST(400) 응답으로 변환합니다.
+ */
+@Getter
+public class InvalidPatchException extends RuntimeException {
+
+    /**
+     * 유효하지 않은 필드 이름을 나타냅니다. 패치 전체가 유효하지 않으면 {@code "patch"}입니다.
+     */
+    private final String field;
+
+    public InvalidPatchException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+}
@@ -1,14 +1,24 @@
 package pickme.record.mapper;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.mapstruct.Mapper;
 
 import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordResponseView;
 import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.dto.InterviewRecordSidebarPageDTO;
+import pickme.record.dto.RecordActivityDTO;
 import pickme.record.dto.RecordDetailResponseDTO;
+import pickme.record.dto.RecordStatsDTO;
+import pickme.record.model.InterviewRecordDocument;
 import pickme.record.model.Record;
+import pickme.record.model.RecordStats;
+import pickme.record.model.SidebarCursor;
 
 /**
  * RecordMapper는 Record 엔티티와 DTO 간의 변환 작업을 수행하는 매퍼 인터페이스입니다.
@@ -38,6 +48,70 @@ public interface RecordMapper {
         return dto;
     }
 
+    /**
+     * 주어진 InterviewRecord 객체를 세부 항목 한 페이지만 포함한 InterviewRecordResponseDTO 객체로 변환합니다.
+     * 요청한 범위의 세부 항목만 변환하며, 전체 개수와 다음 페이지 존재 여부를 함께 설정합니다.
+     *
+     * @param interviewRecord 변환할 InterviewRecord 객체
+     * @param skip            건너뛸 세부 항목 수
+     * @param limit           포함할 세부 항목 수
+     * @return 변환된 InterviewRecordResponseDTO 객체
+     */
+    default InterviewRecordResponseDTO toInterviewRecordPageResponse(Record.InterviewRecord interviewRecord,
+            int skip, int limit) {
+        if (interviewRecord == null) {
+            return null;
+        }
+        List<Record.RecordDetail> details = interviewRecord.getDetails() == null
+                ? List.of()
+                : interviewRecord.getDetails();
+        int from = Math.min(skip, details.size());
+        int to = (int) Math.min((long) from + limit, details.size());
+
+        InterviewRecordResponseDTO dto = new InterviewRecordResponseDTO();
+        dto.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+        dto.setEnterpriseName(interviewRecord.getEnterpriseName());
+        dto.setCategory(interviewRecord.getCategory());
+        dto.setCreatedAt(interviewRecord.getCreatedAt());
+        dto.setUpdatedAt(interviewRecord.getUpdatedAt());
+        dto.setDetails(toRecordDetailResponseList(details.subList(from, to)));
+        dto.setTotalDetails(details.size());
+        dto.setHasNext(to < details.size());
+        return dto;
+    }
+
+    /**
+     * 주어진 InterviewRecord 객체를 세부 항목 한 페이지만 포함한 응답으로 변환하되, 세부 항목은 DTO로 복사하지 않습니다.
+     * 응답은 {@link #toInterviewRecordPageResponse}와 같은 JSON으로 직렬화되며,
+     * 세부 항목을 원본 목록에서 바로 쓰므로 이후 변경되지 않는 인터뷰 기록(캐시된 Record)에만 사용합니다.
+     *
+     * @param interviewRecord 변환할 InterviewRecord 객체
+     * @param skip            건너뛸 세부 항목 수
+     * @param limit           포함할 세부 항목 수
+     * @return 세부 항목을 참조하는 InterviewRecordResponseView 객체
+     */
+    default InterviewRecordResponseView toInterviewRecordPageView(Record.InterviewRecord interviewRecord,
+            int skip, int limit) {
+        if (interviewRecord == null) {
+            return null;
+        }
+        List<Record.RecordDetail> details = interviewRecord.getDetails() == null
+                ? List.of()
+                : interviewRecord.getDetails();
+        int from = Math.min(skip, details.size());
+        int to = (int) Math.min((long) from + limit, details.size());
+
+        InterviewRecordResponseView view = new InterviewRecordResponseView(details.subList(from, to));
+        view.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+        view.setEnterpriseName(interviewRecord.getEnterpriseName());
+        view.setCategory(interviewRecord.getCategory());
+        view.setCreatedAt(interviewRecord.getCreatedAt());
+        view.setUpdatedAt(interviewRecord.getUpdatedAt());
+        view.setTotalDetails(details.size());
+        view.setHasNext(to < details.size());
+        return view;
+    }
+
     /**
      * 주어진 InterviewRecord 객체를 InterviewRecordSidebarDTO 객체로 변환합니다.
      *
@@ -57,6 +131,28 @@ public interface RecordMapper {
         return dto;
     }
 
+    /**
+     * 사이드바 항목 목록을 커서 기반 페이지 응답으로 변환합니다.
+     * 다음 페이지 존재 여부를 판단하기 위해 목록은 최대 size + 1개의 항목을 포함할 수 있습니다.
+     *
+     * @param rows 조회된 사이드바 항목 목록
+     * @param size 페이지 크기
+     * @return 변환된 InterviewRecordSidebarPageDTO 객체
+     */
+    default InterviewRecordSidebarPageDTO toSidebarPage(List<InterviewRecordSidebarDTO> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<InterviewRecordSidebarDTO> items = hasNext ? rows.subList(0, size) : rows;
+
+        InterviewRecordSidebarPageDTO dto = new InterviewRecordSidebarPageDTO();
+        dto.setItems(new ArrayList<>(items));
+        dto.setHasNext(hasNext);
+        if (hasNext) {
+            InterviewRecordSidebarDTO last = items.get(items.size() - 1);
+            dto.setNextCursor(new SidebarCursor(last.getUpdatedAt(), last.getInterviewRecordId()).encode());
+        }
+        return dto;
+    }
+
     /**
      * 주어진 Record.RecordDetail 객체를 RecordDetailResponseDTO 객체로 변환합니다.
      * 
@@ -68,6 +164,7 @@ public interface RecordMapper {
             return null;
         }
         RecordDetailResponseDTO dto = new RecordDetailResponseDTO();
+        dto.setDetailId(detail.getDetailId());
         dto.setQuestion(detail.getQuestion());
         dto.setAnswer(detail.getAnswer());
         return dto;
@@ -87,4 +184,89 @@ public interface RecordMapper {
                 .map(this::toRecordDetailResponse)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 버킷형 저장 모델의 InterviewRecordDocument 객체를 InterviewRecord 객체로 변환합니다.
+     *
+     * @param document 변환할 InterviewRecordDocument 객체
+     * @return 변환된 InterviewRecord 객체
+     */
+    default Record.InterviewRecord toInterviewRecord(InterviewRecordDocument document) {
+        if (document == null) {
+            return null;
+        }
+        Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
+        interviewRecord.setInterviewRecordId(document.getInterviewRecordId());
+        interviewRecord.setEnterpriseName(document.getEnterpriseName());
+        interviewRecord.setCategory(document.getCategory());
+        interviewRecord.setCreatedAt(document.getCreatedAt());
+        interviewRecord.setUpdatedAt(document.getUpdatedAt());
+        interviewRecord.setDetails(document.getDetails());
+        return interviewRecord;
+    }
+
+    /**
+     * InterviewRecord 객체를 주어진 사용자의 버킷형 저장 모델 InterviewRecordDocument 객체로 변환합니다.
+     *
+     * @param userId          인터뷰 기록을 소유한 사용자 ID
+     * @param interviewRecord 변환할 InterviewRecord 객체
+     * @return 변환된 InterviewRecordDocument 객체
+     */
+    default InterviewRecordDocument toInterviewRecordDocument(String userId, Record.InterviewRecord interviewRecord) {
+        if (interviewRecord == null) {
+            return null;
+        }
+        InterviewRecordDocument document = new InterviewRecordDocument();
+        document.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+        document.setUserId(userId);
+        document.setEnterpriseName(interviewRecord.getEnterpriseName());
+        document.setCategory(interviewRecord.getCategory());
+        document.setCreatedAt(interviewRecord.getCreatedAt());
+        document.setUpdatedAt(interviewRecord.getUpdatedAt());
+        document.setDetails(interviewRecord.getDetails() == null ? new ArrayList<>() : interviewRecord.getDetails());
+        return document;
+    }
+
+    /**
+     * 사용자 통계 요약을 통계 응답으로 변환합니다.
+     * 카테고리와 기업명은 인터뷰 기록 수가 많은 순으로 정렬하며, 삭제로 0 이하가 된 항목은 제외합니다.
+     *
+     * @param stats 변환할 RecordStats 객체
+     * @return 변환된 RecordStatsDTO 객체
+     */
+    default RecordStatsDTO toStatsResponse(RecordStats stats) {
+        if (stats == null) {
+            return null;
+        }
+        RecordStatsDTO dto = new RecordStatsDTO();
+        dto.setInterviews(stats.getInterviews());
+        dto.setDetails(stats.getDetails());
+        dto.setAnswersPerInterview(stats.getInterviews() > 0 ? (double) stats.getDetails() / stats.getInterviews() : 0);
+        dto.setCategories(toRanking(stats.getCategories()));
+        dto.setEnterprises(toRanking(stats.getEnterprises()));
+        dto.setActivity(stats.getActivity().entrySet().stream()
+                .filter(entry -> entry.getValue().getInterviews() > 0 || entry.getValue().getDetails() > 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    RecordActivityDTO activity = new RecordActivityDTO();
+                    activity.setDate(entry.getKey());
+                    activity.setInterviews(Math.max(entry.getValue().getInterviews(), 0));
+                    activity.setDetails(Math.max(entry.getValue().getDetails(), 0));
+                    return activity;
+                })
+                .collect(Collectors.toList()));
+        dto.setUpdatedAt(stats.getUpdatedAt());
+        return dto;
+    }
+
+    /**
+     * 개수가 양수인 항목만 개수가 많은 순(같으면 이름 순)으로 정렬하여 순서를 유지하는 맵으로 반환합니다.
+     */
+    private static Map<String, Long> toRanking(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
 }
@@ -0,0 +1,58 @@
+package pickme.record.metrics;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * MongoReplySizeCommandListener는 MongoDB 명령 응답의 BSON 크기를 명령별로 기록하는 드라이버 리스너입니다.
+ *
+ * <p>
+ * 명령별 지연 시간은 Spring Boot가 등록하는 {@code mongodb.driver.commands} 타이머가 기록하며,
+ * 이 리스너는 같은 {@code command} 태그로 {@code mongodb.driver.commands.reply.size} 분포 요약을 기록합니다.
+ * 드라이버가 전달한 응답이 이미 직렬화된 문서({@link RawBsonDocument})이면 버퍼 크기를 그대로 사용하고,
+ * 그렇지 않은 경우에만 다시 인코딩하여 크기를 계산합니다.
+ * </p>
+ */
+public class MongoReplySizeCommandListener implements CommandListener {
+
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    private final MeterRegistry meterRegistry;
+
+    public MongoReplySizeCommandListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        DistributionSummary.builder("mongodb.driver.commands.reply.size")
+                .description("BSON size of MongoDB command replies")
+                .baseUnit("bytes")
+                .tag("command", event.getCommandName())
+                .publishPercentileHistogram()
+                .maximumExpectedValue(16.0 * 1024 * 1024)
+                .register(meterRegistry)
+                .record(sizeOf(event.getResponse()));
+    }
+
+    private long sizeOf(BsonDocument response) {
+        if (response instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BasicOutputBuffer buffer = new BasicOutputBuffer();
+                BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            CODEC.encode(writer, response, EncoderContext.builder().build());
+            return buffer.getSize();
+        }
+    }
+}
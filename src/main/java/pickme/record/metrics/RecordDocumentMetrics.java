@@ -0,0 +1,76 @@
+package pickme.record.metrics;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.stereotype.Component;
+
+import pickme.record.cache.RecordSizeEstimator;
+import pickme.record.model.Record;
+
+/**
+ * RecordDocumentMetrics는 요청 처리에서 문서 전체를 읽은 사용자 Record 문서의 크기 분포를 기록하는 컴포넌트입니다.
+ *
+ * <p>
+ * {@link pickme.record.cache.RecordCache}에서 문서 전체를 조회할 때마다 캐시 적중 여부와 관계없이 다음 분포 요약을 갱신하며,
+ * 모두 Prometheus 히스토그램으로 노출됩니다.
+ * 캐시를 사용하지 않는 조회 경로는 필요한 필드만 프로젝션하므로 문서 전체를 읽지 않으며, 기록 대상이 아닙니다.
+ * 응답 지연의 꼬리(p99)와 문서 증가를 같은 시간 축에서 비교하는 데 사용합니다.
+ * </p>
+ * <ul>
+ * <li>{@code record.document.size}: 추정 BSON 크기 (바이트)</li>
+ * <li>{@code record.document.interviews}: 사용자별 인터뷰 기록 수</li>
+ * <li>{@code record.document.details}: 사용자별 질문/답변 세부 항목 수</li>
+ * </ul>
+ */
+@Component
+public class RecordDocumentMetrics {
+
+    private final DistributionSummary documentSize;
+
+    private final DistributionSummary interviews;
+
+    private final DistributionSummary details;
+
+    public RecordDocumentMetrics(MeterRegistry meterRegistry) {
+        this.documentSize = DistributionSummary.builder("record.document.size")
+                .description("Estimated BSON size of a loaded user record document")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                // MongoDB 문서 최대 크기 (16MiB)
+                .maximumExpectedValue(16.0 * 1024 * 1024)
+                .register(meterRegistry);
+        this.interviews = DistributionSummary.builder("record.document.interviews")
+                .description("Interview records per user in a loaded record document")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry);
+        this.details = DistributionSummary.builder("record.document.details")
+                .description("Question/answer details per user in a loaded record document")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회한 Record 문서의 크기와 항목 수를 기록합니다.
+     *
+     * @param record 캐시 또는 MongoDB에서 조회한 Record 문서
+     */
+    public void observe(Record record) {
+        List<Record.InterviewRecord> interviewRecords = record.getRecords() == null
+                ? List.of()
+                : record.getRecords();
+        long detailCount = 0;
+        for (Record.InterviewRecord interviewRecord : interviewRecords) {
+            detailCount += interviewRecord.getDetails() == null ? 0 : interviewRecord.getDetails().size();
+        }
+
+        documentSize.record(RecordSizeEstimator.estimate(record));
+        interviews.record(interviewRecords.size());
+        details.record(detailCount);
+    }
+}
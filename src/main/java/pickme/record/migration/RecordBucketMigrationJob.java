@@ -0,0 +1,116 @@
+package pickme.record.migration;
+
+import java.util.List;
+
+import com.mongodb.client.MongoCollection;
+
+import lombok.RequiredArgsConstructor;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordMigrationProperties;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+import pickme.record.repository.InterviewRecordDocumentRepository;
+
+/**
+ * RecordBucketMigrationJob은 사용자별 단일 {@code records} 문서를
+ * 인터뷰 기록 단위의 {@code interview_records} 문서로 옮기는 온라인 마이그레이션 작업입니다.
+ *
+ * <p>
+ * 작업은 {@code record.migration.bucket.enabled=true}일 때만 실행되며,
+ * 일정 간격으로 {@code batchSize}개의 사용자 문서를 처리합니다.
+ * 처리한 문서에는 마이그레이션 시점의 {@code version}을 {@code bucketMigratedVersion}으로 기록하여,
+ * 마이그레이션 이후 변경된 문서는 다음 실행에서 다시 반영합니다.
+ * 기록은 문서의 버전이 읽은 시점과 같을 때만 남기므로, 처리 중 발생한 쓰기가 누락되지 않습니다.
+ * 기록은 버전을 증가시키지 않는 {@code $set}으로 남기므로 문서의 ETag도 바뀌지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.migration.bucket.enabled", havingValue = "true")
+public class RecordBucketMigrationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordBucketMigrationJob.class);
+
+    private static final String MIGRATED_VERSION = "bucketMigratedVersion";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final InterviewRecordDocumentRepository interviewRecordDocumentRepository;
+
+    private final RecordMapper recordMapper;
+
+    private final RecordMigrationProperties properties;
+
+    /**
+     * 아직 마이그레이션되지 않았거나 마이그레이션 이후 변경된 사용자 문서를 한 배치만큼 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${record.migration.bucket.interval:10s}")
+    public void migrateBatch() {
+        Query query = pendingQuery()
+                .with(Sort.by("_id"))
+                .limit(properties.getBatchSize());
+
+        List<Record> records = mongoTemplate.find(query, Record.class);
+        int migrated = 0;
+
+        for (Record record : records) {
+            if (migrate(record)) {
+                migrated++;
+            }
+        }
+
+        if (!records.isEmpty()) {
+            logger.info("Bucket migration batch finished: migrated={}, skipped={}",
+                    migrated, records.size() - migrated);
+        }
+    }
+
+    /**
+     * 사용자 문서 하나를 인터뷰 기록 문서들로 옮기고, 마이그레이션한 버전을 기록합니다.
+     *
+     * @param record 마이그레이션할 사용자 문서
+     * @return 마이그레이션 버전 기록에 성공하면 true, 처리 중 문서가 변경되어 다음 배치로 미룬 경우 false
+     */
+    private boolean migrate(Record record) {
+        List<Record.InterviewRecord> interviewRecords = record.getRecords() == null
+                ? List.of()
+                : record.getRecords();
+
+        interviewRecordDocumentRepository.replaceAllForUser(record.getUserId(), interviewRecords.stream()
+                .map(interviewRecord -> recordMapper.toInterviewRecordDocument(record.getUserId(), interviewRecord))
+                .toList());
+
+        long version = record.getVersion() == null ? 0L : record.getVersion();
+        Document unchanged = new Document("_id", record.getUserId()).append("version", record.getVersion());
+
+        // MongoTemplate 업데이트는 @Version 필드에 $inc를 자동으로 더해 기록한 버전과 어긋나므로, 컬렉션에 직접 $set만 실행
+        return collection().updateOne(unchanged, new Document("$set", new Document(MIGRATED_VERSION, version)))
+                .getModifiedCount() > 0;
+    }
+
+    /**
+     * 마이그레이션 대상 문서(미처리 또는 처리 이후 버전이 바뀐 문서)를 찾는 쿼리를 생성합니다.
+     */
+    Query pendingQuery() {
+        return new BasicQuery(new Document("$or", List.of(
+                new Document(MIGRATED_VERSION, new Document("$exists", false)),
+                new Document("$expr", new Document("$ne", List.of(
+                        new Document("$ifNull", List.of("$version", 0L)),
+                        "$" + MIGRATED_VERSION))))));
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Record.class));
+    }
+}
@@ -0,0 +1,146 @@
+package pickme.record.migration;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoCollection;
+
+import pickme.record.cache.RecordCache;
+import pickme.record.config.RecordDetailIdBackfillProperties;
+import pickme.record.model.InterviewRecordDocument;
+import pickme.record.model.Record;
+
+/**
+ * RecordDetailIdBackfillJob은 세부 항목 ID가 도입되기 전에 저장된 세부 항목에
+ * {@code detailId}를 채우는 온라인 마이그레이션 작업입니다.
+ *
+ * <p>
+ * 작업은 {@code record.migration.detail-id.enabled=true}일 때만 실행되며,
+ * 일정 간격으로 {@code records}와 {@code interview_records} 컬렉션에서 각각 {@code batchSize}개의 문서를 처리합니다.
+ * 변환 과정에서 다른 필드가 바뀌지 않도록 문서를 원시 BSON 문서로 읽고 쓰며,
+ * 읽은 시점 이후 변경된 문서는 갱신하지 않고 다음 실행에서 다시 처리합니다.
+ * {@code records} 문서는 {@code version}으로, {@code interview_records} 문서는 읽은 {@code details} 배열 전체로
+ * 변경 여부를 판단합니다.
+ * ID를 채우는 세부 항목에는 생성 시각도 함께 채우며, 실제 생성 시각을 알 수 없으므로 인터뷰 기록의 생성 시각을 사용합니다.
+ * 새로 부여한 ID(ObjectId)의 생성 시각은 마이그레이션 시각이므로, 통계의 날짜별 활동이 마이그레이션 날짜로 몰리지 않게 합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.migration.detail-id.enabled", havingValue = "true")
+public class RecordDetailIdBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordDetailIdBackfillJob.class);
+
+    private static final Document MISSING_DETAIL_ID = new Document("$elemMatch", new Document("detailId", null));
+
+    private final MongoTemplate mongoTemplate;
+
+    private final RecordCache recordCache;
+
+    private final RecordDetailIdBackfillProperties properties;
+
+    /**
+     * 세부 항목 ID가 없는 문서를 컬렉션별로 한 배치만큼 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${record.migration.detail-id.interval:10s}")
+    public void backfillBatch() {
+        backfillRecords();
+        backfillInterviewRecords();
+    }
+
+    private void backfillRecords() {
+        List<Document> documents = collection(Record.class)
+                .find(new Document("records.details", MISSING_DETAIL_ID))
+                .limit(properties.getBatchSize())
+                .into(new ArrayList<>());
+        int updated = 0;
+
+        for (Document document : documents) {
+            List<Document> records = document.getList("records", Document.class);
+            records.forEach(interviewRecord -> assignDetailIds(interviewRecord.getList("details", Document.class),
+                    interviewRecord.getDate("createdAt")));
+
+            // 모든 쓰기가 version을 증가시키므로, 읽은 시점과 버전이 같을 때만 records 배열을 교체
+            Document unchanged = new Document("_id", document.get("_id"))
+                    .append("version", document.get("version"));
+            Document update = new Document("$set", new Document("records", records))
+                    .append("$inc", new Document("version", 1L));
+
+            if (collection(Record.class).updateOne(unchanged, update).getModifiedCount() > 0) {
+                recordCache.invalidate(document.getString("_id"));
+                updated++;
+            }
+        }
+
+        if (!documents.isEmpty()) {
+            logger.info("Detail ID backfill batch finished: collection=records, updated={}, skipped={}",
+                    updated, documents.size() - updated);
+        }
+    }
+
+    private void backfillInterviewRecords() {
+        List<Document> documents = collection(InterviewRecordDocument.class)
+                .find(new Document("details", MISSING_DETAIL_ID))
+                .limit(properties.getBatchSize())
+                .into(new ArrayList<>());
+        int updated = 0;
+
+        for (Document document : documents) {
+            List<Document> details = document.getList("details", Document.class);
+            List<Document> backfilled = details.stream()
+                    .map(Document::new)
+                    .toList();
+            assignDetailIds(backfilled, document.getDate("createdAt"));
+
+            // 버킷 문서에는 버전 필드가 없으므로, 읽은 details 배열과 같을 때만 교체
+            Document unchanged = new Document("_id", document.get("_id"))
+                    .append("details", details);
+            Document update = new Document("$set", new Document("details", backfilled));
+
+            if (collection(InterviewRecordDocument.class).updateOne(unchanged, update).getModifiedCount() > 0) {
+                updated++;
+            }
+        }
+
+        if (!documents.isEmpty()) {
+            logger.info("Detail ID backfill batch finished: collection=interview_records, updated={}, skipped={}",
+                    updated, documents.size() - updated);
+        }
+    }
+
+    /**
+     * ID가 없는 세부 항목에 새 ID와 생성 시각을 부여합니다. 이미 ID가 있는 세부 항목은 그대로 둡니다.
+     *
+     * @param details   세부 항목 문서 목록
+     * @param createdAt 인터뷰 기록 생성 시각, 생성 시각이 없는 세부 항목에 채울 값
+     */
+    private void assignDetailIds(List<Document> details, Date createdAt) {
+        if (details == null) {
+            return;
+        }
+        for (Document detail : details) {
+            if (detail.get("detailId") == null) {
+                detail.put("detailId", Record.RecordDetail.newDetailId());
+                if (detail.get("createdAt") == null && createdAt != null) {
+                    detail.put("createdAt", createdAt);
+                }
+            }
+        }
+    }
+
+    private MongoCollection<Document> collection(Class<?> entityClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+    }
+}
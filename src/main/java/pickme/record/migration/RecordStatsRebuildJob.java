@@ -0,0 +1,46 @@
+package pickme.record.migration;
+
+import lombok.RequiredArgsConstructor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import pickme.record.repository.RecordRepository;
+
+/**
+ * RecordStatsRebuildJob은 사용자별 통계 요약 문서(record_stats)를 {@code records} 컬렉션에서 다시 만드는 작업입니다.
+ *
+ * <p>
+ * 작업은 기본으로 비활성화되어 있으며({@code record.stats.rebuild.enabled}), 켜면 시작 직후 한 번 실행되어
+ * 기능 도입 이전 사용자의 요약을 채우고, 이후 일정 간격으로 다시 실행되어 반영에 실패한 증감량을 바로잡습니다.
+ * 증감량은 쓰기 명령이 반환한 변경 직전의 값으로 계산되므로 동시 쓰기로는 어긋나지 않으며,
+ * 요약이 어긋나는 경우는 쓰기 이후의 증감 반영이 실패한 경우뿐입니다.
+ * 요약 문서가 없는 사용자는 통계를 처음 조회할 때 해당 사용자만 재구성하므로, 이 작업 없이도 요약이 만들어집니다.
+ * 재구성은 전체 사용자에 대한 하나의 집계 파이프라인으로 MongoDB 안에서 처리되며, 결과는 {@code $merge}로 요약 문서를 교체합니다.
+ * 재구성 도중 다른 요청이 반영한 증감량은 이 교체로 덮어써져 다음 재구성까지 어긋날 수 있습니다.
+ * 인스턴스 간 잠금이 없어 켜진 인스턴스마다 전체 재구성을 실행하므로, 한 인스턴스에서만 켜야 합니다.
+ * 사용자별 단일 문서 저장 모드({@code record.storage.mode=embedded})에서만 등록됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${record.stats.rebuild.enabled:false} and '${record.storage.mode:embedded}' == 'embedded'")
+public class RecordStatsRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordStatsRebuildJob.class);
+
+    private final RecordRepository recordRepository;
+
+    /**
+     * 전체 사용자의 통계 요약 문서를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${record.stats.rebuild.interval:24h}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        recordRepository.rebuildAllStats();
+        logger.info("Record stats rebuild finished in {} ms", System.currentTimeMillis() - start);
+    }
+}
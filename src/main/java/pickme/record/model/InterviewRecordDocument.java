@@ -0,0 +1,50 @@
+package pickme.record.model;
+
+import java.util.Date;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 인터뷰 기록 하나를 독립된 문서로 저장하는 버킷형(bucketed) 저장 모델입니다.
+ *
+ * <p>
+ * 사용자별 단일 {@link Record} 문서와 달리 인터뷰 기록마다 문서를 분리하므로,
+ * 사용자의 기록이 늘어나도 문서 하나의 크기는 해당 인터뷰 기록 크기로 제한됩니다.
+ * 문서는 (userId, interviewRecordId)로 식별되며, 사용자별 최신순 조회를 위해
+ * userId + updatedAt + _id 복합 인덱스를 사용합니다. _id는 사이드바 키셋 페이지네이션에서 같은 updatedAt을 구분합니다.
+ * </p>
+ */
+@Document(collection = "interview_records")
+@CompoundIndex(name = "userId_updatedAt_id", def = "{'userId': 1, 'updatedAt': -1, '_id': -1}")
+@Data
+@Schema(description = "버킷형 면접 기록 데이터 모델")
+public class InterviewRecordDocument {
+
+    /**
+     * 인터뷰 기록의 고유 ID를 나타냅니다.
+     */
+    @Id
+    private String interviewRecordId;
+
+    /**
+     * 인터뷰 기록을 소유한 사용자의 ID를 나타냅니다.
+     */
+    private String userId;
+
+    private String enterpriseName;
+    private String category;
+    private Date createdAt;
+    private Date updatedAt;
+    private List<Record.RecordDetail> details;
+
+    /**
+     * 문서의 버전을 나타냅니다. 문서를 변경하는 모든 쓰기에서 1씩 증가하며, 조건부 조회(ETag)에 사용합니다.
+     */
+    private Long version;
+}
@@ -1,18 +1,47 @@
 package pickme.record.model;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.AccessType;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * 면접 기록 데이터 모델을 나타내는 클래스입니다.
+ *
+ * <p>
+ * 인터뷰 기록 ID({@code records.interviewRecordId})에는 멀티키 인덱스가 생성되어,
+ * 인터뷰 기록 ID로 문서를 찾는 쿼리가 컬렉션 전체를 읽지 않습니다.
+ * 문서에는 아직 발행되지 않은 변경 이벤트가 {@code outbox} 배열로 함께 저장될 수 있으며, 이 모델에는 매핑하지 않습니다.
+ * 따라서 이 모델로 문서 전체를 저장하면 발행 대기 이벤트가 사라지므로, outbox가 활성화된 동안에는
+ * {@link pickme.record.repository.RecordOutboxSaveGuard}가 문서 전체 저장을 거부합니다.
+ * 발행 대기 이벤트가 있는 문서만 찾을 수 있도록 {@code outbox.eventId}에 희소 인덱스가 생성됩니다.
+ * </p>
+ *
+ * <p>
+ * 읽어 온 문서에서 인터뷰 기록을 ID로 찾을 때는 {@link #findInterviewRecord(String)}를 사용합니다.
+ * 처음 호출할 때 인터뷰 기록 ID와 목록 위치의 색인을 만들어 두므로,
+ * 캐시된 문서에 대한 이후의 조회는 인터뷰 기록 수와 무관하게 상수 시간에 수행됩니다.
+ * </p>
  */
 @Document(collection = "records")
+@CompoundIndex(name = "outbox_pending", def = "{'outbox.eventId': 1}", sparse = true)
 @Data
 @Schema(description = "면접 기록 데이터 모델")
 public class Record {
@@ -23,16 +52,97 @@ public class Record {
     @Id
     private String userId;
 
+    /**
+     * 문서 버전을 나타냅니다. 모든 쓰기 작업에서 1씩 증가하며,
+     * 문서 전체를 저장하는 경우 낙관적 동시성 제어에 사용됩니다.
+     */
+    @Version
+    private Long version;
+
     /**
      * 사용자의 면접 기록 목록을 나타냅니다.
      */
     private List<InterviewRecord> records;
 
+    /**
+     * 인터뷰 기록 ID와 {@link #records} 내 위치의 색인입니다. 저장되지 않으며, 처음 조회할 때 생성됩니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile Map<String, Integer> interviewRecordIndex;
+
+    /**
+     * 인터뷰 기록 목록을 설정하고, 이전 목록으로 만든 색인을 버립니다.
+     *
+     * @param records 인터뷰 기록 목록
+     */
+    public void setRecords(List<InterviewRecord> records) {
+        this.records = records;
+        this.interviewRecordIndex = null;
+    }
+
+    /**
+     * 인터뷰 기록 ID로 인터뷰 기록을 찾습니다.
+     *
+     * <p>
+     * 색인이 가리키는 위치의 인터뷰 기록 ID를 다시 확인하므로, 목록이 직접 변경되어 색인이 맞지 않으면 색인을 다시 만듭니다.
+     * 색인에 없는 ID는 목록을 한 번 순회하여 확인하므로, 색인을 만든 뒤 추가된 인터뷰 기록도 찾을 수 있습니다.
+     * 같은 ID가 여러 번 있으면 목록에서 처음 나오는 인터뷰 기록을 반환합니다.
+     * </p>
+     *
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 인터뷰 기록, 존재하지 않으면 null
+     */
+    public InterviewRecord findInterviewRecord(String interviewRecordId) {
+        List<InterviewRecord> interviewRecords = records;
+        if (interviewRecords == null || interviewRecordId == null) {
+            return null;
+        }
+
+        Map<String, Integer> index = interviewRecordIndex;
+        if (index == null) {
+            index = indexInterviewRecords(interviewRecords);
+        }
+        Integer position = index.get(interviewRecordId);
+        if (position != null && position < interviewRecords.size()
+                && interviewRecordId.equals(interviewRecords.get(position).getInterviewRecordId())) {
+            return interviewRecords.get(position);
+        }
+
+        // 색인이 목록과 맞지 않는 경우에만 순회
+        for (int i = 0; i < interviewRecords.size(); i++) {
+            if (interviewRecordId.equals(interviewRecords.get(i).getInterviewRecordId())) {
+                indexInterviewRecords(interviewRecords);
+                return interviewRecords.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인터뷰 기록 목록의 색인을 만들어 저장합니다.
+     * 여러 스레드가 동시에 만들더라도 같은 목록에서 같은 색인이 만들어지므로 마지막 결과가 남습니다.
+     */
+    private Map<String, Integer> indexInterviewRecords(List<InterviewRecord> interviewRecords) {
+        Map<String, Integer> index = new HashMap<>(interviewRecords.size() * 4 / 3 + 1);
+        for (int i = 0; i < interviewRecords.size(); i++) {
+            index.putIfAbsent(interviewRecords.get(i).getInterviewRecordId(), i);
+        }
+        if (interviewRecords == records) {
+            interviewRecordIndex = index;
+        }
+        return index;
+    }
+
     /**
      * 개별 면접 기록을 나타내는 클래스입니다.
      */
     @Data
     public static class InterviewRecord {
+        @Indexed
         private String interviewRecordId;
         private String enterpriseName;
         private String category;
@@ -43,10 +153,127 @@ public class Record {
 
     /**
      * 면접 질문 및 답변 세부 정보를 나타내는 클래스입니다.
+     *
+     * <p>
+     * 각 세부 항목은 생성 시각 순으로 정렬되는 고유 ID({@code detailId})를 가지며,
+     * 다른 항목이 삭제되어 목록 위치가 바뀌어도 같은 항목을 가리킵니다.
+     * 세부 항목 ID가 도입되기 전에 저장된 항목은
+     * {@link pickme.record.migration.RecordDetailIdBackfillJob}으로 ID를 채웁니다.
+     * </p>
+     *
+     * <p>
+     * 답변은 길이에 따라 {@link RecordAnswerCodec}으로 압축되어 저장될 수 있습니다.
+     * 압축된 답변을 읽으면 압축 바이트만 보관하고, {@link #getAnswer()}를 호출할 때마다 복원한 본문을 반환합니다.
+     * 복원한 본문은 보관하지 않으므로, 캐시된 문서가 압축 바이트와 본문을 함께 들고 있지 않으며
+     * 캐시 가중치(압축 바이트 기준)와 실제 메모리 사용량이 어긋나지 않습니다.
+     * 답변을 응답에 포함하지 않는 사이드바·메타데이터 경로는 복원 비용을 치르지 않습니다.
+     * </p>
      */
     @Data
     public static class RecordDetail {
+        private String detailId;
         private String question;
-        private String answer;
+
+        /**
+         * 답변 본문을 나타냅니다. 압축된 답변은 압축 바이트로만 보관하며 이 필드는 null입니다.
+         * 문서 전체를 저장하는 경우에도 본문이 기록되도록 매핑은 게터/세터로 접근합니다.
+         */
+        @AccessType(AccessType.Type.PROPERTY)
+        private volatile String answer;
+
+        /**
+         * 코덱 표식을 포함한 압축 답변입니다. 저장 형식을 유지하기 위한 값으로, 매핑에서는 제외됩니다.
+         */
+        @Transient
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        private transient volatile byte[] compressedAnswer;
+
+        /**
+         * 세부 항목 생성 시각을 나타냅니다. 통계의 날짜별 활동은 이 값을 기준으로 집계합니다.
+         * 생성 시각이 도입되기 전에 저장된 세부 항목은 null이며, 이 경우 세부 항목 ID(ObjectId)의 생성 시각을 사용합니다.
+         */
+        private Date createdAt;
+
+        /**
+         * 압축된 답변을 복원하지 않은 상태로 세부 항목을 생성합니다.
+         *
+         * @param detailId         세부 항목 ID
+         * @param question         질문
+         * @param compressedAnswer 코덱 표식을 포함한 압축 답변
+         * @return 세부 항목
+         */
+        public static RecordDetail compressed(String detailId, String question, byte[] compressedAnswer) {
+            RecordDetail detail = new RecordDetail();
+            detail.setDetailId(detailId);
+            detail.setQuestion(question);
+            detail.compressedAnswer = compressedAnswer;
+            return detail;
+        }
+
+        /**
+         * 답변 본문을 반환합니다. 본문 없이 압축된 답변만 읽은 경우에는 호출할 때마다 복원하며,
+         * 복원한 본문은 보관하지 않습니다.
+         *
+         * @return 답변 본문
+         */
+        public String getAnswer() {
+            String value = answer;
+            if (value != null) {
+                return value;
+            }
+            byte[] stored = compressedAnswer;
+            return stored == null ? null : RecordAnswerCodec.decode(stored);
+        }
+
+        /**
+         * 답변 본문을 설정하고, 이전 답변의 압축 바이트를 버립니다.
+         *
+         * @param answer 답변 본문
+         */
+        public void setAnswer(String answer) {
+            this.answer = answer;
+            this.compressedAnswer = null;
+        }
+
+        /**
+         * 현재 답변 본문을 압축한 바이트를 설정합니다. 이후 저장할 때 이 바이트를 그대로 기록합니다.
+         *
+         * @param compressedAnswer 코덱 표식을 포함한 압축 답변
+         */
+        public void compressAnswer(byte[] compressedAnswer) {
+            this.compressedAnswer = compressedAnswer;
+        }
+
+        /**
+         * 답변이 압축된 상태로 보관되어 있는지 확인합니다.
+         *
+         * @return 압축 바이트가 있으면 true
+         */
+        public boolean hasCompressedAnswer() {
+            return compressedAnswer != null;
+        }
+
+        /**
+         * 저장할 답변 값을 반환합니다. 압축 바이트가 있으면 압축된 답변 Binary를, 없으면 본문 문자열을 반환하며
+         * 압축된 답변을 복원하지 않습니다.
+         *
+         * @return 압축된 답변 Binary 또는 본문 문자열
+         */
+        public Object storedAnswer() {
+            byte[] stored = compressedAnswer;
+            return stored != null ? RecordAnswerCodec.toBinary(stored) : answer;
+        }
+
+        /**
+         * 새로운 세부 항목 ID를 생성합니다. ObjectId 형식이므로 생성 시각 순으로 정렬됩니다.
+         *
+         * @return 세부 항목 ID
+         */
+        public static String newDetailId() {
+            return new ObjectId().toHexString();
+        }
     }
 }
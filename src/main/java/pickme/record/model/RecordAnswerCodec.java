@@ -0,0 +1,133 @@
+package pickme.record.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+
+/**
+ * RecordAnswerCodec은 압축 저장된 답변 본문을 인코딩/디코딩하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 압축된 답변은 사용자 정의 서브타입의 BSON Binary로 저장하며, 첫 바이트는 압축 방식을 나타내는 코덱 표식입니다.
+ * 이후 다른 압축 방식을 추가하더라도 표식으로 구분하므로 기존에 저장된 답변을 그대로 읽을 수 있습니다.
+ * </p>
+ *
+ * <ul>
+ * <li><b>{@link #DEFLATE}:</b> UTF-8 본문을 Deflate(zlib 형식)로 압축</li>
+ * </ul>
+ */
+public final class RecordAnswerCodec {
+
+    /** 압축된 답변을 저장하는 BSON Binary 서브타입 */
+    public static final byte BINARY_SUBTYPE = BsonBinarySubType.USER_DEFINED.getValue();
+
+    /** Deflate 코덱 표식 */
+    public static final byte DEFLATE = 0x01;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private RecordAnswerCodec() {
+    }
+
+    /**
+     * 답변 본문을 Deflate로 압축하고 코덱 표식을 앞에 붙입니다.
+     *
+     * @param answer 압축할 답변 본문
+     * @param level  Deflate 압축 수준 (1~9, {@link Deflater#DEFAULT_COMPRESSION})
+     * @return 코덱 표식을 포함한 압축 바이트
+     */
+    public static byte[] deflate(String answer, int level) {
+        return deflate(answer.getBytes(StandardCharsets.UTF_8), level);
+    }
+
+    /**
+     * UTF-8로 인코딩된 답변 본문을 Deflate로 압축하고 코덱 표식을 앞에 붙입니다.
+     *
+     * @param input UTF-8로 인코딩된 답변 본문
+     * @param level Deflate 압축 수준 (1~9, {@link Deflater#DEFAULT_COMPRESSION})
+     * @return 코덱 표식을 포함한 압축 바이트
+     */
+    public static byte[] deflate(byte[] input, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2 + 16);
+            output.write(DEFLATE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 코덱 표식에 따라 압축된 답변 본문을 복원합니다.
+     *
+     * @param stored 코덱 표식을 포함한 압축 바이트
+     * @return 복원한 답변 본문
+     * @throws IllegalArgumentException 알 수 없는 코덱 표식이거나 압축 데이터가 손상된 경우
+     */
+    public static String decode(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            throw new IllegalArgumentException("Compressed answer is empty");
+        }
+        switch (stored[0]) {
+            case DEFLATE:
+                return inflate(stored);
+            default:
+                throw new IllegalArgumentException("Unknown answer codec: " + stored[0]);
+        }
+    }
+
+    /**
+     * 저장된 값이 압축된 답변인지 확인합니다.
+     *
+     * @param value 저장된 답변 값
+     * @return 압축된 답변 서브타입의 Binary이면 true
+     */
+    public static boolean isCompressed(Object value) {
+        return value instanceof Binary binary && binary.getType() == BINARY_SUBTYPE;
+    }
+
+    /**
+     * 압축 바이트를 저장할 BSON Binary로 감쌉니다.
+     *
+     * @param stored 코덱 표식을 포함한 압축 바이트
+     * @return 압축된 답변 서브타입의 Binary
+     */
+    public static Binary toBinary(byte[] stored) {
+        return new Binary(BINARY_SUBTYPE, stored);
+    }
+
+    private static String inflate(byte[] stored) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, 1, stored.length - 1);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(stored.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Compressed answer is truncated");
+                }
+                output.write(buffer, 0, length);
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Compressed answer is corrupted", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
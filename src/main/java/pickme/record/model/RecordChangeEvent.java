@@ -0,0 +1,94 @@
+package pickme.record.model;
+
+import java.util.Date;
+
+import lombok.Data;
+
+import org.bson.types.ObjectId;
+
+/**
+ * 면접 기록이 변경되었음을 다른 서비스에 알리는 변경 이벤트입니다.
+ *
+ * <p>
+ * 이벤트는 변경된 값을 담지 않고 어떤 인터뷰 기록(세부 항목)이 어떻게 바뀌었는지만 담으며,
+ * 수신 측은 필요한 경우 조회 API로 최신 값을 읽습니다.
+ * 이벤트는 변경과 같은 쓰기로 사용자 문서의 outbox에 추가되고 중계기가 발행하므로 최소 한 번 전달되며,
+ * 수신 측은 {@code eventId}로 중복을 제거합니다.
+ * 인덱스로 지정한 세부 항목의 수정/삭제 이벤트는 {@code detailId} 대신 {@code detailIndex}를 담습니다.
+ * </p>
+ */
+@Data
+public class RecordChangeEvent {
+
+    /**
+     * 이벤트 ID(ObjectId 문자열)를 나타냅니다. 같은 사용자의 이벤트는 outbox에 추가된 순서대로 발행됩니다.
+     */
+    private String eventId;
+
+    /**
+     * 변경된 기록의 사용자 ID를 나타냅니다.
+     */
+    private String userId;
+
+    /**
+     * 변경의 종류를 나타냅니다.
+     */
+    private RecordChangeType type;
+
+    /**
+     * 변경된 인터뷰 기록 ID를 나타냅니다.
+     */
+    private String interviewRecordId;
+
+    /**
+     * 변경된 세부 항목 ID를 나타냅니다. 인터뷰 기록 변경이거나 인덱스로 지정한 변경이면 null입니다.
+     */
+    private String detailId;
+
+    /**
+     * 인덱스로 지정한 세부 항목 변경의 변경 전 인덱스를 나타냅니다. 그 외에는 null입니다.
+     */
+    private Integer detailIndex;
+
+    /**
+     * 변경 시각을 나타냅니다.
+     */
+    private Date occurredAt;
+
+    /**
+     * 인터뷰 기록 변경 이벤트를 새 이벤트 ID와 함께 생성합니다.
+     *
+     * @param type              변경의 종류
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param occurredAt        변경 시각
+     * @return 변경 이벤트
+     */
+    public static RecordChangeEvent of(RecordChangeType type, String interviewRecordId, Date occurredAt) {
+        RecordChangeEvent event = new RecordChangeEvent();
+        event.setEventId(new ObjectId().toHexString());
+        event.setType(type);
+        event.setInterviewRecordId(interviewRecordId);
+        event.setOccurredAt(occurredAt);
+        return event;
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목 변경 이벤트를 생성합니다.
+     */
+    public static RecordChangeEvent ofDetail(RecordChangeType type, String interviewRecordId, String detailId,
+            Date occurredAt) {
+        RecordChangeEvent event = of(type, interviewRecordId, occurredAt);
+        event.setDetailId(detailId);
+        return event;
+    }
+
+    /**
+     * 인덱스로 지정한 세부 항목 변경 이벤트를 생성합니다.
+     */
+    public static RecordChangeEvent ofDetailIndex(RecordChangeType type, String interviewRecordId, int detailIndex,
+            Date occurredAt) {
+        RecordChangeEvent event = of(type, interviewRecordId, occurredAt);
+        event.setDetailIndex(detailIndex);
+        return event;
+    }
+}
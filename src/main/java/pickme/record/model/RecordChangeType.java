@@ -0,0 +1,25 @@
+package pickme.record.model;
+
+/**
+ * 변경 이벤트가 나타내는 면접 기록 변경의 종류입니다.
+ */
+public enum RecordChangeType {
+
+    /** 인터뷰 기록 추가 */
+    INTERVIEW_CREATED,
+
+    /** 인터뷰 기록의 기업명/카테고리 변경 */
+    INTERVIEW_UPDATED,
+
+    /** 인터뷰 기록 삭제 */
+    INTERVIEW_DELETED,
+
+    /** 세부 항목 추가 */
+    DETAIL_CREATED,
+
+    /** 세부 항목의 질문/답변 변경 */
+    DETAIL_UPDATED,
+
+    /** 세부 항목 삭제 */
+    DETAIL_DELETED
+}
@@ -0,0 +1,25 @@
+package pickme.record.model;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 내보내기(export) 스트림의 한 줄에 해당하는 인터뷰 기록 모델입니다.
+ *
+ * <p>
+ * MongoDB 커서에서 읽은 문서 하나를 그대로 변환한 것으로,
+ * 전체 기록을 목록으로 모으지 않고 한 줄씩 직렬화하여 내보내는 데 사용됩니다.
+ * </p>
+ */
+@Data
+public class RecordExportEntry {
+    private String userId;
+    private String interviewRecordId;
+    private String enterpriseName;
+    private String category;
+    private Date createdAt;
+    private Date updatedAt;
+    private List<Record.RecordDetail> details;
+}
@@ -0,0 +1,52 @@
+package pickme.record.model;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 사용자 Record 문서의 구조만 담은 경량 프로젝션 모델입니다.
+ *
+ * <p>
+ * 문서 버전과 인터뷰 기록별 메타데이터, 세부 항목 개수만 포함하며,
+ * 질문/답변 본문을 읽지 않고 여러 쓰기 작업의 대상 유효성과 통계 증감량을 미리 판단하는 데 사용됩니다.
+ * </p>
+ */
+@Data
+public class RecordOutline {
+
+    /**
+     * 문서 버전을 나타냅니다.
+     */
+    private Long version;
+
+    /**
+     * 인터뷰 기록별 구조 정보 목록을 나타냅니다.
+     */
+    private List<InterviewOutline> records;
+
+    /**
+     * 인터뷰 기록 하나의 구조 정보를 나타내는 클래스입니다.
+     */
+    @Data
+    public static class InterviewOutline {
+        private String interviewRecordId;
+        private String enterpriseName;
+        private String category;
+        private Date createdAt;
+        private int detailCount;
+
+        /**
+         * 세부 항목 ID 목록을 순서대로 나타냅니다.
+         * 인터뷰 기록 하나를 조회하는 경우에만 채워지며, 문서 전체의 구조를 조회하는 경우 null입니다.
+         */
+        private List<String> detailIds;
+
+        /**
+         * 세부 항목 생성 시각 목록을 {@link #detailIds}와 같은 순서로 나타냅니다.
+         * 생성 시각이 도입되기 전에 저장된 세부 항목은 null이며, {@link #detailIds}와 같은 경우에만 채워집니다.
+         */
+        private List<Date> detailCreatedAts;
+    }
+}
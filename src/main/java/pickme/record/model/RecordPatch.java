@@ -0,0 +1,47 @@
+package pickme.record.model;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * 검증을 마친 병합 패치(RFC 7396)를 필드 단위의 변경으로 나타낸 모델입니다.
+ *
+ * <p>
+ * 필드 이름은 패치 대상(인터뷰 기록 또는 세부 항목) 기준의 상대 경로이며,
+ * 저장소는 이를 대상의 경로에 붙여 변경한 필드만 {@code $set}/{@code $unset}하는 업데이트를 만듭니다.
+ * </p>
+ */
+@Getter
+public class RecordPatch {
+
+    /**
+     * 새 값으로 설정할 필드와 값을 나타냅니다 (패치에 나온 순서).
+     */
+    private final Map<String, Object> set = new LinkedHashMap<>();
+
+    /**
+     * 제거할 필드 이름을 나타냅니다 (패치에서 null로 지정한 필드).
+     */
+    private final Set<String> unset = new LinkedHashSet<>();
+
+    public void set(String field, Object value) {
+        set.put(field, value);
+    }
+
+    public void unset(String field) {
+        unset.add(field);
+    }
+
+    /**
+     * 변경할 필드가 없는지 확인합니다.
+     *
+     * @return 설정하거나 제거할 필드가 없으면 true
+     */
+    public boolean isEmpty() {
+        return set.isEmpty() && unset.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package pickme.record.model;
+
+import lombok.Data;
+
+/**
+ * 검색어와 일치하는 세부 항목 하나를 나타내는 프로젝션 모델입니다.
+ *
+ * <p>
+ * 검색 집계 결과를 그대로 담으며, 서비스 계층에서 질문/답변 본문으로 하이라이트된 스니펫을 생성합니다.
+ * 세부 항목이 없는 인터뷰 기록이 기업명으로 일치한 경우 {@code detailIndex}와 {@code detailId}는 null입니다.
+ * </p>
+ */
+@Data
+public class RecordSearchMatch {
+    private String interviewRecordId;
+    private String enterpriseName;
+    private String category;
+    private Integer detailIndex;
+    private String detailId;
+    private String question;
+    private String answer;
+}
@@ -0,0 +1,128 @@
+package pickme.record.model;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.Data;
+
+import org.bson.types.ObjectId;
+
+/**
+ * 사용자별 통계 요약 문서(record_stats 컬렉션, _id = userId)를 나타내는 모델입니다.
+ *
+ * <p>
+ * 요약 문서는 쓰기 작업마다 {@code $inc}로 증감되며, 집계 파이프라인으로 사용자 Record 문서에서 다시 만들 수 있습니다.
+ * 조회는 요약 문서 하나만 읽으므로 기록의 양과 무관합니다.
+ * 카테고리와 기업명은 필드 이름으로 저장되므로 MongoDB 필드 이름에 쓸 수 없는 {@code .}과 {@code $}는
+ * 전각 문자로 바꾸어 저장하며({@link #encodeKey(String)}), 이 모델에는 원래 이름으로 복원되어 담깁니다.
+ * 날짜별 활동은 UTC 기준 {@code yyyy-MM-dd}로 구분하며, 인터뷰 기록과 세부 항목 모두 저장된 생성 시각을 기준으로 합니다.
+ * 생성 시각이 없는 세부 항목(생성 시각 도입 이전의 항목)은 세부 항목 ID(ObjectId)의 생성 시각을 사용합니다.
+ * </p>
+ */
+@Data
+public class RecordStats {
+
+    /** 요약 문서를 저장하는 컬렉션 이름 */
+    public static final String COLLECTION = "record_stats";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneOffset.UTC);
+
+    /**
+     * 사용자 ID를 나타냅니다.
+     */
+    private String userId;
+
+    /**
+     * 인터뷰 기록 수를 나타냅니다.
+     */
+    private long interviews;
+
+    /**
+     * 세부 항목(질문/답변) 수를 나타냅니다.
+     */
+    private long details;
+
+    /**
+     * 카테고리별 인터뷰 기록 수를 나타냅니다.
+     */
+    private Map<String, Long> categories = new LinkedHashMap<>();
+
+    /**
+     * 기업명별 인터뷰 기록 수를 나타냅니다.
+     */
+    private Map<String, Long> enterprises = new LinkedHashMap<>();
+
+    /**
+     * 날짜별 활동을 날짜 오름차순으로 나타냅니다.
+     */
+    private Map<String, DailyActivity> activity = new TreeMap<>();
+
+    /**
+     * 요약 문서가 마지막으로 갱신된 시각을 나타냅니다.
+     */
+    private Date updatedAt;
+
+    /**
+     * 하루 동안 생성된 인터뷰 기록과 세부 항목 수를 나타내는 클래스입니다.
+     */
+    @Data
+    public static class DailyActivity {
+        private long interviews;
+        private long details;
+    }
+
+    /**
+     * 카테고리나 기업명을 요약 문서의 필드 이름으로 쓸 수 있도록 변환합니다.
+     *
+     * @param key 카테고리 또는 기업명
+     * @return {@code .}과 {@code $}를 전각 문자로 바꾼 필드 이름
+     */
+    public static String encodeKey(String key) {
+        return key.replace('.', '．').replace('$', '＄');
+    }
+
+    /**
+     * {@link #encodeKey(String)}로 변환한 필드 이름을 원래 이름으로 되돌립니다.
+     *
+     * @param key 요약 문서의 필드 이름
+     * @return 카테고리 또는 기업명
+     */
+    public static String decodeKey(String key) {
+        return key.replace('．', '.').replace('＄', '$');
+    }
+
+    /**
+     * 시각이 속한 날짜(UTC)를 반환합니다.
+     *
+     * @param date 시각
+     * @return {@code yyyy-MM-dd} 형식의 날짜, 시각이 없으면 null
+     */
+    public static String day(Date date) {
+        return date == null ? null : DAY_FORMAT.format(date.toInstant());
+    }
+
+    /**
+     * 세부 항목이 생성된 날짜(UTC)를 구합니다. 생성 시각이 없으면 세부 항목 ID에서 구합니다.
+     *
+     * @param createdAt 세부 항목 생성 시각, 없으면 null
+     * @param detailId  세부 항목 ID
+     * @return {@code yyyy-MM-dd} 형식의 날짜, 둘 다 없으면 null
+     */
+    public static String detailDay(Date createdAt, String detailId) {
+        return createdAt != null ? day(createdAt) : detailDay(detailId);
+    }
+
+    /**
+     * 세부 항목이 생성된 날짜(UTC)를 세부 항목 ID에서 구합니다.
+     *
+     * @param detailId 세부 항목 ID
+     * @return {@code yyyy-MM-dd} 형식의 날짜, ObjectId 형식이 아닌 ID이면 null
+     */
+    public static String detailDay(String detailId) {
+        return detailId != null && ObjectId.isValid(detailId) ? day(new ObjectId(detailId).getDate()) : null;
+    }
+}
@@ -0,0 +1,97 @@
+package pickme.record.model;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 쓰기 작업 하나(또는 일괄 작업에서 적용된 작업들)가 사용자 통계 요약 문서에 더할 증감량을 나타내는 모델입니다.
+ *
+ * <p>
+ * 저장소는 0이 아닌 항목만 {@code $inc}하는 단일 업데이트로 반영합니다.
+ * 카테고리와 기업명, 날짜는 원래 값 그대로 담기며, 값이 없거나 비어 있는 항목은 집계하지 않습니다.
+ * </p>
+ */
+@Getter
+public class RecordStatsDelta {
+
+    private long interviews;
+
+    private long details;
+
+    private final Map<String, Long> categories = new LinkedHashMap<>();
+
+    private final Map<String, Long> enterprises = new LinkedHashMap<>();
+
+    /**
+     * 날짜별로 생성된 인터뷰 기록 수의 증감량을 나타냅니다.
+     */
+    private final Map<String, Long> interviewsByDay = new LinkedHashMap<>();
+
+    /**
+     * 날짜별로 생성된 세부 항목 수의 증감량을 나타냅니다.
+     */
+    private final Map<String, Long> detailsByDay = new LinkedHashMap<>();
+
+    /**
+     * 인터뷰 기록 하나의 추가(sign = 1) 또는 삭제(sign = -1)를 반영합니다. 세부 항목은 포함하지 않습니다.
+     *
+     * @param sign           1 또는 -1
+     * @param category       카테고리
+     * @param enterpriseName 기업명
+     * @param createdAt      인터뷰 기록 생성 시각
+     * @return 이 객체
+     */
+    public RecordStatsDelta interview(int sign, String category, String enterpriseName, Date createdAt) {
+        interviews += sign;
+        category(category, sign);
+        enterprise(enterpriseName, sign);
+        add(interviewsByDay, RecordStats.day(createdAt), sign);
+        return this;
+    }
+
+    /**
+     * 세부 항목 하나의 추가(sign = 1) 또는 삭제(sign = -1)를 반영합니다.
+     *
+     * @param sign 1 또는 -1
+     * @param day  세부 항목이 생성된 날짜, 알 수 없으면 null
+     * @return 이 객체
+     */
+    public RecordStatsDelta detail(int sign, String day) {
+        details += sign;
+        add(detailsByDay, day, sign);
+        return this;
+    }
+
+    public RecordStatsDelta category(String category, long amount) {
+        add(categories, category, amount);
+        return this;
+    }
+
+    public RecordStatsDelta enterprise(String enterpriseName, long amount) {
+        add(enterprises, enterpriseName, amount);
+        return this;
+    }
+
+    /**
+     * 반영할 증감량이 없는지 확인합니다.
+     *
+     * @return 모든 항목의 증감량이 0이면 true
+     */
+    public boolean isEmpty() {
+        return interviews == 0 && details == 0
+                && isZero(categories) && isZero(enterprises) && isZero(interviewsByDay) && isZero(detailsByDay);
+    }
+
+    private static void add(Map<String, Long> counts, String key, long amount) {
+        if (key != null && !key.isBlank()) {
+            counts.merge(key, amount, Long::sum);
+        }
+    }
+
+    private static boolean isZero(Map<String, Long> counts) {
+        return counts.values().stream().allMatch(count -> count == 0);
+    }
+}
@@ -0,0 +1,53 @@
+package pickme.record.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 사이드바 키셋(keyset) 페이지네이션의 위치를 나타내는 커서입니다.
+ *
+ * <p>
+ * 마지막으로 반환한 항목의 (updatedAt, interviewRecordId)를 담으며,
+ * 클라이언트에는 내부 구조가 드러나지 않도록 URL-safe Base64 문자열로 인코딩하여 전달합니다.
+ * </p>
+ */
+@Data
+@AllArgsConstructor
+public class SidebarCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private Date updatedAt;
+    private String interviewRecordId;
+
+    /**
+     * 커서를 불투명한 문자열로 인코딩합니다.
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw = updatedAt.getTime() + SEPARATOR + interviewRecordId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 해석된 커서
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static SidebarCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("Malformed sidebar cursor");
+        }
+        return new SidebarCursor(new Date(Long.parseLong(raw.substring(0, separator))),
+                raw.substring(separator + 1));
+    }
+}
@@ -0,0 +1,68 @@
+package pickme.record.outbox;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.model.RecordChangeEvent;
+
+/**
+ * FileRecordChangePublisher는 변경 이벤트를 파일 끝에 NDJSON(한 줄에 이벤트 하나)으로 덧붙이는 발행기입니다.
+ *
+ * <p>
+ * 배치 하나를 한 번의 쓰기로 덧붙인 뒤 디스크에 동기화하고 반환하므로, 반환된 배치는 프로세스가 종료되어도 남습니다.
+ * 쓰기 도중 실패하면 배치 일부가 기록된 채 다시 발행될 수 있으므로, 파일을 읽는 쪽은 {@code eventId}로 중복을 제거합니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "record.outbox.publisher", havingValue = "file")
+public class FileRecordChangePublisher implements RecordChangePublisher {
+
+    private final ObjectWriter writer;
+
+    private final Path path;
+
+    public FileRecordChangePublisher(ObjectMapper objectMapper, RecordOutboxProperties properties) {
+        this.writer = objectMapper.writerFor(RecordChangeEvent.class);
+        this.path = Path.of(properties.getFilePath());
+    }
+
+    @Override
+    public synchronized void publish(List<RecordChangeEvent> events) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (RecordChangeEvent event : events) {
+                lines.write(writer.writeValueAsBytes(event));
+                lines.write('\n');
+            }
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append record change events to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package pickme.record.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.model.RecordChangeEvent;
+
+/**
+ * InMemoryRecordChangePublisher는 발행한 변경 이벤트를 메모리에 보관하는 발행기입니다.
+ *
+ * <p>
+ * 테스트와 로컬 실행에서 발행 결과를 확인하기 위한 용도로, 최근 {@code memoryCapacity}개의 이벤트만 보관하고
+ * 오래된 이벤트부터 버립니다. 보관을 넘긴 이벤트와 재시작 전의 이벤트는 outbox에서 이미 제거되어 되살릴 수 없으므로,
+ * {@code record.outbox.publisher=memory}로 명시한 경우에만 등록됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.outbox.publisher", havingValue = "memory")
+public class InMemoryRecordChangePublisher implements RecordChangePublisher {
+
+    private final RecordOutboxProperties properties;
+
+    private final Deque<RecordChangeEvent> events = new ArrayDeque<>();
+
+    @Override
+    public synchronized void publish(List<RecordChangeEvent> published) {
+        for (RecordChangeEvent event : published) {
+            if (events.size() >= properties.getMemoryCapacity()) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * 보관 중인 이벤트를 발행 순서대로 반환합니다.
+     *
+     * @return 발행된 변경 이벤트 목록
+     */
+    public synchronized List<RecordChangeEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * 보관 중인 이벤트를 발행 순서대로 반환하고 비웁니다.
+     *
+     * @return 발행된 변경 이벤트 목록
+     */
+    public synchronized List<RecordChangeEvent> drain() {
+        List<RecordChangeEvent> drained = new ArrayList<>(events);
+        events.clear();
+        return drained;
+    }
+}
@@ -0,0 +1,25 @@
+package pickme.record.outbox;
+
+import java.util.List;
+
+import pickme.record.model.RecordChangeEvent;
+
+/**
+ * RecordChangePublisher는 outbox 중계기가 읽은 변경 이벤트를 다른 서비스로 전달하는 발행기 인터페이스입니다.
+ *
+ * <p>
+ * 파일 발행기({@code record.outbox.publisher=file})와 테스트용 메모리 발행기({@code memory})를 제공하며,
+ * 메시지 브로커로 발행하려면 다른 값을 설정하고 이 인터페이스의 구현체를 빈으로 등록합니다.
+ * 기본 발행기는 없으므로, outbox를 활성화하면서 발행기 빈을 등록하지 않으면 중계기가 시작되지 않습니다.
+ * </p>
+ */
+public interface RecordChangePublisher {
+
+    /**
+     * 변경 이벤트를 주어진 순서대로 발행합니다. 반환되면 모든 이벤트가 전달된 것으로 보고 outbox에서 제거됩니다.
+     * 예외를 던지면 어떤 이벤트도 제거되지 않고 다음 중계에서 다시 발행되므로, 일부만 전달된 이벤트는 중복 발행될 수 있습니다.
+     *
+     * @param events 발행할 변경 이벤트 목록 (사용자별로 발생 순서)
+     */
+    void publish(List<RecordChangeEvent> events);
+}
@@ -0,0 +1,187 @@
+package pickme.record.outbox;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.model.RecordChangeEvent;
+import pickme.record.repository.RecordRepository;
+
+/**
+ * RecordOutboxRelay는 사용자 문서의 outbox에 쌓인 변경 이벤트를 배치로 읽어 발행기로 전달하는 중계기입니다.
+ *
+ * <p>
+ * 중계는 {@code linger} 간격으로 실행되며, 한 번 실행될 때 최대 {@code batchSize}개씩 읽어 발행하고
+ * 가득 찬 배치가 나오지 않을 때까지 반복합니다. 이벤트는 발행이 성공한 뒤에만 outbox에서 제거되며,
+ * 발행이 실패하면 아무것도 제거하지 않고 다음 중계에서 같은 이벤트부터 다시 발행합니다.
+ * 사용자별로는 항상 outbox의 가장 오래된 이벤트부터 연속된 구간만 읽으므로 발행 순서가 쓰기 순서와 같습니다.
+ * 발행기 빈이 없으면 이벤트를 전달할 곳 없이 outbox만 쌓이므로 시작에 실패합니다.
+ * </p>
+ *
+ * <p>
+ * 중계기는 모든 인스턴스에 등록되지만, MongoDB의 임대({@code record.outbox.lease})를 가진 인스턴스 하나만 중계합니다.
+ * 임대는 배치를 읽기 전마다 연장하며, 중계하던 인스턴스가 멈추면 임대가 만료된 뒤 다른 인스턴스가 이어받습니다.
+ * </p>
+ *
+ * <p>
+ * 수신 측과의 계약은 최소 한 번 전달(at-least-once)입니다. 다음 경우 같은 이벤트가 다시 발행되므로,
+ * 수신 측은 {@code eventId}로 중복을 제거해야 하며, 그러면 사용자별 순서도 유지됩니다.
+ * </p>
+ * <ul>
+ * <li>발행은 성공했지만 outbox에서 제거하기 전에 인스턴스가 멈추거나 제거에 실패한 경우</li>
+ * <li>발행이 임대 기간보다 오래 걸려 다른 인스턴스가 임대를 이어받은 경우</li>
+ * </ul>
+ * <p>
+ * outbox는 사용자 문서 안에 있으므로 사용자별로 최근 {@code record.outbox.max-events}개만 남깁니다.
+ * 중계가 오래 멈춰 한 사용자의 미발행 이벤트가 상한을 넘으면 가장 오래된 이벤트부터 발행되지 않고 버려지므로,
+ * 수신 측은 이벤트만으로 상태를 재구성하지 말고 필요하면 전체 기록을 다시 읽어야 합니다.
+ * </p>
+ *
+ * <p>
+ * 중계가 멈추면 outbox가 상한까지 쌓인 뒤 오래된 이벤트부터 버려지므로, {@code record.outbox.oldest.age}로 지연을 감시합니다.
+ * 다음 메트릭을 노출합니다.
+ * </p>
+ * <ul>
+ * <li>{@code record.outbox.published}: 발행한 이벤트 수</li>
+ * <li>{@code record.outbox.publish.failures}: 실패하여 다음 중계로 미룬 배치 수</li>
+ * <li>{@code record.outbox.batch.size}: 발행한 배치 하나의 이벤트 수 분포</li>
+ * <li>{@code record.outbox.lag}: 변경 시각부터 발행 완료까지의 시간</li>
+ * <li>{@code record.outbox.oldest.age}: 마지막 중계에서 읽은 가장 오래된 이벤트의 경과 시간
+ * (outbox가 비어 있거나 임대를 가지지 않은 인스턴스는 0)</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "record.outbox.enabled", havingValue = "true")
+public class RecordOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordOutboxRelay.class);
+
+    private static final String LEASE_NAME = "record-outbox-relay";
+
+    private final RecordRepository recordRepository;
+
+    private final RecordChangePublisher publisher;
+
+    private final RecordOutboxProperties properties;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final AtomicLong oldestAge = new AtomicLong();
+
+    private final Counter published;
+
+    private final Counter failures;
+
+    private final DistributionSummary batchSize;
+
+    private final Timer lag;
+
+    public RecordOutboxRelay(RecordRepository recordRepository, ObjectProvider<RecordChangePublisher> publishers,
+            RecordOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.recordRepository = recordRepository;
+        this.publisher = publishers.getIfUnique();
+        if (this.publisher == null) {
+            throw new IllegalStateException("record.outbox.enabled=true requires a single RecordChangePublisher bean: "
+                    + "set record.outbox.publisher=file or register a publisher");
+        }
+        this.properties = properties;
+        this.published = Counter.builder("record.outbox.published")
+                .description("Record change events delivered to the publisher")
+                .register(meterRegistry);
+        this.failures = Counter.builder("record.outbox.publish.failures")
+                .description("Outbox batches that failed to publish and were kept for the next relay")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("record.outbox.batch.size")
+                .description("Record change events published in a single batch")
+                .publishPercentileHistogram()
+                .maximumExpectedValue((double) properties.getBatchSize())
+                .register(meterRegistry);
+        this.lag = Timer.builder("record.outbox.lag")
+                .description("Time from a record change to its published event")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        TimeGauge.builder("record.outbox.oldest.age", oldestAge, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest record change event read from the outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * outbox에서 읽을 이벤트가 가득 찬 배치로 나오지 않을 때까지 배치 단위로 발행합니다.
+     * 배치마다 먼저 임대를 획득하거나 연장하며, 다른 인스턴스가 임대를 가지고 있으면 중계하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${record.outbox.linger:200ms}")
+    public void relay() {
+        int limit = properties.getBatchSize();
+        List<RecordChangeEvent> events;
+        do {
+            if (!recordRepository.acquireLease(LEASE_NAME, owner, properties.getLease())) {
+                oldestAge.set(0L);
+                return;
+            }
+            events = recordRepository.findOutboxEvents(limit);
+            oldestAge.set(oldestAge(events));
+            if (events.isEmpty() || !publish(events)) {
+                return;
+            }
+        } while (events.size() == limit);
+    }
+
+    /**
+     * 배치 하나를 발행하고, 성공하면 사용자별로 발행한 이벤트를 outbox에서 제거합니다.
+     *
+     * @return 발행 성공 여부
+     */
+    private boolean publish(List<RecordChangeEvent> events) {
+        try {
+            publisher.publish(events);
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.warn("Failed to publish {} record change events, retrying on the next relay", events.size(), e);
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        for (RecordChangeEvent event : events) {
+            if (event.getOccurredAt() != null) {
+                lag.record(Math.max(0L, now - event.getOccurredAt().getTime()), TimeUnit.MILLISECONDS);
+            }
+        }
+        published.increment(events.size());
+        batchSize.record(events.size());
+
+        // 제거에 실패하면 남은 이벤트는 다음 중계에서 다시 발행됨 (최소 한 번 전달)
+        Map<String, List<String>> eventIds = new LinkedHashMap<>();
+        for (RecordChangeEvent event : events) {
+            eventIds.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>()).add(event.getEventId());
+        }
+        eventIds.forEach(recordRepository::removeOutboxEvents);
+        return true;
+    }
+
+    private static long oldestAge(List<RecordChangeEvent> events) {
+        long now = System.currentTimeMillis();
+        return events.stream()
+                .filter(event -> event.getOccurredAt() != null)
+                .mapToLong(event -> Math.max(0L, now - event.getOccurredAt().getTime()))
+                .max()
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,1108 @@
+package pickme.record.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.stereotype.Repository;
+
+import pickme.record.config.RecordInMemoryProperties;
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.dto.RecordBatchOperationDTO;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+import pickme.record.model.RecordChangeEvent;
+import pickme.record.model.RecordChangeType;
+import pickme.record.model.RecordExportEntry;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * InMemoryRecordRepository는 MongoDB 대신 메모리에 사용자 Record 문서를 보관하는 {@link RecordRepository} 구현체입니다.
+ *
+ * <p>
+ * MongoDB 클러스터 없이 HTTP 스택 전체를 부하 테스트하고 성능 회귀를 확인하기 위한 저장소로,
+ * in-memory 프로필에서 Spring Data 리포지토리 대신 등록됩니다.
+ * 쓰기는 사용자 문서를 복사하여 변경한 뒤 {@link ConcurrentHashMap#compute}로 교체하므로 사용자 문서 단위로 원자적이며,
+ * 저장된 문서는 이후 변경되지 않으므로 조회는 잠금 없이 수행됩니다. 사용자 통계 요약도 같은 방식으로 별도의 맵에 보관합니다.
+ * 변경 이벤트 outbox는 사용자별 불변 목록으로 보관하며, 문서를 교체하는 compute 안에서 함께 추가하여 사용자별 순서를 유지합니다.
+ * 버전 증가, 버전을 조건으로 한 번에 적용하는 일괄 작업, 문서 전체 저장 시의 낙관적 잠금은 {@link RecordCustomRepositoryImpl}과 같은 의미를 가집니다.
+ * </p>
+ *
+ * <p>
+ * 모든 호출은 {@link RecordInMemoryProperties}에 설정한 지연 시간만큼 호출 스레드에서 대기하여 MongoDB 왕복 시간을 모사합니다.
+ * 검색은 MongoDB 구현과 같이 정규식의 부분 문자열 일치로 판정하며,
+ * Example 기반 조회와 사용자 ID 이외의 정렬은 지원하지 않습니다.
+ * </p>
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryRecordRepository implements RecordRepository {
+
+    private final ConcurrentMap<String, Record> documents = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, RecordStats> stats = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, List<RecordChangeEvent>> outbox = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Autowired
+    private RecordMapper recordMapper;
+
+    @Autowired
+    private RecordInMemoryProperties properties;
+
+    @Autowired
+    private RecordOutboxProperties outboxProperties;
+
+    @Override
+    public <S extends Record> S save(S entity) {
+        simulateLatency();
+        return doSave(entity);
+    }
+
+    @Override
+    public <S extends Record> List<S> saveAll(Iterable<S> entities) {
+        simulateLatency();
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(doSave(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends Record> S insert(S entity) {
+        simulateLatency();
+        return doInsert(entity);
+    }
+
+    @Override
+    public <S extends Record> List<S> insert(Iterable<S> entities) {
+        simulateLatency();
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(doInsert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<Record> findById(String userId) {
+        return Optional.ofNullable(snapshot(userId)).map(InMemoryRecordRepository::copy);
+    }
+
+    @Override
+    public boolean existsById(String userId) {
+        return snapshot(userId) != null;
+    }
+
+    @Override
+    public List<Record> findAll() {
+        return findAll(Sort.unsorted());
+    }
+
+    @Override
+    public List<Record> findAll(Sort sort) {
+        simulateLatency();
+        return sorted(sort).stream()
+                .map(InMemoryRecordRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<Record> findAll(Pageable pageable) {
+        simulateLatency();
+        List<Record> records = sorted(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(records.stream().map(InMemoryRecordRepository::copy).collect(Collectors.toList()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), records.size());
+        int to = Math.min(from + pageable.getPageSize(), records.size());
+        return new PageImpl<>(records.subList(from, to).stream()
+                .map(InMemoryRecordRepository::copy)
+                .collect(Collectors.toList()), pageable, records.size());
+    }
+
+    @Override
+    public List<Record> findAllById(Iterable<String> userIds) {
+        simulateLatency();
+        Set<String> ids = new LinkedHashSet<>();
+        userIds.forEach(ids::add);
+        return ids.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .map(InMemoryRecordRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count() {
+        simulateLatency();
+        return documents.size();
+    }
+
+    @Override
+    public void deleteById(String userId) {
+        simulateLatency();
+        documents.remove(userId);
+    }
+
+    @Override
+    public void delete(Record entity) {
+        simulateLatency();
+        doDelete(entity);
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> userIds) {
+        simulateLatency();
+        userIds.forEach(documents::remove);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Record> entities) {
+        simulateLatency();
+        entities.forEach(this::doDelete);
+    }
+
+    @Override
+    public void deleteAll() {
+        simulateLatency();
+        documents.clear();
+    }
+
+    @Override
+    public <S extends Record> Optional<S> findOne(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public <S extends Record> List<S> findAll(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public <S extends Record> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public <S extends Record> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public <S extends Record> long count(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public <S extends Record> boolean exists(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public <S extends Record, R> R findBy(Example<S> example,
+            Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupportedExample();
+    }
+
+    @Override
+    public void pushInterviewRecord(String userId, Record.InterviewRecord interviewRecord) {
+        simulateLatency();
+        // upsert: 문서가 없으면 version 필드가 없는 문서에 $inc를 적용한 것과 같이 1부터 시작
+        documents.compute(userId, (key, current) -> {
+            Record next = current == null ? newRecord(key) : copy(current);
+            next.getRecords().add(copy(interviewRecord));
+            next.setVersion(versionOf(current) + 1);
+            appendEvents(key, List.of(RecordChangeEvent.of(RecordChangeType.INTERVIEW_CREATED,
+                    interviewRecord.getInterviewRecordId(), interviewRecord.getCreatedAt())));
+            return next;
+        });
+    }
+
+    @Override
+    public Optional<Record.InterviewRecord> updateInterviewRecord(String userId, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt) {
+        List<Record.InterviewRecord> before = new ArrayList<>(1);
+        RecordChangeEvent event = RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId,
+                updatedAt);
+        update(userId, event, record -> {
+            Record.InterviewRecord target = record.findInterviewRecord(interviewRecordId);
+            Record.InterviewRecord previous = target == null ? null : copy(target);
+            if (!updateInterview(record, interviewRecordId, enterpriseName, category, updatedAt)) {
+                return false;
+            }
+            before.add(previous);
+            return true;
+        });
+        return before.stream().findFirst();
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> pullInterviewRecord(String userId, String interviewRecordId) {
+        return updateForOutline(userId, RecordChangeEvent.of(RecordChangeType.INTERVIEW_DELETED, interviewRecordId,
+                new Date()), interviewRecordId, record -> pullInterview(record, interviewRecordId));
+    }
+
+    @Override
+    public boolean pushRecordDetail(String userId, String interviewRecordId, Record.RecordDetail detail,
+            Date updatedAt) {
+        return pushRecordDetails(userId, interviewRecordId, List.of(detail), updatedAt);
+    }
+
+    @Override
+    public boolean pushRecordDetails(String userId, String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt) {
+        List<RecordChangeEvent> events = details.stream()
+                .map(detail -> RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_CREATED, interviewRecordId,
+                        detail.getDetailId(), updatedAt))
+                .toList();
+        return update(userId, events, record -> pushDetails(record, interviewRecordId, details, updatedAt));
+    }
+
+    @Override
+    public boolean updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            Record.RecordDetail detail, Date updatedAt) {
+        return update(userId, RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                detailIndex, updatedAt),
+                record -> updateDetail(record, interviewRecordId, detailIndex, detail, updatedAt));
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> removeRecordDetail(String userId, String interviewRecordId,
+            int detailIndex, Date updatedAt) {
+        return updateForOutline(userId, RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_DELETED,
+                interviewRecordId, detailIndex, updatedAt), interviewRecordId,
+                record -> removeDetail(record, interviewRecordId, detailIndex, updatedAt));
+    }
+
+    @Override
+    public boolean updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt) {
+        return update(userId, RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                detailId, updatedAt),
+                record -> updateDetailById(record, interviewRecordId, detailId, detail, updatedAt));
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> removeRecordDetailById(String userId, String interviewRecordId,
+            String detailId, Date updatedAt) {
+        return updateForOutline(userId, RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_DELETED,
+                interviewRecordId, detailId, updatedAt), interviewRecordId,
+                record -> removeDetailById(record, interviewRecordId, detailId, updatedAt));
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> patchInterviewRecord(String userId, String interviewRecordId,
+            RecordPatch patch, Date updatedAt) {
+        return updateForOutline(userId, RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId,
+                updatedAt), interviewRecordId, record -> patchInterview(record, interviewRecordId, patch, updatedAt));
+    }
+
+    @Override
+    public boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, RecordPatch patch,
+            Date updatedAt) {
+        return update(userId, RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                detailId, updatedAt),
+                record -> patchDetail(record, interviewRecordId, detailId, patch, updatedAt));
+    }
+
+    @Override
+    public List<InterviewRecordSidebarDTO> findSidebarPage(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit) {
+        Record record = snapshot(userId);
+        if (record == null) {
+            return new ArrayList<>();
+        }
+
+        Comparator<Record.InterviewRecord> order = Comparator
+                .comparing(Record.InterviewRecord::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Record.InterviewRecord::getInterviewRecordId,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<Record.InterviewRecord> direction = ascending ? order : order.reversed();
+
+        Record.InterviewRecord position = null;
+        if (cursor != null) {
+            position = new Record.InterviewRecord();
+            position.setUpdatedAt(cursor.getUpdatedAt());
+            position.setInterviewRecordId(cursor.getInterviewRecordId());
+        }
+        Record.InterviewRecord after = position;
+
+        return interviews(record).stream()
+                .filter(interviewRecord -> category == null || category.equals(interviewRecord.getCategory()))
+                .filter(interviewRecord -> enterpriseName == null
+                        || enterpriseName.equals(interviewRecord.getEnterpriseName()))
+                .filter(interviewRecord -> after == null || direction.compare(interviewRecord, after) > 0)
+                .sorted(direction)
+                .limit(limit)
+                .map(recordMapper::toInterviewRecordSidebarDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<InterviewRecordResponseDTO> findInterviewRecordPage(String userId, String interviewRecordId,
+            int skip, int limit) {
+        return Optional.ofNullable(snapshot(userId))
+                .map(record -> record.findInterviewRecord(interviewRecordId))
+                .map(interviewRecord -> recordMapper.toInterviewRecordPageResponse(interviewRecord, skip, limit));
+    }
+
+    @Override
+    public Optional<Long> findInterviewRecordVersion(String userId, String interviewRecordId) {
+        return Optional.ofNullable(snapshot(userId))
+                .filter(record -> record.findInterviewRecord(interviewRecordId) != null)
+                .map(InMemoryRecordRepository::versionOf);
+    }
+
+    @Override
+    public Optional<Long> findVersion(String userId) {
+        return Optional.ofNullable(snapshot(userId)).map(InMemoryRecordRepository::versionOf);
+    }
+
+    @Override
+    public Optional<RecordOutline> findOutline(String userId) {
+        return Optional.ofNullable(snapshot(userId)).map(record -> {
+            List<RecordOutline.InterviewOutline> interviews = new ArrayList<>();
+            for (Record.InterviewRecord interviewRecord : interviews(record)) {
+                interviews.add(outline(interviewRecord));
+            }
+            RecordOutline outline = new RecordOutline();
+            outline.setVersion(record.getVersion());
+            outline.setRecords(interviews);
+            return outline;
+        });
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> findInterviewOutline(String userId, String interviewRecordId) {
+        return Optional.ofNullable(snapshot(userId))
+                .map(record -> record.findInterviewRecord(interviewRecordId))
+                .map(InMemoryRecordRepository::detailOutline);
+    }
+
+    @Override
+    public int applyBatch(String userId, Long expectedVersion, List<RecordBatchOperationDTO> operations,
+            Date updatedAt) {
+        simulateLatency();
+        int[] applied = new int[1];
+
+        // MongoDB 구현과 같이 모든 작업을 버전 조건이 걸린 하나의 쓰기로 적용하므로, 작업은 모두 적용되거나 모두 적용되지 않음
+        documents.computeIfPresent(userId, (key, current) -> {
+            if (!Objects.equals(current.getVersion(), expectedVersion)) {
+                return current;
+            }
+            Record next = copy(current);
+            List<RecordChangeEvent> events = new ArrayList<>(operations.size());
+            for (RecordBatchOperationDTO operation : operations) {
+                if (!apply(next, operation, updatedAt)) {
+                    return current;
+                }
+                events.add(batchEvent(next, operation, updatedAt));
+            }
+            next.setVersion(versionOf(current) + 1);
+            appendEvents(key, events);
+            applied[0] = operations.size();
+            return next;
+        });
+        return applied[0];
+    }
+
+    @Override
+    public List<RecordSearchMatch> searchDetails(String userId, String pattern, int skip, int limit) {
+        Record record = snapshot(userId);
+        List<RecordSearchMatch> matches = new ArrayList<>();
+        if (record == null || limit <= 0) {
+            return matches;
+        }
+
+        Pattern compiled = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        int skipped = 0;
+        for (Record.InterviewRecord interviewRecord : interviews(record)) {
+            boolean enterpriseMatched = matches(compiled, interviewRecord.getEnterpriseName());
+            List<Record.RecordDetail> details = details(interviewRecord);
+
+            // 세부 항목이 없는 인터뷰 기록은 기업명으로만 일치 여부를 판정 (preserveNullAndEmptyArrays와 같음)
+            if (details.isEmpty()) {
+                if (enterpriseMatched && skipped++ >= skip) {
+                    matches.add(toSearchMatch(interviewRecord, null, null));
+                }
+            }
+            for (int i = 0; i < details.size() && matches.size() < limit; i++) {
+                Record.RecordDetail detail = details.get(i);
+                if ((enterpriseMatched || matches(compiled, detail.getQuestion())
+                        || matches(compiled, detail.getAnswer())) && skipped++ >= skip) {
+                    matches.add(toSearchMatch(interviewRecord, i, detail));
+                }
+            }
+            if (matches.size() >= limit) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public Stream<RecordExportEntry> streamExportByUserId(String userId, int batchSize) {
+        Record record = snapshot(userId);
+        return record == null ? Stream.empty() : exportEntries(record);
+    }
+
+    @Override
+    public Stream<RecordExportEntry> streamExportAll(int batchSize) {
+        simulateLatency();
+        // 커서와 같이 스트림을 소비하는 시점의 문서를 사용자 ID 순으로 읽음
+        return documents.keySet().stream()
+                .sorted()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .flatMap(this::exportEntries);
+    }
+
+    @Override
+    public void incrementStats(String userId, RecordStatsDelta delta, Date updatedAt) {
+        simulateLatency();
+        if (delta.isEmpty()) {
+            return;
+        }
+        // MongoDB 구현과 같이 요약 문서가 없으면 반영하지 않음
+        stats.computeIfPresent(userId, (key, current) -> apply(copy(current), delta, updatedAt));
+    }
+
+    @Override
+    public Optional<RecordStats> findStats(String userId) {
+        simulateLatency();
+        return Optional.ofNullable(stats.get(userId)).map(InMemoryRecordRepository::copy);
+    }
+
+    @Override
+    public void rebuildStats(String userId) {
+        Record record = snapshot(userId);
+        if (record != null) {
+            stats.put(userId, statsOf(record));
+        }
+    }
+
+    @Override
+    public void rebuildAllStats() {
+        simulateLatency();
+        documents.forEach((userId, record) -> stats.put(userId, statsOf(record)));
+    }
+
+    @Override
+    public List<RecordChangeEvent> findOutboxEvents(int limit) {
+        simulateLatency();
+        List<RecordChangeEvent> events = new ArrayList<>();
+        for (List<RecordChangeEvent> pending : outbox.values()) {
+            for (RecordChangeEvent event : pending) {
+                if (events.size() == limit) {
+                    return events;
+                }
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public void removeOutboxEvents(String userId, List<String> eventIds) {
+        simulateLatency();
+        Set<String> removed = Set.copyOf(eventIds);
+        outbox.computeIfPresent(userId, (key, pending) -> {
+            List<RecordChangeEvent> remaining = pending.stream()
+                    .filter(event -> !removed.contains(event.getEventId()))
+                    .toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    @Override
+    public boolean acquireLease(String name, String owner, Duration duration) {
+        simulateLatency();
+        long now = System.nanoTime();
+        Lease lease = leases.compute(name, (key, current) -> current == null || current.owner().equals(owner)
+                || current.expiresAt() - now < 0 ? new Lease(owner, now + duration.toNanos()) : current);
+        return lease.owner().equals(owner);
+    }
+
+    /**
+     * 문서 전체를 저장합니다. 버전이 없는 문서는 새로 추가하고, 버전이 있는 문서는 저장된 버전과 같을 때만 교체합니다.
+     */
+    private <S extends Record> S doSave(S entity) {
+        String userId = idOf(entity);
+        Record stored = documents.compute(userId, (key, current) -> {
+            if (entity.getVersion() == null && current != null) {
+                throw new DuplicateKeyException("Record already exists: " + key);
+            }
+            if (entity.getVersion() != null && (current == null || versionOf(current) != entity.getVersion())) {
+                throw new OptimisticLockingFailureException("Record version mismatch: " + key);
+            }
+            Record next = copy(entity);
+            next.setUserId(key);
+            next.setVersion(entity.getVersion() == null ? 0L : entity.getVersion() + 1);
+            return next;
+        });
+
+        entity.setUserId(userId);
+        entity.setVersion(stored.getVersion());
+        return entity;
+    }
+
+    private <S extends Record> S doInsert(S entity) {
+        String userId = idOf(entity);
+        Record stored = copy(entity);
+        stored.setUserId(userId);
+        stored.setVersion(entity.getVersion() == null ? 0L : entity.getVersion());
+        if (documents.putIfAbsent(userId, stored) != null) {
+            throw new DuplicateKeyException("Record already exists: " + userId);
+        }
+
+        entity.setUserId(userId);
+        entity.setVersion(stored.getVersion());
+        return entity;
+    }
+
+    /**
+     * 문서를 삭제합니다. 버전이 있는 문서는 저장된 버전과 같을 때만 삭제합니다.
+     */
+    private void doDelete(Record entity) {
+        if (entity.getVersion() == null) {
+            documents.remove(entity.getUserId());
+            return;
+        }
+        boolean[] deleted = new boolean[1];
+        documents.computeIfPresent(entity.getUserId(), (key, current) -> {
+            deleted[0] = versionOf(current) == entity.getVersion();
+            return deleted[0] ? null : current;
+        });
+        if (!deleted[0]) {
+            throw new OptimisticLockingFailureException("Record version mismatch: " + entity.getUserId());
+        }
+    }
+
+    private boolean update(String userId, RecordChangeEvent event, Predicate<Record> mutation) {
+        return update(userId, List.of(event), mutation);
+    }
+
+    /**
+     * 사용자 문서를 복사하여 변경을 적용하고, 변경이 적용된 경우에만 버전을 1 증가시켜 교체하며 변경 이벤트를 outbox에 추가합니다.
+     *
+     * @return 변경 적용 여부 (사용자 문서가 없으면 false)
+     */
+    private boolean update(String userId, List<RecordChangeEvent> events, Predicate<Record> mutation) {
+        simulateLatency();
+        boolean[] applied = new boolean[1];
+        documents.computeIfPresent(userId, (key, current) -> {
+            Record next = copy(current);
+            applied[0] = mutation.test(next);
+            if (!applied[0]) {
+                return current;
+            }
+            next.setVersion(versionOf(current) + 1);
+            appendEvents(key, events);
+            return next;
+        });
+        return applied[0];
+    }
+
+    /**
+     * {@link #update}와 같이 변경을 적용하고, 변경이 적용된 경우 대상 인터뷰 기록의 변경 직전 구조 정보를 반환합니다.
+     * MongoDB 구현의 findOneAndUpdate와 같이 변경과 같은 compute 안에서 읽습니다.
+     */
+    private Optional<RecordOutline.InterviewOutline> updateForOutline(String userId, RecordChangeEvent event,
+            String interviewRecordId, Predicate<Record> mutation) {
+        List<RecordOutline.InterviewOutline> before = new ArrayList<>(1);
+        update(userId, event, record -> {
+            Record.InterviewRecord target = record.findInterviewRecord(interviewRecordId);
+            RecordOutline.InterviewOutline previous = target == null ? null : detailOutline(target);
+            if (previous == null || !mutation.test(record)) {
+                return false;
+            }
+            before.add(previous);
+            return true;
+        });
+        return before.stream().findFirst();
+    }
+
+    /**
+     * outbox가 활성화되어 있으면 사용자의 outbox 끝에 변경 이벤트를 추가합니다.
+     * 사용자 문서를 교체하는 compute 안에서 호출하므로 같은 사용자의 이벤트는 쓰기 순서대로 추가됩니다.
+     */
+    private void appendEvents(String userId, List<RecordChangeEvent> events) {
+        if (!outboxProperties.isEnabled() || events.isEmpty()) {
+            return;
+        }
+        events.forEach(event -> event.setUserId(userId));
+        // MongoDB 구현의 $slice와 같이 최근 maxEvents개만 남김
+        int maxEvents = outboxProperties.getMaxEvents();
+        outbox.merge(userId, List.copyOf(events), (pending, added) -> {
+            List<RecordChangeEvent> merged = Stream.concat(pending.stream(), added.stream()).toList();
+            return merged.size() > maxEvents
+                    ? List.copyOf(merged.subList(merged.size() - maxEvents, merged.size()))
+                    : merged;
+        });
+    }
+
+    /**
+     * 적용된 일괄 작업 하나의 변경 이벤트를 생성합니다. 세부 항목 추가는 마지막에 추가된 세부 항목의 ID를 담습니다.
+     */
+    private static RecordChangeEvent batchEvent(Record record, RecordBatchOperationDTO operation, Date updatedAt) {
+        String interviewRecordId = operation.getInterviewRecordId();
+
+        switch (operation.getType()) {
+            case UPDATE_INTERVIEW:
+                return RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId, updatedAt);
+            case DELETE_INTERVIEW:
+                return RecordChangeEvent.of(RecordChangeType.INTERVIEW_DELETED, interviewRecordId, updatedAt);
+            case CREATE_DETAIL:
+                List<Record.RecordDetail> details = record.findInterviewRecord(interviewRecordId).getDetails();
+                return RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_CREATED, interviewRecordId,
+                        details.get(details.size() - 1).getDetailId(), updatedAt);
+            case UPDATE_DETAIL:
+                return RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                        operation.getDetailIndex(), updatedAt);
+            case DELETE_DETAIL:
+                return RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_DELETED, interviewRecordId,
+                        operation.getDetailIndex(), updatedAt);
+            default:
+                throw new IllegalArgumentException("Unsupported batch operation: " + operation.getType());
+        }
+    }
+
+    /**
+     * 저장소 호출 한 번의 지연 시간을 적용한 뒤 저장된 문서를 반환합니다. 반환된 문서는 변경하면 안 됩니다.
+     */
+    private Record snapshot(String userId) {
+        simulateLatency();
+        return documents.get(userId);
+    }
+
+    private void simulateLatency() {
+        long nanos = properties.getLatency().toNanos();
+        long jitter = properties.getLatencyJitter().toNanos();
+        if (jitter > 0) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 정렬 조건에 따라 저장된 문서 목록을 반환합니다. 사용자 ID 이외의 정렬은 지원하지 않습니다.
+     */
+    private List<Record> sorted(Sort sort) {
+        List<String> userIds = new ArrayList<>(documents.keySet());
+        Collections.sort(userIds);
+        for (Sort.Order order : sort) {
+            if (!"userId".equals(order.getProperty()) && !"_id".equals(order.getProperty())) {
+                throw new UnsupportedOperationException(
+                        "In-memory record repository only sorts by userId: " + order.getProperty());
+            }
+            if (order.isDescending()) {
+                Collections.reverse(userIds);
+            }
+        }
+        return userIds.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Stream<RecordExportEntry> exportEntries(Record record) {
+        return interviews(record).stream().map(interviewRecord -> {
+            RecordExportEntry entry = new RecordExportEntry();
+            entry.setUserId(record.getUserId());
+            entry.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+            entry.setEnterpriseName(interviewRecord.getEnterpriseName());
+            entry.setCategory(interviewRecord.getCategory());
+            entry.setCreatedAt(interviewRecord.getCreatedAt());
+            entry.setUpdatedAt(interviewRecord.getUpdatedAt());
+            entry.setDetails(copy(interviewRecord).getDetails());
+            return entry;
+        });
+    }
+
+    /**
+     * 일괄 작업 하나를 문서에 적용합니다.
+     *
+     * @return 대상이 존재하여 적용되었는지 여부
+     */
+    private static boolean apply(Record record, RecordBatchOperationDTO operation, Date updatedAt) {
+        String interviewRecordId = operation.getInterviewRecordId();
+
+        switch (operation.getType()) {
+            case UPDATE_INTERVIEW:
+                return updateInterview(record, interviewRecordId, operation.getEnterpriseName(),
+                        operation.getCategory(), updatedAt);
+            case DELETE_INTERVIEW:
+                return pullInterview(record, interviewRecordId);
+            case CREATE_DETAIL:
+                Record.RecordDetail created = toRecordDetail(operation);
+                created.setDetailId(Record.RecordDetail.newDetailId());
+                created.setCreatedAt(updatedAt);
+                return pushDetails(record, interviewRecordId, List.of(created), updatedAt);
+            case UPDATE_DETAIL:
+                return updateDetail(record, interviewRecordId, operation.getDetailIndex(), toRecordDetail(operation),
+                        updatedAt);
+            case DELETE_DETAIL:
+                return removeDetail(record, interviewRecordId, operation.getDetailIndex(), updatedAt);
+            default:
+                throw new IllegalArgumentException("Unsupported batch operation: " + operation.getType());
+        }
+    }
+
+    private static boolean updateInterview(Record record, String interviewRecordId, String enterpriseName,
+            String category, Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        if (interviewRecord == null) {
+            return false;
+        }
+        interviewRecord.setEnterpriseName(enterpriseName);
+        interviewRecord.setCategory(category);
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean pullInterview(Record record, String interviewRecordId) {
+        return record.getRecords()
+                .removeIf(interviewRecord -> interviewRecordId.equals(interviewRecord.getInterviewRecordId()));
+    }
+
+    private static boolean pushDetails(Record record, String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        if (interviewRecord == null) {
+            return false;
+        }
+        for (Record.RecordDetail detail : details) {
+            interviewRecord.getDetails().add(copy(detail));
+        }
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean updateDetail(Record record, String interviewRecordId, Integer detailIndex,
+            Record.RecordDetail detail, Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        if (interviewRecord == null || !hasDetail(interviewRecord, detailIndex)) {
+            return false;
+        }
+        // 질문과 답변만 변경하고 세부 항목 ID는 유지
+        Record.RecordDetail target = interviewRecord.getDetails().get(detailIndex);
+        target.setQuestion(detail.getQuestion());
+        target.setAnswer(detail.getAnswer());
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean updateDetailById(Record record, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        Record.RecordDetail target = interviewRecord == null ? null : findDetail(interviewRecord, detailId);
+        if (target == null) {
+            return false;
+        }
+        target.setQuestion(detail.getQuestion());
+        target.setAnswer(detail.getAnswer());
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean removeDetailById(Record record, String interviewRecordId, String detailId,
+            Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        if (interviewRecord == null || findDetail(interviewRecord, detailId) == null) {
+            return false;
+        }
+        interviewRecord.getDetails().removeIf(detail -> detailId.equals(detail.getDetailId()));
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean patchInterview(Record record, String interviewRecordId, RecordPatch patch,
+            Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        if (interviewRecord == null) {
+            return false;
+        }
+        patch.getSet().forEach((field, value) -> setInterviewField(interviewRecord, field, (String) value));
+        patch.getUnset().forEach(field -> setInterviewField(interviewRecord, field, null));
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean patchDetail(Record record, String interviewRecordId, String detailId, RecordPatch patch,
+            Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        Record.RecordDetail target = interviewRecord == null ? null : findDetail(interviewRecord, detailId);
+        if (target == null) {
+            return false;
+        }
+        patch.getSet().forEach((field, value) -> setDetailField(target, field, (String) value));
+        patch.getUnset().forEach(field -> setDetailField(target, field, null));
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static void setInterviewField(Record.InterviewRecord interviewRecord, String field, String value) {
+        switch (field) {
+            case "enterpriseName":
+                interviewRecord.setEnterpriseName(value);
+                break;
+            case "category":
+                interviewRecord.setCategory(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported interview record field: " + field);
+        }
+    }
+
+    private static void setDetailField(Record.RecordDetail detail, String field, String value) {
+        switch (field) {
+            case "question":
+                detail.setQuestion(value);
+                break;
+            case "answer":
+                detail.setAnswer(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported record detail field: " + field);
+        }
+    }
+
+    private static Record.RecordDetail findDetail(Record.InterviewRecord interviewRecord, String detailId) {
+        for (Record.RecordDetail detail : details(interviewRecord)) {
+            if (detailId.equals(detail.getDetailId())) {
+                return detail;
+            }
+        }
+        return null;
+    }
+
+    private static boolean removeDetail(Record record, String interviewRecordId, Integer detailIndex,
+            Date updatedAt) {
+        Record.InterviewRecord interviewRecord = record.findInterviewRecord(interviewRecordId);
+        if (interviewRecord == null || !hasDetail(interviewRecord, detailIndex)) {
+            return false;
+        }
+        interviewRecord.getDetails().remove(detailIndex.intValue());
+        interviewRecord.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    private static boolean hasDetail(Record.InterviewRecord interviewRecord, Integer detailIndex) {
+        return detailIndex != null && detailIndex >= 0 && detailIndex < details(interviewRecord).size();
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return value != null && pattern.matcher(value).find();
+    }
+
+    private static RecordSearchMatch toSearchMatch(Record.InterviewRecord interviewRecord, Integer detailIndex,
+            Record.RecordDetail detail) {
+        RecordSearchMatch match = new RecordSearchMatch();
+        match.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+        match.setEnterpriseName(interviewRecord.getEnterpriseName());
+        match.setCategory(interviewRecord.getCategory());
+        match.setDetailIndex(detailIndex);
+        if (detail != null) {
+            match.setDetailId(detail.getDetailId());
+            match.setQuestion(detail.getQuestion());
+            match.setAnswer(detail.getAnswer());
+        }
+        return match;
+    }
+
+    /**
+     * 인터뷰 기록 구조 정보에 세부 항목 ID와 생성 시각 목록까지 채워 반환합니다.
+     */
+    private static RecordOutline.InterviewOutline detailOutline(Record.InterviewRecord interviewRecord) {
+        RecordOutline.InterviewOutline interview = outline(interviewRecord);
+        interview.setDetailIds(details(interviewRecord).stream()
+                .map(Record.RecordDetail::getDetailId)
+                .collect(Collectors.toList()));
+        interview.setDetailCreatedAts(details(interviewRecord).stream()
+                .map(Record.RecordDetail::getCreatedAt)
+                .collect(Collectors.toList()));
+        return interview;
+    }
+
+    private static RecordOutline.InterviewOutline outline(Record.InterviewRecord interviewRecord) {
+        RecordOutline.InterviewOutline interview = new RecordOutline.InterviewOutline();
+        interview.setInterviewRecordId(interviewRecord.getInterviewRecordId());
+        interview.setEnterpriseName(interviewRecord.getEnterpriseName());
+        interview.setCategory(interviewRecord.getCategory());
+        interview.setCreatedAt(interviewRecord.getCreatedAt());
+        interview.setDetailCount(details(interviewRecord).size());
+        return interview;
+    }
+
+    /**
+     * 재구성 집계 파이프라인과 같이 사용자 문서에 남아 있는 인터뷰 기록과 세부 항목으로 요약을 계산합니다.
+     */
+    private static RecordStats statsOf(Record record) {
+        RecordStatsDelta delta = new RecordStatsDelta();
+        for (Record.InterviewRecord interviewRecord : interviews(record)) {
+            delta.interview(1, interviewRecord.getCategory(), interviewRecord.getEnterpriseName(),
+                    interviewRecord.getCreatedAt());
+            for (Record.RecordDetail detail : details(interviewRecord)) {
+                delta.detail(1, RecordStats.detailDay(detail.getCreatedAt(), detail.getDetailId()));
+            }
+        }
+        RecordStats summary = new RecordStats();
+        summary.setUserId(record.getUserId());
+        return apply(summary, delta, new Date());
+    }
+
+    private static RecordStats apply(RecordStats summary, RecordStatsDelta delta, Date updatedAt) {
+        summary.setInterviews(summary.getInterviews() + delta.getInterviews());
+        summary.setDetails(summary.getDetails() + delta.getDetails());
+        delta.getCategories().forEach((key, count) -> summary.getCategories().merge(key, count, Long::sum));
+        delta.getEnterprises().forEach((key, count) -> summary.getEnterprises().merge(key, count, Long::sum));
+        delta.getInterviewsByDay().forEach((day, count) -> {
+            RecordStats.DailyActivity daily = summary.getActivity().computeIfAbsent(day,
+                    key -> new RecordStats.DailyActivity());
+            daily.setInterviews(daily.getInterviews() + count);
+        });
+        delta.getDetailsByDay().forEach((day, count) -> {
+            RecordStats.DailyActivity daily = summary.getActivity().computeIfAbsent(day,
+                    key -> new RecordStats.DailyActivity());
+            daily.setDetails(daily.getDetails() + count);
+        });
+        summary.setUpdatedAt(updatedAt);
+        return summary;
+    }
+
+    private static List<Record.InterviewRecord> interviews(Record record) {
+        return record.getRecords() == null ? List.of() : record.getRecords();
+    }
+
+    private static List<Record.RecordDetail> details(Record.InterviewRecord interviewRecord) {
+        return interviewRecord.getDetails() == null ? List.of() : interviewRecord.getDetails();
+    }
+
+    /**
+     * 버전 필드가 도입되기 전에 저장된 문서는 0으로 취급합니다.
+     */
+    private static long versionOf(Record record) {
+        return record == null || record.getVersion() == null ? 0L : record.getVersion();
+    }
+
+    private static String idOf(Record entity) {
+        // MongoDB와 같이 ID가 없는 문서에는 ObjectId를 생성
+        return entity.getUserId() == null ? new ObjectId().toHexString() : entity.getUserId();
+    }
+
+    private static Record newRecord(String userId) {
+        Record record = new Record();
+        record.setUserId(userId);
+        record.setRecords(new ArrayList<>());
+        return record;
+    }
+
+    private static Record copy(Record source) {
+        Record record = newRecord(source.getUserId());
+        record.setVersion(source.getVersion());
+        for (Record.InterviewRecord interviewRecord : interviews(source)) {
+            record.getRecords().add(copy(interviewRecord));
+        }
+        return record;
+    }
+
+    private static Record.InterviewRecord copy(Record.InterviewRecord source) {
+        Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
+        interviewRecord.setInterviewRecordId(source.getInterviewRecordId());
+        interviewRecord.setEnterpriseName(source.getEnterpriseName());
+        interviewRecord.setCategory(source.getCategory());
+        interviewRecord.setCreatedAt(source.getCreatedAt());
+        interviewRecord.setUpdatedAt(source.getUpdatedAt());
+        List<Record.RecordDetail> details = new ArrayList<>();
+        for (Record.RecordDetail detail : details(source)) {
+            details.add(copy(detail));
+        }
+        interviewRecord.setDetails(details);
+        return interviewRecord;
+    }
+
+    private static Record.RecordDetail copy(Record.RecordDetail source) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(source.getDetailId());
+        detail.setQuestion(source.getQuestion());
+        detail.setAnswer(source.getAnswer());
+        detail.setCreatedAt(source.getCreatedAt());
+        return detail;
+    }
+
+    private static RecordStats copy(RecordStats source) {
+        RecordStats summary = new RecordStats();
+        summary.setUserId(source.getUserId());
+        summary.setInterviews(source.getInterviews());
+        summary.setDetails(source.getDetails());
+        summary.getCategories().putAll(source.getCategories());
+        summary.getEnterprises().putAll(source.getEnterprises());
+        source.getActivity().forEach((day, activity) -> {
+            RecordStats.DailyActivity daily = new RecordStats.DailyActivity();
+            daily.setInterviews(activity.getInterviews());
+            daily.setDetails(activity.getDetails());
+            summary.getActivity().put(day, daily);
+        });
+        summary.setUpdatedAt(source.getUpdatedAt());
+        return summary;
+    }
+
+    private static Record.RecordDetail toRecordDetail(RecordBatchOperationDTO operation) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setQuestion(operation.getQuestion());
+        detail.setAnswer(operation.getAnswer());
+        return detail;
+    }
+
+    private static UnsupportedOperationException unsupportedExample() {
+        return new UnsupportedOperationException(
+                "Query by example is not supported by the in-memory record repository");
+    }
+
+    /**
+     * 임대 하나의 소유자와 만료 시각({@link System#nanoTime()} 기준)입니다.
+     */
+    private record Lease(String owner, long expiresAt) {
+    }
+}
@@ -0,0 +1,239 @@
+package pickme.record.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.model.InterviewRecordDocument;
+import pickme.record.model.Record;
+import pickme.record.model.RecordExportEntry;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * InterviewRecordDocumentCustomRepository는 인터뷰 기록 문서 단위의 원자적 업데이트와
+ * 프로젝션 조회를 수행하는 리포지토리 인터페이스입니다.
+ *
+ * <p>
+ * 모든 작업은 (userId, interviewRecordId)로 문서를 지정하므로,
+ * 다른 사용자의 인터뷰 기록에는 접근하지 않습니다.
+ * </p>
+ */
+public interface InterviewRecordDocumentCustomRepository {
+
+    /**
+     * 인터뷰 기록의 기업명과 카테고리를 업데이트합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param enterpriseName    새로운 기업명
+     * @param category          새로운 카테고리
+     * @param updatedAt         수정 시각
+     * @return 업데이트된 인터뷰 기록 문서, 대상이 없으면 빈 Optional
+     */
+    Optional<InterviewRecordDocument> updateInterviewRecord(String userId, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt);
+
+    /**
+     * 인터뷰 기록 문서를 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 삭제 여부
+     */
+    boolean deleteInterviewRecord(String userId, String interviewRecordId);
+
+    /**
+     * 인터뷰 기록에 질문/답변 세부 항목을 추가합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detail            추가할 세부 항목
+     * @param updatedAt         수정 시각
+     * @return 추가 여부
+     */
+    boolean pushRecordDetail(String userId, String interviewRecordId, Record.RecordDetail detail, Date updatedAt);
+
+    /**
+     * 인터뷰 기록에 여러 질문/답변 세부 항목을 순서대로 한 번에 추가합니다 ($push + $each).
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param details           추가할 세부 항목 목록
+     * @param updatedAt         수정 시각
+     * @return 추가 여부
+     */
+    boolean pushRecordDetails(String userId, String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt);
+
+    /**
+     * 인덱스로 지정한 세부 항목의 질문과 답변을 업데이트합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 항목 인덱스
+     * @param detail            새로운 질문과 답변
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            Record.RecordDetail detail, Date updatedAt);
+
+    /**
+     * 인덱스로 지정한 세부 항목을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 항목 인덱스
+     * @param updatedAt         수정 시각
+     * @return 삭제 여부
+     */
+    boolean removeRecordDetail(String userId, String interviewRecordId, int detailIndex, Date updatedAt);
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목의 질문과 답변을 업데이트합니다 (arrayFilters).
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param detail            새로운 질문과 답변
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt);
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목을 삭제합니다 ($pull).
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param updatedAt         수정 시각
+     * @return 삭제 여부
+     */
+    boolean removeRecordDetailById(String userId, String interviewRecordId, String detailId, Date updatedAt);
+
+    /**
+     * 인터뷰 기록 문서에서 병합 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             변경할 필드 목록
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean patchInterviewRecord(String userId, String interviewRecordId, RecordPatch patch, Date updatedAt);
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목에서 병합 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             변경할 필드 목록
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, RecordPatch patch,
+            Date updatedAt);
+
+    /**
+     * 사이드바에 필요한 필드만 프로젝션하여 (updatedAt, interviewRecordId) 순서로 한 페이지를 조회합니다.
+     * userId + updatedAt + _id 인덱스를 따라 커서 이후의 항목만 읽습니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지의 마지막 항목 위치, 첫 페이지이면 null
+     * @param ascending      updatedAt 오름차순 여부 (false이면 최근 수정 순)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @param limit          가져올 항목 수
+     * @return 사이드바 데이터 목록
+     */
+    List<InterviewRecordSidebarDTO> findSidebarPage(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit);
+
+    /**
+     * 인터뷰 기록 문서의 버전만 조회합니다. 조건부 조회(ETag) 판단에 사용합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 문서 버전, 대상이 없으면 빈 Optional
+     */
+    Optional<Long> findVersion(String userId, String interviewRecordId);
+
+    /**
+     * 사용자의 인터뷰 기록 문서 중 가장 최근 수정 시각을 조회합니다.
+     * userId + updatedAt 인덱스의 첫 번째 항목만 읽습니다.
+     *
+     * @param userId 사용자 ID
+     * @return 가장 최근 수정 시각, 문서가 없으면 빈 Optional
+     */
+    Optional<Date> findLatestUpdatedAt(String userId);
+
+    /**
+     * 인터뷰 기록 하나를 조회하되, 세부 항목은 요청한 범위만 $slice로 잘라서 가져옵니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param skip              건너뛸 세부 항목 수
+     * @param limit             가져올 세부 항목 수 (1 이상)
+     * @return 페이징된 인터뷰 기록, 대상이 없으면 빈 Optional
+     */
+    Optional<InterviewRecordResponseDTO> findInterviewRecordPage(String userId, String interviewRecordId,
+            int skip, int limit);
+
+    /**
+     * 사용자의 기록에서 질문/답변/기업명이 패턴과 일치하는 세부 항목을 조회합니다.
+     * 패턴은 부분 문자열로 일치하므로 한국어 활용형(조사, 어미가 붙은 단어)도 찾을 수 있습니다.
+     *
+     * @param userId  사용자 ID
+     * @param pattern 세부 항목 일치 판정에 사용할 정규식 (대소문자 무시)
+     * @param skip    건너뛸 결과 수
+     * @param limit   가져올 결과 수
+     * @return 일치한 세부 항목 목록 (인터뷰 기록 생성 순서, 세부 항목 인덱스 순)
+     */
+    List<RecordSearchMatch> searchDetails(String userId, String pattern, int skip, int limit);
+
+    /**
+     * 사용자의 인터뷰 기록 문서를 주어진 문서 목록과 일치시킵니다.
+     * 목록에 있는 문서는 교체(upsert)하고, 목록에 없는 기존 문서는 삭제합니다.
+     *
+     * @param userId    사용자 ID
+     * @param documents 사용자의 전체 인터뷰 기록 문서
+     */
+    void replaceAllForUser(String userId, List<InterviewRecordDocument> documents);
+
+    /**
+     * 사용자의 인터뷰 기록을 세부 항목과 함께 한 건씩 읽는 커서 기반 스트림을 반환합니다.
+     * 반환된 스트림은 사용 후 반드시 닫아야 합니다.
+     *
+     * @param userId    사용자 ID
+     * @param batchSize 커서가 한 번에 가져올 문서 수
+     * @return 인터뷰 기록 스트림
+     */
+    Stream<RecordExportEntry> streamExportByUserId(String userId, int batchSize);
+
+    /**
+     * 전체 사용자의 인터뷰 기록을 사용자 ID 순으로 한 건씩 읽는 커서 기반 스트림을 반환합니다.
+     * 반환된 스트림은 사용 후 반드시 닫아야 합니다.
+     *
+     * @param batchSize 커서가 한 번에 가져올 문서 수
+     * @return 인터뷰 기록 스트림
+     */
+    Stream<RecordExportEntry> streamExportAll(int batchSize);
+
+    /**
+     * 사용자의 인터뷰 기록 문서를 집계하여 통계 요약을 계산합니다.
+     * 요약 문서를 따로 유지하지 않으므로 userId 인덱스로 사용자의 문서를 모두 읽으며, 세부 항목은 ID만 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 통계 요약, 인터뷰 기록이 없으면 빈 Optional
+     */
+    Optional<RecordStats> computeStats(String userId);
+}
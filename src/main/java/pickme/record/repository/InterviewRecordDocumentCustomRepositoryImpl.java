@@ -0,0 +1,406 @@
+package pickme.record.repository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.result.UpdateResult;
+
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.model.InterviewRecordDocument;
+import pickme.record.model.Record;
+import pickme.record.model.RecordExportEntry;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * InterviewRecordDocumentCustomRepository의 MongoTemplate 기반 구현체입니다.
+ *
+ * <p>
+ * 인터뷰 기록 문서는 {@code _id}(= interviewRecordId)와 {@code userId}를 함께 조건으로 지정하며,
+ * 모든 쓰기는 해당 문서 하나에 대한 단일 업데이트로 수행됩니다.
+ * </p>
+ */
+public class InterviewRecordDocumentCustomRepositoryImpl implements InterviewRecordDocumentCustomRepository {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RecordAnswerCompressor recordAnswerCompressor;
+
+    @Override
+    public Optional<InterviewRecordDocument> updateInterviewRecord(String userId, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt) {
+        Update update = new Update()
+                .set("enterpriseName", enterpriseName)
+                .set("category", category)
+                .set("updatedAt", updatedAt)
+                .inc("version", 1L);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(interviewQuery(userId, interviewRecordId), update,
+                FindAndModifyOptions.options().returnNew(true), InterviewRecordDocument.class));
+    }
+
+    @Override
+    public boolean deleteInterviewRecord(String userId, String interviewRecordId) {
+        return mongoTemplate.remove(interviewQuery(userId, interviewRecordId), InterviewRecordDocument.class)
+                .getDeletedCount() > 0;
+    }
+
+    @Override
+    public boolean pushRecordDetail(String userId, String interviewRecordId, Record.RecordDetail detail,
+            Date updatedAt) {
+        return pushRecordDetails(userId, interviewRecordId, List.of(detail), updatedAt);
+    }
+
+    @Override
+    public boolean pushRecordDetails(String userId, String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt) {
+        recordAnswerCompressor.compress(details);
+        Update update = new Update()
+                .push("details").each(details.stream().map(this::toDocument).toArray())
+                .set("updatedAt", updatedAt)
+                .inc("version", 1L);
+
+        return mongoTemplate.updateFirst(interviewQuery(userId, interviewRecordId), update,
+                InterviewRecordDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            Record.RecordDetail detail, Date updatedAt) {
+        recordAnswerCompressor.compress(detail);
+        String detailPath = "details." + detailIndex;
+        Update update = new Update()
+                .set(detailPath + ".question", detail.getQuestion())
+                .set(detailPath + ".answer", detail.storedAnswer())
+                .set("updatedAt", updatedAt)
+                .inc("version", 1L);
+
+        return mongoTemplate.updateFirst(detailQuery(userId, interviewRecordId, detailIndex), update,
+                InterviewRecordDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean removeRecordDetail(String userId, String interviewRecordId, int detailIndex, Date updatedAt) {
+        // 해당 인덱스만 제외한 details 배열을 서버에서 재구성
+        Document details = new Document("$map", new Document()
+                .append("input", new Document("$filter", new Document()
+                        .append("input", new Document("$range", List.of(0, new Document("$size", "$details"))))
+                        .append("as", "i")
+                        .append("cond", new Document("$ne", List.of("$$i", detailIndex)))))
+                .append("as", "i")
+                .append("in", new Document("$arrayElemAt", List.of("$details", "$$i"))));
+
+        UpdateResult result = collection().updateOne(
+                detailQuery(userId, interviewRecordId, detailIndex).getQueryObject(),
+                List.of(new Document("$set", new Document()
+                        .append("details", details)
+                        .append("updatedAt", updatedAt)
+                        .append("version", new Document("$add",
+                                List.of(new Document("$ifNull", List.of("$version", 0L)), 1L))))));
+
+        return result.getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt) {
+        recordAnswerCompressor.compress(detail);
+        Update update = new Update()
+                .set("details.$[d].question", detail.getQuestion())
+                .set("details.$[d].answer", detail.storedAnswer())
+                .set("updatedAt", updatedAt)
+                .inc("version", 1L)
+                .filterArray(Criteria.where("d.detailId").is(detailId));
+
+        return mongoTemplate.updateFirst(detailIdQuery(userId, interviewRecordId, detailId), update,
+                InterviewRecordDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean removeRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Date updatedAt) {
+        Update update = new Update()
+                .pull("details", new Document("detailId", detailId))
+                .set("updatedAt", updatedAt)
+                .inc("version", 1L);
+
+        return mongoTemplate.updateFirst(detailIdQuery(userId, interviewRecordId, detailId), update,
+                InterviewRecordDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean patchInterviewRecord(String userId, String interviewRecordId, RecordPatch patch,
+            Date updatedAt) {
+        return mongoTemplate.updateFirst(interviewQuery(userId, interviewRecordId),
+                patchUpdate("", patch, updatedAt), InterviewRecordDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, RecordPatch patch,
+            Date updatedAt) {
+        recordAnswerCompressor.compress(patch);
+        Update update = patchUpdate("details.$[d].", patch, updatedAt)
+                .filterArray(Criteria.where("d.detailId").is(detailId));
+
+        return mongoTemplate.updateFirst(detailIdQuery(userId, interviewRecordId, detailId), update,
+                InterviewRecordDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public List<InterviewRecordSidebarDTO> findSidebarPage(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit) {
+        int direction = ascending ? 1 : -1;
+
+        // $sort + $limit이 $project보다 앞에 있어야 인덱스 순서대로 limit개만 읽음
+        List<Document> pipeline = List.of(
+                new Document("$match", sidebarFilter(userId, cursor, ascending, category, enterpriseName)),
+                new Document("$sort", new Document("updatedAt", direction).append("_id", direction)),
+                new Document("$limit", limit),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("interviewRecordId", "$_id")
+                        .append("enterpriseName", 1)
+                        .append("category", 1)
+                        .append("createdAt", 1)
+                        .append("updatedAt", 1)));
+
+        return aggregate(pipeline, InterviewRecordSidebarDTO.class);
+    }
+
+    @Override
+    public Optional<Long> findVersion(String userId, String interviewRecordId) {
+        Query query = interviewQuery(userId, interviewRecordId);
+        query.fields().include("version");
+
+        // 버전 필드가 도입되기 전에 저장된 문서는 0으로 취급
+        return Optional.ofNullable(mongoTemplate.findOne(query, InterviewRecordDocument.class))
+                .map(document -> document.getVersion() == null ? 0L : document.getVersion());
+    }
+
+    @Override
+    public Optional<Date> findLatestUpdatedAt(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt"))
+                .limit(1);
+        query.fields().include("updatedAt");
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, InterviewRecordDocument.class))
+                .map(InterviewRecordDocument::getUpdatedAt);
+    }
+
+    @Override
+    public Optional<InterviewRecordResponseDTO> findInterviewRecordPage(String userId, String interviewRecordId,
+            int skip, int limit) {
+        Document details = new Document("$ifNull", List.of("$details", List.of()));
+
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("_id", interviewRecordId).append("userId", userId)),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("interviewRecordId", "$_id")
+                        .append("enterpriseName", 1)
+                        .append("category", 1)
+                        .append("createdAt", 1)
+                        .append("updatedAt", 1)
+                        .append("details", new Document("$slice", List.of(details, skip, limit)))
+                        .append("totalDetails", new Document("$size", details))),
+                new Document("$addFields", new Document("hasNext",
+                        new Document("$gt", List.of("$totalDetails", (long) skip + limit)))));
+
+        return aggregate(pipeline, InterviewRecordResponseDTO.class).stream().findFirst();
+    }
+
+    @Override
+    public List<RecordSearchMatch> searchDetails(String userId, String pattern, int skip, int limit) {
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("userId", userId)),
+                new Document("$sort", new Document("createdAt", 1).append("_id", 1)),
+                new Document("$unwind", new Document("path", "$details")
+                        .append("includeArrayIndex", "detailIndex")
+                        .append("preserveNullAndEmptyArrays", true)),
+                RecordSearchCommands.matchStage("", pattern),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("interviewRecordId", "$_id")
+                        .append("enterpriseName", 1)
+                        .append("category", 1)
+                        .append("detailIndex", 1)
+                        .append("detailId", "$details.detailId")
+                        .append("question", "$details.question")
+                        .append("answer", "$details.answer")));
+
+        try (MongoCursor<Document> cursor = collection().aggregate(pipeline).cursor()) {
+            return RecordSearchCommands.page(cursor, mongoTemplate.getConverter(), pattern, skip, limit);
+        }
+    }
+
+    @Override
+    public void replaceAllForUser(String userId, List<InterviewRecordDocument> documents) {
+        List<String> interviewRecordIds = new ArrayList<>();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                InterviewRecordDocument.class);
+
+        for (InterviewRecordDocument document : documents) {
+            interviewRecordIds.add(document.getInterviewRecordId());
+            bulkOps.replaceOne(interviewQuery(userId, document.getInterviewRecordId()), document,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        if (!interviewRecordIds.isEmpty()) {
+            bulkOps.execute();
+        }
+
+        // 원본 문서에서 삭제된 인터뷰 기록 정리
+        mongoTemplate.remove(Query.query(Criteria.where("userId").is(userId)
+                .and("_id").nin(interviewRecordIds)), InterviewRecordDocument.class);
+    }
+
+    @Override
+    public Stream<RecordExportEntry> streamExportByUserId(String userId, int batchSize) {
+        return stream(exportPipeline(new Document("userId", userId)), batchSize);
+    }
+
+    @Override
+    public Stream<RecordExportEntry> streamExportAll(int batchSize) {
+        return stream(exportPipeline(new Document()), batchSize);
+    }
+
+    @Override
+    public Optional<RecordStats> computeStats(String userId) {
+        return Optional.ofNullable(collection().aggregate(RecordStatsCommands.interviewDocumentStatsPipeline(userId))
+                .first())
+                .map(RecordStatsCommands::toStats);
+    }
+
+    /**
+     * 인터뷰 기록 문서를 내보내기 모델의 필드로 프로젝션하는 파이프라인을 생성합니다.
+     * userId + updatedAt + _id 인덱스 순서로 정렬하므로, 정렬을 위해 결과를 메모리에 모으지 않습니다.
+     */
+    private List<Document> exportPipeline(Document match) {
+        return List.of(
+                new Document("$match", match),
+                new Document("$sort", new Document("userId", 1).append("updatedAt", -1).append("_id", -1)),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("userId", 1)
+                        .append("interviewRecordId", "$_id")
+                        .append("enterpriseName", 1)
+                        .append("category", 1)
+                        .append("createdAt", 1)
+                        .append("updatedAt", 1)
+                        .append("details", 1)));
+    }
+
+    /**
+     * 사용자의 사이드바 항목 필터와 커서 조건을 생성합니다.
+     * 커서가 있으면 정렬 방향으로 (updatedAt, _id)가 커서보다 뒤에 있는 문서만 선택합니다.
+     */
+    private Document sidebarFilter(String userId, SidebarCursor cursor, boolean ascending, String category,
+            String enterpriseName) {
+        Document filter = new Document("userId", userId);
+        if (category != null) {
+            filter.append("category", category);
+        }
+        if (enterpriseName != null) {
+            filter.append("enterpriseName", enterpriseName);
+        }
+        if (cursor != null) {
+            String after = ascending ? "$gt" : "$lt";
+            filter.append("$or", List.of(
+                    new Document("updatedAt", new Document(after, cursor.getUpdatedAt())),
+                    new Document("updatedAt", cursor.getUpdatedAt())
+                            .append("_id", new Document(after, cursor.getInterviewRecordId()))));
+        }
+        return filter;
+    }
+
+    /**
+     * interview_records 컬렉션에 대해 집계 파이프라인을 실행하고, 결과 문서를 주어진 타입으로 변환합니다.
+     */
+    private <T> List<T> aggregate(List<Document> pipeline, Class<T> type) {
+        List<T> results = new ArrayList<>();
+        collection().aggregate(pipeline)
+                .forEach(document -> results.add(mongoTemplate.getConverter().read(type, document)));
+        return results;
+    }
+
+    /**
+     * 집계 파이프라인을 커서로 실행하고, 결과 문서를 한 건씩 내보내기 모델로 변환하는 스트림을 반환합니다.
+     * 스트림을 닫으면 커서도 함께 닫힙니다.
+     */
+    private Stream<RecordExportEntry> stream(List<Document> pipeline, int batchSize) {
+        MongoCursor<Document> cursor = collection().aggregate(pipeline).batchSize(batchSize).cursor();
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close)
+                .map(document -> mongoTemplate.getConverter().read(RecordExportEntry.class, document));
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(InterviewRecordDocument.class));
+    }
+
+    /**
+     * 사용자가 소유한 인터뷰 기록 문서를 찾는 쿼리를 생성합니다.
+     */
+    private Query interviewQuery(String userId, String interviewRecordId) {
+        return Query.query(Criteria.where("_id").is(interviewRecordId).and("userId").is(userId));
+    }
+
+    /**
+     * 사용자가 소유한 인터뷰 기록 문서 중 해당 인덱스의 세부 항목이 존재하는 문서를 찾는 쿼리를 생성합니다.
+     */
+    private Query detailQuery(String userId, String interviewRecordId, int detailIndex) {
+        return Query.query(Criteria.where("_id").is(interviewRecordId).and("userId").is(userId)
+                .and("details." + detailIndex).exists(true));
+    }
+
+    /**
+     * 사용자가 소유한 인터뷰 기록 문서 중 해당 ID의 세부 항목이 존재하는 문서를 찾는 쿼리를 생성합니다.
+     */
+    private Query detailIdQuery(String userId, String interviewRecordId, String detailId) {
+        return Query.query(Criteria.where("_id").is(interviewRecordId).and("userId").is(userId)
+                .and("details.detailId").is(detailId));
+    }
+
+    /**
+     * 패치 대상 경로 아래의 필드만 $set/$unset하고 문서의 수정 시각과 버전을 갱신하는 업데이트를 생성합니다.
+     */
+    private Update patchUpdate(String prefix, RecordPatch patch, Date updatedAt) {
+        Update update = new Update().set("updatedAt", updatedAt).inc("version", 1L);
+        patch.getSet().forEach((field, value) -> update.set(prefix + field, value));
+        patch.getUnset().forEach(field -> update.unset(prefix + field));
+        return update;
+    }
+
+    private Document toDocument(Record.RecordDetail detail) {
+        return new Document()
+                .append("detailId", detail.getDetailId())
+                .append("question", detail.getQuestion())
+                .append("answer", detail.storedAnswer())
+                .append("createdAt", detail.getCreatedAt());
+    }
+}
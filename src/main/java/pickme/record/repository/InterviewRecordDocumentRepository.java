@@ -0,0 +1,24 @@
+package pickme.record.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import pickme.record.model.InterviewRecordDocument;
+
+/**
+ * InterviewRecordDocumentRepository는 버킷형 저장 모드에서 인터뷰 기록 문서를 다루는 리포지토리 인터페이스입니다.
+ * Spring Data MongoDB의 MongoRepository를 확장하여 기본적인 CRUD 작업을 제공하며,
+ * {@link InterviewRecordDocumentCustomRepository}를 통해 원자적 업데이트와 프로젝션 조회를 제공합니다.
+ */
+@Repository
+public interface InterviewRecordDocumentRepository
+        extends MongoRepository<InterviewRecordDocument, String>, InterviewRecordDocumentCustomRepository {
+
+    /**
+     * 사용자의 인터뷰 기록 문서 수를 조회합니다. userId 인덱스만으로 계산됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return 인터뷰 기록 문서 수
+     */
+    long countByUserId(String userId);
+}
@@ -0,0 +1,417 @@
+package pickme.record.repository;
+
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.model.Record;
+import pickme.record.model.RecordChangeEvent;
+import pickme.record.model.RecordChangeType;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * ReactiveRecordRepository는 {@link RecordCustomRepository}의 조회와 쓰기 메서드를 리액티브 드라이버로 제공하는 리포지토리입니다.
+ *
+ * <p>
+ * 필터, 업데이트, 집계 파이프라인은 블로킹 구현과 같은 {@link RecordCommands}로 생성하므로,
+ * 두 실행 경로는 MongoDB에 동일한 명령을 전송합니다. outbox가 활성화되어 있으면 변경 이벤트도 같은 명령으로 추가합니다.
+ * 통계 요약 문서의 증감도 블로킹 구현과 같은 {@link RecordStatsCommands}로 반영합니다.
+ * 모든 메서드는 구독 시점에 명령을 실행하며, 실행 중 호출 스레드를 점유하지 않습니다.
+ * WebFlux 애플리케이션(리액티브 프로필)에서만 등록됩니다.
+ * </p>
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRecordRepository {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    private RecordAnswerCompressor recordAnswerCompressor;
+
+    @Autowired
+    private RecordOutboxProperties recordOutboxProperties;
+
+    /**
+     * 사용자 Record에 새로운 인터뷰 기록을 추가합니다. Record가 없으면 새로 생성합니다.
+     *
+     * @param userId          사용자 ID
+     * @param interviewRecord 추가할 인터뷰 기록
+     * @return 완료 신호
+     */
+    public Mono<Void> pushInterviewRecord(String userId, Record.InterviewRecord interviewRecord) {
+        recordAnswerCompressor.compress(interviewRecord);
+        return collection()
+                .flatMap(collection -> Mono.from(collection.updateOne(new Document("_id", userId),
+                        pushInterviewRecordUpdate(interviewRecord), new UpdateOptions().upsert(true))))
+                .then();
+    }
+
+    /**
+     * 인터뷰 기록의 기업명과 카테고리를 업데이트합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param enterpriseName    새로운 기업명
+     * @param category          새로운 카테고리
+     * @param updatedAt         수정 시각
+     * @return 업데이트 직전의 인터뷰 기록 (쓰기와 같은 명령으로 반환받은 값), 대상이 없으면 빈 Mono
+     */
+    public Mono<Record.InterviewRecord> updateInterviewRecord(String userId, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt) {
+        UpdateOneModel<Document> write = withEvents(RecordCommands.updateInterviewRecordWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId, enterpriseName, category,
+                updatedAt), RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId, updatedAt));
+
+        // 응답과 통계 증감량 계산에 필요한 인터뷰 기록 하나만 변경 직전의 값으로 반환받음
+        return findAndExecute(write, RecordCommands.interviewRecordProjection(interviewRecordId))
+                .map(document -> reactiveMongoTemplate.getConverter().read(Record.class, document))
+                .filter(record -> record.getRecords() != null && !record.getRecords().isEmpty())
+                .map(record -> record.getRecords().get(0));
+    }
+
+    /**
+     * 인터뷰 기록을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 삭제되지 않았으면 빈 Mono
+     */
+    public Mono<RecordOutline.InterviewOutline> pullInterviewRecord(String userId, String interviewRecordId) {
+        return executeForOutline(withEvents(RecordCommands.pullInterviewRecordWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId),
+                RecordChangeEvent.of(RecordChangeType.INTERVIEW_DELETED, interviewRecordId, new Date())),
+                interviewRecordId);
+    }
+
+    /**
+     * 인터뷰 기록에 여러 질문/답변 세부 항목을 순서대로 한 번에 추가합니다 ($push + $each).
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param details           추가할 세부 항목 목록
+     * @param updatedAt         수정 시각
+     * @return 추가 여부
+     */
+    public Mono<Boolean> pushRecordDetails(String userId, String interviewRecordId,
+            List<Record.RecordDetail> details, Date updatedAt) {
+        recordAnswerCompressor.compress(details);
+        return execute(withEvents(RecordCommands.pushRecordDetailsWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId, details, updatedAt),
+                details.stream()
+                        .map(detail -> RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_CREATED, interviewRecordId,
+                                detail.getDetailId(), updatedAt))
+                        .toList()))
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    /**
+     * 인덱스로 지정한 세부 항목의 질문과 답변을 업데이트합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 항목 인덱스
+     * @param detail            새로운 질문과 답변
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    public Mono<Boolean> updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            Record.RecordDetail detail, Date updatedAt) {
+        recordAnswerCompressor.compress(detail);
+        return execute(withEvents(RecordCommands.updateRecordDetailWrite(
+                RecordCommands.detailFilter(userId, interviewRecordId, detailIndex), interviewRecordId, detailIndex,
+                detail, updatedAt), RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_UPDATED,
+                        interviewRecordId, detailIndex, updatedAt)))
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    /**
+     * 인덱스로 지정한 세부 항목을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 항목 인덱스
+     * @param updatedAt         수정 시각
+     * @return 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 삭제되지 않았으면 빈 Mono
+     */
+    public Mono<RecordOutline.InterviewOutline> removeRecordDetail(String userId, String interviewRecordId,
+            int detailIndex, Date updatedAt) {
+        return executeForOutline(withEvents(RecordCommands.removeRecordDetailWrite(
+                RecordCommands.detailFilter(userId, interviewRecordId, detailIndex), interviewRecordId, detailIndex,
+                updatedAt), RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_DELETED, interviewRecordId,
+                        detailIndex, updatedAt)), interviewRecordId);
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목의 질문과 답변을 업데이트합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param detail            새로운 질문과 답변
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    public Mono<Boolean> updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt) {
+        recordAnswerCompressor.compress(detail);
+        return execute(withEvents(RecordCommands.updateRecordDetailByIdWrite(
+                RecordCommands.detailIdFilter(userId, interviewRecordId, detailId), interviewRecordId, detailId,
+                detail, updatedAt), RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                        detailId, updatedAt)))
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param updatedAt         수정 시각
+     * @return 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 삭제되지 않았으면 빈 Mono
+     */
+    public Mono<RecordOutline.InterviewOutline> removeRecordDetailById(String userId, String interviewRecordId,
+            String detailId, Date updatedAt) {
+        return executeForOutline(withEvents(RecordCommands.removeRecordDetailByIdWrite(
+                RecordCommands.detailIdFilter(userId, interviewRecordId, detailId), interviewRecordId, detailId,
+                updatedAt), RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_DELETED, interviewRecordId, detailId,
+                        updatedAt)), interviewRecordId);
+    }
+
+    /**
+     * 인터뷰 기록에서 병합 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             변경할 필드 목록
+     * @param updatedAt         수정 시각
+     * @return 변경 직전의 인터뷰 기록 구조 정보, 대상이 없으면 빈 Mono
+     */
+    public Mono<RecordOutline.InterviewOutline> patchInterviewRecord(String userId, String interviewRecordId,
+            RecordPatch patch, Date updatedAt) {
+        return executeForOutline(withEvents(RecordCommands.patchInterviewRecordWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId, patch, updatedAt),
+                RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId, updatedAt)),
+                interviewRecordId);
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목에서 병합 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             변경할 필드 목록
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    public Mono<Boolean> patchRecordDetail(String userId, String interviewRecordId, String detailId,
+            RecordPatch patch, Date updatedAt) {
+        recordAnswerCompressor.compress(patch);
+        return execute(withEvents(RecordCommands.patchRecordDetailWrite(
+                RecordCommands.detailIdFilter(userId, interviewRecordId, detailId), interviewRecordId, detailId,
+                patch, updatedAt), RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                        detailId, updatedAt)))
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    /**
+     * 사이드바에 필요한 필드만 프로젝션하여 (updatedAt, interviewRecordId) 순서로 한 페이지를 조회합니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지의 마지막 항목 위치, 첫 페이지이면 null
+     * @param ascending      updatedAt 오름차순 여부 (false이면 최근 수정 순)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @param limit          가져올 항목 수
+     * @return 사이드바 데이터, 사용자가 없으면 빈 Flux
+     */
+    public Flux<InterviewRecordSidebarDTO> findSidebarPage(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit) {
+        return aggregate(RecordCommands.sidebarPagePipeline(userId, cursor, ascending, category, enterpriseName,
+                limit), InterviewRecordSidebarDTO.class);
+    }
+
+    /**
+     * 인터뷰 기록 하나를 조회하되, 세부 항목은 요청한 범위만 $slice로 잘라서 가져옵니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param skip              건너뛸 세부 항목 수
+     * @param limit             가져올 세부 항목 수 (1 이상)
+     * @return 페이징된 인터뷰 기록, 대상이 없으면 빈 Mono
+     */
+    public Mono<InterviewRecordResponseDTO> findInterviewRecordPage(String userId, String interviewRecordId,
+            int skip, int limit) {
+        return aggregate(RecordCommands.interviewRecordPagePipeline(userId, interviewRecordId, skip, limit),
+                InterviewRecordResponseDTO.class)
+                .next();
+    }
+
+    /**
+     * 인터뷰 기록이 있는 경우 사용자 문서의 버전만 조회합니다. 조건부 조회(ETag) 판단에 사용합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 문서 버전, 인터뷰 기록이 없으면 빈 Mono
+     */
+    public Mono<Long> findInterviewRecordVersion(String userId, String interviewRecordId) {
+        return findVersion(RecordCommands.interviewFilter(userId, interviewRecordId));
+    }
+
+    /**
+     * 사용자 문서의 버전만 조회합니다. 조건부 조회(ETag) 판단에 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 문서 버전, 사용자가 없으면 빈 Mono
+     */
+    public Mono<Long> findVersion(String userId) {
+        return findVersion(new Document("_id", userId));
+    }
+
+    /**
+     * 인터뷰 기록 하나의 메타데이터와 세부 항목 ID, 생성 시각 목록만 조회합니다. 통계 증감량 계산에 사용합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 인터뷰 기록 구조 정보, 대상이 없으면 빈 Mono
+     */
+    public Mono<RecordOutline.InterviewOutline> findInterviewOutline(String userId, String interviewRecordId) {
+        return aggregate(RecordCommands.interviewOutlinePipeline(userId, interviewRecordId),
+                RecordOutline.InterviewOutline.class)
+                .next();
+    }
+
+    /**
+     * 쓰기 작업의 통계 증감량을 사용자별 요약 문서에 $inc로 반영합니다.
+     * 블로킹 구현과 같이 upsert하지 않으므로, 요약 문서가 없는 사용자의 증감량은 버려지고 이후 재구성에서 계산됩니다.
+     *
+     * @param userId    사용자 ID
+     * @param delta     증감량
+     * @param updatedAt 요약 문서 수정 시각
+     * @return 완료 신호
+     */
+    public Mono<Void> incrementStats(String userId, RecordStatsDelta delta, Date updatedAt) {
+        if (delta.isEmpty()) {
+            return Mono.empty();
+        }
+        return reactiveMongoTemplate.getCollection(RecordStats.COLLECTION)
+                .flatMap(collection -> Mono.from(collection.updateOne(new Document("_id", userId),
+                        RecordStatsCommands.incrementUpdate(delta, updatedAt))))
+                .then();
+    }
+
+    /**
+     * 인터뷰 기록을 추가하는 업데이트를 생성합니다. outbox가 활성화되어 있으면 추가 이벤트를 함께 추가합니다.
+     */
+    private Document pushInterviewRecordUpdate(Record.InterviewRecord interviewRecord) {
+        Document update = RecordCommands.pushInterviewRecordUpdate(interviewRecord);
+        if (!recordOutboxProperties.isEnabled()) {
+            return update;
+        }
+        return RecordCommands.withEvents(update, List.of(RecordChangeEvent.of(RecordChangeType.INTERVIEW_CREATED,
+                interviewRecord.getInterviewRecordId(), interviewRecord.getCreatedAt())),
+                recordOutboxProperties.getMaxEvents());
+    }
+
+    /**
+     * outbox가 활성화되어 있으면 쓰기 모델에 변경 이벤트 추가를 더합니다.
+     */
+    private UpdateOneModel<Document> withEvents(UpdateOneModel<Document> write, RecordChangeEvent event) {
+        return withEvents(write, List.of(event));
+    }
+
+    private UpdateOneModel<Document> withEvents(UpdateOneModel<Document> write, List<RecordChangeEvent> events) {
+        return recordOutboxProperties.isEnabled()
+                ? RecordCommands.withEvents(write, events, recordOutboxProperties.getMaxEvents())
+                : write;
+    }
+
+    /**
+     * 필터와 일치하는 사용자 문서의 버전만 프로젝션하여 조회합니다.
+     */
+    private Mono<Long> findVersion(Document filter) {
+        return collection()
+                .flatMap(collection -> Mono.from(collection.find(filter)
+                        .projection(new Document("version", 1))
+                        .first()))
+                .map(document -> {
+                    // 버전 필드가 도입되기 전에 저장된 문서는 0으로 취급
+                    Number version = document.get("version", Number.class);
+                    return version == null ? 0L : version.longValue();
+                });
+    }
+
+    /**
+     * 단일 쓰기 모델을 실행합니다.
+     */
+    private Mono<UpdateResult> execute(UpdateOneModel<Document> write) {
+        return collection().flatMap(collection -> Mono.from(write.getUpdatePipeline() != null
+                ? collection.updateOne(write.getFilter(), write.getUpdatePipeline(), write.getOptions())
+                : collection.updateOne(write.getFilter(), write.getUpdate(), write.getOptions())));
+    }
+
+    /**
+     * 단일 쓰기 모델을 findOneAndUpdate로 실행하고, 프로젝션한 변경 직전의 문서를 반환합니다.
+     * 필터와 일치하는 문서가 없으면 빈 Mono를 반환합니다.
+     */
+    private Mono<Document> findAndExecute(UpdateOneModel<Document> write, Document projection) {
+        FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                .arrayFilters(write.getOptions().getArrayFilters())
+                .projection(projection)
+                .returnDocument(ReturnDocument.BEFORE);
+        return collection().flatMap(collection -> Mono.from(write.getUpdatePipeline() != null
+                ? collection.findOneAndUpdate(write.getFilter(), write.getUpdatePipeline(), options)
+                : collection.findOneAndUpdate(write.getFilter(), write.getUpdate(), options)));
+    }
+
+    /**
+     * 단일 쓰기 모델을 실행하고, 대상 인터뷰 기록의 변경 직전 구조 정보를 반환합니다.
+     * 쓰기와 같은 명령으로 읽으므로, 반환값은 이 쓰기가 실제로 변경한 값입니다.
+     */
+    private Mono<RecordOutline.InterviewOutline> executeForOutline(UpdateOneModel<Document> write,
+            String interviewRecordId) {
+        return findAndExecute(write, RecordCommands.interviewOutlineProjection(interviewRecordId))
+                .flatMapIterable(before -> before.getList("records", Document.class, List.of()))
+                .next()
+                .map(outline -> reactiveMongoTemplate.getConverter().read(RecordOutline.InterviewOutline.class,
+                        outline));
+    }
+
+    /**
+     * records 컬렉션에 대해 집계 파이프라인을 실행하고, 결과 문서를 주어진 타입으로 변환합니다.
+     */
+    private <T> Flux<T> aggregate(List<Document> pipeline, Class<T> type) {
+        return collection()
+                .flatMapMany(collection -> collection.aggregate(pipeline))
+                .map(document -> reactiveMongoTemplate.getConverter().read(type, document));
+    }
+
+    private Mono<MongoCollection<Document>> collection() {
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(Record.class));
+    }
+}
@@ -0,0 +1,162 @@
+package pickme.record.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordAnswerCompressionProperties;
+import pickme.record.model.Record;
+import pickme.record.model.RecordAnswerCodec;
+import pickme.record.model.RecordPatch;
+
+/**
+ * RecordAnswerCompressor는 저장하기 전에 긴 답변 본문을 압축하는 컴포넌트입니다.
+ *
+ * <p>
+ * UTF-8 크기가 {@code thresholdBytes} 이상인 답변을 {@link RecordAnswerCodec}으로 압축하고,
+ * 압축 결과가 원문보다 작을 때만 압축된 답변으로 저장합니다.
+ * 압축된 답변은 검색 집계의 정규식과 비교할 수 없으므로, 검색은 압축된 답변을 복원하여 따로 판정합니다
+ * ({@link RecordSearchCommands}).
+ * 문서 전체를 매핑으로 저장하는 경로(버킷 마이그레이션 등)는 본문 문자열을 기록하며,
+ * 이후 해당 세부 항목이 수정될 때 다시 압축됩니다.
+ * </p>
+ *
+ * <p>
+ * 다음 메트릭으로 압축률을 확인할 수 있습니다.
+ * </p>
+ * <ul>
+ * <li>{@code record.answer.compression.ratio}: 압축하여 저장한 답변의 압축 후/압축 전 크기 비율 분포</li>
+ * <li>{@code record.answer.compression.bytes}: 압축하여 저장한 답변의 압축 전({@code stage=original})과
+ * 압축 후({@code stage=stored}) 누적 크기</li>
+ * <li>{@code record.answer.compression.incompressible}: 압축해도 작아지지 않아 원문으로 저장한 답변 수</li>
+ * <li>{@code record.answer.compression.latency}: 답변 하나를 압축하는 데 걸린 시간</li>
+ * </ul>
+ */
+@Component
+public class RecordAnswerCompressor {
+
+    private final RecordAnswerCompressionProperties properties;
+
+    private final DistributionSummary ratio;
+
+    private final Counter originalBytes;
+
+    private final Counter storedBytes;
+
+    private final Counter incompressible;
+
+    private final Timer latency;
+
+    public RecordAnswerCompressor(RecordAnswerCompressionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ratio = DistributionSummary.builder("record.answer.compression.ratio")
+                .description("Compressed to original size ratio of answers stored compressed")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1.0)
+                .register(meterRegistry);
+        this.originalBytes = Counter.builder("record.answer.compression.bytes")
+                .description("Total size of answers stored compressed")
+                .baseUnit("bytes")
+                .tag("stage", "original")
+                .register(meterRegistry);
+        this.storedBytes = Counter.builder("record.answer.compression.bytes")
+                .description("Total size of answers stored compressed")
+                .baseUnit("bytes")
+                .tag("stage", "stored")
+                .register(meterRegistry);
+        this.incompressible = Counter.builder("record.answer.compression.incompressible")
+                .description("Answers above the threshold stored uncompressed because compression did not shrink them")
+                .register(meterRegistry);
+        this.latency = Timer.builder("record.answer.compression.latency")
+                .description("Time spent compressing a single answer")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인터뷰 기록의 모든 세부 항목 답변을 압축합니다.
+     *
+     * @param interviewRecord 저장할 인터뷰 기록
+     */
+    public void compress(Record.InterviewRecord interviewRecord) {
+        compress(interviewRecord.getDetails());
+    }
+
+    /**
+     * 세부 항목 목록의 답변을 압축합니다.
+     *
+     * @param details 저장할 세부 항목 목록
+     */
+    public void compress(Collection<Record.RecordDetail> details) {
+        if (details == null || !properties.isEnabled()) {
+            return;
+        }
+        details.forEach(this::compress);
+    }
+
+    /**
+     * 세부 항목의 답변이 압축 대상이면 압축 바이트를 설정합니다.
+     * 이후 {@link Record.RecordDetail#storedAnswer()}가 압축된 답변을 반환합니다.
+     *
+     * @param detail 저장할 세부 항목
+     */
+    public void compress(Record.RecordDetail detail) {
+        if (detail == null || !properties.isEnabled() || detail.hasCompressedAnswer()) {
+            return;
+        }
+        byte[] compressed = compress(detail.getAnswer());
+        if (compressed != null) {
+            detail.compressAnswer(compressed);
+        }
+    }
+
+    /**
+     * 패치에서 설정하는 답변이 압축 대상이면 압축된 답변 Binary로 바꿉니다.
+     *
+     * @param patch 세부 항목 패치
+     */
+    public void compress(RecordPatch patch) {
+        if (!properties.isEnabled() || !(patch.getSet().get("answer") instanceof String answer)) {
+            return;
+        }
+        byte[] compressed = compress(answer);
+        if (compressed != null) {
+            patch.set("answer", RecordAnswerCodec.toBinary(compressed));
+        }
+    }
+
+    /**
+     * 답변을 압축합니다. 기준 크기보다 작거나 압축해도 작아지지 않으면 null을 반환합니다.
+     */
+    private byte[] compress(String answer) {
+        if (answer == null || answer.length() * 3L < properties.getThresholdBytes()) {
+            // UTF-8 크기는 문자 수의 3배를 넘지 않으므로, 인코딩 없이 확실한 짧은 답변을 건너뜀
+            return null;
+        }
+        byte[] input = answer.getBytes(StandardCharsets.UTF_8);
+        int size = input.length;
+        if (size < properties.getThresholdBytes()) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        byte[] compressed = RecordAnswerCodec.deflate(input, properties.getLevel());
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (compressed.length >= size) {
+            incompressible.increment();
+            return null;
+        }
+        ratio.record((double) compressed.length / size);
+        originalBytes.increment(size);
+        storedBytes.increment(compressed.length);
+        return compressed;
+    }
+}
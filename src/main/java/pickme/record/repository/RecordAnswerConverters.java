@@ -0,0 +1,82 @@
+package pickme.record.repository;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import pickme.record.model.Record;
+import pickme.record.model.RecordAnswerCodec;
+
+/**
+ * RecordAnswerConverters는 압축 저장된 답변을 읽는 MongoDB 변환기를 제공하는 클래스입니다.
+ *
+ * <ul>
+ * <li>{@link RecordDetailReadingConverter}: 세부 항목 문서를 읽을 때 압축된 답변은 복원하지 않고 바이트로 보관</li>
+ * <li>{@link CompressedAnswerReadingConverter}: 집계 결과를 DTO로 읽을 때 압축된 답변을 문자열로 복원</li>
+ * </ul>
+ *
+ * <p>
+ * 쓰기 변환기는 등록하지 않습니다. 쓰기 변환기의 원본 타입은 단순 타입으로 취급되어
+ * 세부 항목의 필드 매핑 정의가 적용되지 않기 때문입니다.
+ * 압축은 저장소가 업데이트를 만들기 전에 {@link RecordAnswerCompressor}로 수행합니다.
+ * </p>
+ */
+public final class RecordAnswerConverters {
+
+    private RecordAnswerConverters() {
+    }
+
+    /**
+     * MongoCustomConversions에 등록할 변환기 목록을 반환합니다.
+     *
+     * @return 답변 읽기 변환기 목록
+     */
+    public static List<Converter<?, ?>> converters() {
+        return List.of(RecordDetailReadingConverter.INSTANCE, CompressedAnswerReadingConverter.INSTANCE);
+    }
+
+    /**
+     * 세부 항목 문서를 Record.RecordDetail로 읽습니다. 압축된 답변은 처음 조회할 때 복원됩니다.
+     */
+    @ReadingConverter
+    public enum RecordDetailReadingConverter implements Converter<Document, Record.RecordDetail> {
+        INSTANCE;
+
+        @Override
+        public Record.RecordDetail convert(Document source) {
+            Object answer = source.get("answer");
+            Record.RecordDetail detail;
+            if (RecordAnswerCodec.isCompressed(answer)) {
+                detail = Record.RecordDetail.compressed(source.getString("detailId"), source.getString("question"),
+                        ((Binary) answer).getData());
+            } else {
+                detail = new Record.RecordDetail();
+                detail.setDetailId(source.getString("detailId"));
+                detail.setQuestion(source.getString("question"));
+                detail.setAnswer((String) answer);
+            }
+            detail.setCreatedAt(source.getDate("createdAt"));
+            return detail;
+        }
+    }
+
+    /**
+     * 압축된 답변 Binary를 문자열로 복원합니다. 집계 결과의 답변 필드를 DTO로 읽을 때 사용됩니다.
+     */
+    @ReadingConverter
+    public enum CompressedAnswerReadingConverter implements Converter<Binary, String> {
+        INSTANCE;
+
+        @Override
+        public String convert(Binary source) {
+            if (!RecordAnswerCodec.isCompressed(source)) {
+                throw new IllegalArgumentException("Unsupported binary subtype for a string field: "
+                        + source.getType());
+            }
+            return RecordAnswerCodec.decode(source.getData());
+        }
+    }
+}
@@ -0,0 +1,592 @@
+package pickme.record.repository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+
+import pickme.record.model.Record;
+import pickme.record.model.RecordChangeEvent;
+import pickme.record.model.RecordChangeType;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * RecordCommands는 사용자별 단일 문서(records 컬렉션)에 보내는 필터, 업데이트, 집계 파이프라인을 생성하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 블로킹 드라이버를 사용하는 {@link RecordCustomRepositoryImpl}과 리액티브 드라이버를 사용하는
+ * {@link ReactiveRecordRepository}가 같은 명령을 공유하여, 두 실행 경로의 저장 결과가 항상 동일하도록 합니다.
+ * 특정 인터뷰 기록은 {@code records.interviewRecordId}에 대한 arrayFilters({@code ir})로,
+ * 특정 세부 항목은 {@code detailId}에 대한 arrayFilters({@code d})로 지정하며, 모든 쓰기는 문서의 {@code version} 필드를 함께 1 증가시킵니다.
+ * </p>
+ */
+final class RecordCommands {
+
+    private static final String INTERVIEW_FILTER = "records.$[ir]";
+
+    private static final String DETAIL_FILTER = INTERVIEW_FILTER + ".details.$[d]";
+
+    private static final String OUTBOX = "outbox";
+
+    /**
+     * 주기 작업의 인스턴스 간 임대를 보관하는 컬렉션 이름입니다.
+     */
+    static final String LEASE_COLLECTION = "record_leases";
+
+    private RecordCommands() {
+    }
+
+    /**
+     * 사용자 문서에 인터뷰 기록을 추가하는 업데이트를 생성합니다. upsert 옵션과 함께 사용합니다.
+     */
+    static Document pushInterviewRecordUpdate(Record.InterviewRecord interviewRecord) {
+        return new Document()
+                .append("$push", new Document("records", toDocument(interviewRecord)))
+                .append("$inc", versionIncrement());
+    }
+
+    static UpdateOneModel<Document> updateInterviewRecordWrite(Document filter, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt) {
+        Document update = new Document()
+                .append("$set", new Document()
+                        .append(INTERVIEW_FILTER + ".enterpriseName", enterpriseName)
+                        .append(INTERVIEW_FILTER + ".category", category)
+                        .append(INTERVIEW_FILTER + ".updatedAt", updatedAt))
+                .append("$inc", versionIncrement());
+
+        return new UpdateOneModel<>(filter, update, interviewArrayFilter(interviewRecordId));
+    }
+
+    static UpdateOneModel<Document> pullInterviewRecordWrite(Document filter, String interviewRecordId) {
+        Document update = new Document()
+                .append("$pull", new Document("records", new Document("interviewRecordId", interviewRecordId)))
+                .append("$inc", versionIncrement());
+
+        return new UpdateOneModel<>(filter, update);
+    }
+
+    static UpdateOneModel<Document> pushRecordDetailsWrite(Document filter, String interviewRecordId,
+            List<Record.RecordDetail> details, Date updatedAt) {
+        Document update = new Document()
+                .append("$push", new Document(INTERVIEW_FILTER + ".details",
+                        new Document("$each", details.stream().map(RecordCommands::toDocument).toList())))
+                .append("$set", new Document(INTERVIEW_FILTER + ".updatedAt", updatedAt))
+                .append("$inc", versionIncrement());
+
+        return new UpdateOneModel<>(filter, update, interviewArrayFilter(interviewRecordId));
+    }
+
+    static UpdateOneModel<Document> updateRecordDetailWrite(Document filter, String interviewRecordId,
+            int detailIndex, Record.RecordDetail detail, Date updatedAt) {
+        String detailPath = INTERVIEW_FILTER + ".details." + detailIndex;
+        Document update = new Document()
+                .append("$set", new Document()
+                        .append(detailPath + ".question", detail.getQuestion())
+                        .append(detailPath + ".answer", detail.storedAnswer())
+                        .append(INTERVIEW_FILTER + ".updatedAt", updatedAt))
+                .append("$inc", versionIncrement());
+
+        return new UpdateOneModel<>(filter, update, interviewArrayFilter(interviewRecordId));
+    }
+
+    static UpdateOneModel<Document> removeRecordDetailWrite(Document filter, String interviewRecordId,
+            int detailIndex, Date updatedAt) {
+        return pipelineWrite(filter, List.of(removeRecordDetailStage(interviewRecordId, detailIndex, updatedAt)));
+    }
+
+    /**
+     * 파이프라인 단계들을 순서대로 실행한 뒤 문서 버전을 1 증가시키는 단일 업데이트를 생성합니다.
+     * 일괄 작업은 작업마다 하나의 단계를 이어 붙여 실행하므로, 필터와 일치하면 모든 작업이 함께 적용되고
+     * 일치하지 않으면 아무 작업도 적용되지 않습니다.
+     */
+    static UpdateOneModel<Document> pipelineWrite(Document filter, List<Document> stages) {
+        List<Document> pipeline = new ArrayList<>(stages);
+        pipeline.add(new Document("$set", new Document("version", new Document("$add",
+                List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)))));
+        return new UpdateOneModel<>(filter, pipeline);
+    }
+
+    /**
+     * 인터뷰 기록의 기업명과 카테고리를 변경하는 파이프라인 단계를 생성합니다.
+     */
+    static Document updateInterviewRecordStage(String interviewRecordId, String enterpriseName, String category,
+            Date updatedAt) {
+        return mergeInterviewStage(interviewRecordId, new Document()
+                .append("enterpriseName", literal(enterpriseName))
+                .append("category", literal(category))
+                .append("updatedAt", updatedAt));
+    }
+
+    /**
+     * 인터뷰 기록을 삭제하는 파이프라인 단계를 생성합니다.
+     */
+    static Document pullInterviewRecordStage(String interviewRecordId) {
+        return new Document("$set", new Document("records", new Document("$filter", new Document()
+                .append("input", "$records")
+                .append("as", "ir")
+                .append("cond", new Document("$ne",
+                        List.of("$$ir.interviewRecordId", literal(interviewRecordId)))))));
+    }
+
+    /**
+     * 인터뷰 기록의 세부 항목 끝에 세부 항목을 추가하는 파이프라인 단계를 생성합니다.
+     */
+    static Document pushRecordDetailStage(String interviewRecordId, Record.RecordDetail detail, Date updatedAt) {
+        return mergeInterviewStage(interviewRecordId, new Document()
+                .append("details", new Document("$concatArrays", List.of(
+                        new Document("$ifNull", List.of("$$ir.details", List.of())),
+                        literal(List.of(toDocument(detail))))))
+                .append("updatedAt", updatedAt));
+    }
+
+    /**
+     * 해당 인덱스의 세부 항목의 질문과 답변을 변경하는 파이프라인 단계를 생성합니다.
+     */
+    static Document updateRecordDetailStage(String interviewRecordId, int detailIndex, Record.RecordDetail detail,
+            Date updatedAt) {
+        Document details = new Document("$map", new Document()
+                .append("input", new Document("$range", List.of(0, new Document("$size", "$$ir.details"))))
+                .append("as", "i")
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$$i", detailIndex)),
+                        new Document("$mergeObjects", List.of(
+                                new Document("$arrayElemAt", List.of("$$ir.details", "$$i")),
+                                new Document()
+                                        .append("question", literal(detail.getQuestion()))
+                                        .append("answer", literal(detail.storedAnswer())))),
+                        new Document("$arrayElemAt", List.of("$$ir.details", "$$i"))))));
+
+        return mergeInterviewStage(interviewRecordId, new Document()
+                .append("details", details)
+                .append("updatedAt", updatedAt));
+    }
+
+    /**
+     * 해당 인덱스의 세부 항목을 삭제하는 파이프라인 단계를 생성합니다.
+     * $pull은 위치 기반 삭제를 지원하지 않으므로, 해당 인덱스만 제외한 배열을 서버에서 재구성합니다.
+     */
+    static Document removeRecordDetailStage(String interviewRecordId, int detailIndex, Date updatedAt) {
+        Document details = new Document("$map", new Document()
+                .append("input", new Document("$filter", new Document()
+                        .append("input", new Document("$range",
+                                List.of(0, new Document("$size", "$$ir.details"))))
+                        .append("as", "i")
+                        .append("cond", new Document("$ne", List.of("$$i", detailIndex)))))
+                .append("as", "i")
+                .append("in", new Document("$arrayElemAt", List.of("$$ir.details", "$$i"))));
+
+        return mergeInterviewStage(interviewRecordId, new Document()
+                .append("details", details)
+                .append("updatedAt", updatedAt));
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목 하나의 질문과 답변만 수정하는 쓰기를 생성합니다.
+     */
+    static UpdateOneModel<Document> updateRecordDetailByIdWrite(Document filter, String interviewRecordId,
+            String detailId, Record.RecordDetail detail, Date updatedAt) {
+        Document update = new Document()
+                .append("$set", new Document()
+                        .append(DETAIL_FILTER + ".question", detail.getQuestion())
+                        .append(DETAIL_FILTER + ".answer", detail.storedAnswer())
+                        .append(INTERVIEW_FILTER + ".updatedAt", updatedAt))
+                .append("$inc", versionIncrement());
+
+        return new UpdateOneModel<>(filter, update, detailArrayFilters(interviewRecordId, detailId));
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목을 $pull로 삭제하는 쓰기를 생성합니다.
+     * 위치 기반 삭제와 달리 세부 항목 배열을 다시 만들지 않습니다.
+     */
+    static UpdateOneModel<Document> removeRecordDetailByIdWrite(Document filter, String interviewRecordId,
+            String detailId, Date updatedAt) {
+        Document update = new Document()
+                .append("$pull", new Document(INTERVIEW_FILTER + ".details", new Document("detailId", detailId)))
+                .append("$set", new Document(INTERVIEW_FILTER + ".updatedAt", updatedAt))
+                .append("$inc", versionIncrement());
+
+        return new UpdateOneModel<>(filter, update, interviewArrayFilter(interviewRecordId));
+    }
+
+    /**
+     * 인터뷰 기록에서 병합 패치에 포함된 필드만 변경하는 쓰기를 생성합니다.
+     */
+    static UpdateOneModel<Document> patchInterviewRecordWrite(Document filter, String interviewRecordId,
+            RecordPatch patch, Date updatedAt) {
+        return new UpdateOneModel<>(filter, patchUpdate(INTERVIEW_FILTER, patch, updatedAt),
+                interviewArrayFilter(interviewRecordId));
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목에서 병합 패치에 포함된 필드만 변경하는 쓰기를 생성합니다.
+     */
+    static UpdateOneModel<Document> patchRecordDetailWrite(Document filter, String interviewRecordId,
+            String detailId, RecordPatch patch, Date updatedAt) {
+        return new UpdateOneModel<>(filter, patchUpdate(DETAIL_FILTER, patch, updatedAt),
+                detailArrayFilters(interviewRecordId, detailId));
+    }
+
+    /**
+     * 사용자 문서에서 주어진 인터뷰 기록 하나만 남기는 프로젝션을 생성합니다.
+     */
+    static Document interviewRecordProjection(String interviewRecordId) {
+        return new Document("records", new Document("$elemMatch",
+                new Document("interviewRecordId", interviewRecordId)));
+    }
+
+    /**
+     * 인터뷰 기록 하나의 메타데이터와 세부 항목 ID, 생성 시각 목록만 프로젝션하는 집계 파이프라인을 생성합니다.
+     * 두 목록은 세부 항목 순서를 유지하며, 값이 없는 세부 항목은 null로 채웁니다.
+     */
+    static List<Document> interviewOutlinePipeline(String userId, String interviewRecordId) {
+        return List.of(
+                new Document("$match", interviewFilter(userId, interviewRecordId)),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("records", new Document("$filter", new Document()
+                                .append("input", "$records")
+                                .append("cond", new Document("$eq",
+                                        List.of("$$this.interviewRecordId", interviewRecordId)))))),
+                new Document("$unwind", "$records"),
+                new Document("$project", interviewOutline("$records")));
+    }
+
+    /**
+     * findOneAndUpdate가 반환할 문서에서 대상 인터뷰 기록 하나의 구조 정보만 남기는 프로젝션을 생성합니다.
+     * {@link #interviewOutlinePipeline}과 같은 필드를 records 배열의 유일한 원소로 반환합니다.
+     */
+    static Document interviewOutlineProjection(String interviewRecordId) {
+        return new Document()
+                .append("_id", 0)
+                .append("records", new Document("$map", new Document()
+                        .append("input", new Document("$filter", new Document()
+                                .append("input", new Document("$ifNull", List.of("$records", List.of())))
+                                .append("cond", new Document("$eq",
+                                        List.of("$$this.interviewRecordId", literal(interviewRecordId))))))
+                        .append("as", "ir")
+                        .append("in", interviewOutline("$$ir"))));
+    }
+
+    /**
+     * 인터뷰 기록 경로(예: {@code $records}, {@code $$ir})에서 구조 정보 필드를 계산하는 식을 생성합니다.
+     */
+    private static Document interviewOutline(String interview) {
+        Document details = new Document("$ifNull", List.of(interview + ".details", List.of()));
+
+        return new Document()
+                .append("interviewRecordId", interview + ".interviewRecordId")
+                .append("enterpriseName", interview + ".enterpriseName")
+                .append("category", interview + ".category")
+                .append("createdAt", interview + ".createdAt")
+                .append("detailCount", new Document("$size", details))
+                .append("detailIds", new Document("$map", new Document()
+                        .append("input", details)
+                        .append("in", "$$this.detailId")))
+                .append("detailCreatedAts", new Document("$map", new Document()
+                        .append("input", details)
+                        .append("in", "$$this.createdAt")));
+    }
+
+    /**
+     * 사이드바 필드만 프로젝션하여 (updatedAt, interviewRecordId) 순서로 한 페이지를 조회하는 집계 파이프라인을 생성합니다.
+     */
+    static List<Document> sidebarPagePipeline(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit) {
+        int direction = ascending ? 1 : -1;
+
+        return List.of(
+                new Document("$match", new Document("_id", userId)),
+                // unwind 이전에 사이드바 필드만 남겨 details가 파이프라인을 통과하지 않도록 함
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("records.interviewRecordId", 1)
+                        .append("records.enterpriseName", 1)
+                        .append("records.category", 1)
+                        .append("records.createdAt", 1)
+                        .append("records.updatedAt", 1)),
+                new Document("$unwind", "$records"),
+                new Document("$replaceRoot", new Document("newRoot", "$records")),
+                new Document("$match", sidebarFilter(cursor, ascending, category, enterpriseName)),
+                new Document("$sort", new Document("updatedAt", direction).append("interviewRecordId", direction)),
+                new Document("$limit", limit));
+    }
+
+    /**
+     * 인터뷰 기록 하나를 세부 항목 한 페이지만 $slice로 잘라 조회하는 집계 파이프라인을 생성합니다.
+     */
+    static List<Document> interviewRecordPagePipeline(String userId, String interviewRecordId, int skip,
+            int limit) {
+        Document details = new Document("$ifNull", List.of("$details", List.of()));
+
+        return List.of(
+                new Document("$match", new Document("_id", userId)
+                        .append("records.interviewRecordId", interviewRecordId)),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("interview", new Document("$arrayElemAt", List.of(
+                                new Document("$filter", new Document()
+                                        .append("input", "$records")
+                                        .append("as", "ir")
+                                        .append("cond", new Document("$eq",
+                                                List.of("$$ir.interviewRecordId", interviewRecordId)))),
+                                0)))),
+                new Document("$replaceRoot", new Document("newRoot", "$interview")),
+                new Document("$project", new Document()
+                        .append("interviewRecordId", 1)
+                        .append("enterpriseName", 1)
+                        .append("category", 1)
+                        .append("createdAt", 1)
+                        .append("updatedAt", 1)
+                        .append("details", new Document("$slice", List.of(details, skip, limit)))
+                        .append("totalDetails", new Document("$size", details))),
+                new Document("$addFields", new Document("hasNext",
+                        new Document("$gt", List.of("$totalDetails", (long) skip + limit)))));
+    }
+
+    /**
+     * 쓰기에 변경 이벤트를 outbox 배열 끝에 추가하는 연산을 더한 새 쓰기를 생성합니다.
+     * 변경과 이벤트 추가가 같은 단일 문서 업데이트로 수행되므로, 쓰기가 적용된 경우에만 이벤트가 남습니다.
+     * 파이프라인 업데이트에는 outbox를 이어 붙이는 단계를 마지막에 추가합니다.
+     * outbox는 최근 {@code maxEvents}개만 남기며, 넘치면 가장 오래된 이벤트부터 버립니다.
+     */
+    static UpdateOneModel<Document> withEvents(UpdateOneModel<Document> write, List<RecordChangeEvent> events,
+            int maxEvents) {
+        if (write.getUpdatePipeline() != null) {
+            List<Document> pipeline = new ArrayList<>(write.getUpdatePipeline());
+            pipeline.add(new Document("$set", new Document(OUTBOX, new Document("$slice", List.of(
+                    new Document("$concatArrays", List.of(
+                            new Document("$ifNull", List.of("$" + OUTBOX, List.of())),
+                            new Document("$literal", toDocuments(events)))),
+                    -maxEvents)))));
+            return new UpdateOneModel<>(write.getFilter(), pipeline, write.getOptions());
+        }
+        return new UpdateOneModel<>(write.getFilter(), withEvents(write.getUpdate(), events, maxEvents),
+                write.getOptions());
+    }
+
+    /**
+     * 업데이트 문서에 변경 이벤트를 outbox 배열 끝에 추가하는 $push를 더한 새 업데이트를 생성합니다.
+     * 업데이트에 이미 $push가 있으면 같은 연산자에 outbox 필드를 추가합니다.
+     * outbox는 최근 {@code maxEvents}개만 남기며($slice), 넘치면 가장 오래된 이벤트부터 버립니다.
+     */
+    static Document withEvents(Document update, List<RecordChangeEvent> events, int maxEvents) {
+        Document push = new Document();
+        Object existing = update.get("$push");
+        if (existing != null) {
+            push.putAll((Document) existing);
+        }
+        push.append(OUTBOX, new Document("$each", toDocuments(events)).append("$slice", -maxEvents));
+
+        Document updated = new Document(update);
+        updated.put("$push", push);
+        return updated;
+    }
+
+    /**
+     * outbox에 이벤트가 남아 있는 사용자 문서에서 앞쪽 이벤트만 잘라 조회하는 집계 파이프라인을 생성합니다.
+     * 문서마다 최대 {@code limit}개를 자르므로 사용자별로는 항상 가장 오래된 이벤트부터 연속된 구간을 반환합니다.
+     */
+    static List<Document> outboxPipeline(int limit) {
+        return List.of(
+                new Document("$match", new Document(OUTBOX + ".eventId", new Document("$exists", true))),
+                new Document("$limit", limit),
+                new Document("$project", new Document(OUTBOX, new Document("$slice", List.of("$" + OUTBOX, limit)))));
+    }
+
+    /**
+     * 발행한 이벤트를 outbox에서 제거하는 업데이트를 생성합니다.
+     * outbox는 면접 기록의 일부가 아니므로 문서 버전을 증가시키지 않습니다.
+     */
+    static Document removeOutboxUpdate(List<String> eventIds) {
+        return new Document("$pull", new Document(OUTBOX,
+                new Document("eventId", new Document("$in", eventIds))));
+    }
+
+    /**
+     * 이름으로 구분하는 임대(lease)를 주어진 소유자가 획득하거나 연장할 때 사용하는 필터를 생성합니다.
+     * 임대가 없거나, 같은 소유자가 가지고 있거나, 만료된 경우에만 일치합니다. 만료 여부는 MongoDB 서버 시각으로 판단합니다.
+     */
+    static Document leaseFilter(String name, String owner) {
+        return new Document("_id", name).append("$or", List.of(
+                new Document("owner", owner),
+                new Document("$expr", new Document("$lt", List.of("$expiresAt", "$$NOW")))));
+    }
+
+    /**
+     * 임대의 소유자를 기록하고 만료 시각을 서버 시각 기준으로 {@code durationMillis} 뒤로 설정하는 파이프라인 업데이트를 생성합니다.
+     */
+    static List<Document> leaseUpdate(String owner, long durationMillis) {
+        return List.of(new Document("$set", new Document()
+                .append("owner", literal(owner))
+                .append("expiresAt", new Document("$add", List.of("$$NOW", durationMillis)))));
+    }
+
+    /**
+     * outbox 집계 결과 문서의 이벤트를 순서대로 변경 이벤트 모델로 변환합니다.
+     */
+    static List<RecordChangeEvent> toEvents(Document document) {
+        String userId = document.get("_id", String.class);
+        List<RecordChangeEvent> events = new ArrayList<>();
+        for (Document stored : document.getList(OUTBOX, Document.class, List.of())) {
+            RecordChangeEvent event = new RecordChangeEvent();
+            event.setEventId(stored.getString("eventId"));
+            event.setUserId(userId);
+            event.setType(RecordChangeType.valueOf(stored.getString("type")));
+            event.setInterviewRecordId(stored.getString("interviewRecordId"));
+            event.setDetailId(stored.getString("detailId"));
+            event.setDetailIndex(stored.getInteger("detailIndex"));
+            event.setOccurredAt(stored.getDate("occurredAt"));
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * 사용자 문서 중 주어진 인터뷰 기록을 포함하는 문서를 찾는 필터를 생성합니다.
+     */
+    static Document interviewFilter(String userId, String interviewRecordId) {
+        return new Document("_id", userId).append("records.interviewRecordId", interviewRecordId);
+    }
+
+    /**
+     * 사용자 문서 중 주어진 인터뷰 기록에 해당 인덱스의 세부 항목이 존재하는 문서를 찾는 필터를 생성합니다.
+     */
+    static Document detailFilter(String userId, String interviewRecordId, int detailIndex) {
+        return new Document("_id", userId)
+                .append("records", new Document("$elemMatch", new Document()
+                        .append("interviewRecordId", interviewRecordId)
+                        .append("details." + detailIndex, new Document("$exists", true))));
+    }
+
+    /**
+     * 사용자 문서 중 주어진 인터뷰 기록에 해당 ID의 세부 항목이 존재하는 문서를 찾는 필터를 생성합니다.
+     */
+    static Document detailIdFilter(String userId, String interviewRecordId, String detailId) {
+        return new Document("_id", userId)
+                .append("records", new Document("$elemMatch", new Document()
+                        .append("interviewRecordId", interviewRecordId)
+                        .append("details.detailId", detailId)));
+    }
+
+    /**
+     * 사이드바 항목의 필터와 커서 조건을 생성합니다.
+     * 커서가 있으면 정렬 방향으로 (updatedAt, interviewRecordId)가 커서보다 뒤에 있는 항목만 선택합니다.
+     */
+    private static Document sidebarFilter(SidebarCursor cursor, boolean ascending, String category,
+            String enterpriseName) {
+        Document filter = new Document();
+        if (category != null) {
+            filter.append("category", category);
+        }
+        if (enterpriseName != null) {
+            filter.append("enterpriseName", enterpriseName);
+        }
+        if (cursor != null) {
+            String after = ascending ? "$gt" : "$lt";
+            filter.append("$or", List.of(
+                    new Document("updatedAt", new Document(after, cursor.getUpdatedAt())),
+                    new Document("updatedAt", cursor.getUpdatedAt())
+                            .append("interviewRecordId", new Document(after, cursor.getInterviewRecordId()))));
+        }
+        return filter;
+    }
+
+    /**
+     * {@code records.$[ir]}가 주어진 인터뷰 기록을 가리키도록 arrayFilters 옵션을 생성합니다.
+     */
+    private static UpdateOptions interviewArrayFilter(String interviewRecordId) {
+        return new UpdateOptions().arrayFilters(List.of(new Document("ir.interviewRecordId", interviewRecordId)));
+    }
+
+    private static UpdateOptions detailArrayFilters(String interviewRecordId, String detailId) {
+        return new UpdateOptions().arrayFilters(List.of(
+                new Document("ir.interviewRecordId", interviewRecordId),
+                new Document("d.detailId", detailId)));
+    }
+
+    /**
+     * 패치 대상 경로 아래의 필드만 $set/$unset하고, 인터뷰 기록의 수정 시각과 문서 버전을 함께 갱신하는 업데이트를 생성합니다.
+     */
+    private static Document patchUpdate(String path, RecordPatch patch, Date updatedAt) {
+        Document set = new Document();
+        patch.getSet().forEach((field, value) -> set.append(path + "." + field, value));
+        set.append(INTERVIEW_FILTER + ".updatedAt", updatedAt);
+
+        Document update = new Document("$set", set);
+        if (!patch.getUnset().isEmpty()) {
+            Document unset = new Document();
+            patch.getUnset().forEach(field -> unset.append(path + "." + field, ""));
+            update.append("$unset", unset);
+        }
+        return update.append("$inc", versionIncrement());
+    }
+
+    /**
+     * 주어진 인터뷰 기록({@code $$ir})에만 변경할 필드를 병합하는 파이프라인 단계를 생성합니다.
+     */
+    private static Document mergeInterviewStage(String interviewRecordId, Document changes) {
+        return new Document("$set", new Document("records", new Document("$map", new Document()
+                .append("input", "$records")
+                .append("as", "ir")
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$$ir.interviewRecordId", literal(interviewRecordId))),
+                        new Document("$mergeObjects", List.of("$$ir", changes)),
+                        "$$ir"))))));
+    }
+
+    /**
+     * 사용자 입력 값이 파이프라인에서 필드 경로나 연산자로 해석되지 않도록 $literal로 감쌉니다.
+     */
+    private static Document literal(Object value) {
+        return new Document("$literal", value);
+    }
+
+    private static Document versionIncrement() {
+        return new Document("version", 1L);
+    }
+
+    private static Document toDocument(Record.InterviewRecord interviewRecord) {
+        return new Document()
+                .append("interviewRecordId", interviewRecord.getInterviewRecordId())
+                .append("enterpriseName", interviewRecord.getEnterpriseName())
+                .append("category", interviewRecord.getCategory())
+                .append("createdAt", interviewRecord.getCreatedAt())
+                .append("updatedAt", interviewRecord.getUpdatedAt())
+                .append("details", interviewRecord.getDetails().stream().map(RecordCommands::toDocument).toList());
+    }
+
+    /**
+     * 변경 이벤트를 outbox 요소로 변환합니다. 사용자 ID는 문서의 _id이므로 저장하지 않으며, 값이 없는 필드는 생략합니다.
+     */
+    private static List<Document> toDocuments(List<RecordChangeEvent> events) {
+        List<Document> documents = new ArrayList<>(events.size());
+        for (RecordChangeEvent event : events) {
+            Document document = new Document()
+                    .append("eventId", event.getEventId())
+                    .append("type", event.getType().name())
+                    .append("interviewRecordId", event.getInterviewRecordId());
+            if (event.getDetailId() != null) {
+                document.append("detailId", event.getDetailId());
+            }
+            if (event.getDetailIndex() != null) {
+                document.append("detailIndex", event.getDetailIndex());
+            }
+            documents.add(document.append("occurredAt", event.getOccurredAt()));
+        }
+        return documents;
+    }
+
+    private static Document toDocument(Record.RecordDetail detail) {
+        return new Document()
+                .append("detailId", detail.getDetailId())
+                .append("question", detail.getQuestion())
+                .append("answer", detail.storedAnswer())
+                .append("createdAt", detail.getCreatedAt());
+    }
+}
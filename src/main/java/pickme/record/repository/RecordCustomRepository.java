@@ -0,0 +1,339 @@
+package pickme.record.repository;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.dto.RecordBatchOperationDTO;
+import pickme.record.model.Record;
+import pickme.record.model.RecordChangeEvent;
+import pickme.record.model.RecordExportEntry;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * RecordCustomRepository는 사용자 Record 문서 전체를 읽고 다시 쓰지 않고,
+ * 배열 원소 단위의 원자적 업데이트($push, $pull, arrayFilters 기반 $set)를 수행하는 리포지토리 인터페이스입니다.
+ *
+ * <p>
+ * 각 메서드는 MongoDB에 단일 업데이트 명령만 전송하므로,
+ * 비용이 사용자의 전체 기록 크기와 무관합니다.
+ * 조회 메서드는 필요한 필드만 프로젝션하여 DTO로 직접 변환합니다.
+ * 변경 이벤트 outbox({@code record.outbox.enabled=true})가 활성화되어 있으면,
+ * 쓰기 메서드는 변경 이벤트를 같은 업데이트 명령으로 사용자 문서의 outbox에 추가합니다.
+ * 통계에 영향을 주는 변경과 삭제는 같은 명령(findOneAndUpdate)으로 변경 직전의 값을 반환하므로,
+ * 통계 증감량이 쓰기 전에 따로 조회한 값과 어긋나지 않습니다.
+ * </p>
+ */
+public interface RecordCustomRepository {
+
+    /**
+     * 사용자 Record에 새로운 인터뷰 기록을 추가합니다. Record가 없으면 새로 생성합니다.
+     *
+     * @param userId          사용자 ID
+     * @param interviewRecord 추가할 인터뷰 기록
+     */
+    void pushInterviewRecord(String userId, Record.InterviewRecord interviewRecord);
+
+    /**
+     * 인터뷰 기록의 기업명과 카테고리를 업데이트합니다.
+     *
+     * <p>
+     * 쓰기와 같은 명령으로 변경 직전의 인터뷰 기록을 반환받으므로, 반환값은 이 쓰기가 실제로 덮어쓴 값입니다.
+     * 통계 증감량은 별도로 조회한 값이 아닌 이 값을 기준으로 계산합니다.
+     * </p>
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param enterpriseName    새로운 기업명
+     * @param category          새로운 카테고리
+     * @param updatedAt         수정 시각
+     * @return 업데이트 직전의 인터뷰 기록, 대상이 없으면 빈 Optional
+     */
+    Optional<Record.InterviewRecord> updateInterviewRecord(String userId, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt);
+
+    /**
+     * 인터뷰 기록을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 삭제되지 않았으면 빈 Optional
+     */
+    Optional<RecordOutline.InterviewOutline> pullInterviewRecord(String userId, String interviewRecordId);
+
+    /**
+     * 인터뷰 기록에 질문/답변 세부 항목을 추가합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detail            추가할 세부 항목
+     * @param updatedAt         수정 시각
+     * @return 추가 여부
+     */
+    boolean pushRecordDetail(String userId, String interviewRecordId, Record.RecordDetail detail, Date updatedAt);
+
+    /**
+     * 인터뷰 기록에 여러 질문/답변 세부 항목을 순서대로 한 번에 추가합니다 ($push + $each).
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param details           추가할 세부 항목 목록
+     * @param updatedAt         수정 시각
+     * @return 추가 여부
+     */
+    boolean pushRecordDetails(String userId, String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt);
+
+    /**
+     * 인덱스로 지정한 세부 항목의 질문과 답변을 업데이트합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 항목 인덱스
+     * @param detail            새로운 질문과 답변
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            Record.RecordDetail detail, Date updatedAt);
+
+    /**
+     * 인덱스로 지정한 세부 항목을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 항목 인덱스
+     * @param updatedAt         수정 시각
+     * @return 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 삭제되지 않았으면 빈 Optional
+     */
+    Optional<RecordOutline.InterviewOutline> removeRecordDetail(String userId, String interviewRecordId,
+            int detailIndex, Date updatedAt);
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목의 질문과 답변을 업데이트합니다.
+     * 다른 세부 항목이 추가되거나 삭제되어 위치가 바뀌어도 같은 세부 항목만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param detail            새로운 질문과 답변
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt);
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param updatedAt         수정 시각
+     * @return 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 삭제되지 않았으면 빈 Optional
+     */
+    Optional<RecordOutline.InterviewOutline> removeRecordDetailById(String userId, String interviewRecordId,
+            String detailId, Date updatedAt);
+
+    /**
+     * 인터뷰 기록에서 병합 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             변경할 필드 목록
+     * @param updatedAt         수정 시각
+     * @return 변경 직전의 인터뷰 기록 구조 정보, 대상이 없으면 빈 Optional
+     */
+    Optional<RecordOutline.InterviewOutline> patchInterviewRecord(String userId, String interviewRecordId,
+            RecordPatch patch, Date updatedAt);
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목에서 병합 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             변경할 필드 목록
+     * @param updatedAt         수정 시각
+     * @return 업데이트 여부
+     */
+    boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, RecordPatch patch,
+            Date updatedAt);
+
+    /**
+     * 사이드바에 필요한 필드만 프로젝션하여 (updatedAt, interviewRecordId) 순서로 한 페이지를 조회합니다.
+     * 질문/답변 세부 항목({@code records.details})은 읽지 않으며, 커서 이후의 항목만 반환합니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지의 마지막 항목 위치, 첫 페이지이면 null
+     * @param ascending      updatedAt 오름차순 여부 (false이면 최근 수정 순)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @param limit          가져올 항목 수
+     * @return 사이드바 데이터 목록, 사용자가 없으면 빈 리스트
+     */
+    List<InterviewRecordSidebarDTO> findSidebarPage(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit);
+
+    /**
+     * 인터뷰 기록 하나를 조회하되, 세부 항목은 요청한 범위만 $slice로 잘라서 가져옵니다.
+     * 전체 세부 항목 개수와 다음 페이지 존재 여부는 서버에서 $size로 계산합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param skip              건너뛸 세부 항목 수
+     * @param limit             가져올 세부 항목 수 (1 이상)
+     * @return 페이징된 인터뷰 기록, 대상이 없으면 빈 Optional
+     */
+    Optional<InterviewRecordResponseDTO> findInterviewRecordPage(String userId, String interviewRecordId,
+            int skip, int limit);
+
+    /**
+     * 인터뷰 기록이 있는 경우 사용자 문서의 버전만 조회합니다. 조건부 조회(ETag) 판단에 사용합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 문서 버전, 인터뷰 기록이 없으면 빈 Optional
+     */
+    Optional<Long> findInterviewRecordVersion(String userId, String interviewRecordId);
+
+    /**
+     * 사용자 문서의 버전만 조회합니다. 조건부 조회(ETag) 판단에 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 문서 버전, 사용자가 없으면 빈 Optional
+     */
+    Optional<Long> findVersion(String userId);
+
+    /**
+     * 사용자 문서의 버전과 인터뷰 기록별 메타데이터, 세부 항목 개수만 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 문서 구조 정보, 사용자가 없으면 빈 Optional
+     */
+    Optional<RecordOutline> findOutline(String userId);
+
+    /**
+     * 인터뷰 기록 하나의 메타데이터와 세부 항목 ID 목록만 조회합니다. 질문/답변 본문은 읽지 않습니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 인터뷰 기록 구조 정보, 인터뷰 기록이 없으면 빈 Optional
+     */
+    Optional<RecordOutline.InterviewOutline> findInterviewOutline(String userId, String interviewRecordId);
+
+    /**
+     * 여러 쓰기 작업을 순서대로 하나씩 실행합니다.
+     *
+     * <p>
+     * 모든 작업은 문서 버전이 {@code expectedVersion}일 때만 적용되는 하나의 업데이트로 함께 실행되며,
+     * 버전은 작업 수와 관계없이 한 번만 증가합니다.
+     * 다른 요청의 쓰기가 끼어들어 버전이 어긋나면 어떤 작업도 적용되지 않으므로, 작업은 모두 적용되거나 모두 적용되지 않습니다.
+     * </p>
+     *
+     * @param userId          사용자 ID
+     * @param expectedVersion 작업 대상을 검증한 시점의 문서 버전
+     * @param operations      실행할 작업 목록 (대상 유효성이 검증된 작업)
+     * @param updatedAt       수정 시각
+     * @return 적용된 작업 수 (모두 적용되면 작업 수, 버전이 어긋나면 0)
+     */
+    int applyBatch(String userId, Long expectedVersion, List<RecordBatchOperationDTO> operations, Date updatedAt);
+
+    /**
+     * 사용자의 기록에서 질문/답변/기업명이 패턴과 일치하는 세부 항목을 조회합니다.
+     * 패턴은 부분 문자열로 일치하므로 한국어 활용형(조사, 어미가 붙은 단어)도 찾을 수 있습니다.
+     *
+     * @param userId  사용자 ID
+     * @param pattern 세부 항목 일치 판정에 사용할 정규식 (대소문자 무시)
+     * @param skip    건너뛸 결과 수
+     * @param limit   가져올 결과 수
+     * @return 일치한 세부 항목 목록 (인터뷰 기록 순서, 세부 항목 인덱스 순)
+     */
+    List<RecordSearchMatch> searchDetails(String userId, String pattern, int skip, int limit);
+
+    /**
+     * 사용자의 인터뷰 기록을 세부 항목과 함께 한 건씩 읽는 커서 기반 스트림을 반환합니다.
+     * 반환된 스트림은 사용 후 반드시 닫아야 합니다.
+     *
+     * @param userId    사용자 ID
+     * @param batchSize 커서가 한 번에 가져올 문서 수
+     * @return 인터뷰 기록 스트림
+     */
+    Stream<RecordExportEntry> streamExportByUserId(String userId, int batchSize);
+
+    /**
+     * 전체 사용자의 인터뷰 기록을 사용자 ID 순으로 한 건씩 읽는 커서 기반 스트림을 반환합니다.
+     * 반환된 스트림은 사용 후 반드시 닫아야 합니다.
+     *
+     * @param batchSize 커서가 한 번에 가져올 문서 수
+     * @return 인터뷰 기록 스트림
+     */
+    Stream<RecordExportEntry> streamExportAll(int batchSize);
+
+    /**
+     * 사용자 통계 요약 문서에 증감량을 $inc로 반영합니다.
+     * 요약 문서가 아직 없으면 반영하지 않으며, 이후 조회나 재구성 작업에서 전체를 다시 만듭니다.
+     *
+     * @param userId    사용자 ID
+     * @param delta     반영할 증감량
+     * @param updatedAt 수정 시각
+     */
+    void incrementStats(String userId, RecordStatsDelta delta, Date updatedAt);
+
+    /**
+     * 사용자 통계 요약 문서를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 통계 요약, 요약 문서가 없으면 빈 Optional
+     */
+    Optional<RecordStats> findStats(String userId);
+
+    /**
+     * 사용자 Record 문서에서 통계 요약 문서를 다시 만듭니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void rebuildStats(String userId);
+
+    /**
+     * 전체 사용자의 통계 요약 문서를 하나의 집계 파이프라인($merge)으로 다시 만듭니다.
+     */
+    void rebuildAllStats();
+
+    /**
+     * outbox에 남아 있는 변경 이벤트를 최대 {@code limit}개 조회합니다.
+     * 사용자별로는 outbox에 추가된 순서대로, 가장 오래된 이벤트부터 연속된 이벤트만 반환합니다.
+     *
+     * @param limit 조회할 최대 이벤트 수
+     * @return 변경 이벤트 목록 (사용자 ID 포함)
+     */
+    List<RecordChangeEvent> findOutboxEvents(int limit);
+
+    /**
+     * 발행을 마친 변경 이벤트를 사용자 문서의 outbox에서 제거합니다. 문서 버전은 변경하지 않습니다.
+     *
+     * @param userId   사용자 ID
+     * @param eventIds 제거할 이벤트 ID 목록
+     */
+    void removeOutboxEvents(String userId, List<String> eventIds);
+
+    /**
+     * 이름으로 구분하는 임대를 획득하거나, 이미 가지고 있으면 연장합니다.
+     * 여러 인스턴스 중 하나만 실행해야 하는 주기 작업이 실행 전에 호출하며, 다른 소유자의 임대가 만료되기 전에는 실패합니다.
+     *
+     * @param name     임대 이름
+     * @param owner    임대를 요청하는 소유자 (인스턴스별로 고유한 값)
+     * @param duration 획득하거나 연장한 시점부터 임대가 유지되는 기간
+     * @return 임대 획득 여부
+     */
+    boolean acquireLease(String name, String owner, Duration duration);
+}
@@ -0,0 +1,557 @@
+package pickme.record.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.result.UpdateResult;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordSidebarDTO;
+import pickme.record.dto.RecordBatchOperationDTO;
+import pickme.record.model.Record;
+import pickme.record.model.RecordChangeEvent;
+import pickme.record.model.RecordChangeType;
+import pickme.record.model.RecordExportEntry;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * RecordCustomRepository의 MongoTemplate 기반 구현체입니다.
+ *
+ * <p>
+ * 모든 쓰기는 사용자 문서(_id = userId)를 대상으로 한 단일 업데이트로 수행되며, 드라이버 문서로 직접 구성합니다.
+ * 일괄 작업은 작업마다 하나의 단계를 이어 붙인 파이프라인 업데이트 하나로 실행되어 모두 적용되거나 모두 적용되지 않습니다.
+ * 필터, 업데이트, 집계 파이프라인은 리액티브 구현과 공유하기 위해 {@link RecordCommands}에서 생성합니다.
+ * 모든 쓰기는 문서의 {@code version} 필드를 함께 1 증가시켜,
+ * 문서 전체를 저장하는 경로의 낙관적 동시성 제어와 일관성을 유지합니다.
+ * outbox가 활성화되어 있으면 쓰기 모델에 변경 이벤트 추가를 더해, 변경과 이벤트가 함께 적용되거나 함께 적용되지 않도록 합니다.
+ * </p>
+ */
+public class RecordCustomRepositoryImpl implements RecordCustomRepository {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RecordAnswerCompressor recordAnswerCompressor;
+
+    @Autowired
+    private RecordOutboxProperties recordOutboxProperties;
+
+    @Override
+    public void pushInterviewRecord(String userId, Record.InterviewRecord interviewRecord) {
+        recordAnswerCompressor.compress(interviewRecord);
+        collection().updateOne(new Document("_id", userId), pushInterviewRecordUpdate(interviewRecord),
+                new UpdateOptions().upsert(true));
+    }
+
+    @Override
+    public Optional<Record.InterviewRecord> updateInterviewRecord(String userId, String interviewRecordId,
+            String enterpriseName, String category, Date updatedAt) {
+        UpdateOneModel<Document> write = withEvents(RecordCommands.updateInterviewRecordWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId, enterpriseName, category,
+                updatedAt), RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId, updatedAt));
+
+        // 응답과 통계 증감량 계산에 필요한 인터뷰 기록 하나만 변경 직전의 값으로 반환받음
+        Document before = findAndExecute(write, RecordCommands.interviewRecordProjection(interviewRecordId));
+
+        if (before == null) {
+            return Optional.empty();
+        }
+        Record record = mongoTemplate.getConverter().read(Record.class, before);
+        if (record.getRecords() == null || record.getRecords().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(record.getRecords().get(0));
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> pullInterviewRecord(String userId, String interviewRecordId) {
+        return executeForOutline(withEvents(RecordCommands.pullInterviewRecordWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId),
+                RecordChangeEvent.of(RecordChangeType.INTERVIEW_DELETED, interviewRecordId, new Date())),
+                interviewRecordId);
+    }
+
+    @Override
+    public boolean pushRecordDetail(String userId, String interviewRecordId, Record.RecordDetail detail,
+            Date updatedAt) {
+        return pushRecordDetails(userId, interviewRecordId, List.of(detail), updatedAt);
+    }
+
+    @Override
+    public boolean pushRecordDetails(String userId, String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt) {
+        recordAnswerCompressor.compress(details);
+        return execute(withEvents(RecordCommands.pushRecordDetailsWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId, details, updatedAt),
+                detailsCreated(interviewRecordId, details, updatedAt)))
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            Record.RecordDetail detail, Date updatedAt) {
+        recordAnswerCompressor.compress(detail);
+        return execute(withEvents(RecordCommands.updateRecordDetailWrite(
+                RecordCommands.detailFilter(userId, interviewRecordId, detailIndex), interviewRecordId, detailIndex,
+                detail, updatedAt), RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_UPDATED,
+                        interviewRecordId, detailIndex, updatedAt)))
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> removeRecordDetail(String userId, String interviewRecordId,
+            int detailIndex, Date updatedAt) {
+        return executeForOutline(withEvents(RecordCommands.removeRecordDetailWrite(
+                RecordCommands.detailFilter(userId, interviewRecordId, detailIndex), interviewRecordId, detailIndex,
+                updatedAt), RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_DELETED, interviewRecordId,
+                        detailIndex, updatedAt)), interviewRecordId);
+    }
+
+    @Override
+    public boolean updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            Record.RecordDetail detail, Date updatedAt) {
+        recordAnswerCompressor.compress(detail);
+        return execute(withEvents(RecordCommands.updateRecordDetailByIdWrite(
+                RecordCommands.detailIdFilter(userId, interviewRecordId, detailId), interviewRecordId, detailId,
+                detail, updatedAt), RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                        detailId, updatedAt)))
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> removeRecordDetailById(String userId, String interviewRecordId,
+            String detailId, Date updatedAt) {
+        return executeForOutline(withEvents(RecordCommands.removeRecordDetailByIdWrite(
+                RecordCommands.detailIdFilter(userId, interviewRecordId, detailId), interviewRecordId, detailId,
+                updatedAt), RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_DELETED, interviewRecordId, detailId,
+                        updatedAt)), interviewRecordId);
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> patchInterviewRecord(String userId, String interviewRecordId,
+            RecordPatch patch, Date updatedAt) {
+        return executeForOutline(withEvents(RecordCommands.patchInterviewRecordWrite(
+                RecordCommands.interviewFilter(userId, interviewRecordId), interviewRecordId, patch, updatedAt),
+                RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId, updatedAt)),
+                interviewRecordId);
+    }
+
+    @Override
+    public boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, RecordPatch patch,
+            Date updatedAt) {
+        recordAnswerCompressor.compress(patch);
+        return execute(withEvents(RecordCommands.patchRecordDetailWrite(
+                RecordCommands.detailIdFilter(userId, interviewRecordId, detailId), interviewRecordId, detailId,
+                patch, updatedAt), RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                        detailId, updatedAt)))
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<Long> findInterviewRecordVersion(String userId, String interviewRecordId) {
+        return findVersion(RecordCommands.interviewFilter(userId, interviewRecordId));
+    }
+
+    @Override
+    public Optional<Long> findVersion(String userId) {
+        return findVersion(new Document("_id", userId));
+    }
+
+    @Override
+    public Optional<RecordOutline> findOutline(String userId) {
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("_id", userId)),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("version", 1)
+                        .append("records", new Document("$map", new Document()
+                                .append("input", new Document("$ifNull", List.of("$records", List.of())))
+                                .append("as", "ir")
+                                .append("in", new Document()
+                                        .append("interviewRecordId", "$$ir.interviewRecordId")
+                                        .append("enterpriseName", "$$ir.enterpriseName")
+                                        .append("category", "$$ir.category")
+                                        .append("createdAt", "$$ir.createdAt")
+                                        .append("detailCount", new Document("$size",
+                                                new Document("$ifNull", List.of("$$ir.details", List.of())))))))));
+
+        return aggregate(pipeline, RecordOutline.class).stream().findFirst();
+    }
+
+    @Override
+    public Optional<RecordOutline.InterviewOutline> findInterviewOutline(String userId, String interviewRecordId) {
+        List<Document> pipeline = RecordCommands.interviewOutlinePipeline(userId, interviewRecordId);
+
+        return aggregate(pipeline, RecordOutline.InterviewOutline.class).stream().findFirst();
+    }
+
+    @Override
+    public int applyBatch(String userId, Long expectedVersion, List<RecordBatchOperationDTO> operations,
+            Date updatedAt) {
+        List<Document> stages = new ArrayList<>(operations.size());
+        List<RecordChangeEvent> events = new ArrayList<>(operations.size());
+        for (RecordBatchOperationDTO operation : operations) {
+            addBatchOperation(stages, events, operation, updatedAt);
+        }
+
+        // 모든 작업을 버전 조건이 걸린 하나의 파이프라인 업데이트로 실행하므로, 작업은 모두 적용되거나 모두 적용되지 않음
+        Document filter = new Document("_id", userId).append("version", expectedVersion);
+        return execute(withEvents(RecordCommands.pipelineWrite(filter, stages), events)).getMatchedCount() > 0
+                ? operations.size()
+                : 0;
+    }
+
+    @Override
+    public List<InterviewRecordSidebarDTO> findSidebarPage(String userId, SidebarCursor cursor, boolean ascending,
+            String category, String enterpriseName, int limit) {
+        List<Document> pipeline = RecordCommands.sidebarPagePipeline(userId, cursor, ascending, category,
+                enterpriseName, limit);
+
+        return aggregate(pipeline, InterviewRecordSidebarDTO.class);
+    }
+
+    @Override
+    public Optional<InterviewRecordResponseDTO> findInterviewRecordPage(String userId, String interviewRecordId,
+            int skip, int limit) {
+        List<Document> pipeline = RecordCommands.interviewRecordPagePipeline(userId, interviewRecordId, skip, limit);
+
+        return aggregate(pipeline, InterviewRecordResponseDTO.class).stream().findFirst();
+    }
+
+    @Override
+    public List<RecordSearchMatch> searchDetails(String userId, String pattern, int skip, int limit) {
+        // 사용자 문서는 _id로 하나만 선택되므로, 단어 단위의 $text 사전 필터 없이 세부 항목마다 부분 문자열로 판정
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("_id", userId)),
+                new Document("$project", new Document("records", 1)),
+                new Document("$unwind", "$records"),
+                new Document("$unwind", new Document("path", "$records.details")
+                        .append("includeArrayIndex", "detailIndex")
+                        .append("preserveNullAndEmptyArrays", true)),
+                RecordSearchCommands.matchStage("records.", pattern),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("interviewRecordId", "$records.interviewRecordId")
+                        .append("enterpriseName", "$records.enterpriseName")
+                        .append("category", "$records.category")
+                        .append("detailIndex", 1)
+                        .append("detailId", "$records.details.detailId")
+                        .append("question", "$records.details.question")
+                        .append("answer", "$records.details.answer")));
+
+        try (MongoCursor<Document> cursor = collection().aggregate(pipeline).cursor()) {
+            return RecordSearchCommands.page(cursor, mongoTemplate.getConverter(), pattern, skip, limit);
+        }
+    }
+
+    @Override
+    public Stream<RecordExportEntry> streamExportByUserId(String userId, int batchSize) {
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", new Document("_id", userId)));
+        pipeline.addAll(exportStages());
+
+        return stream(pipeline, batchSize);
+    }
+
+    @Override
+    public Stream<RecordExportEntry> streamExportAll(int batchSize) {
+        // _id 인덱스 순서로 읽으므로 정렬을 위해 결과를 메모리에 모으지 않음
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$sort", new Document("_id", 1)));
+        pipeline.addAll(exportStages());
+
+        return stream(pipeline, batchSize);
+    }
+
+    @Override
+    public void incrementStats(String userId, RecordStatsDelta delta, Date updatedAt) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        // upsert하지 않으므로, 요약 문서가 없는 사용자의 증감량은 버려지고 이후 재구성에서 계산됨
+        statsCollection().updateOne(new Document("_id", userId),
+                RecordStatsCommands.incrementUpdate(delta, updatedAt));
+    }
+
+    @Override
+    public Optional<RecordStats> findStats(String userId) {
+        return Optional.ofNullable(statsCollection().find(new Document("_id", userId)).first())
+                .map(RecordStatsCommands::toStats);
+    }
+
+    @Override
+    public void rebuildStats(String userId) {
+        collection().aggregate(RecordStatsCommands.rebuildPipeline(new Document("_id", userId))).toCollection();
+    }
+
+    @Override
+    public void rebuildAllStats() {
+        collection().aggregate(RecordStatsCommands.rebuildPipeline(new Document())).allowDiskUse(true)
+                .toCollection();
+    }
+
+    @Override
+    public List<RecordChangeEvent> findOutboxEvents(int limit) {
+        List<RecordChangeEvent> events = new ArrayList<>();
+        List<Document> documents = collection().aggregate(RecordCommands.outboxPipeline(limit))
+                .into(new ArrayList<>());
+        for (Document document : documents) {
+            for (RecordChangeEvent event : RecordCommands.toEvents(document)) {
+                if (events.size() == limit) {
+                    return events;
+                }
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public void removeOutboxEvents(String userId, List<String> eventIds) {
+        collection().updateOne(new Document("_id", userId), RecordCommands.removeOutboxUpdate(eventIds));
+    }
+
+    @Override
+    public boolean acquireLease(String name, String owner, Duration duration) {
+        // 다른 소유자의 임대가 유효하면 필터와 일치하지 않아 같은 _id로 upsert를 시도하므로 중복 키 오류가 발생함
+        try {
+            return leaseCollection().findOneAndUpdate(RecordCommands.leaseFilter(name, owner),
+                    RecordCommands.leaseUpdate(owner, duration.toMillis()),
+                    new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER)) != null;
+        } catch (MongoException e) {
+            if (ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 문서를 인터뷰 기록 단위로 펼쳐 내보내기 모델의 필드로 프로젝션하는 단계를 생성합니다.
+     */
+    private List<Document> exportStages() {
+        return List.of(
+                new Document("$unwind", "$records"),
+                new Document("$project", new Document()
+                        .append("_id", 0)
+                        .append("userId", "$_id")
+                        .append("interviewRecordId", "$records.interviewRecordId")
+                        .append("enterpriseName", "$records.enterpriseName")
+                        .append("category", "$records.category")
+                        .append("createdAt", "$records.createdAt")
+                        .append("updatedAt", "$records.updatedAt")
+                        .append("details", "$records.details")));
+    }
+
+    /**
+     * 일괄 작업 하나를 파이프라인 단계로 변환하여 추가하고, 작업의 변경 이벤트를 함께 추가합니다.
+     */
+    private void addBatchOperation(List<Document> stages, List<RecordChangeEvent> events,
+            RecordBatchOperationDTO operation, Date updatedAt) {
+        String interviewRecordId = operation.getInterviewRecordId();
+
+        switch (operation.getType()) {
+            case UPDATE_INTERVIEW:
+                stages.add(RecordCommands.updateInterviewRecordStage(interviewRecordId, operation.getEnterpriseName(),
+                        operation.getCategory(), updatedAt));
+                events.add(RecordChangeEvent.of(RecordChangeType.INTERVIEW_UPDATED, interviewRecordId, updatedAt));
+                break;
+            case DELETE_INTERVIEW:
+                stages.add(RecordCommands.pullInterviewRecordStage(interviewRecordId));
+                events.add(RecordChangeEvent.of(RecordChangeType.INTERVIEW_DELETED, interviewRecordId, updatedAt));
+                break;
+            case CREATE_DETAIL:
+                Record.RecordDetail created = toNewRecordDetail(operation, updatedAt);
+                stages.add(RecordCommands.pushRecordDetailStage(interviewRecordId, created, updatedAt));
+                events.add(RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_CREATED, interviewRecordId,
+                        created.getDetailId(), updatedAt));
+                break;
+            case UPDATE_DETAIL:
+                stages.add(RecordCommands.updateRecordDetailStage(interviewRecordId, operation.getDetailIndex(),
+                        toRecordDetail(operation), updatedAt));
+                events.add(RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_UPDATED, interviewRecordId,
+                        operation.getDetailIndex(), updatedAt));
+                break;
+            case DELETE_DETAIL:
+                stages.add(RecordCommands.removeRecordDetailStage(interviewRecordId, operation.getDetailIndex(),
+                        updatedAt));
+                events.add(RecordChangeEvent.ofDetailIndex(RecordChangeType.DETAIL_DELETED, interviewRecordId,
+                        operation.getDetailIndex(), updatedAt));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported batch operation: " + operation.getType());
+        }
+    }
+
+    /**
+     * 인터뷰 기록을 추가하는 업데이트를 생성합니다. outbox가 활성화되어 있으면 추가 이벤트를 함께 추가합니다.
+     */
+    private Document pushInterviewRecordUpdate(Record.InterviewRecord interviewRecord) {
+        Document update = RecordCommands.pushInterviewRecordUpdate(interviewRecord);
+        if (!recordOutboxProperties.isEnabled()) {
+            return update;
+        }
+        return RecordCommands.withEvents(update, List.of(RecordChangeEvent.of(RecordChangeType.INTERVIEW_CREATED,
+                interviewRecord.getInterviewRecordId(), interviewRecord.getCreatedAt())),
+                recordOutboxProperties.getMaxEvents());
+    }
+
+    /**
+     * outbox가 활성화되어 있으면 쓰기 모델에 변경 이벤트 추가를 더합니다.
+     */
+    private UpdateOneModel<Document> withEvents(UpdateOneModel<Document> write, RecordChangeEvent event) {
+        return withEvents(write, List.of(event));
+    }
+
+    private UpdateOneModel<Document> withEvents(UpdateOneModel<Document> write, List<RecordChangeEvent> events) {
+        return recordOutboxProperties.isEnabled()
+                ? RecordCommands.withEvents(write, events, recordOutboxProperties.getMaxEvents())
+                : write;
+    }
+
+    /**
+     * 세부 항목마다 하나씩 추가 이벤트를 생성합니다.
+     */
+    private List<RecordChangeEvent> detailsCreated(String interviewRecordId, List<Record.RecordDetail> details,
+            Date updatedAt) {
+        return details.stream()
+                .map(detail -> RecordChangeEvent.ofDetail(RecordChangeType.DETAIL_CREATED, interviewRecordId,
+                        detail.getDetailId(), updatedAt))
+                .toList();
+    }
+
+    /**
+     * 필터와 일치하는 사용자 문서의 버전만 프로젝션하여 조회합니다.
+     */
+    private Optional<Long> findVersion(Document filter) {
+        Document document = collection().find(filter)
+                .projection(new Document("version", 1))
+                .first();
+
+        if (document == null) {
+            return Optional.empty();
+        }
+        // 버전 필드가 도입되기 전에 저장된 문서는 0으로 취급
+        Number version = document.get("version", Number.class);
+        return Optional.of(version == null ? 0L : version.longValue());
+    }
+
+    /**
+     * 단일 쓰기 모델을 실행합니다.
+     */
+    private UpdateResult execute(UpdateOneModel<Document> write) {
+        if (write.getUpdatePipeline() != null) {
+            return collection().updateOne(write.getFilter(), write.getUpdatePipeline(), write.getOptions());
+        }
+        return collection().updateOne(write.getFilter(), write.getUpdate(), write.getOptions());
+    }
+
+    /**
+     * 단일 쓰기 모델을 findOneAndUpdate로 실행하고, 프로젝션한 변경 직전의 문서를 반환합니다.
+     *
+     * @return 변경 직전의 문서, 필터와 일치하는 문서가 없으면 null
+     */
+    private Document findAndExecute(UpdateOneModel<Document> write, Document projection) {
+        FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                .arrayFilters(write.getOptions().getArrayFilters())
+                .projection(projection)
+                .returnDocument(ReturnDocument.BEFORE);
+        if (write.getUpdatePipeline() != null) {
+            return collection().findOneAndUpdate(write.getFilter(), write.getUpdatePipeline(), options);
+        }
+        return collection().findOneAndUpdate(write.getFilter(), write.getUpdate(), options);
+    }
+
+    /**
+     * 단일 쓰기 모델을 실행하고, 대상 인터뷰 기록의 변경 직전 구조 정보를 반환합니다.
+     * 쓰기와 같은 명령으로 읽으므로, 반환값은 이 쓰기가 실제로 변경한 값입니다.
+     */
+    private Optional<RecordOutline.InterviewOutline> executeForOutline(UpdateOneModel<Document> write,
+            String interviewRecordId) {
+        Document before = findAndExecute(write, RecordCommands.interviewOutlineProjection(interviewRecordId));
+        if (before == null) {
+            return Optional.empty();
+        }
+        return before.getList("records", Document.class, List.of()).stream()
+                .findFirst()
+                .map(outline -> mongoTemplate.getConverter().read(RecordOutline.InterviewOutline.class, outline));
+    }
+
+    /**
+     * records 컬렉션에 대해 집계 파이프라인을 실행하고, 결과 문서를 주어진 타입으로 변환합니다.
+     */
+    private <T> List<T> aggregate(List<Document> pipeline, Class<T> type) {
+        List<T> results = new ArrayList<>();
+        collection().aggregate(pipeline)
+                .forEach(document -> results.add(mongoTemplate.getConverter().read(type, document)));
+        return results;
+    }
+
+    /**
+     * 집계 파이프라인을 커서로 실행하고, 결과 문서를 한 건씩 내보내기 모델로 변환하는 스트림을 반환합니다.
+     * 스트림을 닫으면 커서도 함께 닫힙니다.
+     */
+    private Stream<RecordExportEntry> stream(List<Document> pipeline, int batchSize) {
+        MongoCursor<Document> cursor = collection().aggregate(pipeline).batchSize(batchSize).cursor();
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close)
+                .map(document -> mongoTemplate.getConverter().read(RecordExportEntry.class, document));
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Record.class));
+    }
+
+    private MongoCollection<Document> statsCollection() {
+        return mongoTemplate.getCollection(RecordStats.COLLECTION);
+    }
+
+    private MongoCollection<Document> leaseCollection() {
+        return mongoTemplate.getCollection(RecordCommands.LEASE_COLLECTION);
+    }
+
+    /**
+     * 일괄 작업으로 추가할 세부 항목을 새로운 세부 항목 ID와 생성 시각(일괄 작업의 수정 시각)과 함께 생성합니다.
+     */
+    private Record.RecordDetail toNewRecordDetail(RecordBatchOperationDTO operation, Date createdAt) {
+        Record.RecordDetail detail = toRecordDetail(operation);
+        detail.setDetailId(Record.RecordDetail.newDetailId());
+        detail.setCreatedAt(createdAt);
+        return detail;
+    }
+
+    private Record.RecordDetail toRecordDetail(RecordBatchOperationDTO operation) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setQuestion(operation.getQuestion());
+        detail.setAnswer(operation.getAnswer());
+        recordAnswerCompressor.compress(detail);
+        return detail;
+    }
+}
@@ -0,0 +1,35 @@
+package pickme.record.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.model.Record;
+
+/**
+ * RecordOutboxSaveGuard는 outbox가 활성화된 동안 Record 문서 전체를 매핑으로 저장하지 못하게 막는 리스너입니다.
+ *
+ * <p>
+ * 발행 대기 이벤트는 사용자 문서의 {@code outbox} 배열에 저장되지만 Record 모델에는 매핑되지 않으므로,
+ * {@code save()}나 {@code insert()}로 문서 전체를 교체하면 아직 발행되지 않은 이벤트가 사라지고
+ * 저장 자체에 대한 변경 이벤트도 추가되지 않습니다.
+ * 쓰기는 저장소의 업데이트 메서드로 수행해야 하며, 문서 전체 저장이 필요한 작업은 outbox를 끈 상태에서 실행합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordOutboxSaveGuard extends AbstractMongoEventListener<Record> {
+
+    private final RecordOutboxProperties recordOutboxProperties;
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Record> event) {
+        if (recordOutboxProperties.isEnabled()) {
+            throw new IllegalStateException("Saving a whole Record document would drop its pending outbox events: "
+                    + "userId=" + event.getSource().getUserId());
+        }
+    }
+}
@@ -7,8 +7,9 @@ import pickme.record.model.Record;
 
 /**
  * RecordRepository는 MongoDB 데이터베이스와 상호작용하기 위한 리포지토리 인터페이스입니다.
- * Spring Data MongoDB의 MongoRepository를 확장하여 기본적인 CRUD 작업을 제공합니다.
+ * Spring Data MongoDB의 MongoRepository를 확장하여 기본적인 CRUD 작업을 제공하며,
+ * {@link RecordCustomRepository}를 통해 배열 원소 단위의 원자적 업데이트를 제공합니다.
  */
 @Repository
-public interface RecordRepository extends MongoRepository<Record, String> {
+public interface RecordRepository extends MongoRepository<Record, String>, RecordCustomRepository {
 }
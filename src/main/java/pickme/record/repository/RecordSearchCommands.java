@@ -0,0 +1,85 @@
+package pickme.record.repository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import pickme.record.model.RecordAnswerCodec;
+import pickme.record.model.RecordSearchMatch;
+
+/**
+ * RecordSearchCommands는 세부 항목 검색 집계의 일치 조건과 결과 페이지 계산을 담당하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 압축 저장된 답변은 BSON Binary이므로 서버의 정규식과 비교할 수 없습니다. 따라서 집계는 정규식과 일치하는 행과 함께
+ * 답변이 압축된 행을 후보로 내보내고, 후보는 답변을 복원한 뒤 같은 정규식으로 다시 판정합니다.
+ * 후보 판정 결과에 따라 건너뛸 행이 달라지므로 $skip/$limit 대신 커서를 읽으면서 페이지를 계산하며,
+ * 페이지를 채우면 나머지 결과는 읽지 않습니다.
+ * </p>
+ */
+final class RecordSearchCommands {
+
+    private RecordSearchCommands() {
+    }
+
+    /**
+     * 기업명, 질문, 답변 중 하나가 정규식과 일치하거나 답변이 압축되어 있는 행을 선택하는 $match 단계를 생성합니다.
+     *
+     * @param prefix  인터뷰 기록 필드 경로 접두사 (사용자 문서는 {@code "records."}, 인터뷰 기록 문서는 빈 문자열)
+     * @param pattern 검색 정규식 (대소문자 무시)
+     */
+    static Document matchStage(String prefix, String pattern) {
+        Document regex = new Document("$regex", pattern).append("$options", "i");
+
+        return new Document("$match", new Document("$or", List.of(
+                new Document(prefix + "enterpriseName", regex),
+                new Document(prefix + "details.question", regex),
+                new Document(prefix + "details.answer", regex),
+                new Document(prefix + "details.answer", new Document("$type", "binData")))));
+    }
+
+    /**
+     * 집계 결과를 순서대로 읽어 검색 결과 페이지를 만듭니다.
+     * 답변이 압축된 행은 복원한 본문으로 다시 판정하여 일치하지 않으면 건너뛴 수에도 포함하지 않습니다.
+     *
+     * @param rows      {@link #matchStage(String, String)} 이후 검색 결과 형태로 프로젝션된 행
+     * @param converter 행을 검색 결과로 변환할 변환기 (압축된 답변을 문자열로 복원)
+     * @param pattern   검색 정규식 (대소문자 무시)
+     * @param skip      건너뛸 결과 수
+     * @param limit     가져올 결과 수
+     * @return 일치한 세부 항목 목록
+     */
+    static List<RecordSearchMatch> page(Iterator<Document> rows, MongoConverter converter, String pattern, int skip,
+            int limit) {
+        Pattern compiled = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        List<RecordSearchMatch> matches = new ArrayList<>();
+        int skipped = 0;
+        while (matches.size() < limit && rows.hasNext()) {
+            Document row = rows.next();
+            boolean compressed = RecordAnswerCodec.isCompressed(row.get("answer"));
+            RecordSearchMatch match = converter.read(RecordSearchMatch.class, row);
+            if (compressed && !matches(compiled, match)) {
+                continue;
+            }
+            if (skipped < skip) {
+                skipped++;
+                continue;
+            }
+            matches.add(match);
+        }
+        return matches;
+    }
+
+    private static boolean matches(Pattern pattern, RecordSearchMatch match) {
+        return find(pattern, match.getEnterpriseName()) || find(pattern, match.getQuestion())
+                || find(pattern, match.getAnswer());
+    }
+
+    private static boolean find(Pattern pattern, String value) {
+        return value != null && pattern.matcher(value).find();
+    }
+}
@@ -0,0 +1,275 @@
+package pickme.record.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+
+/**
+ * RecordStatsCommands는 사용자 통계 요약 문서(record_stats 컬렉션)의 증감 업데이트와 재구성 집계 파이프라인을 생성하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 재구성 파이프라인은 인터뷰 기록 배열({@code records})을 가진 입력 문서에서 요약 문서를 계산하는 공통 단계로 이루어지며,
+ * 사용자별 단일 문서 저장 모드에서는 Record 문서를 그대로, 버킷 저장 모드에서는 사용자별로 묶은 인터뷰 기록 문서를 입력으로 사용합니다.
+ * 집계 결과는 {@link #incrementUpdate(RecordStatsDelta, Date)}로 증감되는 요약 문서와 같은 구조를 가지므로,
+ * 증감 반영 도중 누락되거나 어긋난 값은 재구성으로 바로잡을 수 있습니다.
+ * </p>
+ */
+final class RecordStatsCommands {
+
+    private static final String DAY_FORMAT = "%Y-%m-%d";
+
+    private RecordStatsCommands() {
+    }
+
+    /**
+     * 증감량 중 0이 아닌 항목만 $inc하고 수정 시각을 갱신하는 업데이트를 생성합니다.
+     */
+    static Document incrementUpdate(RecordStatsDelta delta, Date updatedAt) {
+        Document inc = new Document();
+        appendIfNonZero(inc, "interviews", delta.getInterviews());
+        appendIfNonZero(inc, "details", delta.getDetails());
+        delta.getCategories().forEach((key, count) -> appendIfNonZero(inc, "categories." + RecordStats.encodeKey(key),
+                count));
+        delta.getEnterprises().forEach((key, count) -> appendIfNonZero(inc,
+                "enterprises." + RecordStats.encodeKey(key), count));
+        delta.getInterviewsByDay().forEach((day, count) -> appendIfNonZero(inc, "activity." + day + ".interviews",
+                count));
+        delta.getDetailsByDay().forEach((day, count) -> appendIfNonZero(inc, "activity." + day + ".details", count));
+
+        return new Document()
+                .append("$inc", inc)
+                .append("$set", new Document("updatedAt", updatedAt));
+    }
+
+    /**
+     * records 컬렉션에서 조건에 맞는 사용자의 요약 문서를 다시 계산하여 record_stats 컬렉션에 덮어쓰는 집계 파이프라인을 생성합니다.
+     *
+     * @param match 재구성할 사용자 문서 조건, 전체 사용자이면 빈 문서
+     */
+    static List<Document> rebuildPipeline(Document match) {
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", match));
+        pipeline.addAll(statsStages());
+        pipeline.add(new Document("$merge", new Document()
+                .append("into", RecordStats.COLLECTION)
+                .append("on", "_id")
+                .append("whenMatched", "replace")
+                .append("whenNotMatched", "insert")));
+        return pipeline;
+    }
+
+    /**
+     * interview_records 컬렉션에서 사용자의 인터뷰 기록을 하나로 묶어 요약 문서를 계산하는 집계 파이프라인을 생성합니다.
+     * 세부 항목은 ID와 생성 시각만 남겨 질문/답변 본문이 파이프라인을 통과하지 않도록 합니다.
+     */
+    static List<Document> interviewDocumentStatsPipeline(String userId) {
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", new Document("userId", userId)));
+        pipeline.add(new Document("$group", new Document()
+                .append("_id", "$userId")
+                .append("records", new Document("$push", new Document()
+                        .append("enterpriseName", "$enterpriseName")
+                        .append("category", "$category")
+                        .append("createdAt", "$createdAt")
+                        .append("details", new Document("$map", new Document()
+                                .append("input", ifEmpty("$details"))
+                                .append("in", new Document()
+                                        .append("detailId", "$$this.detailId")
+                                        .append("createdAt", "$$this.createdAt"))))))));
+        pipeline.addAll(statsStages());
+        return pipeline;
+    }
+
+    /**
+     * 요약 문서를 통계 모델로 변환합니다. 필드 이름으로 저장된 카테고리와 기업명은 원래 이름으로 되돌립니다.
+     */
+    static RecordStats toStats(Document document) {
+        RecordStats stats = new RecordStats();
+        stats.setUserId(document.get("_id", String.class));
+        stats.setInterviews(count(document, "interviews"));
+        stats.setDetails(count(document, "details"));
+        stats.setCategories(counts(document.get("categories", Document.class)));
+        stats.setEnterprises(counts(document.get("enterprises", Document.class)));
+        stats.setUpdatedAt(document.getDate("updatedAt"));
+
+        Document activity = document.get("activity", Document.class);
+        if (activity != null) {
+            for (Map.Entry<String, Object> entry : activity.entrySet()) {
+                if (entry.getValue() instanceof Document counts) {
+                    RecordStats.DailyActivity daily = new RecordStats.DailyActivity();
+                    daily.setInterviews(count(counts, "interviews"));
+                    daily.setDetails(count(counts, "details"));
+                    stats.getActivity().put(entry.getKey(), daily);
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * {@code records} 배열을 가진 입력 문서에서 요약 문서를 계산하는 공통 단계입니다.
+     *
+     * <p>
+     * 첫 단계에서 인터뷰 기록별 카테고리/기업명(필드 이름으로 변환)과 생성 날짜, 세부 항목별 생성 날짜를 배열로 펼치고,
+     * 다음 단계에서 서로 다른 값마다 개수를 세어 {@code $arrayToObject}로 필드 이름-개수 문서를 만듭니다.
+     * </p>
+     */
+    private static List<Document> statsStages() {
+        Document records = ifEmpty("$records");
+
+        Document detailDays = new Document("$reduce", new Document()
+                .append("input", records)
+                .append("initialValue", List.of())
+                .append("in", new Document("$concatArrays", List.of("$$value",
+                        new Document("$map", new Document()
+                                .append("input", ifEmpty("$$this.details"))
+                                .append("as", "d")
+                                .append("in", detailDay("$$d")))))));
+
+        Document days = new Document("$setDifference", List.of(
+                new Document("$setUnion", List.of("$interviewDays", "$detailDays")),
+                singletonNull()));
+
+        return List.of(
+                new Document("$project", new Document()
+                        .append("interviews", new Document("$size", records))
+                        .append("details", new Document("$sum", new Document("$map", new Document()
+                                .append("input", records)
+                                .append("in", new Document("$size", ifEmpty("$$this.details"))))))
+                        .append("categories", mapRecords(records, encodedKey("$$this.category")))
+                        .append("enterprises", mapRecords(records, encodedKey("$$this.enterpriseName")))
+                        .append("interviewDays", mapRecords(records, dateDay("$$this.createdAt")))
+                        .append("detailDays", detailDays)),
+                new Document("$project", new Document()
+                        .append("interviews", 1)
+                        .append("details", 1)
+                        .append("categories", countByValue("$categories"))
+                        .append("enterprises", countByValue("$enterprises"))
+                        .append("activity", new Document("$arrayToObject", new Document("$map", new Document()
+                                .append("input", days)
+                                .append("as", "day")
+                                .append("in", new Document()
+                                        .append("k", "$$day")
+                                        .append("v", new Document()
+                                                .append("interviews", countOf("$interviewDays", "$$day"))
+                                                .append("details", countOf("$detailDays", "$$day")))))))
+                        .append("updatedAt", "$$NOW")));
+    }
+
+    private static Document mapRecords(Document records, Document in) {
+        return new Document("$map", new Document()
+                .append("input", records)
+                .append("in", in));
+    }
+
+    /**
+     * 배열의 서로 다른 값(null 제외)마다 개수를 세어 {@code {값: 개수}} 문서를 만드는 식입니다.
+     */
+    private static Document countByValue(String array) {
+        return new Document("$arrayToObject", new Document("$map", new Document()
+                .append("input", new Document("$setDifference", List.of(
+                        new Document("$setUnion", List.of(array)), singletonNull())))
+                .append("as", "key")
+                .append("in", new Document()
+                        .append("k", "$$key")
+                        .append("v", countOf(array, "$$key")))));
+    }
+
+    private static Document countOf(String array, String value) {
+        return new Document("$size", new Document("$filter", new Document()
+                .append("input", array)
+                .append("cond", new Document("$eq", List.of("$$this", value)))));
+    }
+
+    /**
+     * 비어 있지 않은 문자열이면 필드 이름으로 쓸 수 있게 변환하고, 그 외에는 null을 반환하는 식입니다.
+     * {@link RecordStats#encodeKey(String)}와 같은 변환입니다.
+     */
+    private static Document encodedKey(String value) {
+        Document encoded = new Document("$replaceAll", new Document()
+                .append("input", new Document("$replaceAll", new Document()
+                        .append("input", value)
+                        .append("find", ".")
+                        .append("replacement", "．")))
+                .append("find", new Document("$literal", "$"))
+                .append("replacement", "＄"));
+
+        Document blank = new Document("$eq", List.of(new Document("$trim", new Document("input", value)), ""));
+        return new Document("$cond", Arrays.asList(
+                new Document("$eq", List.of(new Document("$type", value), "string")),
+                new Document("$cond", Arrays.asList(blank, null, encoded)),
+                null));
+    }
+
+    /**
+     * 날짜 값이면 UTC 기준 날짜 문자열을, 그 외에는 null을 반환하는 식입니다.
+     */
+    private static Document dateDay(String value) {
+        return new Document("$cond", Arrays.asList(
+                new Document("$eq", List.of(new Document("$type", value), "date")),
+                new Document("$dateToString", new Document()
+                        .append("format", DAY_FORMAT)
+                        .append("date", value)),
+                null));
+    }
+
+    /**
+     * 세부 항목의 생성 날짜(UTC) 문자열을 반환하는 식입니다. 생성 시각이 없으면 세부 항목 ID에서 구하며,
+     * {@link RecordStats#detailDay(Date, String)}와 같은 기준입니다.
+     */
+    private static Document detailDay(String detail) {
+        return new Document("$ifNull", Arrays.asList(dateDay(detail + ".createdAt"), idDay(detail + ".detailId")));
+    }
+
+    /**
+     * ObjectId 형식의 ID이면 생성 날짜(UTC) 문자열을, 그 외에는 null을 반환하는 식입니다.
+     */
+    private static Document idDay(String value) {
+        Document objectId = new Document("$convert", new Document()
+                .append("input", value)
+                .append("to", "objectId")
+                .append("onError", null)
+                .append("onNull", null));
+
+        return new Document("$dateToString", new Document()
+                .append("format", DAY_FORMAT)
+                .append("date", new Document("$toDate", objectId)));
+    }
+
+    private static Document ifEmpty(String array) {
+        return new Document("$ifNull", List.of(array, List.of()));
+    }
+
+    private static List<Object> singletonNull() {
+        return Collections.singletonList(null);
+    }
+
+    private static void appendIfNonZero(Document inc, String field, long amount) {
+        if (amount != 0) {
+            inc.append(field, amount);
+        }
+    }
+
+    private static long count(Document document, String field) {
+        Number count = document.get(field, Number.class);
+        return count == null ? 0L : count.longValue();
+    }
+
+    private static Map<String, Long> counts(Document document) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (document != null) {
+            document.forEach((key, value) -> counts.put(RecordStats.decodeKey(key),
+                    value instanceof Number number ? number.longValue() : 0L));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,567 @@
+package pickme.record.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import pickme.record.config.RecordExportProperties;
+import pickme.record.dto.*;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.InterviewRecordDocument;
+import pickme.record.model.Record;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.SidebarCursor;
+import pickme.record.repository.InterviewRecordDocumentRepository;
+
+/**
+ * BucketedRecordServiceImpl 클래스는 인터뷰 기록마다 문서를 분리하는 버킷형 저장 모드의
+ * RecordService 구현체입니다.
+ *
+ * <p>
+ * {@code record.storage.mode=bucketed}로 설정한 경우에만 활성화되며,
+ * 인터뷰 기록은 {@code interview_records} 컬렉션에 (userId, interviewRecordId) 단위로 저장됩니다.
+ * 모든 조회와 쓰기가 인터뷰 기록 문서 하나 또는 userId 인덱스 범위만 다루므로,
+ * 사용자의 전체 기록이 늘어나도 작업별 비용이 일정하게 유지됩니다.
+ * </p>
+ *
+ * <p>
+ * 기존 {@code records} 컬렉션의 데이터는
+ * {@link pickme.record.migration.RecordBucketMigrationJob}으로 온라인 마이그레이션합니다.
+ * </p>
+ */
+@Service
+@ConditionalOnProperty(name = "record.storage.mode", havingValue = "bucketed")
+public class BucketedRecordServiceImpl implements RecordService {
+
+    @Autowired
+    private InterviewRecordDocumentRepository interviewRecordDocumentRepository;
+
+    @Autowired
+    private RecordMapper recordMapper;
+
+    @Autowired
+    private RecordWriteRetrier recordWriteRetrier;
+
+    @Autowired
+    private RecordExportWriter recordExportWriter;
+
+    @Autowired
+    private RecordExportProperties recordExportProperties;
+
+    /**
+     * BucketedRecordServiceImpl 클래스의 로깅을 담당하는 Logger 객체입니다.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(BucketedRecordServiceImpl.class);
+
+    /**
+     * 새로운 인터뷰 기록 문서를 생성합니다.
+     *
+     * @param userId                   인터뷰 기록을 생성할 사용자의 ID
+     * @param interviewRecordCreateDTO 생성할 인터뷰 기록의 정보를 담고 있는 DTO
+     * @return 생성된 인터뷰 기록의 응답 DTO
+     */
+    @Override
+    public InterviewRecordResponseDTO createInterviewRecord(String userId,
+            InterviewRecordCreateDTO interviewRecordCreateDTO) {
+        InterviewRecordDocument document = new InterviewRecordDocument();
+        document.setInterviewRecordId(UUID.randomUUID().toString());
+        document.setUserId(userId);
+        document.setEnterpriseName(interviewRecordCreateDTO.getEnterpriseName());
+        document.setCategory(interviewRecordCreateDTO.getCategory());
+
+        Date now = new Date();
+        document.setCreatedAt(now); // 현재 시간 설정
+        document.setUpdatedAt(now); // 현재 시간 설정
+        document.setDetails(new ArrayList<>());
+
+        interviewRecordDocumentRepository.insert(document);
+
+        return recordMapper.toInterviewRecordResponse(recordMapper.toInterviewRecord(document));
+    }
+
+    /**
+     * 인터뷰 기록 문서 하나를 조회하며, 세부 항목은 요청한 페이지만 가져옵니다.
+     *
+     * @param userId            조회할 사용자의 ID
+     * @param interviewRecordId 조회할 인터뷰 기록의 ID
+     * @param page              페이징 처리를 위한 페이지 번호 (0부터 시작)
+     * @param size              페이징 처리를 위한 페이지 크기
+     * @return 요청한 페이지의 세부 항목을 포함한 응답 DTO 객체.
+     *         유효하지 않은 페이징 매개변수나 데이터를 찾을 수 없는 경우 null을 반환합니다.
+     */
+    @Override
+    public InterviewRecordResponseDTO getInterviewRecordById(
+            String userId, String interviewRecordId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            logger.warn("Invalid pagination parameters: page={}, size={}", page, size);
+            return null;
+        }
+
+        int skip = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        return interviewRecordDocumentRepository.findInterviewRecordPage(userId, interviewRecordId, skip, size)
+                .orElse(null);
+    }
+
+    /**
+     * 인터뷰 기록 조회 응답의 ETag를 반환합니다.
+     * ETag는 인터뷰 기록 문서의 버전으로 만들어지며, 버전 필드만 프로젝션하여 조회합니다.
+     * 버전은 모든 쓰기에서 1씩 증가하므로 같은 밀리초에 일어난 변경도 서로 다른 ETag를 만듭니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return ETag 값, 인터뷰 기록이 없으면 null
+     */
+    @Override
+    public String getInterviewRecordETag(String userId, String interviewRecordId) {
+        return interviewRecordDocumentRepository.findVersion(userId, interviewRecordId)
+                .map(version -> "i" + version)
+                .orElse(null);
+    }
+
+    /**
+     * 인터뷰 기록 문서의 기업명과 카테고리를 업데이트합니다.
+     *
+     * @param userId                   업데이트할 인터뷰 기록이 속한 사용자의 ID
+     * @param interviewRecordId        업데이트할 인터뷰 기록의 ID
+     * @param interviewRecordUpdateDTO 업데이트할 인터뷰 기록의 데이터가 포함된 DTO
+     * @return 업데이트된 인터뷰 기록의 응답 DTO, 기록이 없는 경우 null 반환
+     */
+    @Override
+    public InterviewRecordResponseDTO updateInterviewRecord(
+            String userId, String interviewRecordId, InterviewRecordUpdateDTO interviewRecordUpdateDTO) {
+        return recordWriteRetrier.execute("updateInterviewRecord",
+                () -> interviewRecordDocumentRepository.updateInterviewRecord(userId, interviewRecordId,
+                        interviewRecordUpdateDTO.getEnterpriseName(),
+                        interviewRecordUpdateDTO.getCategory(),
+                        new Date())) // updatedAt 갱신
+                .map(recordMapper::toInterviewRecord)
+                .map(recordMapper::toInterviewRecordResponse)
+                .orElse(null);
+    }
+
+    /**
+     * 인터뷰 기록 문서를 삭제합니다.
+     *
+     * @param userId            삭제할 인터뷰 기록이 속한 사용자의 ID
+     * @param interviewRecordId 삭제할 인터뷰 기록의 ID
+     * @return 인터뷰 기록이 성공적으로 삭제되었으면 true, 그렇지 않으면 false
+     */
+    @Override
+    public boolean deleteInterviewRecord(String userId, String interviewRecordId) {
+        return interviewRecordDocumentRepository.deleteInterviewRecord(userId, interviewRecordId);
+    }
+
+    /**
+     * 인터뷰 기록 문서에 새로운 세부 항목을 추가합니다.
+     *
+     * @param userId                사용자의 고유 식별자
+     * @param interviewRecordId     인터뷰 기록의 고유 식별자
+     * @param recordDetailCreateDTO 생성할 기록 세부 정보의 데이터 전송 객체
+     * @return 생성된 세부 항목의 응답 DTO, 인터뷰 기록이 존재하지 않을 경우 null 반환
+     */
+    @Override
+    public RecordDetailResponseDTO createRecordDetail(
+            String userId, String interviewRecordId, RecordDetailCreateDTO recordDetailCreateDTO) {
+        Record.RecordDetail newDetail = toRecordDetail(recordDetailCreateDTO);
+
+        boolean created = recordWriteRetrier.execute("createRecordDetail",
+                () -> interviewRecordDocumentRepository.pushRecordDetail(userId, interviewRecordId, newDetail,
+                        new Date()));
+
+        return created ? recordMapper.toRecordDetailResponse(newDetail) : null;
+    }
+
+    /**
+     * 인터뷰 기록 문서에 여러 세부 항목을 한 번에 추가합니다.
+     * 모든 세부 항목은 요청 순서대로 단일 $push + $each 업데이트로 추가되며, updatedAt은 한 번만 갱신됩니다.
+     *
+     * @param userId                 사용자의 고유 식별자
+     * @param interviewRecordId      인터뷰 기록의 고유 식별자
+     * @param recordDetailCreateDTOs 생성할 기록 세부 정보의 데이터 전송 객체 목록
+     * @return 생성된 세부 항목 목록, 인터뷰 기록이 존재하지 않을 경우 null 반환
+     */
+    @Override
+    public List<RecordDetailResponseDTO> createRecordDetails(
+            String userId, String interviewRecordId, List<RecordDetailCreateDTO> recordDetailCreateDTOs) {
+        List<Record.RecordDetail> newDetails = recordDetailCreateDTOs.stream()
+                .map(this::toRecordDetail)
+                .toList();
+
+        boolean created = recordWriteRetrier.execute("createRecordDetails",
+                () -> interviewRecordDocumentRepository.pushRecordDetails(userId, interviewRecordId, newDetails,
+                        new Date()));
+
+        return created ? recordMapper.toRecordDetailResponseList(newDetails) : null;
+    }
+
+    /**
+     * 인터뷰 기록 문서의 특정 세부 항목을 업데이트합니다.
+     *
+     * @param userId                업데이트할 사용자의 ID
+     * @param interviewRecordId     업데이트할 인터뷰 기록의 ID
+     * @param detailIndex           업데이트할 세부 정보의 인덱스
+     * @param recordDetailUpdateDTO 업데이트할 질문 및 답변 정보를 포함하는 DTO
+     * @return 업데이트된 세부 정보의 응답 DTO, 기록이 존재하지 않거나 유효하지 않은 인덱스일 경우 null 반환
+     */
+    @Override
+    public RecordDetailResponseDTO updateRecordDetail(
+            String userId, String interviewRecordId, int detailIndex, RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        if (detailIndex < 0) {
+            return null;
+        }
+
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setQuestion(recordDetailUpdateDTO.getQuestion());
+        detail.setAnswer(recordDetailUpdateDTO.getAnswer());
+
+        boolean updated = recordWriteRetrier.execute("updateRecordDetail",
+                () -> interviewRecordDocumentRepository.updateRecordDetail(userId, interviewRecordId, detailIndex,
+                        detail, new Date()));
+
+        return updated ? recordMapper.toRecordDetailResponse(detail) : null;
+    }
+
+    /**
+     * 인터뷰 기록 문서의 특정 세부 항목을 삭제합니다.
+     *
+     * @param userId            삭제할 기록이 속한 사용자의 ID
+     * @param interviewRecordId 삭제할 인터뷰 기록의 ID
+     * @param detailIndex       삭제할 세부 항목의 인덱스
+     * @return 삭제가 성공적으로 이루어진 경우 true, 그렇지 않은 경우 false
+     */
+    @Override
+    public boolean deleteRecordDetail(String userId, String interviewRecordId, int detailIndex) {
+        if (detailIndex < 0) {
+            return false;
+        }
+
+        return recordWriteRetrier.execute("deleteRecordDetail",
+                () -> interviewRecordDocumentRepository.removeRecordDetail(userId, interviewRecordId, detailIndex,
+                        new Date()));
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 인터뷰 기록 문서의 세부 항목을 업데이트합니다.
+     *
+     * @param userId                업데이트할 사용자의 ID
+     * @param interviewRecordId     업데이트할 인터뷰 기록의 ID
+     * @param detailId              업데이트할 세부 항목의 ID
+     * @param recordDetailUpdateDTO 업데이트할 질문 및 답변 정보를 포함하는 DTO
+     * @return 업데이트된 세부 정보의 응답 DTO, 인터뷰 기록이나 세부 항목이 존재하지 않으면 null 반환
+     */
+    @Override
+    public RecordDetailResponseDTO updateRecordDetailById(
+            String userId, String interviewRecordId, String detailId, RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(detailId);
+        detail.setQuestion(recordDetailUpdateDTO.getQuestion());
+        detail.setAnswer(recordDetailUpdateDTO.getAnswer());
+
+        boolean updated = recordWriteRetrier.execute("updateRecordDetailById",
+                () -> interviewRecordDocumentRepository.updateRecordDetailById(userId, interviewRecordId, detailId,
+                        detail, new Date()));
+
+        return updated ? recordMapper.toRecordDetailResponse(detail) : null;
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 인터뷰 기록 문서의 세부 항목을 삭제합니다.
+     *
+     * @param userId            삭제할 기록이 속한 사용자의 ID
+     * @param interviewRecordId 삭제할 인터뷰 기록의 ID
+     * @param detailId          삭제할 세부 항목의 ID
+     * @return 삭제가 성공적으로 이루어진 경우 true, 인터뷰 기록이나 세부 항목이 존재하지 않으면 false
+     */
+    @Override
+    public boolean deleteRecordDetailById(String userId, String interviewRecordId, String detailId) {
+        return recordWriteRetrier.execute("deleteRecordDetailById",
+                () -> interviewRecordDocumentRepository.removeRecordDetailById(userId, interviewRecordId, detailId,
+                        new Date()));
+    }
+
+    /**
+     * 인터뷰 기록 문서에 병합 패치를 적용합니다. 패치에 포함된 필드만 $set/$unset합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 인터뷰 기록이 없으면 false
+     */
+    @Override
+    public boolean patchInterviewRecord(String userId, String interviewRecordId, JsonNode patch) {
+        RecordPatch compiled = RecordPatchSupport.interviewPatch(patch);
+
+        return recordWriteRetrier.execute("patchInterviewRecord",
+                () -> interviewRecordDocumentRepository.patchInterviewRecord(userId, interviewRecordId, compiled,
+                        new Date()));
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목에 병합 패치를 적용합니다. 패치에 포함된 필드만 $set/$unset합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 인터뷰 기록이나 세부 항목이 없으면 false
+     */
+    @Override
+    public boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, JsonNode patch) {
+        RecordPatch compiled = RecordPatchSupport.detailPatch(patch);
+
+        return recordWriteRetrier.execute("patchRecordDetail",
+                () -> interviewRecordDocumentRepository.patchRecordDetail(userId, interviewRecordId, detailId,
+                        compiled, new Date()));
+    }
+
+    /**
+     * 여러 작업을 요청 순서대로 실행합니다.
+     *
+     * <p>
+     * 버킷형 저장 모드에서는 작업마다 대상 문서가 다를 수 있으므로,
+     * 각 작업을 해당 인터뷰 기록 문서에 대한 단일 업데이트로 순서대로 실행합니다.
+     * </p>
+     *
+     * @param userId     사용자 ID
+     * @param operations 실행할 작업 목록
+     * @return 작업별 실행 결과 목록 (요청 순서와 동일)
+     */
+    @Override
+    public List<RecordBatchResultDTO> executeBatch(String userId, List<RecordBatchOperationDTO> operations) {
+        List<RecordBatchResultDTO> results = new ArrayList<>(operations.size());
+
+        for (int i = 0; i < operations.size(); i++) {
+            RecordBatchOperationDTO operation = operations.get(i);
+            String invalid = RecordBatchSupport.validate(operation);
+
+            if (invalid != null) {
+                results.add(new RecordBatchResultDTO(i, operation.getType(), 400, invalid));
+                continue;
+            }
+
+            int status = execute(userId, operation);
+            results.add(new RecordBatchResultDTO(i, operation.getType(), status,
+                    status == 404 ? RecordBatchSupport.NOT_FOUND_MESSAGE : null));
+        }
+        return results;
+    }
+
+    /**
+     * 질문, 답변, 기업명에서 검색어를 검색합니다.
+     *
+     * <p>
+     * MongoDB 집계에서 세부 항목 단위로 검색어 단어 중 하나를 부분 문자열로 포함하는지 판정하고
+     * 요청한 페이지만 가져옵니다. 클라이언트는 전체 기록을 내려받지 않고 일치한 위치와 스니펫만 받습니다.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @param query  검색어
+     * @param page   페이지 번호 (0부터 시작)
+     * @param size   페이지 크기 (최대 {@value RecordSearchSupport#MAX_PAGE_SIZE})
+     * @return 검색 결과, 검색어나 페이징 파라미터가 유효하지 않으면 null
+     */
+    @Override
+    public RecordSearchResponseDTO searchRecords(String userId, String query, int page, int size) {
+        String[] terms = query == null ? new String[0] : RecordSearchSupport.terms(query);
+
+        if (terms.length == 0 || page < 0 || size <= 0 || size > RecordSearchSupport.MAX_PAGE_SIZE) {
+            // 검색어 본문은 개인 기록의 일부일 수 있으므로 길이만 기록
+            logger.warn("Invalid search parameters: queryLength={}, page={}, size={}",
+                    query == null ? 0 : query.length(), page, size);
+            return null;
+        }
+
+        String pattern = RecordSearchSupport.pattern(terms);
+        int skip = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<RecordSearchMatch> matches = interviewRecordDocumentRepository.searchDetails(userId, pattern, skip,
+                size + 1);
+        return RecordSearchSupport.toResponse(query, page, size, matches, pattern);
+    }
+
+    /**
+     * 사용자의 인터뷰 기록 문서에서 사이드바 필드만 프로젝션하여 한 페이지씩 조회합니다.
+     * userId + updatedAt + _id 인덱스를 따라 커서 이후의 문서만 읽으므로,
+     * 비용이 사용자의 전체 기록 수와 무관합니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size           페이지 크기 (최대 {@value RecordSidebarSupport#MAX_PAGE_SIZE})
+     * @param order          updatedAt 정렬 방향 (asc 또는 desc)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @return 사이드바 데이터 페이지, 파라미터가 유효하지 않으면 null
+     */
+    @Override
+    public InterviewRecordSidebarPageDTO getSidebarData(String userId, String cursor, int size, String order,
+            String category, String enterpriseName) {
+        SidebarCursor position;
+        try {
+            position = RecordSidebarSupport.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid sidebar cursor: {}", cursor);
+            return null;
+        }
+        if (size <= 0 || size > RecordSidebarSupport.MAX_PAGE_SIZE || !RecordSidebarSupport.isValidOrder(order)) {
+            logger.warn("Invalid sidebar parameters: size={}, order={}", size, order);
+            return null;
+        }
+        boolean ascending = "asc".equalsIgnoreCase(order);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        return recordMapper.toSidebarPage(interviewRecordDocumentRepository.findSidebarPage(userId, position,
+                ascending, category, enterpriseName, size + 1), size);
+    }
+
+    /**
+     * 사이드바 조회 응답의 ETag를 반환합니다.
+     *
+     * <p>
+     * 버킷형 저장 모드에는 사용자 단위 문서 버전이 없으므로,
+     * 가장 최근 수정 시각(생성, 변경 반영)과 문서 수(삭제 반영)로 ETag를 만듭니다.
+     * 두 값 모두 userId + updatedAt 인덱스만으로 조회됩니다.
+     * 페이지 파라미터를 먼저 검증하여, 유효하지 않은 요청은 저장소를 조회하지 않고 null을 반환합니다.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @param cursor 직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size   페이지 크기
+     * @param order  updatedAt 정렬 방향 (asc 또는 desc)
+     * @return ETag 값, 페이지 파라미터가 유효하지 않으면 null
+     */
+    @Override
+    public String getSidebarETag(String userId, String cursor, int size, String order) {
+        if (!RecordSidebarSupport.isValidPage(cursor, size, order)) {
+            return null;
+        }
+        long latest = interviewRecordDocumentRepository.findLatestUpdatedAt(userId).map(Date::getTime).orElse(0L);
+        long count = interviewRecordDocumentRepository.countByUserId(userId);
+
+        return "s" + latest + "-" + count;
+    }
+
+    /**
+     * 사용자의 면접 통계를 조회합니다.
+     *
+     * <p>
+     * 버킷형 저장 모드는 사용자별 요약 문서를 유지하지 않고,
+     * 조회할 때마다 userId 인덱스 범위의 인터뷰 기록 문서를 집계합니다.
+     * 집계는 세부 항목의 ID만 사용하므로 질문/답변 본문은 파이프라인을 통과하지 않습니다.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @return 면접 통계, 기록이 없으면 모든 값이 0인 통계
+     */
+    @Override
+    public RecordStatsDTO getStats(String userId) {
+        return recordMapper.toStatsResponse(
+                interviewRecordDocumentRepository.computeStats(userId).orElseGet(RecordStats::new));
+    }
+
+    /**
+     * 사용자의 전체 인터뷰 기록을 NDJSON으로 출력합니다.
+     *
+     * <p>
+     * MongoDB 커서에서 인터뷰 기록을 한 건씩 읽어 바로 출력하므로,
+     * 기록 전체를 DTO 목록으로 변환하거나 메모리에 모으지 않습니다.
+     * </p>
+     *
+     * @param userId       사용자 ID
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    @Override
+    public void exportRecords(String userId, OutputStream outputStream) throws IOException {
+        long count = recordExportWriter.write(interviewRecordDocumentRepository.streamExportByUserId(userId,
+                recordExportProperties.getBatchSize()), outputStream);
+        logger.info("Exported {} interview records for user {}", count, userId);
+    }
+
+    /**
+     * 전체 사용자의 인터뷰 기록을 NDJSON으로 출력합니다.
+     *
+     * <p>
+     * 메모리에는 커서의 현재 배치({@code record.export.batch-size})만 유지되며,
+     * 출력이 막히면 커서도 다음 배치를 가져오지 않습니다.
+     * </p>
+     *
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    @Override
+    public void exportAllRecords(OutputStream outputStream) throws IOException {
+        long count = recordExportWriter.write(
+                interviewRecordDocumentRepository.streamExportAll(recordExportProperties.getBatchSize()), outputStream);
+        logger.info("Exported {} interview records for all users", count);
+    }
+
+    /**
+     * 일괄 작업 하나를 실행하고, 개별 API로 실행했을 때의 상태 코드를 반환합니다.
+     */
+    private int execute(String userId, RecordBatchOperationDTO operation) {
+        String interviewRecordId = operation.getInterviewRecordId();
+        Date now = new Date();
+        boolean applied;
+
+        switch (operation.getType()) {
+            case UPDATE_INTERVIEW:
+                applied = interviewRecordDocumentRepository.updateInterviewRecord(userId, interviewRecordId,
+                        operation.getEnterpriseName(), operation.getCategory(), now).isPresent();
+                return applied ? 200 : 404;
+            case DELETE_INTERVIEW:
+                applied = interviewRecordDocumentRepository.deleteInterviewRecord(userId, interviewRecordId);
+                return applied ? 204 : 404;
+            case CREATE_DETAIL:
+                applied = interviewRecordDocumentRepository.pushRecordDetail(userId, interviewRecordId,
+                        toNewRecordDetail(operation.getQuestion(), operation.getAnswer(), now), now);
+                return applied ? 201 : 404;
+            case UPDATE_DETAIL:
+                applied = operation.getDetailIndex() >= 0
+                        && interviewRecordDocumentRepository.updateRecordDetail(userId, interviewRecordId,
+                                operation.getDetailIndex(),
+                                toRecordDetail(operation.getQuestion(), operation.getAnswer()), now);
+                return applied ? 200 : 404;
+            case DELETE_DETAIL:
+                applied = operation.getDetailIndex() >= 0
+                        && interviewRecordDocumentRepository.removeRecordDetail(userId, interviewRecordId,
+                                operation.getDetailIndex(), now);
+                return applied ? 204 : 404;
+            default:
+                return 404;
+        }
+    }
+
+    private Record.RecordDetail toRecordDetail(String question, String answer) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setQuestion(question);
+        detail.setAnswer(answer);
+        return detail;
+    }
+
+    private Record.RecordDetail toNewRecordDetail(String question, String answer, Date createdAt) {
+        Record.RecordDetail detail = toRecordDetail(question, answer);
+        detail.setDetailId(Record.RecordDetail.newDetailId());
+        detail.setCreatedAt(createdAt);
+        return detail;
+    }
+
+    private Record.RecordDetail toRecordDetail(RecordDetailCreateDTO recordDetailCreateDTO) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(Record.RecordDetail.newDetailId());
+        detail.setQuestion(recordDetailCreateDTO.getQuestion());
+        detail.setAnswer(recordDetailCreateDTO.getAnswer());
+        detail.setCreatedAt(new Date());
+        return detail;
+    }
+}
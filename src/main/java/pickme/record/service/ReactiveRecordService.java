@@ -0,0 +1,183 @@
+package pickme.record.service;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Mono;
+
+import pickme.record.dto.*;
+
+/**
+ * ReactiveRecordService는 {@link RecordService}의 인터뷰 기록 및 세부 기록 관리 기능을 리액티브 타입으로 제공하는 서비스 인터페이스입니다.
+ *
+ * <p>
+ * {@link RecordService}가 null 또는 false로 표현하는 "대상 없음"과 "유효하지 않은 파라미터"는
+ * 빈 {@link Mono} 또는 false로 표현합니다.
+ * </p>
+ */
+public interface ReactiveRecordService {
+
+    /**
+     * 새로운 인터뷰 기록을 생성합니다.
+     *
+     * @param userId                   사용자 ID
+     * @param interviewRecordCreateDTO 인터뷰 기록 생성 요청 데이터
+     * @return 생성된 인터뷰 기록의 응답 데이터
+     */
+    Mono<InterviewRecordResponseDTO> createInterviewRecord(String userId,
+            InterviewRecordCreateDTO interviewRecordCreateDTO);
+
+    /**
+     * 특정 인터뷰 기록을 ID로 조회합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param page              페이지 번호
+     * @param size              페이지 크기
+     * @return 조회된 인터뷰 기록의 응답 데이터, 기록이 없거나 페이징 파라미터가 유효하지 않으면 빈 Mono
+     */
+    Mono<InterviewRecordResponseDTO> getInterviewRecordById(String userId, String interviewRecordId, int page,
+            int size);
+
+    /**
+     * 특정 인터뷰 기록 조회 응답의 ETag를 반환합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return ETag 값, 인터뷰 기록이 없으면 빈 Mono
+     */
+    Mono<String> getInterviewRecordETag(String userId, String interviewRecordId);
+
+    /**
+     * 특정 인터뷰 기록을 업데이트합니다.
+     *
+     * @param userId                   사용자 ID
+     * @param interviewRecordId        인터뷰 기록 ID
+     * @param interviewRecordUpdateDTO 인터뷰 기록 업데이트 요청 데이터
+     * @return 업데이트된 인터뷰 기록의 응답 데이터, 기록이 없으면 빈 Mono
+     */
+    Mono<InterviewRecordResponseDTO> updateInterviewRecord(String userId, String interviewRecordId,
+            InterviewRecordUpdateDTO interviewRecordUpdateDTO);
+
+    /**
+     * 특정 인터뷰 기록을 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 삭제 성공 여부
+     */
+    Mono<Boolean> deleteInterviewRecord(String userId, String interviewRecordId);
+
+    /**
+     * 새로운 기록 세부 정보를 생성합니다.
+     *
+     * @param userId                사용자 ID
+     * @param interviewRecordId     인터뷰 기록 ID
+     * @param recordDetailCreateDTO 기록 세부 정보 생성 요청 데이터
+     * @return 생성된 기록 세부 정보의 응답 데이터, 인터뷰 기록이 없으면 빈 Mono
+     */
+    Mono<RecordDetailResponseDTO> createRecordDetail(String userId, String interviewRecordId,
+            RecordDetailCreateDTO recordDetailCreateDTO);
+
+    /**
+     * 여러 기록 세부 정보를 한 번에 생성합니다.
+     *
+     * @param userId                 사용자 ID
+     * @param interviewRecordId      인터뷰 기록 ID
+     * @param recordDetailCreateDTOs 기록 세부 정보 생성 요청 데이터 목록
+     * @return 생성된 기록 세부 정보의 응답 데이터 목록, 인터뷰 기록이 없으면 빈 Mono
+     */
+    Mono<List<RecordDetailResponseDTO>> createRecordDetails(String userId, String interviewRecordId,
+            List<RecordDetailCreateDTO> recordDetailCreateDTOs);
+
+    /**
+     * 특정 기록 세부 정보를 업데이트합니다.
+     *
+     * @param userId                사용자 ID
+     * @param interviewRecordId     인터뷰 기록 ID
+     * @param detailIndex           세부 정보 인덱스
+     * @param recordDetailUpdateDTO 기록 세부 정보 업데이트 요청 데이터
+     * @return 업데이트된 기록 세부 정보의 응답 데이터, 대상이 없으면 빈 Mono
+     */
+    Mono<RecordDetailResponseDTO> updateRecordDetail(String userId, String interviewRecordId, int detailIndex,
+            RecordDetailUpdateDTO recordDetailUpdateDTO);
+
+    /**
+     * 특정 기록 세부 정보를 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailIndex       세부 정보 인덱스
+     * @return 삭제 성공 여부
+     */
+    Mono<Boolean> deleteRecordDetail(String userId, String interviewRecordId, int detailIndex);
+
+    /**
+     * 세부 항목 ID로 지정한 기록 세부 정보를 업데이트합니다.
+     *
+     * @param userId                사용자 ID
+     * @param interviewRecordId     인터뷰 기록 ID
+     * @param detailId              세부 항목 ID
+     * @param recordDetailUpdateDTO 기록 세부 정보 업데이트 요청 데이터
+     * @return 업데이트된 기록 세부 정보의 응답 데이터, 대상이 없으면 빈 Mono
+     */
+    Mono<RecordDetailResponseDTO> updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            RecordDetailUpdateDTO recordDetailUpdateDTO);
+
+    /**
+     * 세부 항목 ID로 지정한 기록 세부 정보를 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @return 삭제 성공 여부
+     */
+    Mono<Boolean> deleteRecordDetailById(String userId, String interviewRecordId, String detailId);
+
+    /**
+     * 인터뷰 기록에 병합 패치(RFC 7396)를 적용합니다. 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 패치가 유효하지 않으면 InvalidPatchException으로 종료
+     */
+    Mono<Boolean> patchInterviewRecord(String userId, String interviewRecordId, JsonNode patch);
+
+    /**
+     * 세부 항목 ID로 지정한 기록 세부 정보에 병합 패치(RFC 7396)를 적용합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 패치가 유효하지 않으면 InvalidPatchException으로 종료
+     */
+    Mono<Boolean> patchRecordDetail(String userId, String interviewRecordId, String detailId, JsonNode patch);
+
+    /**
+     * 사용자 ID를 기반으로 사이드바 데이터를 커서 기반으로 한 페이지씩 조회합니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지의 nextCursor, 첫 페이지이면 null
+     * @param size           페이지 크기
+     * @param order          updatedAt 정렬 방향 (asc 또는 desc)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @return 사이드바 데이터 페이지, 파라미터가 유효하지 않으면 빈 Mono
+     */
+    Mono<InterviewRecordSidebarPageDTO> getSidebarData(String userId, String cursor, int size, String order,
+            String category, String enterpriseName);
+
+    /**
+     * 사이드바 조회 응답의 ETag를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size   페이지 크기
+     * @param order  updatedAt 정렬 방향 (asc 또는 desc)
+     * @return ETag 값, 페이지 파라미터가 유효하지 않으면 빈 Mono
+     */
+    Mono<String> getSidebarETag(String userId, String cursor, int size, String order);
+}
@@ -0,0 +1,282 @@
+package pickme.record.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Mono;
+
+import pickme.record.dto.*;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+import pickme.record.model.RecordStatsDelta;
+import pickme.record.model.SidebarCursor;
+import pickme.record.repository.ReactiveRecordRepository;
+
+/**
+ * ReactiveRecordServiceImpl 클래스는 ReactiveRecordService 인터페이스를 구현하며,
+ * 사용자별 단일 문서 저장 모드의 인터뷰 기록 관리 기능을 논블로킹으로 제공합니다.
+ *
+ * <p>
+ * 쓰기와 조회는 {@link RecordServiceImpl}의 캐시를 사용하지 않는 경로와 같은 MongoDB 명령으로 수행되며,
+ * 결과 변환과 파라미터 검증 규칙도 동일합니다.
+ * 동시 쓰기 충돌은 RecordWriteRetrier를 통해 같은 정책으로 재시도합니다.
+ * 통계 요약 문서도 같은 증감량을 쓰기 직후 반영하며, 반영에 실패해도 완료된 쓰기는 실패로 응답하지 않습니다.
+ * WebFlux 애플리케이션(리액티브 프로필)이면서 {@code record.storage.mode=embedded}인 경우에 활성화됩니다.
+ * </p>
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "record.storage.mode", havingValue = "embedded", matchIfMissing = true)
+public class ReactiveRecordServiceImpl implements ReactiveRecordService {
+
+    @Autowired
+    private ReactiveRecordRepository reactiveRecordRepository;
+
+    @Autowired
+    private RecordMapper recordMapper;
+
+    @Autowired
+    private RecordWriteRetrier recordWriteRetrier;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRecordServiceImpl.class);
+
+    @Override
+    public Mono<InterviewRecordResponseDTO> createInterviewRecord(String userId,
+            InterviewRecordCreateDTO interviewRecordCreateDTO) {
+        Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
+        interviewRecord.setInterviewRecordId(UUID.randomUUID().toString());
+        interviewRecord.setEnterpriseName(interviewRecordCreateDTO.getEnterpriseName());
+        interviewRecord.setCategory(interviewRecordCreateDTO.getCategory());
+
+        Date now = new Date();
+        interviewRecord.setCreatedAt(now);
+        interviewRecord.setUpdatedAt(now);
+        interviewRecord.setDetails(new ArrayList<>());
+
+        return recordWriteRetrier.execute("createInterviewRecord",
+                reactiveRecordRepository.pushInterviewRecord(userId, interviewRecord))
+                .then(Mono.defer(() -> incrementStats(userId, RecordStatsSupport.created(interviewRecord))))
+                .then(Mono.fromSupplier(() -> recordMapper.toInterviewRecordResponse(interviewRecord)));
+    }
+
+    @Override
+    public Mono<InterviewRecordResponseDTO> getInterviewRecordById(String userId, String interviewRecordId,
+            int page, int size) {
+        if (page < 0 || size <= 0) {
+            logger.warn("Invalid pagination parameters: page={}, size={}", page, size);
+            return Mono.empty();
+        }
+
+        // 범위를 벗어난 페이지는 빈 details를 반환
+        int skip = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+
+        return reactiveRecordRepository.findInterviewRecordPage(userId, interviewRecordId, skip, size);
+    }
+
+    @Override
+    public Mono<String> getInterviewRecordETag(String userId, String interviewRecordId) {
+        return reactiveRecordRepository.findInterviewRecordVersion(userId, interviewRecordId)
+                .map(version -> "i" + version);
+    }
+
+    @Override
+    public Mono<InterviewRecordResponseDTO> updateInterviewRecord(String userId, String interviewRecordId,
+            InterviewRecordUpdateDTO interviewRecordUpdateDTO) {
+        Date updatedAt = new Date(); // updatedAt 갱신
+        // 통계에서 이전 기업명과 카테고리를 빼기 위해 쓰기와 같은 명령으로 변경 직전의 값을 반환받음
+        return recordWriteRetrier.execute("updateInterviewRecord",
+                reactiveRecordRepository.updateInterviewRecord(userId, interviewRecordId,
+                        interviewRecordUpdateDTO.getEnterpriseName(),
+                        interviewRecordUpdateDTO.getCategory(),
+                        updatedAt))
+                .flatMap(before -> incrementStats(userId, RecordStatsSupport.renamed(before,
+                        interviewRecordUpdateDTO.getEnterpriseName(), interviewRecordUpdateDTO.getCategory()))
+                        .thenReturn(before))
+                .map(updated -> {
+                    updated.setEnterpriseName(interviewRecordUpdateDTO.getEnterpriseName());
+                    updated.setCategory(interviewRecordUpdateDTO.getCategory());
+                    updated.setUpdatedAt(updatedAt);
+                    return recordMapper.toInterviewRecordResponse(updated);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> deleteInterviewRecord(String userId, String interviewRecordId) {
+        return recordWriteRetrier.execute("deleteInterviewRecord",
+                reactiveRecordRepository.pullInterviewRecord(userId, interviewRecordId))
+                .flatMap(before -> incrementStats(userId, RecordStatsSupport.deleted(before)).thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<RecordDetailResponseDTO> createRecordDetail(String userId, String interviewRecordId,
+            RecordDetailCreateDTO recordDetailCreateDTO) {
+        Record.RecordDetail newDetail = toRecordDetail(recordDetailCreateDTO);
+
+        return recordWriteRetrier.execute("createRecordDetail",
+                reactiveRecordRepository.pushRecordDetails(userId, interviewRecordId, List.of(newDetail), new Date()))
+                .filter(Boolean::booleanValue)
+                .flatMap(created -> incrementStats(userId, RecordStatsSupport.detailsCreated(List.of(newDetail)))
+                        .thenReturn(created))
+                .map(created -> recordMapper.toRecordDetailResponse(newDetail));
+    }
+
+    @Override
+    public Mono<List<RecordDetailResponseDTO>> createRecordDetails(String userId, String interviewRecordId,
+            List<RecordDetailCreateDTO> recordDetailCreateDTOs) {
+        List<Record.RecordDetail> newDetails = recordDetailCreateDTOs.stream()
+                .map(this::toRecordDetail)
+                .toList();
+
+        return recordWriteRetrier.execute("createRecordDetails",
+                reactiveRecordRepository.pushRecordDetails(userId, interviewRecordId, newDetails, new Date()))
+                .filter(Boolean::booleanValue)
+                .flatMap(created -> incrementStats(userId, RecordStatsSupport.detailsCreated(newDetails))
+                        .thenReturn(created))
+                .map(created -> recordMapper.toRecordDetailResponseList(newDetails));
+    }
+
+    @Override
+    public Mono<RecordDetailResponseDTO> updateRecordDetail(String userId, String interviewRecordId,
+            int detailIndex, RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        if (detailIndex < 0) {
+            return Mono.empty();
+        }
+
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setQuestion(recordDetailUpdateDTO.getQuestion());
+        detail.setAnswer(recordDetailUpdateDTO.getAnswer());
+
+        return recordWriteRetrier.execute("updateRecordDetail",
+                reactiveRecordRepository.updateRecordDetail(userId, interviewRecordId, detailIndex, detail,
+                        new Date()))
+                .filter(Boolean::booleanValue)
+                .map(updated -> recordMapper.toRecordDetailResponse(detail));
+    }
+
+    @Override
+    public Mono<Boolean> deleteRecordDetail(String userId, String interviewRecordId, int detailIndex) {
+        if (detailIndex < 0) {
+            return Mono.just(false);
+        }
+
+        // 통계에서 삭제한 세부 항목의 생성 날짜를 구하기 위해 삭제 직전의 구조를 반환받음
+        return recordWriteRetrier.execute("deleteRecordDetail",
+                reactiveRecordRepository.removeRecordDetail(userId, interviewRecordId, detailIndex, new Date()))
+                .flatMap(before -> incrementStats(userId, RecordStatsSupport.detailDeleted(before, detailIndex))
+                        .thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<RecordDetailResponseDTO> updateRecordDetailById(String userId, String interviewRecordId,
+            String detailId, RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(detailId);
+        detail.setQuestion(recordDetailUpdateDTO.getQuestion());
+        detail.setAnswer(recordDetailUpdateDTO.getAnswer());
+
+        return recordWriteRetrier.execute("updateRecordDetailById",
+                reactiveRecordRepository.updateRecordDetailById(userId, interviewRecordId, detailId, detail,
+                        new Date()))
+                .filter(Boolean::booleanValue)
+                .map(updated -> recordMapper.toRecordDetailResponse(detail));
+    }
+
+    @Override
+    public Mono<Boolean> deleteRecordDetailById(String userId, String interviewRecordId, String detailId) {
+        return recordWriteRetrier.execute("deleteRecordDetailById",
+                reactiveRecordRepository.removeRecordDetailById(userId, interviewRecordId, detailId, new Date()))
+                .flatMap(before -> incrementStats(userId, RecordStatsSupport.detailDeleted(before, detailId))
+                        .thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<Boolean> patchInterviewRecord(String userId, String interviewRecordId, JsonNode patch) {
+        return Mono.fromCallable(() -> RecordPatchSupport.interviewPatch(patch))
+                .flatMap(compiled -> recordWriteRetrier.execute("patchInterviewRecord",
+                        reactiveRecordRepository.patchInterviewRecord(userId, interviewRecordId, compiled,
+                                new Date()))
+                        .flatMap(before -> RecordStatsSupport.affectsStats(compiled)
+                                ? incrementStats(userId, RecordStatsSupport.patched(before, compiled))
+                                        .thenReturn(true)
+                                : Mono.just(true))
+                        .defaultIfEmpty(false));
+    }
+
+    @Override
+    public Mono<Boolean> patchRecordDetail(String userId, String interviewRecordId, String detailId,
+            JsonNode patch) {
+        return Mono.fromCallable(() -> RecordPatchSupport.detailPatch(patch))
+                .flatMap(compiled -> recordWriteRetrier.execute("patchRecordDetail",
+                        reactiveRecordRepository.patchRecordDetail(userId, interviewRecordId, detailId, compiled,
+                                new Date())));
+    }
+
+    @Override
+    public Mono<InterviewRecordSidebarPageDTO> getSidebarData(String userId, String cursor, int size, String order,
+            String category, String enterpriseName) {
+        SidebarCursor position;
+        try {
+            position = RecordSidebarSupport.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid sidebar cursor: {}", cursor);
+            return Mono.empty();
+        }
+        if (size <= 0 || size > RecordSidebarSupport.MAX_PAGE_SIZE || !RecordSidebarSupport.isValidOrder(order)) {
+            logger.warn("Invalid sidebar parameters: size={}, order={}", size, order);
+            return Mono.empty();
+        }
+        boolean ascending = "asc".equalsIgnoreCase(order);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        return reactiveRecordRepository.findSidebarPage(userId, position, ascending, category, enterpriseName,
+                size + 1)
+                .collectList()
+                .map(rows -> recordMapper.toSidebarPage(rows, size));
+    }
+
+    @Override
+    public Mono<String> getSidebarETag(String userId, String cursor, int size, String order) {
+        if (!RecordSidebarSupport.isValidPage(cursor, size, order)) {
+            return Mono.empty();
+        }
+        return reactiveRecordRepository.findVersion(userId)
+                .defaultIfEmpty(0L)
+                .map(version -> "s" + version);
+    }
+
+    /**
+     * 쓰기 작업의 통계 증감량을 사용자별 요약 문서에 반영합니다.
+     * 통계는 재구성 작업으로 다시 만들 수 있으므로, 반영에 실패해도 이미 완료된 쓰기 작업을 실패로 응답하지 않습니다.
+     */
+    private Mono<Void> incrementStats(String userId, RecordStatsDelta delta) {
+        return reactiveRecordRepository.incrementStats(userId, delta, new Date())
+                .onErrorResume(e -> {
+                    logger.warn("Failed to update record stats for user {}, run a stats rebuild to repair it",
+                            userId, e);
+                    return Mono.empty();
+                });
+    }
+
+    private Record.RecordDetail toRecordDetail(RecordDetailCreateDTO recordDetailCreateDTO) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(Record.RecordDetail.newDetailId());
+        detail.setQuestion(recordDetailCreateDTO.getQuestion());
+        detail.setAnswer(recordDetailCreateDTO.getAnswer());
+        detail.setCreatedAt(new Date());
+        return detail;
+    }
+}
@@ -0,0 +1,413 @@
+package pickme.record.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import pickme.record.cache.RecordCache;
+import pickme.record.config.RecordAutosaveProperties;
+import pickme.record.dto.InterviewRecordResponseDTO;
+import pickme.record.dto.InterviewRecordResponseView;
+import pickme.record.dto.RecordDetailResponseDTO;
+import pickme.record.model.Record;
+import pickme.record.repository.RecordRepository;
+
+/**
+ * RecordAutosaveBuffer는 세부 항목의 잦은 자동 저장 업데이트를 모아서 마지막 값만 저장하는 쓰기 버퍼입니다.
+ *
+ * <p>
+ * 업데이트는 (userId, interviewRecordId, detailId) 단위로 보관되며, 같은 세부 항목에 대한 후속 업데이트는
+ * 기존 값을 덮어씁니다. 마지막 업데이트 이후 {@code debounce} 동안 추가 업데이트가 없거나,
+ * 첫 업데이트 이후 {@code maxDelay}가 지나면 세부 항목 ID로 지정한 단일 업데이트로 저장합니다.
+ * 버퍼의 세부 항목 수가 {@code maxEntries}를 넘으면 업데이트한 사용자의 항목을 요청 스레드에서 즉시 저장합니다.
+ * </p>
+ *
+ * <p>
+ * 저장 중인 항목은 저장이 끝날 때까지 버퍼에 남아 있으므로 조회 응답에는 항상 최신 값이 반영되며,
+ * 저장 도중 새 업데이트가 들어오면 새 값이 남아 다음 저장에서 반영됩니다.
+ * 같은 사용자의 저장은 순서대로 실행되므로 이전 값이 새 값을 덮어쓰지 않습니다.
+ * 버퍼는 인스턴스 메모리에 있으므로, 종료 시에는 MongoDB 연결이 닫히기 전에 남은 항목을 모두 저장합니다.
+ * </p>
+ *
+ * <p>
+ * 배포 조건: 버퍼를 켜려면 한 사용자의 요청이 항상 같은 인스턴스에서 처리되어야 합니다(사용자 ID 기준 sticky routing,
+ * 또는 단일 인스턴스). 버퍼된 값은 다른 인스턴스의 조회 응답과 ETag에 반영되지 않고, 다른 인스턴스의 저장 전 flush 대상도
+ * 아니므로, 요청이 여러 인스턴스로 나뉘면 다른 인스턴스는 이전 값을 응답하며, 그 사이 다른 인스턴스에서 직접 저장한 값을
+ * 나중에 저장되는 버퍼 값이 덮어쓸 수 있습니다. 또한 정상 종료가 아닌 경우(프로세스 강제 종료, 장애) 아직 저장되지 않은
+ * 업데이트는 유실되며, 유실 범위는 사용자별로 최대 {@code maxDelay} 동안의 편집입니다.
+ * 이 조건을 보장할 수 없는 배포에서는 버퍼를 끈 상태(기본값)로 모든 업데이트를 즉시 저장합니다.
+ * </p>
+ *
+ * <p>
+ * 다음 메트릭을 노출합니다.
+ * </p>
+ * <ul>
+ * <li>{@code record.autosave.updates}: 버퍼에 반영된 업데이트 수</li>
+ * <li>{@code record.autosave.flushes}: 저장한 세부 항목 수 (업데이트 수와의 비율이 병합 비율)</li>
+ * <li>{@code record.autosave.coalesced}: 저장 한 번에 병합된 업데이트 수 분포</li>
+ * <li>{@code record.autosave.flush.latency}: 저장 쓰기 한 번의 소요 시간</li>
+ * <li>{@code record.autosave.delay}: 첫 업데이트부터 저장 완료까지의 시간</li>
+ * <li>{@code record.autosave.flush.failures}: 실패하여 다음 저장으로 미룬 횟수</li>
+ * <li>{@code record.autosave.pending}: 버퍼에 남아 있는 세부 항목 수</li>
+ * </ul>
+ */
+@Component
+public class RecordAutosaveBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordAutosaveBuffer.class);
+
+    private final RecordRepository recordRepository;
+
+    private final RecordWriteRetrier recordWriteRetrier;
+
+    private final RecordCache recordCache;
+
+    private final RecordAutosaveProperties properties;
+
+    private final ConcurrentHashMap<String, UserBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter updates;
+
+    private final Counter flushes;
+
+    private final Counter failures;
+
+    private final DistributionSummary coalesced;
+
+    private final Timer flushLatency;
+
+    private final Timer delay;
+
+    private volatile boolean closed;
+
+    public RecordAutosaveBuffer(RecordRepository recordRepository, RecordWriteRetrier recordWriteRetrier,
+            RecordCache recordCache, RecordAutosaveProperties properties, MeterRegistry meterRegistry) {
+        this.recordRepository = recordRepository;
+        this.recordWriteRetrier = recordWriteRetrier;
+        this.recordCache = recordCache;
+        this.properties = properties;
+        this.updates = Counter.builder("record.autosave.updates")
+                .description("Detail updates absorbed by the autosave buffer")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("record.autosave.flushes")
+                .description("Buffered details written to the store")
+                .register(meterRegistry);
+        this.failures = Counter.builder("record.autosave.flush.failures")
+                .description("Buffered detail writes that failed and were kept for the next flush")
+                .register(meterRegistry);
+        this.coalesced = DistributionSummary.builder("record.autosave.coalesced")
+                .description("Updates coalesced into a single buffered detail write")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1_000.0)
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("record.autosave.flush.latency")
+                .description("Time spent writing a buffered detail")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delay = Timer.builder("record.autosave.delay")
+                .description("Time from the first buffered update to the completed write")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("record.autosave.pending", pending, AtomicInteger::get)
+                .description("Details waiting in the autosave buffer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼 사용 여부를 반환합니다. 종료가 시작된 이후에는 false를 반환합니다.
+     *
+     * @return 버퍼가 활성화되어 있고 종료 중이 아니면 true
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && !closed;
+    }
+
+    /**
+     * 세부 항목 업데이트를 버퍼에 반영합니다. 같은 세부 항목의 이전 값은 덮어씁니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detail            세부 항목 ID와 새로운 질문, 답변
+     * @return 버퍼에 반영했으면 true, 버퍼를 사용할 수 없어 호출자가 직접 저장해야 하면 false
+     */
+    public boolean offer(String userId, String interviewRecordId, Record.RecordDetail detail) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        long updateSequence = sequence.incrementAndGet();
+        DetailKey key = new DetailKey(interviewRecordId, detail.getDetailId());
+
+        buffers.compute(userId, (id, buffer) -> {
+            UserBuffer target = buffer == null ? new UserBuffer() : buffer;
+            synchronized (target) {
+                PendingDetail previous = target.entries.get(key);
+                target.entries.put(key, previous == null
+                        ? new PendingDetail(detail.getQuestion(), detail.getAnswer(), now, now, 1, updateSequence)
+                        : new PendingDetail(detail.getQuestion(), detail.getAnswer(), previous.firstBufferedAt(),
+                                now, previous.updates() + 1, updateSequence));
+                if (previous == null) {
+                    pending.incrementAndGet();
+                }
+            }
+            return target;
+        });
+        updates.increment();
+
+        if (pending.get() > properties.getMaxEntries()) {
+            flush(userId);
+        }
+        return true;
+    }
+
+    /**
+     * 사용자의 버퍼된 업데이트를 모두 저장합니다.
+     * 버퍼를 거치지 않는 쓰기나 MongoDB에서 직접 읽는 조회 전에 호출하여 순서를 보장합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void flush(String userId) {
+        flush(userId, entry -> true);
+    }
+
+    /**
+     * 모든 사용자의 버퍼된 업데이트를 저장합니다.
+     */
+    public void flushAll() {
+        for (String userId : buffers.keySet()) {
+            flush(userId);
+        }
+    }
+
+    /**
+     * 대기 시간이 지난 버퍼 항목을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${record.autosave.flush-interval:200ms}")
+    public void flushDue() {
+        if (buffers.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long debounce = properties.getDebounce().toMillis();
+        long maxDelay = properties.getMaxDelay().toMillis();
+
+        for (String userId : buffers.keySet()) {
+            flush(userId, entry -> now - entry.lastBufferedAt() >= debounce
+                    || now - entry.firstBufferedAt() >= maxDelay);
+        }
+    }
+
+    /**
+     * 종료 시 남은 항목을 모두 저장합니다. 이후의 업데이트는 버퍼를 거치지 않습니다.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        int remaining = pending.get();
+        flushAll();
+
+        if (pending.get() > 0) {
+            logger.error("Autosave buffer closed with {} unsaved details", pending.get());
+        } else if (remaining > 0) {
+            logger.info("Autosave buffer flushed {} details on shutdown", remaining);
+        }
+    }
+
+    /**
+     * 인터뷰 기록 조회 응답에 버퍼된 질문과 답변을 반영합니다.
+     *
+     * @param userId   사용자 ID
+     * @param response 저장소 또는 캐시에서 만든 인터뷰 기록 응답
+     * @return 버퍼된 값이 반영된 응답 (같은 객체)
+     */
+    public InterviewRecordResponseDTO overlay(String userId, InterviewRecordResponseDTO response) {
+        Map<String, PendingDetail> entries = snapshot(userId, response.getInterviewRecordId());
+        if (entries.isEmpty()) {
+            return response;
+        }
+
+        if (response instanceof InterviewRecordResponseView view) {
+            // 세부 항목 DTO를 만들지 않고, 직렬화할 때 버퍼된 값으로 대체
+            entries.forEach((detailId, entry) -> view.overrideDetail(detailId, entry.question(), entry.answer()));
+        } else if (response.getDetails() != null) {
+            for (RecordDetailResponseDTO detail : response.getDetails()) {
+                PendingDetail entry = entries.get(detail.getDetailId());
+                if (entry != null) {
+                    detail.setQuestion(entry.question());
+                    detail.setAnswer(entry.answer());
+                }
+            }
+        } else {
+            return response;
+        }
+        latest(entries).filter(date -> response.getUpdatedAt() == null || date.after(response.getUpdatedAt()))
+                .ifPresent(response::setUpdatedAt);
+        return response;
+    }
+
+    /**
+     * 인터뷰 기록에 버퍼된 업데이트 중 가장 최근 업데이트의 순번을 반환합니다. 조건부 조회(ETag) 판단에 사용합니다.
+     * 순번은 버퍼에 반영된 업데이트마다 1씩 증가하므로, 같은 밀리초에 들어온 업데이트도 구분됩니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return 가장 최근 업데이트의 순번, 버퍼된 업데이트가 없으면 빈 OptionalLong
+     */
+    public OptionalLong findLatestSequence(String userId, String interviewRecordId) {
+        return snapshot(userId, interviewRecordId).values().stream()
+                .mapToLong(PendingDetail::sequence)
+                .max();
+    }
+
+    /**
+     * 사용자의 버퍼 항목 중 조건을 만족하는 항목을 저장합니다.
+     * 저장에 성공한 항목은 그 사이에 새 값으로 바뀌지 않은 경우에만 버퍼에서 제거합니다.
+     */
+    private void flush(String userId, Predicate<PendingDetail> due) {
+        UserBuffer buffer = buffers.get(userId);
+        if (buffer == null) {
+            return;
+        }
+
+        buffer.flushLock.lock();
+        try {
+            List<Map.Entry<DetailKey, PendingDetail>> targets = new ArrayList<>();
+            synchronized (buffer) {
+                buffer.entries.entrySet().stream()
+                        .filter(entry -> due.test(entry.getValue()))
+                        .forEach(entry -> targets.add(Map.entry(entry.getKey(), entry.getValue())));
+            }
+
+            boolean written = false;
+            for (Map.Entry<DetailKey, PendingDetail> target : targets) {
+                if (write(userId, target.getKey(), target.getValue())) {
+                    written = true;
+                    synchronized (buffer) {
+                        if (buffer.entries.remove(target.getKey(), target.getValue())) {
+                            pending.decrementAndGet();
+                        }
+                    }
+                }
+            }
+            if (written) {
+                recordCache.invalidate(userId);
+            }
+        } finally {
+            buffer.flushLock.unlock();
+        }
+
+        // 비어 있는 사용자 버퍼는 제거 (동시에 반영된 업데이트가 있으면 유지)
+        buffers.computeIfPresent(userId, (id, current) -> {
+            synchronized (current) {
+                return current.entries.isEmpty() ? null : current;
+            }
+        });
+    }
+
+    /**
+     * 버퍼 항목 하나를 세부 항목 ID로 지정한 단일 업데이트로 저장합니다.
+     *
+     * @return 저장 시도가 끝났으면 true (대상 세부 항목이 삭제된 경우 포함), 실패하여 다시 시도해야 하면 false
+     */
+    private boolean write(String userId, DetailKey key, PendingDetail entry) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(key.detailId());
+        detail.setQuestion(entry.question());
+        detail.setAnswer(entry.answer());
+
+        long start = System.nanoTime();
+        try {
+            boolean updated = recordWriteRetrier.execute("autosaveRecordDetail",
+                    () -> recordRepository.updateRecordDetailById(userId, key.interviewRecordId(), key.detailId(),
+                            detail, new Date(entry.lastBufferedAt())));
+            if (!updated) {
+                logger.debug("Dropped buffered update for deleted detail {}", key.detailId());
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.warn("Failed to flush buffered update for detail {}, keeping it for the next flush",
+                    key.detailId(), e);
+            return false;
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        flushes.increment();
+        coalesced.record(entry.updates());
+        delay.record(System.currentTimeMillis() - entry.firstBufferedAt(), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * 인터뷰 기록에 버퍼된 항목을 세부 항목 ID별로 복사합니다.
+     */
+    private Map<String, PendingDetail> snapshot(String userId, String interviewRecordId) {
+        UserBuffer buffer = buffers.get(userId);
+        if (buffer == null) {
+            return Map.of();
+        }
+
+        Map<String, PendingDetail> entries = new HashMap<>();
+        synchronized (buffer) {
+            buffer.entries.forEach((key, entry) -> {
+                if (key.interviewRecordId().equals(interviewRecordId)) {
+                    entries.put(key.detailId(), entry);
+                }
+            });
+        }
+        return entries;
+    }
+
+    private Optional<Date> latest(Map<String, PendingDetail> entries) {
+        return entries.values().stream()
+                .map(PendingDetail::lastBufferedAt)
+                .max(Long::compare)
+                .map(Date::new);
+    }
+
+    /**
+     * 한 사용자의 버퍼 항목입니다. 항목 변경은 객체 모니터로, 저장은 flushLock으로 직렬화합니다.
+     */
+    private static final class UserBuffer {
+
+        private final Map<DetailKey, PendingDetail> entries = new HashMap<>();
+
+        private final ReentrantLock flushLock = new ReentrantLock();
+    }
+
+    private record DetailKey(String interviewRecordId, String detailId) {
+    }
+
+    private record PendingDetail(String question, String answer, long firstBufferedAt, long lastBufferedAt,
+            int updates, long sequence) {
+    }
+}
@@ -0,0 +1,103 @@
+package pickme.record.service;
+
+import java.util.Map;
+
+import pickme.record.dto.RecordBatchOperationDTO;
+
+/**
+ * RecordBatchSupport는 일괄 작업 요청의 작업별 검증과 결과 계산을 담당하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 일괄 작업의 각 항목은 개별 API와 같은 의미를 가지므로,
+ * 결과 상태 코드도 개별 API가 반환했을 상태 코드(200, 201, 204, 400, 404)를 사용합니다.
+ * </p>
+ */
+final class RecordBatchSupport {
+
+    static final String NOT_FOUND_MESSAGE = "Interview record or detail not found";
+
+    static final String CONFLICT_MESSAGE = "Not applied because the record was modified concurrently";
+
+    private RecordBatchSupport() {
+    }
+
+    /**
+     * 작업 종류별 필수 필드를 검증합니다.
+     *
+     * @param operation 검증할 작업
+     * @return 유효하지 않은 경우 사유, 유효한 경우 null
+     */
+    static String validate(RecordBatchOperationDTO operation) {
+        switch (operation.getType()) {
+            case UPDATE_INTERVIEW:
+                if (isBlank(operation.getEnterpriseName()) || isBlank(operation.getCategory())) {
+                    return "Enterprise Name and Category are required";
+                }
+                return null;
+            case CREATE_DETAIL:
+                if (isBlank(operation.getQuestion()) || isBlank(operation.getAnswer())) {
+                    return "Question and Answer are required";
+                }
+                return null;
+            case UPDATE_DETAIL:
+                if (operation.getDetailIndex() == null) {
+                    return "Detail index is required";
+                }
+                if (isBlank(operation.getQuestion()) || isBlank(operation.getAnswer())) {
+                    return "Question and Answer are required";
+                }
+                return null;
+            case DELETE_DETAIL:
+                if (operation.getDetailIndex() == null) {
+                    return "Detail index is required";
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 인터뷰 기록별 세부 항목 개수에 작업을 적용하고, 개별 API로 실행했을 때의 상태 코드를 반환합니다.
+     * 적용할 수 없는 작업(대상 없음)은 개수를 변경하지 않고 404를 반환합니다.
+     *
+     * @param operation    적용할 작업 (검증 완료)
+     * @param detailCounts 인터뷰 기록 ID별 세부 항목 개수 (작업 적용에 따라 갱신됨)
+     * @return 상태 코드
+     */
+    static int applyToOutline(RecordBatchOperationDTO operation, Map<String, Integer> detailCounts) {
+        Integer detailCount = detailCounts.get(operation.getInterviewRecordId());
+        if (detailCount == null) {
+            return 404;
+        }
+
+        switch (operation.getType()) {
+            case UPDATE_INTERVIEW:
+                return 200;
+            case DELETE_INTERVIEW:
+                detailCounts.remove(operation.getInterviewRecordId());
+                return 204;
+            case CREATE_DETAIL:
+                detailCounts.put(operation.getInterviewRecordId(), detailCount + 1);
+                return 201;
+            case UPDATE_DETAIL:
+                return isInRange(operation.getDetailIndex(), detailCount) ? 200 : 404;
+            case DELETE_DETAIL:
+                if (!isInRange(operation.getDetailIndex(), detailCount)) {
+                    return 404;
+                }
+                detailCounts.put(operation.getInterviewRecordId(), detailCount - 1);
+                return 204;
+            default:
+                return 404;
+        }
+    }
+
+    private static boolean isInRange(int index, int size) {
+        return index >= 0 && index < size;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,63 @@
+package pickme.record.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import pickme.record.model.RecordExportEntry;
+
+/**
+ * RecordExportWriter는 인터뷰 기록 스트림을 NDJSON(한 줄에 JSON 문서 하나) 형식으로 기록하는 컴포넌트입니다.
+ *
+ * <p>
+ * 스트림에서 한 항목씩 꺼내 직렬화하고 바로 출력 스트림에 쓰므로, 메모리에는 커서의 현재 배치만 유지됩니다.
+ * 출력 스트림 쓰기가 느린 클라이언트 때문에 막히면 커서도 다음 배치를 가져오지 않으므로,
+ * 읽기 속도가 자연스럽게 클라이언트의 수신 속도에 맞춰집니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordExportWriter {
+
+    /**
+     * 버퍼에 쌓인 데이터를 클라이언트로 내보내는 간격(줄 수)입니다.
+     */
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 스트림의 모든 항목을 NDJSON으로 기록하고, 기록이 끝나면 스트림(커서)을 닫습니다.
+     *
+     * @param entries      내보낼 인터뷰 기록 스트림
+     * @param outputStream 출력 스트림 (닫지 않음)
+     * @return 기록한 줄 수
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    public long write(Stream<RecordExportEntry> entries, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(RecordExportEntry.class);
+        long count = 0;
+
+        try (entries) {
+            Iterator<RecordExportEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(writer.writeValueAsBytes(iterator.next()));
+                outputStream.write('\n');
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+        return count;
+    }
+}
@@ -0,0 +1,97 @@
+package pickme.record.service;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import pickme.record.exception.InvalidPatchException;
+import pickme.record.model.RecordPatch;
+
+/**
+ * RecordPatchSupport는 병합 패치(RFC 7396) 요청을 검증하고 필드 단위의 변경({@link RecordPatch})으로 변환하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 패치는 JSON 객체여야 하며, 패치에 나온 필드만 변경합니다. 값이 null인 필드는 제거를 의미하므로
+ * 제거할 수 있는 필드에만 허용합니다. 문자열 필드는 전체 교체용 DTO와 같은 제약(공백 불가)을 적용합니다.
+ * 식별자, 생성/수정 시각, 세부 항목 목록처럼 서버가 관리하는 필드는 패치로 변경할 수 없습니다.
+ * </p>
+ */
+final class RecordPatchSupport {
+
+    static final String PATCH_FIELD = "patch";
+
+    /**
+     * 인터뷰 기록 패치에서 변경할 수 있는 필드와 제거 가능 여부입니다.
+     */
+    private static final Map<String, Boolean> INTERVIEW_FIELDS = Map.of(
+            "enterpriseName", false,
+            "category", false);
+
+    /**
+     * 세부 항목 패치에서 변경할 수 있는 필드와 제거 가능 여부입니다.
+     */
+    private static final Map<String, Boolean> DETAIL_FIELDS = Map.of(
+            "question", false,
+            "answer", false);
+
+    private RecordPatchSupport() {
+    }
+
+    /**
+     * 인터뷰 기록 병합 패치를 검증하고 변환합니다.
+     *
+     * @param patch 요청 본문
+     * @return 변경할 필드 목록
+     * @throws InvalidPatchException 패치가 유효하지 않은 경우
+     */
+    static RecordPatch interviewPatch(JsonNode patch) {
+        return compile(patch, INTERVIEW_FIELDS);
+    }
+
+    /**
+     * 세부 항목 병합 패치를 검증하고 변환합니다.
+     *
+     * @param patch 요청 본문
+     * @return 변경할 필드 목록
+     * @throws InvalidPatchException 패치가 유효하지 않은 경우
+     */
+    static RecordPatch detailPatch(JsonNode patch) {
+        return compile(patch, DETAIL_FIELDS);
+    }
+
+    private static RecordPatch compile(JsonNode patch, Map<String, Boolean> fields) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException(PATCH_FIELD, "Merge patch must be a JSON object");
+        }
+
+        RecordPatch compiled = new RecordPatch();
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            String field = member.getKey();
+            JsonNode value = member.getValue();
+            Boolean removable = fields.get(field);
+
+            if (removable == null) {
+                throw new InvalidPatchException(field, "Field cannot be patched");
+            }
+            if (value.isNull()) {
+                if (!removable) {
+                    throw new InvalidPatchException(field, "Field cannot be removed");
+                }
+                compiled.unset(field);
+            } else if (!value.isTextual() || value.asText().isBlank()) {
+                throw new InvalidPatchException(field, "Field must be a non-blank string");
+            } else {
+                compiled.set(field, value.asText());
+            }
+        }
+
+        if (compiled.isEmpty()) {
+            throw new InvalidPatchException(PATCH_FIELD, "Merge patch must change at least one field");
+        }
+        return compiled;
+    }
+}
@@ -0,0 +1,155 @@
+package pickme.record.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import pickme.record.dto.RecordSearchHitDTO;
+import pickme.record.dto.RecordSearchResponseDTO;
+import pickme.record.model.RecordSearchMatch;
+
+/**
+ * RecordSearchSupport는 검색어 해석과 검색 결과(하이라이트된 스니펫) 생성을 담당하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 스니펫은 첫 번째 일치 위치를 중심으로 잘라내며, 본문은 HTML 이스케이프한 뒤
+ * 일치한 부분만 {@code <em>} 태그로 감쌉니다.
+ * </p>
+ */
+final class RecordSearchSupport {
+
+    /**
+     * 검색어로 사용할 최대 단어 수입니다.
+     */
+    static final int MAX_TERMS = 10;
+
+    /**
+     * 검색 결과 페이지의 최대 크기입니다.
+     */
+    static final int MAX_PAGE_SIZE = 50;
+
+    private static final int SNIPPET_CONTEXT = 40;
+
+    private static final int SNIPPET_MAX_LENGTH = 160;
+
+    private RecordSearchSupport() {
+    }
+
+    /**
+     * 검색어를 공백으로 나눈 단어들을 반환합니다.
+     *
+     * @param query 검색어
+     * @return 중복을 제거한 단어 배열 (최대 {@link #MAX_TERMS}개)
+     */
+    static String[] terms(String query) {
+        return Arrays.stream(query.trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 단어 중 하나와 대소문자 구분 없이 일치하는 정규식을 생성합니다.
+     * MongoDB($regex, PCRE)와 Java 양쪽에서 같은 의미로 사용할 수 있도록 각 단어를 \Q...\E로 인용합니다.
+     *
+     * @param terms 검색 단어 배열
+     * @return 정규식 문자열
+     */
+    static String pattern(String[] terms) {
+        return Arrays.stream(terms).map(Pattern::quote).collect(Collectors.joining("|"));
+    }
+
+    /**
+     * 검색 결과 페이지 응답을 생성합니다.
+     *
+     * @param query   검색어
+     * @param page    페이지 번호
+     * @param size    페이지 크기
+     * @param matches 일치한 세부 항목 목록 (다음 페이지 확인을 위해 최대 size + 1개)
+     * @param pattern 검색 정규식
+     * @return 검색 결과 페이지
+     */
+    static RecordSearchResponseDTO toResponse(String query, int page, int size, List<RecordSearchMatch> matches,
+            String pattern) {
+        Pattern compiled = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+        RecordSearchResponseDTO response = new RecordSearchResponseDTO();
+        response.setQuery(query);
+        response.setPage(page);
+        response.setSize(size);
+        response.setHasNext(matches.size() > size);
+        response.setHits(matches.stream()
+                .limit(size)
+                .map(match -> toHit(match, compiled))
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private static RecordSearchHitDTO toHit(RecordSearchMatch match, Pattern pattern) {
+        RecordSearchHitDTO hit = new RecordSearchHitDTO();
+        hit.setInterviewRecordId(match.getInterviewRecordId());
+        hit.setEnterpriseName(match.getEnterpriseName());
+        hit.setCategory(match.getCategory());
+        hit.setDetailIndex(match.getDetailIndex());
+        hit.setDetailId(match.getDetailId());
+        hit.setQuestionSnippet(highlight(match.getQuestion(), pattern));
+        hit.setAnswerSnippet(highlight(match.getAnswer(), pattern));
+        return hit;
+    }
+
+    /**
+     * 본문에서 첫 번째 일치 위치 주변을 잘라 강조된 스니펫을 생성합니다.
+     * 일치하는 부분이 없으면 본문의 앞부분을 강조 없이 반환합니다.
+     *
+     * @param text    본문
+     * @param pattern 검색 정규식
+     * @return 스니펫, 본문이 null이면 null
+     */
+    static String highlight(String text, Pattern pattern) {
+        if (text == null) {
+            return null;
+        }
+
+        Matcher matcher = pattern.matcher(text);
+        int start = matcher.find() ? Math.max(0, matcher.start() - SNIPPET_CONTEXT) : 0;
+        int end = Math.min(text.length(), start + SNIPPET_MAX_LENGTH);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("…");
+        }
+
+        int position = start;
+        matcher.region(start, end);
+        while (matcher.find()) {
+            appendEscaped(snippet, text, position, matcher.start());
+            snippet.append("<em>");
+            appendEscaped(snippet, text, matcher.start(), matcher.end());
+            snippet.append("</em>");
+            position = matcher.end();
+        }
+        appendEscaped(snippet, text, position, end);
+
+        if (end < text.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    private static void appendEscaped(StringBuilder builder, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> builder.append("&lt;");
+                case '>' -> builder.append("&gt;");
+                case '&' -> builder.append("&amp;");
+                case '"' -> builder.append("&quot;");
+                case '\'' -> builder.append("&#39;");
+                default -> builder.append(c);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package pickme.record.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import pickme.record.dto.*;
 
 /**
@@ -29,6 +33,15 @@ public interface RecordService {
      */
     InterviewRecordResponseDTO getInterviewRecordById(String userId, String interviewRecordId, int page, int size);
 
+    /**
+     * 특정 인터뷰 기록 조회 응답의 ETag를 반환합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return ETag 값, 인터뷰 기록이 없으면 null
+     */
+    String getInterviewRecordETag(String userId, String interviewRecordId);
+
     /**
      * 특정 인터뷰 기록을 업데이트합니다.
      *
@@ -60,6 +73,17 @@ public interface RecordService {
     RecordDetailResponseDTO createRecordDetail(String userId, String interviewRecordId,
             RecordDetailCreateDTO recordDetailCreateDTO);
 
+    /**
+     * 여러 기록 세부 정보를 한 번에 생성합니다.
+     *
+     * @param userId                 사용자 ID
+     * @param interviewRecordId      인터뷰 기록 ID
+     * @param recordDetailCreateDTOs 기록 세부 정보 생성 요청 데이터 목록
+     * @return 생성된 기록 세부 정보의 응답 데이터 목록
+     */
+    List<RecordDetailResponseDTO> createRecordDetails(String userId, String interviewRecordId,
+            List<RecordDetailCreateDTO> recordDetailCreateDTOs);
+
     /**
      * 특정 기록 세부 정보를 업데이트합니다.
      *
@@ -83,10 +107,117 @@ public interface RecordService {
     boolean deleteRecordDetail(String userId, String interviewRecordId, int detailIndex);
 
     /**
-     * 사이드바에 표시할 데이터를 조회합니다.
+     * 세부 항목 ID로 지정한 기록 세부 정보를 업데이트합니다.
+     *
+     * @param userId                사용자 ID
+     * @param interviewRecordId     인터뷰 기록 ID
+     * @param detailId              세부 항목 ID
+     * @param recordDetailUpdateDTO 기록 세부 정보 업데이트 요청 데이터
+     * @return 업데이트된 기록 세부 정보의 응답 데이터
+     */
+    RecordDetailResponseDTO updateRecordDetailById(String userId, String interviewRecordId, String detailId,
+            RecordDetailUpdateDTO recordDetailUpdateDTO);
+
+    /**
+     * 세부 항목 ID로 지정한 기록 세부 정보를 삭제합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @return 삭제 성공 여부
+     */
+    boolean deleteRecordDetailById(String userId, String interviewRecordId, String detailId);
+
+    /**
+     * 인터뷰 기록에 병합 패치(RFC 7396)를 적용합니다. 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 인터뷰 기록이 없으면 false
+     * @throws pickme.record.exception.InvalidPatchException 패치가 유효하지 않은 경우
+     */
+    boolean patchInterviewRecord(String userId, String interviewRecordId, JsonNode patch);
+
+    /**
+     * 세부 항목 ID로 지정한 기록 세부 정보에 병합 패치(RFC 7396)를 적용합니다. 패치에 포함된 필드만 변경합니다.
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 인터뷰 기록이나 세부 항목이 없으면 false
+     * @throws pickme.record.exception.InvalidPatchException 패치가 유효하지 않은 경우
+     */
+    boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, JsonNode patch);
+
+    /**
+     * 여러 작업을 요청 순서대로 한 번에 실행합니다.
+     *
+     * @param userId     사용자 ID
+     * @param operations 실행할 작업 목록
+     * @return 작업별 실행 결과 목록 (요청 순서와 동일)
+     */
+    List<RecordBatchResultDTO> executeBatch(String userId, List<RecordBatchOperationDTO> operations);
+
+    /**
+     * 질문, 답변, 기업명에서 검색어를 검색합니다.
+     *
+     * @param userId 사용자 ID
+     * @param query  검색어 (공백으로 구분된 단어 중 하나라도 포함하면 일치)
+     * @param page   페이지 번호 (0부터 시작)
+     * @param size   페이지 크기
+     * @return 검색 결과, 검색어나 페이징 파라미터가 유효하지 않으면 null
+     */
+    RecordSearchResponseDTO searchRecords(String userId, String query, int page, int size);
+
+    /**
+     * 사이드바에 표시할 데이터를 커서 기반으로 한 페이지씩 조회합니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size           페이지 크기
+     * @param order          updatedAt 정렬 방향 (asc 또는 desc)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @return 사이드바 데이터 페이지, 파라미터가 유효하지 않으면 null
+     */
+    InterviewRecordSidebarPageDTO getSidebarData(String userId, String cursor, int size, String order,
+            String category, String enterpriseName);
+
+    /**
+     * 사이드바 조회 응답의 ETag를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size   페이지 크기
+     * @param order  updatedAt 정렬 방향 (asc 또는 desc)
+     * @return ETag 값, 페이지 파라미터가 유효하지 않으면 null
+     */
+    String getSidebarETag(String userId, String cursor, int size, String order);
+
+    /**
+     * 사용자의 면접 통계를 조회합니다.
      *
      * @param userId 사용자 ID
-     * @return 사이드바 데이터 목록
+     * @return 면접 통계, 기록이 없으면 모든 값이 0인 통계
+     */
+    RecordStatsDTO getStats(String userId);
+
+    /**
+     * 사용자의 전체 인터뷰 기록을 NDJSON으로 출력합니다.
+     *
+     * @param userId       사용자 ID
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    void exportRecords(String userId, OutputStream outputStream) throws IOException;
+
+    /**
+     * 전체 사용자의 인터뷰 기록을 NDJSON으로 출력합니다.
+     *
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
      */
-    List<InterviewRecordSidebarDTO> getSidebarData(String userId);
+    void exportAllRecords(OutputStream outputStream) throws IOException;
 }
@@ -1,16 +1,29 @@
 package pickme.record.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import pickme.record.cache.RecordCache;
+import pickme.record.config.RecordExportProperties;
 import pickme.record.dto.*;
 import pickme.record.mapper.RecordMapper;
 import pickme.record.model.Record;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordSearchMatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+import pickme.record.model.SidebarCursor;
 import pickme.record.repository.RecordRepository;
 
 /**
@@ -21,12 +34,24 @@ import pickme.record.repository.RecordRepository;
  * <ul>
  * <li>인터뷰 기록 생성, 조회, 업데이트, 삭제</li>
  * <li>인터뷰 기록의 세부 항목 생성, 조회, 업데이트, 삭제</li>
+ * <li>여러 작업의 일괄 실행</li>
+ * <li>질문, 답변, 기업명 검색</li>
  * <li>사이드바 데이터 조회</li>
+ * <li>면접 통계 조회</li>
  * </ul>
  * 
  * <p>
  * 이 클래스는 RecordRepository와 RecordMapper를 사용하여
  * 데이터베이스와의 상호작용 및 데이터 변환 작업을 수행합니다.
+ * 쓰기 작업은 사용자 문서 전체를 다시 저장하지 않고, 단일 원자적 업데이트로 수행합니다.
+ * 동시 쓰기 충돌은 RecordWriteRetrier를 통해 제한된 횟수만큼 재시도합니다.
+ * 조회 작업은 RecordCache가 활성화된 경우 캐시된 문서로 처리하며,
+ * 모든 쓰기 작업 이후에는 해당 사용자의 캐시 항목을 무효화합니다. 인터뷰 기록 ETag는 캐시를 사용하면 캐시된 문서의 버전으로,
+ * 사이드바 ETag는 캐시와 관계없이 저장소의 값으로 계산합니다.
+ * 세부 항목의 질문/답변 업데이트는 RecordAutosaveBuffer가 활성화된 경우 버퍼에 모았다가 마지막 값만 저장하며,
+ * 조회 응답에는 버퍼된 값을 반영합니다.
+ * 인터뷰 기록과 세부 항목의 추가, 삭제, 기업명/카테고리 변경은 사용자별 통계 요약 문서에 $inc로 함께 반영됩니다.
+ * 사용자별 단일 문서 저장 모드({@code record.storage.mode=embedded}, 기본값)에서 활성화됩니다.
  * 또한 SLF4J Logger를 사용하여 애플리케이션 실행 중 발생하는 이벤트를 기록합니다.
  * </p>
  * 
@@ -39,10 +64,13 @@ import pickme.record.repository.RecordRepository;
  * <li><b>createRecordDetail:</b> 인터뷰 기록의 세부 항목을 생성합니다.</li>
  * <li><b>updateRecordDetail:</b> 인터뷰 기록의 세부 항목을 업데이트합니다.</li>
  * <li><b>deleteRecordDetail:</b> 인터뷰 기록의 세부 항목을 삭제합니다.</li>
+ * <li><b>updateRecordDetailById / deleteRecordDetailById:</b>
+ * 세부 항목 ID로 지정한 세부 항목을 업데이트하거나 삭제합니다.</li>
  * <li><b>getSidebarData:</b> 사용자 ID를 기반으로 사이드바 데이터를 조회합니다.</li>
  * </ul>
  */
 @Service
+@ConditionalOnProperty(name = "record.storage.mode", havingValue = "embedded", matchIfMissing = true)
 public class RecordServiceImpl implements RecordService {
 
     @Autowired
@@ -51,6 +79,21 @@ public class RecordServiceImpl implements RecordService {
     @Autowired
     private RecordMapper recordMapper;
 
+    @Autowired
+    private RecordCache recordCache;
+
+    @Autowired
+    private RecordWriteRetrier recordWriteRetrier;
+
+    @Autowired
+    private RecordAutosaveBuffer recordAutosaveBuffer;
+
+    @Autowired
+    private RecordExportWriter recordExportWriter;
+
+    @Autowired
+    private RecordExportProperties recordExportProperties;
+
     /**
      * RecordServiceImpl 클래스의 로깅을 담당하는 Logger 객체입니다.
      * 이 Logger는 SLF4J의 LoggerFactory를 사용하여 생성되며,
@@ -66,23 +109,14 @@ public class RecordServiceImpl implements RecordService {
      * @return 생성된 인터뷰 기록의 응답 DTO
      * 
      *         이 메서드는 다음과 같은 작업을 수행합니다:
-     *         1. 주어진 사용자 ID로 기존 Record를 조회합니다.
-     *         - 만약 Record가 존재하지 않으면 새로운 Record를 생성합니다.
-     *         2. 새로운 InterviewRecord 객체를 생성하고, 주어진 DTO의 데이터를 설정합니다.
-     *         3. 생성된 InterviewRecord를 Record에 추가합니다.
-     *         4. Record를 저장소에 저장합니다.
-     *         5. 생성된 InterviewRecord를 응답 DTO로 변환하여 반환합니다.
+     *         1. 새로운 InterviewRecord 객체를 생성하고, 주어진 DTO의 데이터를 설정합니다.
+     *         2. 생성된 InterviewRecord를 사용자 Record에 $push 합니다.
+     *         - 만약 Record가 존재하지 않으면 upsert로 새로운 Record를 생성합니다.
+     *         3. 생성된 InterviewRecord를 응답 DTO로 변환하여 반환합니다.
      */
     @Override
     public InterviewRecordResponseDTO createInterviewRecord(String userId,
             InterviewRecordCreateDTO interviewRecordCreateDTO) {
-        Record record = recordRepository.findById(userId).orElseGet(() -> {
-            Record newRecord = new Record();
-            newRecord.setUserId(userId);
-            newRecord.setRecords(new ArrayList<>());
-            return newRecord;
-        });
-
         // 새로운 InterviewRecord 생성
         Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
         interviewRecord.setInterviewRecordId(UUID.randomUUID().toString());
@@ -94,11 +128,13 @@ public class RecordServiceImpl implements RecordService {
         interviewRecord.setUpdatedAt(now); // 현재 시간 설정
         interviewRecord.setDetails(new ArrayList<>());
 
-        // Record에 추가
-        record.getRecords().add(interviewRecord);
-
-        // 저장
-        recordRepository.save(record);
+        // Record에 추가 (없으면 생성)
+        recordWriteRetrier.execute("createInterviewRecord", () -> {
+            recordRepository.pushInterviewRecord(userId, interviewRecord);
+            return interviewRecord;
+        });
+        recordCache.invalidate(userId);
+        incrementStats(userId, RecordStatsSupport.created(interviewRecord));
 
         return recordMapper.toInterviewRecordResponse(interviewRecord);
     }
@@ -110,44 +146,62 @@ public class RecordServiceImpl implements RecordService {
      * @param interviewRecordId 조회할 인터뷰 기록의 ID
      * @param page              페이징 처리를 위한 페이지 번호 (0부터 시작)
      * @param size              페이징 처리를 위한 페이지 크기
-     * @return 인터뷰 기록에 대한 응답 DTO 객체.
+     * @return 요청한 페이지의 세부 항목과 전체 개수, 다음 페이지 존재 여부를 포함한 응답 DTO 객체.
      *         유효하지 않은 페이징 매개변수나 데이터를 찾을 수 없는 경우 null을 반환합니다.
      */
     @Override
     public InterviewRecordResponseDTO getInterviewRecordById(
             String userId, String interviewRecordId, int page, int size) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
-        if (optionalRecord.isPresent()) {
-            Record.InterviewRecord interviewRecord = findInterviewRecordById(optionalRecord.get(), interviewRecordId);
-
-            if (interviewRecord != null) {
-                // RecordDetail에 페이징 적용
-                List<Record.RecordDetail> allDetails = interviewRecord.getDetails();
-
-                if (allDetails == null || allDetails.isEmpty()) {
-                    // details가 없으면 빈 리스트로 반환
-                    InterviewRecordResponseDTO responseDTO = recordMapper.toInterviewRecordResponse(interviewRecord);
-                    responseDTO.setDetails(Collections.emptyList());
-                }
-
-                // RecordDetail에 페이징 적용
-                int start = page * size;
-                int end = start + size;
-                List<Record.RecordDetail> paginatedDetails;
-
-                try {
-                    paginatedDetails = allDetails.subList(start, Math.min(end, allDetails.size()));
-                    InterviewRecordResponseDTO responseDTO = recordMapper.toInterviewRecordResponse(interviewRecord);
-                    responseDTO.setDetails(recordMapper.toRecordDetailResponseList(paginatedDetails));
-                    return responseDTO;
-                } catch (IndexOutOfBoundsException e) {
-                    logger.warn("Invalid pagination parameters: start={}, size={}, total={}",
-                            start, size, allDetails.size(), e);
-                    return null;
-                }
-            }
+        if (page < 0 || size <= 0) {
+            logger.warn("Invalid pagination parameters: page={}, size={}", page, size);
+            return null;
         }
-        return null;
+
+        // 범위를 벗어난 페이지는 빈 details를 반환
+        int skip = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+
+        // 캐시된 문서는 변경되지 않으므로, 세부 항목을 DTO로 복사하지 않고 직렬화 시점에 바로 씀
+        if (recordCache.isEnabled()) {
+            return recordCache.get(userId)
+                    .map(record -> record.findInterviewRecord(interviewRecordId))
+                    .map(interviewRecord -> recordMapper.toInterviewRecordPageView(interviewRecord, skip, size))
+                    .map(response -> recordAutosaveBuffer.overlay(userId, response))
+                    .orElse(null);
+        }
+
+        // 캐시를 사용하지 않으면 RecordDetail 페이징을 MongoDB에서 $slice로 처리
+        return recordRepository.findInterviewRecordPage(userId, interviewRecordId, skip, size)
+                .map(response -> recordAutosaveBuffer.overlay(userId, response))
+                .orElse(null);
+    }
+
+    /**
+     * 인터뷰 기록 조회 응답의 ETag를 반환합니다.
+     *
+     * <p>
+     * ETag는 사용자 문서의 버전으로 만들어지며, 버전은 모든 쓰기에서 1씩 증가하므로
+     * 같은 밀리초에 일어난 변경도 서로 다른 ETag를 만듭니다.
+     * 캐시를 사용하지 않으면 인터뷰 기록이 있을 때 버전만 프로젝션하는 조회로 저장소에서 확인하므로,
+     * 변경되지 않은 기록에 대해서는 세부 항목을 읽거나 변환하지 않고 304를 반환할 수 있습니다.
+     * 캐시를 사용하면 응답 본문과 같은 캐시 항목의 버전을 사용하므로, 다른 인스턴스의 변경은 캐시 항목이 만료된 뒤에 반영됩니다.
+     * 자동 저장 버퍼에 아직 저장되지 않은 업데이트가 있으면 그중 가장 최근 업데이트의 순번을 함께 반영합니다.
+     * </p>
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @return ETag 값, 인터뷰 기록이 없으면 null
+     */
+    @Override
+    public String getInterviewRecordETag(String userId, String interviewRecordId) {
+        // 캐시를 사용하면 본문과 같은 캐시 항목의 버전으로 계산하여, 만료 전의 본문이 새 버전의 ETag로 캐시되지 않도록 함
+        Optional<Long> version = recordCache.isEnabled()
+                ? recordCache.findInterviewRecordVersion(userId, interviewRecordId)
+                : recordRepository.findInterviewRecordVersion(userId, interviewRecordId);
+        OptionalLong buffered = recordAutosaveBuffer.findLatestSequence(userId, interviewRecordId);
+
+        return version
+                .map(v -> buffered.isPresent() ? "i" + v + "-b" + buffered.getAsLong() : "i" + v)
+                .orElse(null);
     }
 
     /**
@@ -161,22 +215,25 @@ public class RecordServiceImpl implements RecordService {
     @Override
     public InterviewRecordResponseDTO updateInterviewRecord(
             String userId, String interviewRecordId, InterviewRecordUpdateDTO interviewRecordUpdateDTO) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
-
-        if (optionalRecord.isPresent()) {
-            Record record = optionalRecord.get();
-            Record.InterviewRecord interviewRecord = findInterviewRecordById(record, interviewRecordId);
-
-            if (interviewRecord != null) {
-                interviewRecord.setEnterpriseName(interviewRecordUpdateDTO.getEnterpriseName());
-                interviewRecord.setCategory(interviewRecordUpdateDTO.getCategory());
-                interviewRecord.setUpdatedAt(new Date()); // updatedAt 갱신
-                recordRepository.save(record);
-
-                return recordMapper.toInterviewRecordResponse(interviewRecord);
-            }
+        Date updatedAt = new Date(); // updatedAt 갱신
+        // 통계에서 이전 기업명과 카테고리를 빼기 위해 쓰기와 같은 명령으로 변경 직전의 값을 반환받음
+        Optional<Record.InterviewRecord> before = recordWriteRetrier.execute("updateInterviewRecord",
+                () -> recordRepository.updateInterviewRecord(userId, interviewRecordId,
+                        interviewRecordUpdateDTO.getEnterpriseName(),
+                        interviewRecordUpdateDTO.getCategory(),
+                        updatedAt));
+        recordCache.invalidate(userId);
+        if (before.isEmpty()) {
+            return null;
         }
-        return null;
+        incrementStats(userId, RecordStatsSupport.renamed(before.get(),
+                interviewRecordUpdateDTO.getEnterpriseName(), interviewRecordUpdateDTO.getCategory()));
+
+        Record.InterviewRecord updated = before.get();
+        updated.setEnterpriseName(interviewRecordUpdateDTO.getEnterpriseName());
+        updated.setCategory(interviewRecordUpdateDTO.getCategory());
+        updated.setUpdatedAt(updatedAt);
+        return recordMapper.toInterviewRecordResponse(updated);
     }
 
     /**
@@ -188,19 +245,11 @@ public class RecordServiceImpl implements RecordService {
      */
     @Override
     public boolean deleteInterviewRecord(String userId, String interviewRecordId) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
-
-        if (optionalRecord.isPresent()) {
-            Record record = optionalRecord.get();
-            Record.InterviewRecord interviewRecord = findInterviewRecordById(record, interviewRecordId);
-
-            if (interviewRecord != null) {
-                record.getRecords().remove(interviewRecord);
-                recordRepository.save(record);
-                return true;
-            }
-        }
-        return false;
+        Optional<RecordOutline.InterviewOutline> before = recordWriteRetrier.execute("deleteInterviewRecord",
+                () -> recordRepository.pullInterviewRecord(userId, interviewRecordId));
+        recordCache.invalidate(userId);
+        before.ifPresent(interview -> incrementStats(userId, RecordStatsSupport.deleted(interview)));
+        return before.isPresent();
     }
 
     /**
@@ -215,26 +264,44 @@ public class RecordServiceImpl implements RecordService {
     @Override
     public RecordDetailResponseDTO createRecordDetail(
             String userId, String interviewRecordId, RecordDetailCreateDTO recordDetailCreateDTO) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
-
-        if (optionalRecord.isPresent()) {
-            Record record = optionalRecord.get();
-            Record.InterviewRecord interviewRecord = findInterviewRecordById(record, interviewRecordId);
-
-            if (interviewRecord != null) {
-                Record.RecordDetail newDetail = new Record.RecordDetail();
-                newDetail.setQuestion(recordDetailCreateDTO.getQuestion());
-                newDetail.setAnswer(recordDetailCreateDTO.getAnswer());
-                interviewRecord.getDetails().add(newDetail);
+        Record.RecordDetail newDetail = toRecordDetail(recordDetailCreateDTO);
+
+        // updatedAt 갱신과 함께 추가
+        boolean created = recordWriteRetrier.execute("createRecordDetail",
+                () -> recordRepository.pushRecordDetail(userId, interviewRecordId, newDetail, new Date()));
+        recordCache.invalidate(userId);
+        if (created) {
+            incrementStats(userId, RecordStatsSupport.detailsCreated(List.of(newDetail)));
+        }
 
-                // updatedAt 갱신
-                interviewRecord.setUpdatedAt(new Date());
-                recordRepository.save(record);
+        return created ? recordMapper.toRecordDetailResponse(newDetail) : null;
+    }
 
-                return recordMapper.toRecordDetailResponse(newDetail);
-            }
+    /**
+     * 주어진 사용자 ID와 인터뷰 기록 ID를 기반으로 여러 기록 세부 정보를 한 번에 생성합니다.
+     * 모든 세부 항목은 요청 순서대로 단일 $push + $each 업데이트로 추가되며, updatedAt은 한 번만 갱신됩니다.
+     *
+     * @param userId                 사용자의 고유 식별자
+     * @param interviewRecordId      인터뷰 기록의 고유 식별자
+     * @param recordDetailCreateDTOs 생성할 기록 세부 정보의 데이터 전송 객체 목록
+     * @return 생성된 기록 세부 정보 목록,
+     *         해당 인터뷰 기록이 존재하지 않거나 사용자가 존재하지 않을 경우 null 반환
+     */
+    @Override
+    public List<RecordDetailResponseDTO> createRecordDetails(
+            String userId, String interviewRecordId, List<RecordDetailCreateDTO> recordDetailCreateDTOs) {
+        List<Record.RecordDetail> newDetails = recordDetailCreateDTOs.stream()
+                .map(this::toRecordDetail)
+                .toList();
+
+        boolean created = recordWriteRetrier.execute("createRecordDetails",
+                () -> recordRepository.pushRecordDetails(userId, interviewRecordId, newDetails, new Date()));
+        recordCache.invalidate(userId);
+        if (created) {
+            incrementStats(userId, RecordStatsSupport.detailsCreated(newDetails));
         }
-        return null;
+
+        return created ? recordMapper.toRecordDetailResponseList(newDetails) : null;
     }
 
     /**
@@ -250,25 +317,33 @@ public class RecordServiceImpl implements RecordService {
     @Override
     public RecordDetailResponseDTO updateRecordDetail(
             String userId, String interviewRecordId, int detailIndex, RecordDetailUpdateDTO recordDetailUpdateDTO) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
-
-        if (optionalRecord.isPresent()) {
-            Record record = optionalRecord.get();
-            Record.InterviewRecord interviewRecord = findInterviewRecordById(record, interviewRecordId);
-
-            if (interviewRecord != null && isValidIndex(detailIndex, interviewRecord.getDetails().size())) {
-                Record.RecordDetail detail = interviewRecord.getDetails().get(detailIndex);
-                detail.setQuestion(recordDetailUpdateDTO.getQuestion());
-                detail.setAnswer(recordDetailUpdateDTO.getAnswer());
+        if (!isValidIndex(detailIndex)) {
+            return null;
+        }
 
-                // updatedAt 갱신
-                interviewRecord.setUpdatedAt(new Date());
-                recordRepository.save(record);
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setQuestion(recordDetailUpdateDTO.getQuestion());
+        detail.setAnswer(recordDetailUpdateDTO.getAnswer());
 
+        if (recordAutosaveBuffer.isEnabled()) {
+            // 인덱스를 세부 항목 ID로 바꾸어 버퍼에 반영 (ID가 없는 기존 세부 항목은 바로 저장)
+            List<String> detailIds = findDetailIds(userId, interviewRecordId);
+            if (detailIndex >= detailIds.size()) {
+                return null;
+            }
+            detail.setDetailId(detailIds.get(detailIndex));
+            if (detail.getDetailId() != null && recordAutosaveBuffer.offer(userId, interviewRecordId, detail)) {
                 return recordMapper.toRecordDetailResponse(detail);
             }
         }
-        return null;
+        recordAutosaveBuffer.flush(userId);
+
+        // updatedAt 갱신과 함께 업데이트
+        boolean updated = recordWriteRetrier.execute("updateRecordDetail",
+                () -> recordRepository.updateRecordDetail(userId, interviewRecordId, detailIndex, detail, new Date()));
+        recordCache.invalidate(userId);
+
+        return updated ? recordMapper.toRecordDetailResponse(detail) : null;
     }
 
     /**
@@ -286,63 +361,411 @@ public class RecordServiceImpl implements RecordService {
      */
     @Override
     public boolean deleteRecordDetail(String userId, String interviewRecordId, int detailIndex) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
+        if (!isValidIndex(detailIndex)) {
+            return false;
+        }
+
+        // updatedAt 갱신과 함께 삭제하며, 통계에서 삭제한 세부 항목의 생성 날짜를 구하기 위해 삭제 직전의 구조를 반환받음
+        Optional<RecordOutline.InterviewOutline> before = recordWriteRetrier.execute("deleteRecordDetail",
+                () -> recordRepository.removeRecordDetail(userId, interviewRecordId, detailIndex, new Date()));
+        recordCache.invalidate(userId);
+        before.ifPresent(interview -> incrementStats(userId,
+                RecordStatsSupport.detailDeleted(interview, detailIndex)));
+        return before.isPresent();
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목의 질문과 답변을 업데이트합니다.
+     *
+     * <p>
+     * 문서를 먼저 읽지 않고 arrayFilters로 해당 세부 항목 하나만 변경하는 단일 업데이트를 수행하므로,
+     * 다른 요청이 앞선 세부 항목을 삭제하여 위치가 바뀌어도 같은 세부 항목이 변경됩니다.
+     * </p>
+     *
+     * @param userId                업데이트할 사용자의 ID
+     * @param interviewRecordId     업데이트할 인터뷰 기록의 ID
+     * @param detailId              업데이트할 세부 항목의 ID
+     * @param recordDetailUpdateDTO 업데이트할 질문 및 답변 정보를 포함하는 DTO
+     * @return 업데이트된 세부 정보의 응답 DTO, 인터뷰 기록이나 세부 항목이 존재하지 않으면 null 반환
+     */
+    @Override
+    public RecordDetailResponseDTO updateRecordDetailById(
+            String userId, String interviewRecordId, String detailId, RecordDetailUpdateDTO recordDetailUpdateDTO) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(detailId);
+        detail.setQuestion(recordDetailUpdateDTO.getQuestion());
+        detail.setAnswer(recordDetailUpdateDTO.getAnswer());
+
+        if (recordAutosaveBuffer.isEnabled()) {
+            if (!findDetailIds(userId, interviewRecordId).contains(detailId)) {
+                return null;
+            }
+            if (recordAutosaveBuffer.offer(userId, interviewRecordId, detail)) {
+                return recordMapper.toRecordDetailResponse(detail);
+            }
+        }
+        recordAutosaveBuffer.flush(userId);
+
+        boolean updated = recordWriteRetrier.execute("updateRecordDetailById",
+                () -> recordRepository.updateRecordDetailById(userId, interviewRecordId, detailId, detail,
+                        new Date()));
+        recordCache.invalidate(userId);
+
+        return updated ? recordMapper.toRecordDetailResponse(detail) : null;
+    }
+
+    /**
+     * 세부 항목 ID로 지정한 세부 항목을 삭제합니다.
+     *
+     * @param userId            삭제할 기록이 속한 사용자의 ID
+     * @param interviewRecordId 삭제할 인터뷰 기록의 ID
+     * @param detailId          삭제할 세부 항목의 ID
+     * @return 삭제가 성공적으로 이루어진 경우 true, 인터뷰 기록이나 세부 항목이 존재하지 않으면 false
+     */
+    @Override
+    public boolean deleteRecordDetailById(String userId, String interviewRecordId, String detailId) {
+        // 통계에서 삭제한 세부 항목의 생성 날짜를 구하기 위해 삭제 직전의 구조를 반환받음
+        Optional<RecordOutline.InterviewOutline> before = recordWriteRetrier.execute("deleteRecordDetailById",
+                () -> recordRepository.removeRecordDetailById(userId, interviewRecordId, detailId, new Date()));
+        recordCache.invalidate(userId);
+        before.ifPresent(interview -> incrementStats(userId, RecordStatsSupport.detailDeleted(interview, detailId)));
+        return before.isPresent();
+    }
 
-        if (optionalRecord.isPresent()) {
-            Record record = optionalRecord.get();
-            Record.InterviewRecord interviewRecord = findInterviewRecordById(record, interviewRecordId);
+    /**
+     * 인터뷰 기록에 병합 패치를 적용합니다.
+     *
+     * <p>
+     * 패치에 포함된 필드만 $set/$unset하는 단일 업데이트로 변환하므로,
+     * 기업명이나 카테고리 하나만 바꿀 때 다른 필드와 세부 항목은 전송하거나 다시 쓰지 않습니다.
+     * </p>
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 인터뷰 기록이 없으면 false
+     */
+    @Override
+    public boolean patchInterviewRecord(String userId, String interviewRecordId, JsonNode patch) {
+        RecordPatch compiled = RecordPatchSupport.interviewPatch(patch);
+        Optional<RecordOutline.InterviewOutline> before = recordWriteRetrier.execute("patchInterviewRecord",
+                () -> recordRepository.patchInterviewRecord(userId, interviewRecordId, compiled, new Date()));
+        recordCache.invalidate(userId);
+        if (before.isPresent() && RecordStatsSupport.affectsStats(compiled)) {
+            incrementStats(userId, RecordStatsSupport.patched(before.get(), compiled));
+        }
+        return before.isPresent();
+    }
 
-            if (interviewRecord != null && isValidIndex(detailIndex, interviewRecord.getDetails().size())) {
-                interviewRecord.getDetails().remove(detailIndex);
+    /**
+     * 세부 항목 ID로 지정한 세부 항목에 병합 패치를 적용합니다.
+     *
+     * <p>
+     * 질문이나 답변 중 패치에 포함된 필드만 변경합니다.
+     * 자동 저장 버퍼에 남은 업데이트가 패치 이후에 저장되어 패치를 덮어쓰지 않도록 먼저 저장합니다.
+     * </p>
+     *
+     * @param userId            사용자 ID
+     * @param interviewRecordId 인터뷰 기록 ID
+     * @param detailId          세부 항목 ID
+     * @param patch             병합 패치 요청 본문
+     * @return 적용 성공 여부, 인터뷰 기록이나 세부 항목이 없으면 false
+     */
+    @Override
+    public boolean patchRecordDetail(String userId, String interviewRecordId, String detailId, JsonNode patch) {
+        RecordPatch compiled = RecordPatchSupport.detailPatch(patch);
+        recordAutosaveBuffer.flush(userId);
+
+        boolean patched = recordWriteRetrier.execute("patchRecordDetail",
+                () -> recordRepository.patchRecordDetail(userId, interviewRecordId, detailId, compiled, new Date()));
+        recordCache.invalidate(userId);
+        return patched;
+    }
 
-                // updatedAt 갱신
-                interviewRecord.setUpdatedAt(new Date());
-                recordRepository.save(record);
+    /**
+     * 여러 작업을 요청 순서대로 한 번에 실행합니다.
+     *
+     * <p>
+     * 먼저 문서의 구조(버전과 인터뷰 기록별 세부 항목 개수)만 조회하여 각 작업의 대상 유효성을 순서대로 판단하고,
+     * 적용 가능한 작업만 조회한 버전을 조건으로 하는 하나의 쓰기로 함께 실행합니다.
+     * 구조를 조회한 뒤 다른 요청이 문서를 변경한 경우, 적용 가능했던 작업은 모두 적용되지 않고 409로 보고됩니다.
+     * </p>
+     *
+     * @param userId     사용자 ID
+     * @param operations 실행할 작업 목록
+     * @return 작업별 실행 결과 목록 (요청 순서와 동일)
+     */
+    @Override
+    public List<RecordBatchResultDTO> executeBatch(String userId, List<RecordBatchOperationDTO> operations) {
+        // 버퍼된 업데이트가 일괄 작업 이후에 저장되어 결과를 덮어쓰지 않도록 먼저 저장
+        recordAutosaveBuffer.flush(userId);
+        Optional<RecordOutline> outline = recordRepository.findOutline(userId);
+
+        Map<String, Integer> detailCounts = new HashMap<>();
+        outline.ifPresent(o -> o.getRecords().forEach(
+                ir -> detailCounts.put(ir.getInterviewRecordId(), ir.getDetailCount())));
+
+        List<RecordBatchResultDTO> results = new ArrayList<>(operations.size());
+        List<RecordBatchOperationDTO> accepted = new ArrayList<>();
+        List<RecordBatchResultDTO> acceptedResults = new ArrayList<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            RecordBatchOperationDTO operation = operations.get(i);
+            String invalid = RecordBatchSupport.validate(operation);
+
+            if (invalid != null) {
+                results.add(new RecordBatchResultDTO(i, operation.getType(), 400, invalid));
+                continue;
+            }
 
-                return true;
+            int status = RecordBatchSupport.applyToOutline(operation, detailCounts);
+            if (status == 404) {
+                results.add(new RecordBatchResultDTO(i, operation.getType(), 404,
+                        RecordBatchSupport.NOT_FOUND_MESSAGE));
+                continue;
             }
+
+            RecordBatchResultDTO result = new RecordBatchResultDTO(i, operation.getType(), status, null);
+            results.add(result);
+            accepted.add(operation);
+            acceptedResults.add(result);
         }
-        return false;
+
+        if (!accepted.isEmpty()) {
+            List<RecordOutline.InterviewOutline> interviews = statsOutline(userId, outline.get(), accepted);
+            Date updatedAt = new Date();
+            int applied = recordRepository.applyBatch(userId, outline.get().getVersion(), accepted, updatedAt);
+            recordCache.invalidate(userId);
+            incrementStats(userId, RecordStatsSupport.batch(interviews, accepted.subList(0, applied), updatedAt));
+
+            // 동시 변경으로 적용되지 않은 작업 (일괄 쓰기는 모두 적용되거나 모두 적용되지 않음)
+            for (RecordBatchResultDTO result : acceptedResults.subList(applied, acceptedResults.size())) {
+                result.setStatus(409);
+                result.setMessage(RecordBatchSupport.CONFLICT_MESSAGE);
+            }
+        }
+        return results;
     }
 
     /**
-     * 주어진 사용자 ID를 기반으로 사이드바 데이터를 가져옵니다.
+     * 질문, 답변, 기업명에서 검색어를 검색합니다.
+     *
+     * <p>
+     * MongoDB 집계에서 세부 항목 단위로 검색어 단어 중 하나를 부분 문자열로 포함하는지 판정하고
+     * 요청한 페이지만 가져옵니다. 클라이언트는 전체 기록을 내려받지 않고 일치한 위치와 스니펫만 받습니다.
+     * </p>
      *
      * @param userId 사용자 ID
-     * @return InterviewRecordSidebarDTO 객체의 리스트를 반환합니다.
-     *         사용자가 존재하지 않으면 빈 리스트를 반환합니다.
+     * @param query  검색어
+     * @param page   페이지 번호 (0부터 시작)
+     * @param size   페이지 크기 (최대 {@value RecordSearchSupport#MAX_PAGE_SIZE})
+     * @return 검색 결과, 검색어나 페이징 파라미터가 유효하지 않으면 null
      */
     @Override
-    public List<InterviewRecordSidebarDTO> getSidebarData(String userId) {
-        Optional<Record> optionalRecord = recordRepository.findById(userId);
+    public RecordSearchResponseDTO searchRecords(String userId, String query, int page, int size) {
+        String[] terms = query == null ? new String[0] : RecordSearchSupport.terms(query);
+
+        if (terms.length == 0 || page < 0 || size <= 0 || size > RecordSearchSupport.MAX_PAGE_SIZE) {
+            // 검색어 본문은 개인 기록의 일부일 수 있으므로 길이만 기록
+            logger.warn("Invalid search parameters: queryLength={}, page={}, size={}",
+                    query == null ? 0 : query.length(), page, size);
+            return null;
+        }
+
+        String pattern = RecordSearchSupport.pattern(terms);
+        int skip = (int) Math.min((long) page * size, Integer.MAX_VALUE);
 
-        if (optionalRecord.isPresent()) {
-            List<Record.InterviewRecord> interviewRecords = optionalRecord.get().getRecords();
+        // 검색은 MongoDB에서 처리하므로 버퍼된 업데이트를 먼저 저장
+        recordAutosaveBuffer.flush(userId);
 
-            return interviewRecords.stream()
-                    .map(recordMapper::toInterviewRecordSidebarDTO)
-                    .collect(Collectors.toList());
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<RecordSearchMatch> matches = recordRepository.searchDetails(userId, pattern, skip, size + 1);
+        return RecordSearchSupport.toResponse(query, page, size, matches, pattern);
+    }
+
+    /**
+     * 주어진 사용자 ID를 기반으로 사이드바 데이터를 (updatedAt, interviewRecordId) 순서로 한 페이지씩 가져옵니다.
+     * 캐시를 사용하지 않는 경우 질문/답변 세부 항목은 조회하지 않고 사이드바 필드만 프로젝션하며,
+     * 정렬과 필터, 커서 조건을 MongoDB에서 처리하여 한 페이지 분량만 전송받습니다.
+     *
+     * @param userId         사용자 ID
+     * @param cursor         직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size           페이지 크기 (최대 {@value RecordSidebarSupport#MAX_PAGE_SIZE})
+     * @param order          updatedAt 정렬 방향 (asc 또는 desc)
+     * @param category       카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName 기업명 필터, 필터링하지 않으면 null
+     * @return 사이드바 데이터 페이지, 파라미터가 유효하지 않으면 null
+     */
+    @Override
+    public InterviewRecordSidebarPageDTO getSidebarData(String userId, String cursor, int size, String order,
+            String category, String enterpriseName) {
+        SidebarCursor position;
+        try {
+            position = RecordSidebarSupport.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid sidebar cursor: {}", cursor);
+            return null;
+        }
+        if (size <= 0 || size > RecordSidebarSupport.MAX_PAGE_SIZE || !RecordSidebarSupport.isValidOrder(order)) {
+            logger.warn("Invalid sidebar parameters: size={}, order={}", size, order);
+            return null;
+        }
+        boolean ascending = "asc".equalsIgnoreCase(order);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        if (recordCache.isEnabled()) {
+            List<InterviewRecordSidebarDTO> rows = recordCache.get(userId)
+                    .map(record -> RecordSidebarSupport.page(record.getRecords(), position, ascending, category,
+                            enterpriseName, size + 1).stream()
+                            .map(recordMapper::toInterviewRecordSidebarDTO)
+                            .collect(Collectors.toList()))
+                    .orElse(Collections.emptyList());
+            return recordMapper.toSidebarPage(rows, size);
         }
-        return Collections.emptyList();
+        return recordMapper.toSidebarPage(recordRepository.findSidebarPage(userId, position, ascending, category,
+                enterpriseName, size + 1), size);
     }
 
     /**
-     * 주어진 Record 객체에서 특정 인터뷰 기록 ID에 해당하는 InterviewRecord를 찾습니다.
+     * 사이드바 조회 응답의 ETag를 반환합니다.
      *
-     * @param record            검색할 인터뷰 기록이 포함된 Record 객체
-     * @param interviewRecordId 찾고자 하는 인터뷰 기록의 ID
-     * @return 주어진 ID와 일치하는 InterviewRecord 객체를 반환하며,
-     *         일치하는 기록이 없을 경우 null을 반환합니다.
+     * <p>
+     * ETag는 사용자 문서의 버전으로 만들어지며, 버전은 모든 쓰기에서 1씩 증가합니다.
+     * 캐시 사용 여부와 관계없이 버전 필드만 프로젝션하여 저장소에서 조회합니다.
+     * 페이지 파라미터를 먼저 검증하여, 유효하지 않은 요청은 저장소를 조회하지 않고 null을 반환합니다.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @param cursor 직전 페이지 응답의 nextCursor, 첫 페이지이면 null
+     * @param size   페이지 크기
+     * @param order  updatedAt 정렬 방향 (asc 또는 desc)
+     * @return ETag 값 (사용자 문서가 없으면 버전 0으로 계산한 값), 페이지 파라미터가 유효하지 않으면 null
      */
-    private Record.InterviewRecord findInterviewRecordById(Record record, String interviewRecordId) {
-        return record.getRecords().stream()
-                .filter(ir -> ir.getInterviewRecordId().equals(interviewRecordId))
-                .findFirst()
-                .orElse(null);
+    @Override
+    public String getSidebarETag(String userId, String cursor, int size, String order) {
+        if (!RecordSidebarSupport.isValidPage(cursor, size, order)) {
+            return null;
+        }
+        return "s" + recordRepository.findVersion(userId).orElse(0L);
+    }
+
+    /**
+     * 사용자의 면접 통계를 조회합니다.
+     *
+     * <p>
+     * 통계는 쓰기 작업마다 $inc로 갱신되는 사용자별 요약 문서 하나에서 읽으므로, 조회 비용이 기록의 양과 무관합니다.
+     * 요약 문서가 아직 없는 사용자(기능 도입 이전의 사용자 등)는 처음 조회할 때 집계 파이프라인으로 요약 문서를 만듭니다.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @return 면접 통계, 기록이 없으면 모든 값이 0인 통계
+     */
+    @Override
+    public RecordStatsDTO getStats(String userId) {
+        Optional<RecordStats> stats = recordRepository.findStats(userId);
+        if (stats.isEmpty()) {
+            recordRepository.rebuildStats(userId);
+            stats = recordRepository.findStats(userId);
+        }
+        return recordMapper.toStatsResponse(stats.orElseGet(RecordStats::new));
+    }
+
+    /**
+     * 사용자의 전체 인터뷰 기록을 NDJSON으로 출력합니다.
+     *
+     * <p>
+     * MongoDB 커서에서 인터뷰 기록을 한 건씩 읽어 바로 출력하므로,
+     * 기록 전체를 DTO 목록으로 변환하거나 메모리에 모으지 않습니다.
+     * </p>
+     *
+     * @param userId       사용자 ID
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    @Override
+    public void exportRecords(String userId, OutputStream outputStream) throws IOException {
+        recordAutosaveBuffer.flush(userId);
+        long count = recordExportWriter.write(
+                recordRepository.streamExportByUserId(userId, recordExportProperties.getBatchSize()), outputStream);
+        logger.info("Exported {} interview records for user {}", count, userId);
+    }
+
+    /**
+     * 전체 사용자의 인터뷰 기록을 NDJSON으로 출력합니다.
+     *
+     * <p>
+     * 메모리에는 커서의 현재 배치({@code record.export.batch-size})만 유지되며,
+     * 출력이 막히면 커서도 다음 배치를 가져오지 않습니다.
+     * </p>
+     *
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    @Override
+    public void exportAllRecords(OutputStream outputStream) throws IOException {
+        recordAutosaveBuffer.flushAll();
+        long count = recordExportWriter.write(
+                recordRepository.streamExportAll(recordExportProperties.getBatchSize()), outputStream);
+        logger.info("Exported {} interview records for all users", count);
+    }
+
+    /**
+     * 세부 항목 인덱스가 음수가 아닌지 확인합니다.
+     * 인덱스가 실제 범위 안에 있는지는 업데이트 쿼리의 조건으로 확인합니다.
+     */
+    private boolean isValidIndex(int index) {
+        return index >= 0;
+    }
+
+    /**
+     * 자동 저장 버퍼에 반영할 세부 항목을 확인하기 위해 인터뷰 기록의 세부 항목 ID 목록을 순서대로 조회합니다.
+     * 질문/답변 본문은 읽지 않고 세부 항목 ID만 프로젝션하며, ID가 없는 기존 세부 항목은 null로 채워집니다.
+     *
+     * @return 세부 항목 ID 목록, 인터뷰 기록이 없으면 빈 목록
+     */
+    private List<String> findDetailIds(String userId, String interviewRecordId) {
+        return recordRepository.findInterviewOutline(userId, interviewRecordId)
+                .map(RecordOutline.InterviewOutline::getDetailIds)
+                .orElse(List.of());
+    }
+
+    /**
+     * 일괄 작업의 통계 증감량 계산에 사용할 인터뷰 기록 구조 정보를 반환합니다.
+     * 삭제 작업의 대상인 인터뷰 기록만 세부 항목 ID까지 다시 조회하며,
+     * 그 사이 문서가 변경되었다면 버전 조건으로 일괄 작업이 적용되지 않으므로 조회 결과와 적용 결과가 어긋나지 않습니다.
+     */
+    private List<RecordOutline.InterviewOutline> statsOutline(String userId, RecordOutline outline,
+            List<RecordBatchOperationDTO> operations) {
+        Set<String> deleteTargets = RecordStatsSupport.deleteTargets(operations);
+        List<RecordOutline.InterviewOutline> interviews = new ArrayList<>(outline.getRecords().size());
+        for (RecordOutline.InterviewOutline interview : outline.getRecords()) {
+            interviews.add(deleteTargets.contains(interview.getInterviewRecordId())
+                    ? recordRepository.findInterviewOutline(userId, interview.getInterviewRecordId()).orElse(interview)
+                    : interview);
+        }
+        return interviews;
+    }
+
+    /**
+     * 쓰기 작업의 통계 증감량을 사용자별 요약 문서에 반영합니다.
+     * 통계는 재구성 작업으로 다시 만들 수 있으므로, 반영에 실패해도 이미 완료된 쓰기 작업을 실패로 응답하지 않습니다.
+     */
+    private void incrementStats(String userId, RecordStatsDelta delta) {
+        try {
+            recordRepository.incrementStats(userId, delta, new Date());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to update record stats for user {}, run a stats rebuild to repair it",
+                    userId, e);
+        }
     }
 
-    private boolean isValidIndex(int index, int size) {
-        return index >= 0 && index < size;
+    private Record.RecordDetail toRecordDetail(RecordDetailCreateDTO recordDetailCreateDTO) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(Record.RecordDetail.newDetailId());
+        detail.setQuestion(recordDetailCreateDTO.getQuestion());
+        detail.setAnswer(recordDetailCreateDTO.getAnswer());
+        detail.setCreatedAt(new Date());
+        return detail;
     }
 
 }
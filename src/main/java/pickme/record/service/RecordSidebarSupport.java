@@ -0,0 +1,105 @@
+package pickme.record.service;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import pickme.record.model.Record;
+import pickme.record.model.SidebarCursor;
+
+/**
+ * RecordSidebarSupport는 사이드바 키셋 페이지네이션의 파라미터 해석과
+ * 메모리에 적재된 Record(캐시)에 대한 페이지 계산을 담당하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 정렬 기준은 MongoDB 집계와 동일하게 (updatedAt, interviewRecordId)이며,
+ * 같은 updatedAt을 가진 항목은 interviewRecordId로 구분되어 페이지 사이에 누락이나 중복이 생기지 않습니다.
+ * </p>
+ */
+final class RecordSidebarSupport {
+
+    /**
+     * 사이드바 페이지의 최대 크기입니다.
+     */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<SidebarCursor> ASCENDING = Comparator
+            .comparing(SidebarCursor::getUpdatedAt, Comparator.nullsFirst(Comparator.<Date>naturalOrder()))
+            .thenComparing(SidebarCursor::getInterviewRecordId,
+                    Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
+    private RecordSidebarSupport() {
+    }
+
+    /**
+     * 정렬 방향 파라미터가 유효한지 확인합니다.
+     *
+     * @param order 정렬 방향 (asc 또는 desc)
+     * @return 유효 여부
+     */
+    static boolean isValidOrder(String order) {
+        return "asc".equalsIgnoreCase(order) || "desc".equalsIgnoreCase(order);
+    }
+
+    /**
+     * 사이드바 페이지 파라미터가 유효한지 확인합니다. 조건부 조회(ETag) 판단 전에 호출하여,
+     * 유효하지 않은 요청이 304가 아닌 400으로 응답되도록 합니다.
+     *
+     * @param cursor 인코딩된 커서, 첫 페이지이면 null
+     * @param size   페이지 크기
+     * @param order  정렬 방향 (asc 또는 desc)
+     * @return 유효 여부
+     */
+    static boolean isValidPage(String cursor, int size, String order) {
+        if (size <= 0 || size > MAX_PAGE_SIZE || !isValidOrder(order)) {
+            return false;
+        }
+        try {
+            decodeCursor(cursor);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서, 첫 페이지이면 null
+     * @return 해석된 커서, 첫 페이지이면 null
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    static SidebarCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isEmpty() ? null : SidebarCursor.decode(cursor);
+    }
+
+    /**
+     * 메모리에 적재된 인터뷰 기록 목록에서 집계와 같은 규칙으로 한 페이지를 선택합니다.
+     *
+     * @param interviewRecords 사용자의 전체 인터뷰 기록
+     * @param cursor           직전 페이지의 마지막 항목 위치, 첫 페이지이면 null
+     * @param ascending        updatedAt 오름차순 여부
+     * @param category         카테고리 필터, 필터링하지 않으면 null
+     * @param enterpriseName   기업명 필터, 필터링하지 않으면 null
+     * @param limit            가져올 항목 수
+     * @return 선택된 인터뷰 기록 목록
+     */
+    static List<Record.InterviewRecord> page(List<Record.InterviewRecord> interviewRecords, SidebarCursor cursor,
+            boolean ascending, String category, String enterpriseName, int limit) {
+        Comparator<SidebarCursor> order = ascending ? ASCENDING : ASCENDING.reversed();
+
+        return interviewRecords.stream()
+                .filter(ir -> category == null || Objects.equals(category, ir.getCategory()))
+                .filter(ir -> enterpriseName == null || Objects.equals(enterpriseName, ir.getEnterpriseName()))
+                .filter(ir -> cursor == null || order.compare(positionOf(ir), cursor) > 0)
+                .sorted(Comparator.comparing(RecordSidebarSupport::positionOf, order))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static SidebarCursor positionOf(Record.InterviewRecord interviewRecord) {
+        return new SidebarCursor(interviewRecord.getUpdatedAt(), interviewRecord.getInterviewRecordId());
+    }
+}
@@ -0,0 +1,252 @@
+package pickme.record.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pickme.record.dto.RecordBatchOperationDTO;
+import pickme.record.model.Record;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+import pickme.record.model.RecordStats;
+import pickme.record.model.RecordStatsDelta;
+
+/**
+ * RecordStatsSupport는 쓰기 작업이 사용자 통계 요약에 더할 증감량을 계산하는 유틸리티 클래스입니다.
+ *
+ * <p>
+ * 변경 전 값이 필요한 작업(기업명/카테고리 변경, 삭제)은 쓰기 명령이 함께 반환한 변경 직전의 값을 기준으로 계산하며,
+ * 일괄 작업은 버전 조건으로 조회 시점과 적용 시점의 문서가 같음을 보장한 구조 정보를 기준으로 계산합니다.
+ * 질문/답변 본문만 바꾸는 작업은 통계에 영향을 주지 않으므로 증감량을 만들지 않습니다.
+ * 세부 항목의 생성 날짜는 저장된 생성 시각(없으면 세부 항목 ID)에서 구하므로 재구성 집계 파이프라인과 같은 날짜로 집계됩니다.
+ * </p>
+ */
+final class RecordStatsSupport {
+
+    private RecordStatsSupport() {
+    }
+
+    /**
+     * 새로 추가한 인터뷰 기록과 그 세부 항목의 증감량을 계산합니다.
+     */
+    static RecordStatsDelta created(Record.InterviewRecord interviewRecord) {
+        RecordStatsDelta delta = new RecordStatsDelta().interview(1, interviewRecord.getCategory(),
+                interviewRecord.getEnterpriseName(), interviewRecord.getCreatedAt());
+        if (interviewRecord.getDetails() != null) {
+            interviewRecord.getDetails().forEach(detail -> delta.detail(1,
+                    RecordStats.detailDay(detail.getCreatedAt(), detail.getDetailId())));
+        }
+        return delta;
+    }
+
+    /**
+     * 새로 추가한 세부 항목들의 증감량을 계산합니다.
+     */
+    static RecordStatsDelta detailsCreated(List<Record.RecordDetail> details) {
+        RecordStatsDelta delta = new RecordStatsDelta();
+        details.forEach(detail -> delta.detail(1, RecordStats.detailDay(detail.getCreatedAt(),
+                detail.getDetailId())));
+        return delta;
+    }
+
+    /**
+     * 삭제한 인터뷰 기록과 그 세부 항목의 증감량을 계산합니다.
+     *
+     * @param before 삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함)
+     */
+    static RecordStatsDelta deleted(RecordOutline.InterviewOutline before) {
+        RecordStatsDelta delta = new RecordStatsDelta().interview(-1, before.getCategory(),
+                before.getEnterpriseName(), before.getCreatedAt());
+        detailDays(before).forEach(day -> delta.detail(-1, day));
+        return delta;
+    }
+
+    /**
+     * 삭제한 세부 항목 하나의 증감량을 계산합니다.
+     *
+     * @param before      삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 알 수 없으면 null
+     * @param detailIndex 삭제한 세부 항목의 인덱스
+     */
+    static RecordStatsDelta detailDeleted(RecordOutline.InterviewOutline before, int detailIndex) {
+        List<String> days = before == null ? List.of() : detailDays(before);
+        return new RecordStatsDelta().detail(-1, detailIndex < days.size() ? days.get(detailIndex) : null);
+    }
+
+    /**
+     * 세부 항목 ID로 삭제한 세부 항목 하나의 증감량을 계산합니다.
+     *
+     * @param before   삭제 직전의 인터뷰 기록 구조 정보 (세부 항목 ID 포함), 알 수 없으면 null
+     * @param detailId 삭제한 세부 항목 ID
+     */
+    static RecordStatsDelta detailDeleted(RecordOutline.InterviewOutline before, String detailId) {
+        List<String> detailIds = before == null ? null : before.getDetailIds();
+        int detailIndex = detailIds == null ? -1 : detailIds.indexOf(detailId);
+        if (detailIndex < 0) {
+            return new RecordStatsDelta().detail(-1, RecordStats.detailDay(detailId));
+        }
+        return detailDeleted(before, detailIndex);
+    }
+
+    /**
+     * 인터뷰 기록의 기업명과 카테고리를 바꾼 증감량을 계산합니다. 값이 그대로이면 빈 증감량을 반환합니다.
+     *
+     * @param before 변경 직전의 인터뷰 기록 구조 정보
+     */
+    static RecordStatsDelta renamed(RecordOutline.InterviewOutline before, String enterpriseName, String category) {
+        return renamed(before.getEnterpriseName(), before.getCategory(), enterpriseName, category);
+    }
+
+    /**
+     * 인터뷰 기록의 기업명과 카테고리를 바꾼 증감량을 계산합니다.
+     *
+     * @param before 쓰기 명령이 반환한 변경 직전의 인터뷰 기록
+     */
+    static RecordStatsDelta renamed(Record.InterviewRecord before, String enterpriseName, String category) {
+        return renamed(before.getEnterpriseName(), before.getCategory(), enterpriseName, category);
+    }
+
+    /**
+     * 인터뷰 기록 병합 패치의 증감량을 계산합니다. 패치에 포함되지 않은 필드는 변경 전 값을 유지합니다.
+     *
+     * @param before 변경 직전의 인터뷰 기록 구조 정보
+     */
+    static RecordStatsDelta patched(RecordOutline.InterviewOutline before, RecordPatch patch) {
+        return renamed(before,
+                patchedValue(patch, "enterpriseName", before.getEnterpriseName()),
+                patchedValue(patch, "category", before.getCategory()));
+    }
+
+    /**
+     * 병합 패치가 통계에 영향을 주는 필드(기업명, 카테고리)를 변경하는지 확인합니다.
+     */
+    static boolean affectsStats(RecordPatch patch) {
+        return patch.getSet().containsKey("enterpriseName") || patch.getSet().containsKey("category")
+                || patch.getUnset().contains("enterpriseName") || patch.getUnset().contains("category");
+    }
+
+    /**
+     * 일괄 작업에서 삭제 작업의 대상이 되어, 세부 항목 ID까지 조회해야 하는 인터뷰 기록 ID를 반환합니다.
+     */
+    static Set<String> deleteTargets(List<RecordBatchOperationDTO> operations) {
+        Set<String> targets = new LinkedHashSet<>();
+        for (RecordBatchOperationDTO operation : operations) {
+            switch (operation.getType()) {
+                case DELETE_INTERVIEW:
+                case DELETE_DETAIL:
+                    targets.add(operation.getInterviewRecordId());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 일괄 작업 중 적용된 작업들을 요청 순서대로 인터뷰 기록 구조 정보에 재생하여 증감량을 계산합니다.
+     *
+     * @param interviews 일괄 작업 직전의 인터뷰 기록 구조 정보 (삭제 대상은 세부 항목 ID 포함)
+     * @param applied    적용된 작업 목록 (요청 순서)
+     * @param updatedAt  일괄 작업의 수정 시각 (새 세부 항목의 생성 시각)
+     */
+    static RecordStatsDelta batch(List<RecordOutline.InterviewOutline> interviews,
+            List<RecordBatchOperationDTO> applied, Date updatedAt) {
+        Map<String, InterviewState> states = new HashMap<>();
+        for (RecordOutline.InterviewOutline interview : interviews) {
+            states.put(interview.getInterviewRecordId(), new InterviewState(interview));
+        }
+
+        RecordStatsDelta delta = new RecordStatsDelta();
+        String today = RecordStats.day(updatedAt);
+        for (RecordBatchOperationDTO operation : applied) {
+            InterviewState state = states.get(operation.getInterviewRecordId());
+            if (state == null) {
+                continue;
+            }
+            switch (operation.getType()) {
+                case UPDATE_INTERVIEW:
+                    delta.category(state.category, -1).category(operation.getCategory(), 1)
+                            .enterprise(state.enterpriseName, -1).enterprise(operation.getEnterpriseName(), 1);
+                    state.category = operation.getCategory();
+                    state.enterpriseName = operation.getEnterpriseName();
+                    break;
+                case DELETE_INTERVIEW:
+                    delta.interview(-1, state.category, state.enterpriseName, state.createdAt);
+                    state.detailDays.forEach(day -> delta.detail(-1, day));
+                    states.remove(operation.getInterviewRecordId());
+                    break;
+                case CREATE_DETAIL:
+                    delta.detail(1, today);
+                    state.detailDays.add(today);
+                    break;
+                case DELETE_DETAIL:
+                    int index = operation.getDetailIndex();
+                    delta.detail(-1, index < state.detailDays.size() ? state.detailDays.remove(index) : null);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return delta;
+    }
+
+    private static RecordStatsDelta renamed(String beforeEnterpriseName, String beforeCategory,
+            String enterpriseName, String category) {
+        return new RecordStatsDelta()
+                .category(beforeCategory, -1).category(category, 1)
+                .enterprise(beforeEnterpriseName, -1).enterprise(enterpriseName, 1);
+    }
+
+    private static String patchedValue(RecordPatch patch, String field, String before) {
+        if (patch.getUnset().contains(field)) {
+            return null;
+        }
+        Object value = patch.getSet().get(field);
+        return value == null ? before : value.toString();
+    }
+
+    /**
+     * 세부 항목별 생성 날짜를 순서대로 반환합니다. 세부 항목 ID를 조회하지 않은 경우 날짜는 null입니다.
+     * 저장된 생성 시각이 없는 세부 항목은 세부 항목 ID에서 날짜를 구합니다.
+     */
+    private static List<String> detailDays(RecordOutline.InterviewOutline interview) {
+        List<String> days = new ArrayList<>(interview.getDetailCount());
+        if (interview.getDetailIds() == null) {
+            for (int i = 0; i < interview.getDetailCount(); i++) {
+                days.add(null);
+            }
+            return days;
+        }
+        List<Date> createdAts = interview.getDetailCreatedAts();
+        for (int i = 0; i < interview.getDetailIds().size(); i++) {
+            Date createdAt = createdAts != null && i < createdAts.size() ? createdAts.get(i) : null;
+            days.add(RecordStats.detailDay(createdAt, interview.getDetailIds().get(i)));
+        }
+        return days;
+    }
+
+    /**
+     * 일괄 작업을 재생하는 동안 변경되는 인터뷰 기록 하나의 상태입니다.
+     */
+    private static final class InterviewState {
+
+        private String enterpriseName;
+
+        private String category;
+
+        private final Date createdAt;
+
+        private final List<String> detailDays;
+
+        private InterviewState(RecordOutline.InterviewOutline interview) {
+            this.enterpriseName = interview.getEnterpriseName();
+            this.category = interview.getCategory();
+            this.createdAt = interview.getCreatedAt();
+            this.detailDays = detailDays(interview);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package pickme.record.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import pickme.record.config.RecordWriteRetryProperties;
+
+/**
+ * RecordWriteRetrier는 같은 사용자 문서에 대한 동시 쓰기 충돌을 제한된 횟수만큼 재시도하는 컴포넌트입니다.
+ *
+ * <p>
+ * 재시도 대상 예외는 다음과 같습니다.
+ * </p>
+ * <ul>
+ * <li>{@link OptimisticLockingFailureException}: 버전 조건부 저장이 다른 쓰기와 충돌한 경우</li>
+ * <li>{@link DuplicateKeyException}: 동시에 실행된 upsert가 같은 사용자 문서를 생성하려 한 경우</li>
+ * </ul>
+ *
+ * <p>
+ * 재시도 간격은 지수적으로 증가하며 지터(jitter)를 적용합니다.
+ * 충돌, 재시도, 재시도 소진 횟수는 각각 {@code record.write.conflicts}, {@code record.write.retries},
+ * {@code record.write.retries.exhausted} 메트릭으로 노출됩니다.
+ * 리액티브 쓰기({@link Mono})도 같은 정책과 메트릭으로 재시도하며, 대기 중에 스레드를 점유하지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordWriteRetrier {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordWriteRetrier.class);
+
+    private final RecordWriteRetryProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 주어진 쓰기 작업을 실행하고, 충돌이 발생하면 설정된 정책에 따라 재시도합니다.
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     * @param action    실행할 쓰기 작업
+     * @param <T>       작업 결과 타입
+     * @return 작업 결과
+     * @throws RuntimeException 재시도를 모두 소진한 경우 마지막 충돌 예외를 그대로 던집니다.
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        long backoff = properties.getInitialBackoff().toMillis();
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+                counter("record.write.conflicts", operation).increment();
+
+                if (attempt >= properties.getMaxAttempts()) {
+                    counter("record.write.retries.exhausted", operation).increment();
+                    throw e;
+                }
+
+                logger.debug("Write conflict on {} (attempt {}), retrying", operation, attempt);
+                counter("record.write.retries", operation).increment();
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, properties.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    /**
+     * 주어진 리액티브 쓰기 작업을 구독하고, 충돌이 발생하면 같은 정책에 따라 다시 구독합니다.
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     * @param action    실행할 쓰기 작업 (재구독 시 다시 실행되어야 함)
+     * @param <T>       작업 결과 타입
+     * @return 재시도가 적용된 작업, 재시도를 모두 소진하면 마지막 충돌 예외로 종료
+     */
+    public <T> Mono<T> execute(String operation, Mono<T> action) {
+        return action
+                .doOnError(this::isConflict, e -> counter("record.write.conflicts", operation).increment())
+                .retryWhen(Retry.backoff(properties.getMaxAttempts() - 1, properties.getInitialBackoff())
+                        .maxBackoff(properties.getMaxBackoff())
+                        .filter(this::isConflict)
+                        .doBeforeRetry(signal -> {
+                            logger.debug("Write conflict on {} (attempt {}), retrying", operation,
+                                    signal.totalRetries() + 1);
+                            counter("record.write.retries", operation).increment();
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            counter("record.write.retries.exhausted", operation).increment();
+                            return signal.failure();
+                        }));
+    }
+
+    private boolean isConflict(Throwable e) {
+        return e instanceof OptimisticLockingFailureException || e instanceof DuplicateKeyException;
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+
+    private void sleep(long backoff) {
+        try {
+            // 같은 시점에 충돌한 요청들이 다시 동시에 재시도하지 않도록 지터 적용
+            Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a record write", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package pickme.record.cache;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import pickme.record.config.RecordCacheProperties;
+import pickme.record.metrics.RecordDocumentMetrics;
+import pickme.record.model.Record;
+import pickme.record.repository.RecordRepository;
+
+class RecordCacheTest {
+
+    private static final String USER_ID = "user";
+
+    private RecordRepository recordRepository;
+
+    private RecordCache recordCache;
+
+    @BeforeEach
+    void setUp() {
+        Record record = new Record();
+        record.setUserId(USER_ID);
+        record.setVersion(3L);
+        record.setRecords(new ArrayList<>());
+
+        recordRepository = Mockito.mock(RecordRepository.class);
+        Mockito.when(recordRepository.findById(USER_ID)).thenReturn(Optional.of(record));
+
+        RecordCacheProperties properties = new RecordCacheProperties();
+        properties.setEnabled(true);
+        recordCache = new RecordCache(Caffeine.newBuilder().buildAsync(), ForkJoinPool.commonPool(),
+                recordRepository, properties, new RecordDocumentMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void hitDoesNotQueryRepository() {
+        recordCache.get(USER_ID);
+        recordCache.get(USER_ID);
+        recordCache.findInterviewRecordVersion(USER_ID, "interview");
+
+        // 적중마다 버전을 확인하는 조회 없이 처음 로딩한 문서를 그대로 반환
+        Mockito.verify(recordRepository, Mockito.times(1)).findById(USER_ID);
+        Mockito.verify(recordRepository, Mockito.never()).findVersion(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void invalidateReloadsOnNextGet() {
+        Assertions.assertEquals(3L, recordCache.get(USER_ID).orElseThrow().getVersion());
+
+        recordCache.invalidate(USER_ID);
+        recordCache.get(USER_ID);
+
+        Mockito.verify(recordRepository, Mockito.times(2)).findById(USER_ID);
+    }
+}
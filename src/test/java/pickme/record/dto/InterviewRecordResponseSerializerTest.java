@@ -0,0 +1,143 @@
+package pickme.record.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import pickme.record.model.Record;
+
+class InterviewRecordResponseSerializerTest {
+
+    private static final Date CREATED_AT = new Date(1_700_000_000_000L);
+
+    private static final Date UPDATED_AT = new Date(1_700_000_123_456L);
+
+    @Test
+    void viewIsByteIdenticalToDto() throws Exception {
+        assertSameBytes(new ObjectMapper(), details(), null);
+    }
+
+    @Test
+    void viewIsByteIdenticalToDtoWithNullsAndIsoDates() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        List<Record.RecordDetail> details = details();
+        details.get(1).setAnswer(null);
+
+        assertSameBytes(objectMapper, details, view -> view.setCategory(null));
+    }
+
+    @Test
+    void viewIsByteIdenticalToDtoWithNonNullInclusion() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        List<Record.RecordDetail> details = details();
+        details.get(0).setQuestion(null);
+
+        assertSameBytes(objectMapper, details, view -> view.setTotalDetails(null));
+    }
+
+    @Test
+    void viewIsByteIdenticalToDtoWithUnsupportedConfiguration() throws Exception {
+        // 이름 변환 전략은 기본 빈 직렬화에 위임함
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        assertSameBytes(objectMapper, details(), null);
+    }
+
+    @Test
+    void overriddenDetailIsWrittenInsteadOfSource() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        InterviewRecordResponseView view = view(details());
+        view.overrideDetail("detail-1", "buffered question", "buffered answer");
+        InterviewRecordResponseDTO dto = dto(view, details());
+        dto.getDetails().get(1).setQuestion("buffered question");
+        dto.getDetails().get(1).setAnswer("buffered answer");
+
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(dto), objectMapper.writeValueAsBytes(view));
+    }
+
+    @Test
+    void materializedViewIsByteIdenticalToDto() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        InterviewRecordResponseView view = view(details());
+        view.getDetails().get(0).setAnswer("changed after materializing");
+        InterviewRecordResponseDTO dto = dto(view, details());
+        dto.getDetails().get(0).setAnswer("changed after materializing");
+
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(dto), objectMapper.writeValueAsBytes(view));
+    }
+
+    private static void assertSameBytes(ObjectMapper objectMapper, List<Record.RecordDetail> details,
+            Consumer<InterviewRecordResponseDTO> customizer) throws Exception {
+        InterviewRecordResponseView view = view(details);
+        if (customizer != null) {
+            customizer.accept(view);
+        }
+        InterviewRecordResponseDTO dto = dto(view, details);
+
+        byte[] expected = objectMapper.writeValueAsBytes(dto);
+        byte[] actual = objectMapper.writeValueAsBytes(view);
+
+        Assertions.assertArrayEquals(expected, actual, () -> new String(expected, StandardCharsets.UTF_8) + "\n"
+                + new String(actual, StandardCharsets.UTF_8));
+    }
+
+    private static InterviewRecordResponseView view(List<Record.RecordDetail> details) {
+        InterviewRecordResponseView view = new InterviewRecordResponseView(details);
+        view.setInterviewRecordId("interview");
+        view.setEnterpriseName("\"Pick\" & <Me>");
+        view.setCategory("BE");
+        view.setCreatedAt(CREATED_AT);
+        view.setUpdatedAt(UPDATED_AT);
+        view.setTotalDetails(details.size());
+        view.setHasNext(false);
+        return view;
+    }
+
+    /**
+     * 뷰와 같은 값을 가진 일반 DTO를 생성합니다. 뷰의 세부 항목 DTO를 만들지 않도록 원본 목록에서 직접 변환합니다.
+     */
+    private static InterviewRecordResponseDTO dto(InterviewRecordResponseDTO view, List<Record.RecordDetail> details) {
+        InterviewRecordResponseDTO dto = new InterviewRecordResponseDTO();
+        dto.setInterviewRecordId(view.getInterviewRecordId());
+        dto.setEnterpriseName(view.getEnterpriseName());
+        dto.setCategory(view.getCategory());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+        dto.setTotalDetails(view.getTotalDetails());
+        dto.setHasNext(view.getHasNext());
+
+        List<RecordDetailResponseDTO> responses = new ArrayList<>();
+        for (Record.RecordDetail detail : details) {
+            RecordDetailResponseDTO response = new RecordDetailResponseDTO();
+            response.setDetailId(detail.getDetailId());
+            response.setQuestion(detail.getQuestion());
+            response.setAnswer(detail.getAnswer());
+            responses.add(response);
+        }
+        dto.setDetails(responses);
+        return dto;
+    }
+
+    private static List<Record.RecordDetail> details() {
+        List<Record.RecordDetail> details = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Record.RecordDetail detail = new Record.RecordDetail();
+            detail.setDetailId("detail-" + i);
+            detail.setQuestion("질문 " + i + " \"quoted\"\n");
+            detail.setAnswer("답변 " + i + " \\  ");
+            detail.setCreatedAt(CREATED_AT);
+            details.add(detail);
+        }
+        return details;
+    }
+}
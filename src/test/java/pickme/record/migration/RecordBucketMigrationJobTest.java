@@ -0,0 +1,127 @@
+package pickme.record.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.UpdateResult;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import pickme.record.config.RecordMigrationProperties;
+import pickme.record.mapper.RecordMapper;
+import pickme.record.model.Record;
+import pickme.record.repository.InterviewRecordDocumentRepository;
+
+class RecordBucketMigrationJobTest {
+
+    private static final String USER_ID = "user";
+
+    private final List<Bson> updates = new ArrayList<>();
+
+    private Record record;
+
+    private RecordBucketMigrationJob job;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        record = new Record();
+        record.setUserId(USER_ID);
+        record.setVersion(7L);
+        record.setRecords(new ArrayList<>());
+
+        MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        Mockito.when(collection.updateOne(ArgumentMatchers.any(Bson.class), ArgumentMatchers.any(Bson.class)))
+                .thenAnswer(invocation -> {
+                    updates.add(invocation.getArgument(1));
+                    return UpdateResult.acknowledged(1L, 1L, null);
+                });
+
+        MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+        Mockito.when(mongoTemplate.find(ArgumentMatchers.any(Query.class), ArgumentMatchers.eq(Record.class)))
+                .thenReturn(List.of(record));
+        Mockito.when(mongoTemplate.getCollectionName(Record.class)).thenReturn("records");
+        Mockito.when(mongoTemplate.getCollection("records")).thenReturn(collection);
+
+        job = new RecordBucketMigrationJob(mongoTemplate, Mockito.mock(InterviewRecordDocumentRepository.class),
+                Mockito.mock(RecordMapper.class), new RecordMigrationProperties());
+    }
+
+    @Test
+    void migrationStampDoesNotChangeVersion() {
+        job.migrateBatch();
+
+        Assertions.assertEquals(1, updates.size());
+        Document update = (Document) updates.get(0);
+        // @Version 필드에 $inc가 더해지지 않아야 기록한 버전과 문서 버전이 같게 유지됨
+        Assertions.assertEquals(new Document("$set", new Document("bucketMigratedVersion", 7L)), update);
+    }
+
+    @Test
+    void migratedDocumentNoLongerMatchesPendingQuery() {
+        Document stored = new Document("_id", USER_ID).append("version", 7L);
+        Document pending = job.pendingQuery().getQueryObject();
+
+        Assertions.assertTrue(matches(pending, stored));
+
+        job.migrateBatch();
+        stored.putAll(((Document) updates.get(0)).get("$set", Document.class));
+
+        Assertions.assertFalse(matches(pending, stored));
+
+        // 마이그레이션 이후의 쓰기는 버전을 올리므로 다시 대상이 됨
+        stored.put("version", 8L);
+        Assertions.assertTrue(matches(pending, stored));
+    }
+
+    @Test
+    void documentWithoutVersionIsStampedAsZero() {
+        record.setVersion(null);
+        Document stored = new Document("_id", USER_ID);
+
+        job.migrateBatch();
+        stored.putAll(((Document) updates.get(0)).get("$set", Document.class));
+
+        Assertions.assertFalse(matches(job.pendingQuery().getQueryObject(), stored));
+    }
+
+    /**
+     * pendingQuery가 사용하는 형태($exists: false 조건과 $ifNull/$ne 비교식의 $or)만 해석하여 문서와 비교합니다.
+     */
+    private static boolean matches(Document query, Document stored) {
+        for (Document branch : query.getList("$or", Document.class)) {
+            if (branch.containsKey("$expr")) {
+                List<?> operands = branch.get("$expr", Document.class).getList("$ne", Object.class);
+                if (!Objects.equals(resolve(operands.get(0), stored), resolve(operands.get(1), stored))) {
+                    return true;
+                }
+            } else if (!stored.containsKey(branch.keySet().iterator().next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object resolve(Object expression, Document stored) {
+        if (expression instanceof Document document) {
+            List<?> operands = document.getList("$ifNull", Object.class);
+            Object value = resolve(operands.get(0), stored);
+            return value != null ? value : operands.get(1);
+        }
+        if (expression instanceof String path && path.startsWith("$")) {
+            Object value = stored.get(path.substring(1));
+            return value instanceof Number number ? Long.valueOf(number.longValue()) : value;
+        }
+        return expression;
+    }
+}
@@ -0,0 +1,66 @@
+package pickme.record.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import org.bson.types.Binary;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RecordAnswerCodecTest {
+
+    private static final String ANSWER = "트랜잭션 격리 수준은 동시에 실행되는 트랜잭션이 서로의 변경을 얼마나 볼 수 있는지 정합니다. "
+            .repeat(20);
+
+    @Test
+    void decodeRestoresDeflatedAnswer() {
+        byte[] stored = RecordAnswerCodec.deflate(ANSWER, Deflater.DEFAULT_COMPRESSION);
+
+        Assertions.assertEquals(RecordAnswerCodec.DEFLATE, stored[0]);
+        Assertions.assertEquals(ANSWER, RecordAnswerCodec.decode(stored));
+    }
+
+    @Test
+    void deflateShrinksRepetitiveAnswer() {
+        byte[] stored = RecordAnswerCodec.deflate(ANSWER, Deflater.BEST_SPEED);
+
+        Assertions.assertTrue(stored.length < ANSWER.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void isCompressedOnlyMatchesCompressedAnswerBinary() {
+        byte[] stored = RecordAnswerCodec.deflate(ANSWER, Deflater.DEFAULT_COMPRESSION);
+
+        Assertions.assertTrue(RecordAnswerCodec.isCompressed(RecordAnswerCodec.toBinary(stored)));
+        Assertions.assertFalse(RecordAnswerCodec.isCompressed(new Binary(stored)));
+        Assertions.assertFalse(RecordAnswerCodec.isCompressed(ANSWER));
+        Assertions.assertFalse(RecordAnswerCodec.isCompressed(null));
+    }
+
+    @Test
+    void decodeRejectsUnknownCodecAndDamagedInput() {
+        byte[] stored = RecordAnswerCodec.deflate(ANSWER, Deflater.DEFAULT_COMPRESSION);
+        byte[] unknown = stored.clone();
+        unknown[0] = 0x7f;
+        byte[] truncated = Arrays.copyOf(stored, stored.length / 2);
+        byte[] corrupted = stored.clone();
+        Arrays.fill(corrupted, 1, corrupted.length, (byte) 0xff);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordAnswerCodec.decode(new byte[0]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordAnswerCodec.decode(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordAnswerCodec.decode(unknown));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordAnswerCodec.decode(truncated));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordAnswerCodec.decode(corrupted));
+    }
+
+    @Test
+    void recordDetailDecodesCompressedAnswerWithoutKeepingIt() {
+        byte[] stored = RecordAnswerCodec.deflate(ANSWER, Deflater.DEFAULT_COMPRESSION);
+        Record.RecordDetail detail = Record.RecordDetail.compressed("detail", "question", stored);
+
+        Assertions.assertEquals(ANSWER, detail.getAnswer());
+        Assertions.assertTrue(detail.hasCompressedAnswer());
+        Assertions.assertEquals(RecordAnswerCodec.toBinary(stored), detail.storedAnswer());
+    }
+}
@@ -0,0 +1,48 @@
+package pickme.record.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SidebarCursorTest {
+
+    @Test
+    void decodeRestoresEncodedCursor() {
+        SidebarCursor cursor = new SidebarCursor(new Date(1_700_000_000_123L), "interview-1");
+
+        SidebarCursor decoded = SidebarCursor.decode(cursor.encode());
+
+        Assertions.assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decodeKeepsSeparatorInsideInterviewRecordId() {
+        // 구분자는 첫 번째 ':'만 사용하므로, 인터뷰 기록 ID에 포함된 ':'는 그대로 유지됨
+        SidebarCursor cursor = new SidebarCursor(new Date(42L), "a:b:c");
+
+        Assertions.assertEquals("a:b:c", SidebarCursor.decode(cursor.encode()).getInterviewRecordId());
+    }
+
+    @Test
+    void encodeIsUrlSafeWithoutPadding() {
+        String encoded = new SidebarCursor(new Date(1L), "??>>~~").encode();
+
+        Assertions.assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void decodeRejectsMalformedCursors() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SidebarCursor.decode("not base64!"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SidebarCursor.decode(raw("123")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SidebarCursor.decode(raw(":id")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SidebarCursor.decode(raw("123:")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SidebarCursor.decode(raw("time:id")));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
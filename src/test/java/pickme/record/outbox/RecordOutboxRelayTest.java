@@ -0,0 +1,109 @@
+package pickme.record.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pickme.record.config.RecordInMemoryProperties;
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.model.Record;
+import pickme.record.repository.InMemoryRecordRepository;
+
+class RecordOutboxRelayTest {
+
+    private static final String USER_ID = "user";
+
+    private RecordOutboxProperties properties;
+
+    private InMemoryRecordRepository repository;
+
+    private InMemoryRecordChangePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecordOutboxProperties();
+        properties.setEnabled(true);
+        properties.setMemoryCapacity(100);
+
+        repository = new InMemoryRecordRepository();
+        ReflectionTestUtils.setField(repository, "properties", new RecordInMemoryProperties());
+        ReflectionTestUtils.setField(repository, "outboxProperties", properties);
+
+        publisher = new InMemoryRecordChangePublisher(properties);
+    }
+
+    @Test
+    void onlyLeaseHolderRelays() {
+        RecordOutboxRelay leader = relay();
+        RecordOutboxRelay follower = relay();
+
+        pushInterviewRecords(2);
+        leader.relay();
+        pushInterviewRecords(1);
+        follower.relay();
+
+        // 임대가 만료되기 전에는 다른 인스턴스가 같은 이벤트를 읽어 중복 발행하지 않음
+        Assertions.assertEquals(2, publisher.drain().size());
+
+        leader.relay();
+        Assertions.assertEquals(1, publisher.drain().size());
+    }
+
+    @Test
+    void expiredLeaseIsTakenOver() throws Exception {
+        properties.setLease(Duration.ofMillis(1));
+        RecordOutboxRelay leader = relay();
+        RecordOutboxRelay follower = relay();
+
+        leader.relay();
+        Thread.sleep(5);
+        pushInterviewRecords(1);
+        follower.relay();
+
+        Assertions.assertEquals(1, publisher.drain().size());
+    }
+
+    @Test
+    void outboxKeepsOnlyLatestEvents() {
+        properties.setMaxEvents(2);
+        List<String> interviewRecordIds = pushInterviewRecords(3);
+
+        relay().relay();
+
+        List<String> published = new ArrayList<>();
+        publisher.drain().forEach(event -> published.add(event.getInterviewRecordId()));
+        Assertions.assertEquals(interviewRecordIds.subList(1, 3), published);
+    }
+
+    private RecordOutboxRelay relay() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("publisher", publisher));
+        return new RecordOutboxRelay(repository, beanFactory.getBeanProvider(RecordChangePublisher.class), properties,
+                new SimpleMeterRegistry());
+    }
+
+    private List<String> pushInterviewRecords(int count) {
+        List<String> interviewRecordIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
+            interviewRecord.setInterviewRecordId(Record.RecordDetail.newDetailId());
+            interviewRecord.setEnterpriseName("enterprise");
+            interviewRecord.setCategory("BE");
+            interviewRecord.setCreatedAt(new Date());
+            interviewRecord.setUpdatedAt(new Date());
+            interviewRecord.setDetails(new ArrayList<>());
+            repository.pushInterviewRecord(USER_ID, interviewRecord);
+            interviewRecordIds.add(interviewRecord.getInterviewRecordId());
+        }
+        return interviewRecordIds;
+    }
+}
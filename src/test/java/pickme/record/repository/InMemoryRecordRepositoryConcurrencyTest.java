@@ -0,0 +1,176 @@
+package pickme.record.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pickme.record.config.RecordInMemoryProperties;
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.config.RecordWriteRetryProperties;
+import pickme.record.model.Record;
+import pickme.record.service.RecordWriteRetrier;
+
+/**
+ * 같은 사용자 문서에 여러 스레드가 동시에 쓸 때 업데이트가 유실되지 않는지 확인합니다.
+ * 단일 업데이트(버전 $inc)와 문서 전체 저장(낙관적 잠금 + 재시도) 두 경로를 모두 확인합니다.
+ */
+class InMemoryRecordRepositoryConcurrencyTest {
+
+    private static final String USER_ID = "user";
+
+    private static final String INTERVIEW_RECORD_ID = "interview";
+
+    private static final int THREADS = 8;
+
+    private static final int WRITES_PER_THREAD = 50;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InMemoryRecordRepository repository;
+
+    private RecordWriteRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryRecordRepository();
+        ReflectionTestUtils.setField(repository, "properties", new RecordInMemoryProperties());
+        ReflectionTestUtils.setField(repository, "outboxProperties", new RecordOutboxProperties());
+
+        // 문서 전체 저장은 동시 쓰기 수만큼 충돌할 수 있으므로 재시도 횟수를 넉넉하게 설정
+        RecordWriteRetryProperties retryProperties = new RecordWriteRetryProperties();
+        retryProperties.setMaxAttempts(1_000);
+        retryProperties.setInitialBackoff(Duration.ofMillis(1));
+        retryProperties.setMaxBackoff(Duration.ofMillis(4));
+        meterRegistry = new SimpleMeterRegistry();
+        retrier = new RecordWriteRetrier(retryProperties, meterRegistry);
+
+        Record.InterviewRecord interviewRecord = new Record.InterviewRecord();
+        interviewRecord.setInterviewRecordId(INTERVIEW_RECORD_ID);
+        interviewRecord.setEnterpriseName("enterprise");
+        interviewRecord.setCategory("BE");
+        interviewRecord.setCreatedAt(new Date());
+        interviewRecord.setUpdatedAt(new Date());
+        interviewRecord.setDetails(new ArrayList<>());
+        repository.pushInterviewRecord(USER_ID, interviewRecord);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentDetailPushesAreAllKept() throws Exception {
+        List<String> detailIds = run(index -> {
+            Record.RecordDetail detail = detail(index);
+            Assertions.assertTrue(repository.pushRecordDetail(USER_ID, INTERVIEW_RECORD_ID, detail, new Date()));
+            return detail.getDetailId();
+        });
+
+        assertAllDetailsKept(detailIds);
+        Assertions.assertEquals(1L + THREADS * WRITES_PER_THREAD, repository.findVersion(USER_ID).orElseThrow());
+    }
+
+    @Test
+    void concurrentVersionedSavesLoseNoUpdate() throws Exception {
+        // 문서를 읽고 변경한 뒤 전체를 저장하는 방식: 충돌한 저장은 다시 읽은 문서로 재시도함
+        List<String> detailIds = run(index -> {
+            Record.RecordDetail detail = detail(index);
+            retrier.execute("saveRecord", () -> {
+                Record record = repository.findById(USER_ID).orElseThrow();
+                record.findInterviewRecord(INTERVIEW_RECORD_ID).getDetails().add(detail);
+                return repository.save(record);
+            });
+            return detail.getDetailId();
+        });
+
+        assertAllDetailsKept(detailIds);
+        Assertions.assertEquals(1L + THREADS * WRITES_PER_THREAD, repository.findVersion(USER_ID).orElseThrow());
+        Assertions.assertEquals(0.0, meterRegistry.counter("record.write.retries.exhausted",
+                "operation", "saveRecord").count());
+    }
+
+    @Test
+    void staleSaveIsRejected() {
+        Record stale = repository.findById(USER_ID).orElseThrow();
+        repository.pushRecordDetail(USER_ID, INTERVIEW_RECORD_ID, detail(0), new Date());
+
+        stale.findInterviewRecord(INTERVIEW_RECORD_ID).setCategory("FE");
+
+        Assertions.assertThrows(OptimisticLockingFailureException.class, () -> repository.save(stale));
+        Assertions.assertEquals(1, repository.findById(USER_ID).orElseThrow()
+                .findInterviewRecord(INTERVIEW_RECORD_ID).getDetails().size());
+    }
+
+    /**
+     * 모든 스레드가 동시에 시작하도록 맞춘 뒤, 스레드마다 쓰기를 반복하고 쓰기 결과를 모읍니다.
+     */
+    private List<String> run(Writer writer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int base = thread * WRITES_PER_THREAD;
+            Callable<List<String>> task = () -> {
+                start.await();
+                List<String> results = new ArrayList<>();
+                for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                    results.add(writer.write(base + i));
+                }
+                return results;
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+
+        List<String> results = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            results.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private void assertAllDetailsKept(List<String> detailIds) {
+        List<Record.RecordDetail> details = repository.findById(USER_ID).orElseThrow()
+                .findInterviewRecord(INTERVIEW_RECORD_ID).getDetails();
+        Set<String> stored = new HashSet<>();
+        details.forEach(detail -> stored.add(detail.getDetailId()));
+
+        Assertions.assertEquals(THREADS * WRITES_PER_THREAD, details.size());
+        Assertions.assertEquals(new HashSet<>(detailIds), stored);
+    }
+
+    private static Record.RecordDetail detail(int index) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(Record.RecordDetail.newDetailId());
+        detail.setQuestion("question " + index);
+        detail.setAnswer("answer " + index);
+        detail.setCreatedAt(new Date());
+        return detail;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+
+        String write(int index) throws Exception;
+    }
+}
@@ -0,0 +1,225 @@
+package pickme.record.repository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.result.UpdateResult;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pickme.record.config.RecordOutboxProperties;
+import pickme.record.dto.RecordBatchOperationDTO;
+import pickme.record.dto.RecordBatchOperationType;
+import pickme.record.model.Record;
+import pickme.record.model.RecordOutline;
+import pickme.record.model.RecordPatch;
+
+class RecordCustomRepositoryImplTest {
+
+    private static final String USER_ID = "user";
+
+    private static final String INTERVIEW_RECORD_ID = "interview";
+
+    private final AtomicLong storedVersion = new AtomicLong(3L);
+
+    private final List<Object> attemptedVersions = new ArrayList<>();
+
+    private final List<Object> updates = new ArrayList<>();
+
+    private final List<FindOneAndUpdateOptions> findOptions = new ArrayList<>();
+
+    private Document preImage = new Document("records", List.of(new Document("interviewRecordId",
+            INTERVIEW_RECORD_ID)));
+
+    private RecordCustomRepositoryImpl repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        Mockito.when(collection.updateOne(ArgumentMatchers.any(Bson.class), ArgumentMatchers.any(Bson.class),
+                ArgumentMatchers.any(UpdateOptions.class)))
+                .thenAnswer(invocation -> {
+                    updates.add(invocation.getArgument(1));
+                    return write(invocation.getArgument(0));
+                });
+        Mockito.when(collection.updateOne(ArgumentMatchers.any(Bson.class), ArgumentMatchers.<List<Bson>>any(),
+                ArgumentMatchers.any(UpdateOptions.class)))
+                .thenAnswer(invocation -> {
+                    updates.add(invocation.getArgument(1));
+                    return write(invocation.getArgument(0));
+                });
+        Mockito.when(collection.findOneAndUpdate(ArgumentMatchers.any(Bson.class), ArgumentMatchers.any(Bson.class),
+                ArgumentMatchers.any(FindOneAndUpdateOptions.class)))
+                .thenAnswer(invocation -> {
+                    updates.add(invocation.getArgument(1));
+                    findOptions.add(invocation.getArgument(2));
+                    return preImage;
+                });
+        Mockito.when(collection.findOneAndUpdate(ArgumentMatchers.any(Bson.class),
+                ArgumentMatchers.<List<Bson>>any(), ArgumentMatchers.any(FindOneAndUpdateOptions.class)))
+                .thenAnswer(invocation -> {
+                    updates.add(invocation.getArgument(1));
+                    findOptions.add(invocation.getArgument(2));
+                    return preImage;
+                });
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE,
+                new MongoMappingContext());
+        converter.afterPropertiesSet();
+
+        MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+        Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+        Mockito.when(mongoTemplate.getCollectionName(Record.class)).thenReturn("records");
+        Mockito.when(mongoTemplate.getCollection("records")).thenReturn(collection);
+
+        repository = new RecordCustomRepositoryImpl();
+        ReflectionTestUtils.setField(repository, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(repository, "recordAnswerCompressor",
+                Mockito.mock(RecordAnswerCompressor.class));
+        ReflectionTestUtils.setField(repository, "recordOutboxProperties", new RecordOutboxProperties());
+    }
+
+    @Test
+    void applyBatchAppliesEveryOperationInOneWrite() {
+        int applied = repository.applyBatch(USER_ID, 3L, operations(3), new Date());
+
+        Assertions.assertEquals(3, applied);
+        // 작업 수와 관계없이 버전 조건이 걸린 쓰기 한 번으로 실행되고 버전도 한 번만 증가함
+        Assertions.assertEquals(List.of(3L), attemptedVersions);
+        Assertions.assertEquals(4L, storedVersion.get());
+
+        List<?> pipeline = (List<?>) updates.get(0);
+        Assertions.assertEquals(3 + 1, pipeline.size());
+        Assertions.assertTrue(pipeline.get(0).toString().contains("{$literal=enterprise-0}"), pipeline::toString);
+    }
+
+    @Test
+    void applyBatchAppliesNothingWhenVersionIsStale() {
+        // 구조를 조회한 뒤 다른 요청의 쓰기가 끼어들어 버전이 증가함
+        storedVersion.set(4L);
+
+        int applied = repository.applyBatch(USER_ID, 3L, operations(2), new Date());
+
+        Assertions.assertEquals(0, applied);
+        Assertions.assertEquals(List.of(3L), attemptedVersions);
+        Assertions.assertEquals(4L, storedVersion.get());
+    }
+
+    @Test
+    void recordVersionIsMappedAsOptimisticLockField() {
+        // 문서 전체 저장(save)은 @Version 필드를 필터에 포함한 조건부 교체로 실행됨
+        MongoPersistentEntity<?> entity = new MongoMappingContext().getRequiredPersistentEntity(Record.class);
+
+        Assertions.assertTrue(entity.hasVersionProperty());
+        Assertions.assertEquals("version", entity.getRequiredVersionProperty().getFieldName());
+    }
+
+    @Test
+    void atomicWritesIncrementVersion() {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId("detail");
+        detail.setQuestion("question");
+        detail.setAnswer("answer");
+        RecordPatch patch = new RecordPatch();
+        patch.set("category", "FE");
+
+        repository.pushRecordDetail(USER_ID, INTERVIEW_RECORD_ID, detail, new Date());
+        repository.updateRecordDetailById(USER_ID, INTERVIEW_RECORD_ID, "detail", detail, new Date());
+        repository.removeRecordDetailById(USER_ID, INTERVIEW_RECORD_ID, "detail", new Date());
+        repository.patchInterviewRecord(USER_ID, INTERVIEW_RECORD_ID, patch, new Date());
+        repository.pullInterviewRecord(USER_ID, INTERVIEW_RECORD_ID);
+
+        // 문서 전체 저장과 단일 업데이트가 섞여도, 단일 업데이트가 버전을 올리므로 이전 버전의 save는 실패함
+        Assertions.assertEquals(5, updates.size());
+        for (Object update : updates) {
+            Assertions.assertEquals(new Document("version", 1L), ((Document) update).get("$inc"), update::toString);
+        }
+    }
+
+    @Test
+    void positionalDetailRemovalIncrementsVersionInPipeline() {
+        repository.removeRecordDetail(USER_ID, INTERVIEW_RECORD_ID, 0, new Date());
+
+        Assertions.assertEquals(1, updates.size());
+        List<?> pipeline = (List<?>) updates.get(0);
+        Document version = (Document) ((Document) ((Document) pipeline.get(pipeline.size() - 1)).get("$set"))
+                .get("version");
+        Assertions.assertNotNull(version);
+        Assertions.assertTrue(version.containsKey("$add"));
+    }
+
+    @Test
+    void detailRemovalReturnsPreImageOfTheSameCommand() {
+        preImage = new Document("records", List.of(new Document()
+                .append("interviewRecordId", INTERVIEW_RECORD_ID)
+                .append("category", "BE")
+                .append("detailCount", 2)
+                .append("detailIds", List.of("first", "second"))));
+
+        Optional<RecordOutline.InterviewOutline> before = repository.removeRecordDetailById(USER_ID,
+                INTERVIEW_RECORD_ID, "second", new Date());
+
+        // 통계 증감량은 별도 조회가 아닌, 삭제 명령이 반환한 삭제 직전의 구조 정보로 계산됨
+        Assertions.assertTrue(before.isPresent());
+        Assertions.assertEquals("BE", before.get().getCategory());
+        Assertions.assertEquals(List.of("first", "second"), before.get().getDetailIds());
+        Assertions.assertEquals(1, findOptions.size());
+        Assertions.assertEquals(ReturnDocument.BEFORE, findOptions.get(0).getReturnDocument());
+        Assertions.assertEquals(RecordCommands.interviewOutlineProjection(INTERVIEW_RECORD_ID),
+                findOptions.get(0).getProjection());
+    }
+
+    @Test
+    void unmatchedDeletionReturnsNoPreImage() {
+        preImage = null;
+
+        Assertions.assertTrue(repository.pullInterviewRecord(USER_ID, INTERVIEW_RECORD_ID).isEmpty());
+        Assertions.assertTrue(repository.removeRecordDetail(USER_ID, INTERVIEW_RECORD_ID, 0, new Date()).isEmpty());
+    }
+
+    /**
+     * 필터의 version이 저장된 버전과 같을 때만 적용하고 버전을 1 증가시키는 단일 문서 쓰기를 모사합니다.
+     */
+    private UpdateResult write(Bson filter) {
+        Object version = ((Document) filter).get("version");
+        attemptedVersions.add(version);
+        if (!Long.valueOf(storedVersion.get()).equals(version)) {
+            return UpdateResult.acknowledged(0L, 0L, null);
+        }
+        storedVersion.incrementAndGet();
+        return UpdateResult.acknowledged(1L, 1L, null);
+    }
+
+    private static List<RecordBatchOperationDTO> operations(int count) {
+        List<RecordBatchOperationDTO> operations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RecordBatchOperationDTO operation = new RecordBatchOperationDTO();
+            operation.setType(RecordBatchOperationType.UPDATE_INTERVIEW);
+            operation.setInterviewRecordId(INTERVIEW_RECORD_ID);
+            operation.setEnterpriseName("enterprise-" + i);
+            operation.setCategory("category");
+            operations.add(operation);
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,84 @@
+package pickme.record.repository;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import pickme.record.model.RecordAnswerCodec;
+import pickme.record.model.RecordSearchMatch;
+
+class RecordSearchCommandsTest {
+
+    private static final String PATTERN = "\\Qredis\\E";
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(RecordAnswerConverters.converters());
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void matchStageAdmitsCompressedAnswers() {
+        Document stage = RecordSearchCommands.matchStage("records.", PATTERN);
+
+        List<Document> branches = stage.get("$match", Document.class).getList("$or", Document.class);
+        Assertions.assertEquals(new Document("records.details.answer", new Document("$type", "binData")),
+                branches.get(branches.size() - 1));
+    }
+
+    @Test
+    void compressedAnswerIsMatchedAfterInflating() {
+        List<Document> rows = List.of(
+                row("detail-0", RecordAnswerCodec.toBinary(RecordAnswerCodec.deflate("캐시는 Redis를 사용", 6))),
+                row("detail-1", RecordAnswerCodec.toBinary(RecordAnswerCodec.deflate("일치하지 않는 답변", 6))),
+                row("detail-2", "redis 클러스터"));
+
+        List<RecordSearchMatch> matches = RecordSearchCommands.page(rows.iterator(), converter, PATTERN, 0, 10);
+
+        Assertions.assertEquals(List.of("detail-0", "detail-2"), detailIds(matches));
+        Assertions.assertEquals("캐시는 Redis를 사용", matches.get(0).getAnswer());
+    }
+
+    @Test
+    void unmatchedCompressedAnswersAreNotCountedAsSkipped() {
+        List<Document> rows = List.of(
+                row("detail-0", RecordAnswerCodec.toBinary(RecordAnswerCodec.deflate("일치하지 않는 답변", 6))),
+                row("detail-1", "redis 1"),
+                row("detail-2", RecordAnswerCodec.toBinary(RecordAnswerCodec.deflate("redis 2", 6))),
+                row("detail-3", "redis 3"));
+
+        List<RecordSearchMatch> matches = RecordSearchCommands.page(rows.iterator(), converter, PATTERN, 1, 1);
+
+        Assertions.assertEquals(List.of("detail-2"), detailIds(matches));
+    }
+
+    private static Document row(String detailId, Object answer) {
+        return new Document("interviewRecordId", "interview")
+                .append("enterpriseName", "enterprise")
+                .append("category", "BE")
+                .append("detailIndex", 0L)
+                .append("detailId", detailId)
+                .append("question", "question")
+                .append("answer", answer);
+    }
+
+    private static List<String> detailIds(List<RecordSearchMatch> matches) {
+        return matches.stream().map(RecordSearchMatch::getDetailId).toList();
+    }
+}
@@ -0,0 +1,167 @@
+package pickme.record.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import pickme.record.cache.RecordCache;
+import pickme.record.config.RecordAutosaveProperties;
+import pickme.record.config.RecordWriteRetryProperties;
+import pickme.record.model.Record;
+import pickme.record.repository.RecordRepository;
+
+class RecordAutosaveBufferTest {
+
+    private static final String USER_ID = "user";
+
+    private static final String INTERVIEW_RECORD_ID = "interview";
+
+    private static final String DETAIL_ID = "detail";
+
+    private final List<String> writtenAnswers = new ArrayList<>();
+
+    private Runnable duringWrite = () -> {
+    };
+
+    private RecordRepository recordRepository;
+
+    private RecordCache recordCache;
+
+    private RecordAutosaveProperties properties;
+
+    private RecordAutosaveBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        recordRepository = Mockito.mock(RecordRepository.class);
+        Mockito.when(recordRepository.updateRecordDetailById(ArgumentMatchers.eq(USER_ID),
+                ArgumentMatchers.eq(INTERVIEW_RECORD_ID), ArgumentMatchers.eq(DETAIL_ID),
+                ArgumentMatchers.any(Record.RecordDetail.class), ArgumentMatchers.any(Date.class)))
+                .thenAnswer(invocation -> {
+                    Record.RecordDetail detail = invocation.getArgument(3);
+                    writtenAnswers.add(detail.getAnswer());
+                    Runnable action = duringWrite;
+                    duringWrite = () -> {
+                    };
+                    action.run();
+                    return true;
+                });
+        recordCache = Mockito.mock(RecordCache.class);
+
+        properties = new RecordAutosaveProperties();
+        properties.setEnabled(true);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        buffer = new RecordAutosaveBuffer(recordRepository,
+                new RecordWriteRetrier(new RecordWriteRetryProperties(), meterRegistry), recordCache, properties,
+                meterRegistry);
+    }
+
+    @Test
+    void flushWritesOnlyLastOfCoalescedUpdates() {
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v1"));
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v2"));
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v3"));
+
+        buffer.flush(USER_ID);
+
+        Assertions.assertEquals(List.of("v3"), writtenAnswers);
+        Mockito.verify(recordCache).invalidate(USER_ID);
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).isEmpty());
+    }
+
+    @Test
+    void updateDuringWriteIsKeptForNextFlush() {
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v1"));
+        // 첫 번째 값을 저장하는 도중 새 업데이트가 들어옴
+        duringWrite = () -> buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v2"));
+
+        buffer.flush(USER_ID);
+
+        Assertions.assertEquals(List.of("v1"), writtenAnswers);
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).isPresent());
+
+        buffer.flush(USER_ID);
+
+        Assertions.assertEquals(List.of("v1", "v2"), writtenAnswers);
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).isEmpty());
+    }
+
+    @Test
+    void failedWriteIsKeptForNextFlush() {
+        Mockito.doThrow(new IllegalStateException("unavailable"))
+                .doReturn(true)
+                .when(recordRepository).updateRecordDetailById(ArgumentMatchers.anyString(),
+                        ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+                        ArgumentMatchers.any(Record.RecordDetail.class), ArgumentMatchers.any(Date.class));
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v1"));
+
+        buffer.flush(USER_ID);
+
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).isPresent());
+        Mockito.verify(recordCache, Mockito.never()).invalidate(USER_ID);
+
+        buffer.flush(USER_ID);
+
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).isEmpty());
+        Mockito.verify(recordCache).invalidate(USER_ID);
+    }
+
+    @Test
+    void flushDueWaitsForDebounce() {
+        properties.setDebounce(Duration.ofHours(1));
+        properties.setMaxDelay(Duration.ofHours(1));
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v1"));
+
+        buffer.flushDue();
+
+        Assertions.assertTrue(writtenAnswers.isEmpty());
+
+        properties.setDebounce(Duration.ZERO);
+        buffer.flushDue();
+
+        Assertions.assertEquals(List.of("v1"), writtenAnswers);
+    }
+
+    @Test
+    void latestSequenceGrowsWithEveryUpdate() {
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v1"));
+        long first = buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).getAsLong();
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v2"));
+
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, INTERVIEW_RECORD_ID).getAsLong() > first);
+        Assertions.assertTrue(buffer.findLatestSequence(USER_ID, "other").isEmpty());
+    }
+
+    @Test
+    void offerIsRejectedWhenDisabledOrClosed() {
+        properties.setEnabled(false);
+
+        Assertions.assertFalse(buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v1")));
+
+        properties.setEnabled(true);
+        buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v2"));
+        buffer.close();
+
+        // 종료 시 남은 항목을 저장하고, 이후 업데이트는 직접 저장하도록 거절함
+        Assertions.assertEquals(List.of("v2"), writtenAnswers);
+        Assertions.assertFalse(buffer.offer(USER_ID, INTERVIEW_RECORD_ID, detail("v3")));
+    }
+
+    private static Record.RecordDetail detail(String answer) {
+        Record.RecordDetail detail = new Record.RecordDetail();
+        detail.setDetailId(DETAIL_ID);
+        detail.setQuestion("question");
+        detail.setAnswer(answer);
+        return detail;
+    }
+}
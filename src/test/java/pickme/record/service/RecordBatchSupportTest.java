@@ -0,0 +1,98 @@
+package pickme.record.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import pickme.record.dto.RecordBatchOperationDTO;
+import pickme.record.dto.RecordBatchOperationType;
+
+class RecordBatchSupportTest {
+
+    private static final String INTERVIEW_RECORD_ID = "interview";
+
+    @Test
+    void validateRequiresFieldsOfEachOperationType() {
+        Assertions.assertNotNull(RecordBatchSupport.validate(operation(RecordBatchOperationType.UPDATE_INTERVIEW)));
+        Assertions.assertNotNull(RecordBatchSupport.validate(operation(RecordBatchOperationType.CREATE_DETAIL)));
+        Assertions.assertNotNull(RecordBatchSupport.validate(operation(RecordBatchOperationType.UPDATE_DETAIL)));
+        Assertions.assertNotNull(RecordBatchSupport.validate(operation(RecordBatchOperationType.DELETE_DETAIL)));
+        Assertions.assertNull(RecordBatchSupport.validate(operation(RecordBatchOperationType.DELETE_INTERVIEW)));
+    }
+
+    @Test
+    void validateAcceptsCompleteOperations() {
+        RecordBatchOperationDTO update = operation(RecordBatchOperationType.UPDATE_INTERVIEW);
+        update.setEnterpriseName("enterprise");
+        update.setCategory("BE");
+        RecordBatchOperationDTO updateDetail = detail(RecordBatchOperationType.UPDATE_DETAIL, 0);
+        updateDetail.setQuestion("question");
+        updateDetail.setAnswer("answer");
+
+        Assertions.assertNull(RecordBatchSupport.validate(update));
+        Assertions.assertNull(RecordBatchSupport.validate(updateDetail));
+        Assertions.assertNull(RecordBatchSupport.validate(detail(RecordBatchOperationType.DELETE_DETAIL, 0)));
+    }
+
+    @Test
+    void validateRejectsBlankStrings() {
+        RecordBatchOperationDTO create = operation(RecordBatchOperationType.CREATE_DETAIL);
+        create.setQuestion("question");
+        create.setAnswer("  ");
+
+        Assertions.assertEquals("Question and Answer are required", RecordBatchSupport.validate(create));
+    }
+
+    @Test
+    void applyToOutlineTracksDetailCountsInRequestOrder() {
+        Map<String, Integer> detailCounts = new HashMap<>(Map.of(INTERVIEW_RECORD_ID, 1));
+
+        Assertions.assertEquals(201, RecordBatchSupport.applyToOutline(
+                operation(RecordBatchOperationType.CREATE_DETAIL), detailCounts));
+        // 앞선 작업으로 추가된 세부 항목도 범위에 포함됨
+        Assertions.assertEquals(200, RecordBatchSupport.applyToOutline(
+                detail(RecordBatchOperationType.UPDATE_DETAIL, 1), detailCounts));
+        Assertions.assertEquals(204, RecordBatchSupport.applyToOutline(
+                detail(RecordBatchOperationType.DELETE_DETAIL, 0), detailCounts));
+        Assertions.assertEquals(404, RecordBatchSupport.applyToOutline(
+                detail(RecordBatchOperationType.DELETE_DETAIL, 1), detailCounts));
+        Assertions.assertEquals(1, detailCounts.get(INTERVIEW_RECORD_ID));
+    }
+
+    @Test
+    void applyToOutlineReportsMissingInterviewAfterDelete() {
+        Map<String, Integer> detailCounts = new HashMap<>(Map.of(INTERVIEW_RECORD_ID, 2));
+
+        Assertions.assertEquals(200, RecordBatchSupport.applyToOutline(
+                operation(RecordBatchOperationType.UPDATE_INTERVIEW), detailCounts));
+        Assertions.assertEquals(204, RecordBatchSupport.applyToOutline(
+                operation(RecordBatchOperationType.DELETE_INTERVIEW), detailCounts));
+        Assertions.assertEquals(404, RecordBatchSupport.applyToOutline(
+                operation(RecordBatchOperationType.CREATE_DETAIL), detailCounts));
+        Assertions.assertTrue(detailCounts.isEmpty());
+    }
+
+    @Test
+    void applyToOutlineRejectsNegativeIndex() {
+        Map<String, Integer> detailCounts = new HashMap<>(Map.of(INTERVIEW_RECORD_ID, 2));
+
+        Assertions.assertEquals(404, RecordBatchSupport.applyToOutline(
+                detail(RecordBatchOperationType.UPDATE_DETAIL, -1), detailCounts));
+        Assertions.assertEquals(2, detailCounts.get(INTERVIEW_RECORD_ID));
+    }
+
+    private static RecordBatchOperationDTO operation(RecordBatchOperationType type) {
+        RecordBatchOperationDTO operation = new RecordBatchOperationDTO();
+        operation.setType(type);
+        operation.setInterviewRecordId(INTERVIEW_RECORD_ID);
+        return operation;
+    }
+
+    private static RecordBatchOperationDTO detail(RecordBatchOperationType type, int detailIndex) {
+        RecordBatchOperationDTO operation = operation(type);
+        operation.setDetailIndex(detailIndex);
+        return operation;
+    }
+}
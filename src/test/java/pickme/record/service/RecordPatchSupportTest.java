@@ -0,0 +1,80 @@
+package pickme.record.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pickme.record.exception.InvalidPatchException;
+import pickme.record.model.RecordPatch;
+
+class RecordPatchSupportTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void interviewPatchSetsOnlyFieldsInPatch() throws Exception {
+        RecordPatch patch = RecordPatchSupport.interviewPatch(json("{\"category\":\"FE\"}"));
+
+        Assertions.assertEquals(Map.of("category", "FE"), patch.getSet());
+        Assertions.assertTrue(patch.getUnset().isEmpty());
+    }
+
+    @Test
+    void detailPatchKeepsPatchOrder() throws Exception {
+        RecordPatch patch = RecordPatchSupport.detailPatch(json("{\"answer\":\"a\",\"question\":\"q\"}"));
+
+        Assertions.assertEquals(List.of("answer", "question"), List.copyOf(patch.getSet().keySet()));
+    }
+
+    @Test
+    void patchMustBeNonEmptyObject() throws Exception {
+        assertInvalid(RecordPatchSupport.PATCH_FIELD, "[]", true);
+        assertInvalid(RecordPatchSupport.PATCH_FIELD, "\"text\"", true);
+        assertInvalid(RecordPatchSupport.PATCH_FIELD, "{}", true);
+        Assertions.assertEquals(RecordPatchSupport.PATCH_FIELD, Assertions.assertThrows(InvalidPatchException.class,
+                () -> RecordPatchSupport.interviewPatch(null)).getField());
+    }
+
+    @Test
+    void patchRejectsFieldsOutsideTarget() throws Exception {
+        assertInvalid("interviewRecordId", "{\"interviewRecordId\":\"other\"}", true);
+        assertInvalid("details", "{\"details\":[]}", true);
+        assertInvalid("question", "{\"question\":\"q\"}", true);
+        assertInvalid("category", "{\"category\":\"FE\"}", false);
+    }
+
+    @Test
+    void patchRejectsRemovingRequiredFields() throws Exception {
+        assertInvalid("enterpriseName", "{\"enterpriseName\":null}", true);
+        assertInvalid("answer", "{\"answer\":null}", false);
+    }
+
+    @Test
+    void patchRejectsBlankAndNonStringValues() throws Exception {
+        assertInvalid("category", "{\"category\":\"  \"}", true);
+        assertInvalid("category", "{\"category\":1}", true);
+        assertInvalid("question", "{\"question\":{\"text\":\"q\"}}", false);
+    }
+
+    private void assertInvalid(String field, String patch, boolean interview) throws Exception {
+        JsonNode node = json(patch);
+        InvalidPatchException e = Assertions.assertThrows(InvalidPatchException.class,
+                () -> {
+                    if (interview) {
+                        RecordPatchSupport.interviewPatch(node);
+                    } else {
+                        RecordPatchSupport.detailPatch(node);
+                    }
+                });
+        Assertions.assertEquals(field, e.getField(), patch);
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
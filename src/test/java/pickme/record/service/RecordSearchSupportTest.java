@@ -0,0 +1,109 @@
+package pickme.record.service;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import pickme.record.dto.RecordSearchResponseDTO;
+import pickme.record.model.RecordSearchMatch;
+
+class RecordSearchSupportTest {
+
+    @Test
+    void termsSplitsOnWhitespaceAndRemovesDuplicates() {
+        Assertions.assertArrayEquals(new String[] { "캐시", "트랜잭션" },
+                RecordSearchSupport.terms("  캐시 \t트랜잭션  캐시 "));
+    }
+
+    @Test
+    void termsKeepsAtMostMaxTerms() {
+        String query = IntStream.range(0, RecordSearchSupport.MAX_TERMS + 5)
+                .mapToObj(i -> "t" + i)
+                .collect(Collectors.joining(" "));
+
+        Assertions.assertEquals(RecordSearchSupport.MAX_TERMS, RecordSearchSupport.terms(query).length);
+    }
+
+    @Test
+    void patternMatchesTermsLiterally() {
+        Pattern pattern = compile(RecordSearchSupport.pattern(new String[] { "a.b", "c(d", "\\E*" }));
+
+        Assertions.assertTrue(pattern.matcher("xx a.b yy").find());
+        Assertions.assertFalse(pattern.matcher("axb").find());
+        Assertions.assertTrue(pattern.matcher("c(d").find());
+        Assertions.assertTrue(pattern.matcher("\\E*").find());
+        Assertions.assertFalse(pattern.matcher("\\EEE").find());
+    }
+
+    @Test
+    void patternIgnoresCase() {
+        Pattern pattern = compile(RecordSearchSupport.pattern(new String[] { "java" }));
+
+        Assertions.assertTrue(pattern.matcher("JAVA").find());
+    }
+
+    @Test
+    void highlightEscapesHtmlAndWrapsMatches() {
+        Pattern pattern = compile(RecordSearchSupport.pattern(new String[] { "java" }));
+
+        Assertions.assertEquals("&lt;b&gt;<em>Java</em>&lt;/b&gt; &amp; &quot;<em>java</em>&#39;",
+                RecordSearchSupport.highlight("<b>Java</b> & \"java'", pattern));
+    }
+
+    @Test
+    void highlightEscapesMatchedTextToo() {
+        Pattern pattern = compile(RecordSearchSupport.pattern(new String[] { "<script>" }));
+
+        Assertions.assertEquals("a <em>&lt;script&gt;</em> b", RecordSearchSupport.highlight("a <script> b", pattern));
+    }
+
+    @Test
+    void highlightCutsSnippetAroundFirstMatch() {
+        Pattern pattern = compile(RecordSearchSupport.pattern(new String[] { "needle" }));
+        String text = "x".repeat(100) + "needle" + "y".repeat(200);
+
+        String snippet = RecordSearchSupport.highlight(text, pattern);
+
+        Assertions.assertEquals("…" + "x".repeat(40) + "<em>needle</em>" + "y".repeat(114) + "…", snippet);
+    }
+
+    @Test
+    void highlightReturnsLeadingTextWithoutMatch() {
+        Pattern pattern = compile(RecordSearchSupport.pattern(new String[] { "needle" }));
+
+        Assertions.assertEquals("no match &amp; here", RecordSearchSupport.highlight("no match & here", pattern));
+        Assertions.assertNull(RecordSearchSupport.highlight(null, pattern));
+    }
+
+    @Test
+    void toResponseLimitsHitsAndReportsNextPage() {
+        List<RecordSearchMatch> matches = IntStream.range(0, 3)
+                .mapToObj(i -> match("interview-" + i, "question " + i, "answer"))
+                .collect(Collectors.toList());
+
+        RecordSearchResponseDTO response = RecordSearchSupport.toResponse("question", 0, 2, matches,
+                RecordSearchSupport.pattern(new String[] { "question" }));
+
+        Assertions.assertTrue(response.isHasNext());
+        Assertions.assertEquals(2, response.getHits().size());
+        Assertions.assertEquals("interview-1", response.getHits().get(1).getInterviewRecordId());
+        Assertions.assertEquals("<em>question</em> 1", response.getHits().get(1).getQuestionSnippet());
+        Assertions.assertEquals("answer", response.getHits().get(1).getAnswerSnippet());
+    }
+
+    private static Pattern compile(String pattern) {
+        return Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    private static RecordSearchMatch match(String interviewRecordId, String question, String answer) {
+        RecordSearchMatch match = new RecordSearchMatch();
+        match.setInterviewRecordId(interviewRecordId);
+        match.setQuestion(question);
+        match.setAnswer(answer);
+        return match;
+    }
+}
@@ -0,0 +1,110 @@
+package pickme.record.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import reactor.core.publisher.Mono;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import pickme.record.config.RecordWriteRetryProperties;
+
+class RecordWriteRetrierTest {
+
+    private static final String OPERATION = "createInterviewRecord";
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RecordWriteRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        RecordWriteRetryProperties properties = new RecordWriteRetryProperties();
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(2));
+
+        meterRegistry = new SimpleMeterRegistry();
+        retrier = new RecordWriteRetrier(properties, meterRegistry);
+    }
+
+    @Test
+    void executeRetriesUpsertRaceUntilDocumentExists() {
+        // 첫 시도에서 동시에 실행된 upsert가 같은 사용자 문서를 먼저 생성함
+        String result = retrier.execute(OPERATION, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            return "created";
+        });
+
+        Assertions.assertEquals("created", result);
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(1.0, count("record.write.conflicts"));
+        Assertions.assertEquals(1.0, count("record.write.retries"));
+        Assertions.assertEquals(0.0, count("record.write.retries.exhausted"));
+    }
+
+    @Test
+    void executeRethrowsLastConflictWhenAttemptsAreExhausted() {
+        Assertions.assertThrows(OptimisticLockingFailureException.class, () -> retrier.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("version mismatch");
+        }));
+
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(3.0, count("record.write.conflicts"));
+        Assertions.assertEquals(2.0, count("record.write.retries"));
+        Assertions.assertEquals(1.0, count("record.write.retries.exhausted"));
+    }
+
+    @Test
+    void executeDoesNotRetryOtherFailures() {
+        Assertions.assertThrows(DataAccessResourceFailureException.class, () -> retrier.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw new DataAccessResourceFailureException("unavailable");
+        }));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(0.0, count("record.write.conflicts"));
+    }
+
+    @Test
+    void reactiveExecuteResubscribesOnUpsertRace() {
+        Mono<String> action = Mono.fromSupplier(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            return "created";
+        });
+
+        Assertions.assertEquals("created", retrier.execute(OPERATION, action).block(Duration.ofSeconds(5)));
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(1.0, count("record.write.retries"));
+    }
+
+    @Test
+    void reactiveExecuteRethrowsLastConflictWhenAttemptsAreExhausted() {
+        Mono<String> action = Mono.fromSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new DuplicateKeyException("E11000 duplicate key error");
+        });
+
+        Assertions.assertThrows(DuplicateKeyException.class,
+                () -> retrier.execute(OPERATION, action).block(Duration.ofSeconds(5)));
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(1.0, count("record.write.retries.exhausted"));
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "operation", OPERATION).count();
+    }
+}